@@ -77,6 +77,28 @@ public enum CustomExceptionCode {
     // 카테고리
     NOT_FOUND_CATEGORY("NOT_FOUND_CATEGORY","해당 카테고리를 확인 할 수 없습니다", HttpStatus.BAD_REQUEST),
 
+    //랭킹
+    NOT_FOUND_RANK("NOT_FOUND_RANK","랭킹 정보가 존재하지 않습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_PAGE("INVALID_PAGE","페이지 정보가 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+
+    //위치
+    INVALID_LOCATION("INVALID_LOCATION","위치 정보가 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+
+    //매칭
+    NOT_FOUND_TICKET("NOT_FOUND_TICKET","매칭 대기 정보가 존재하지 않습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_MATCH_WINDOW("INVALID_MATCH_WINDOW","매칭 희망 일시가 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+
+    //대항전 상태
+    INVALID_STATUS_TRANSITION("INVALID_STATUS_TRANSITION","현재 대항전 상태에서 할 수 없는 요청입니다.", HttpStatus.BAD_REQUEST),
+    BATTLE_STATUS_CONFLICT("BATTLE_STATUS_CONFLICT","대항전 상태가 이미 변경되었습니다. 다시 시도해주세요.", HttpStatus.BAD_REQUEST),
+    INVALID_SCORE("INVALID_SCORE","점수가 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+
+    //토너먼트
+    NOT_FOUND_TOURNAMENT("NOT_FOUND_TOURNAMENT","존재하지 않는 토너먼트입니다.", HttpStatus.BAD_REQUEST),
+    TOURNAMENT_ALREADY_STARTED("TOURNAMENT_ALREADY_STARTED","이미 시작된 토너먼트입니다.", HttpStatus.BAD_REQUEST),
+    TOURNAMENT_FULL("TOURNAMENT_FULL","토너먼트 참가 팀이 모두 찼습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_TOURNAMENT_SIZE("INVALID_TOURNAMENT_SIZE","토너먼트 참가 팀 수가 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+
     //기타
     DEBUGGING_REQUIRED("DEBUGGING_REQUIRED", "디버깅 필요", HttpStatus.BAD_REQUEST),
 
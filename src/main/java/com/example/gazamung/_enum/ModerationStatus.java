@@ -0,0 +1,16 @@
+package com.example.gazamung._enum;
+
+public enum ModerationStatus {
+
+    PENDING,        // 검수 대기 (작성자에게만 보임)
+    PUBLISHED,      // 게시
+    REDACTED,       // 비속어 내용 가림 후 게시
+    REJECTED;       // 게시 거부 (작성자에게만 보임)
+
+    /**
+     * 다른 사용자에게 보이는 상태 (null 은 검수 도입 전 데이터)
+     */
+    public static boolean isVisible(ModerationStatus status) {
+        return status == null || status == PUBLISHED || status == REDACTED;
+    }
+}
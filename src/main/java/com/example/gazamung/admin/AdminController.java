@@ -4,14 +4,13 @@ import com.example.gazamung.announcement.Announcement;
 import com.example.gazamung.announcement.AnnouncementCreateReq;
 import com.example.gazamung.announcement.AnnouncementRepository;
 import com.example.gazamung.announcement.AnnouncementService;
-import com.example.gazamung.department.repository.DepartmentRepository;
 import com.example.gazamung.member.entity.Member;
 import com.example.gazamung.member.repository.MemberRepository;
+import com.example.gazamung.reference.service.ReferenceRegistry;
 import com.example.gazamung.reply.entity.Reply;
 import com.example.gazamung.reply.repository.ReplyRepository;
 import com.example.gazamung.univBoard.entity.UnivBoard;
 import com.example.gazamung.univBoard.repository.UnivBoardRepository;
-import com.example.gazamung.university.repository.UniversityRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -27,21 +26,19 @@ import java.util.Map;
 public class AdminController {
 
     private final MemberRepository memberRepository;
-    private final UniversityRepository universityRepository;
-    private final DepartmentRepository departmentRepository;
+    private final ReferenceRegistry referenceRegistry;
     private final UnivBoardRepository univBoardRepository;
     private final ReplyRepository replyRepository;
     private final AnnouncementRepository announcementRepository;
     private final AnnouncementService announcementService;
 
     @Autowired
-    public AdminController(MemberRepository memberRepository, UniversityRepository universityRepository,
-                           DepartmentRepository departmentRepository, UnivBoardRepository univBoardRepository,
+    public AdminController(MemberRepository memberRepository, ReferenceRegistry referenceRegistry,
+                           UnivBoardRepository univBoardRepository,
                            ReplyRepository replyRepository, AnnouncementRepository announcementRepository,
                            AnnouncementService announcementService) {
         this.memberRepository = memberRepository;
-        this.universityRepository = universityRepository;
-        this.departmentRepository = departmentRepository;
+        this.referenceRegistry = referenceRegistry;
         this.univBoardRepository = univBoardRepository;
         this.replyRepository = replyRepository;
         this.announcementRepository = announcementRepository;
@@ -61,9 +58,9 @@ public class AdminController {
 
         for (Member member : members) {
             // 대학명 조회 및 저장
-            universityRepository.findById(member.getUnivId()).ifPresent(univ -> universityNames.put(member.getUnivId(), univ.getSchoolName()));
+            referenceRegistry.university(member.getUnivId()).ifPresent(univ -> universityNames.put(member.getUnivId(), univ.getSchoolName()));
             // 학과명 조회 및 저장
-            departmentRepository.findById(member.getDeptId()).ifPresent(dept -> departmentNames.put(member.getDeptId(), dept.getDeptName()));
+            referenceRegistry.department(member.getDeptId()).ifPresent(dept -> departmentNames.put(member.getDeptId(), dept.getDeptName()));
         }
 
         model.addAttribute("members", members);
@@ -81,9 +78,9 @@ public class AdminController {
 
         for (UnivBoard univBoard : univBoards) {
             // 대학명 조회 및 저장
-            universityRepository.findById(univBoard.getUnivId()).ifPresent(univ -> universityNames.put(univBoard.getUnivId(), univ.getSchoolName()));
+            referenceRegistry.university(univBoard.getUnivId()).ifPresent(univ -> universityNames.put(univBoard.getUnivId(), univ.getSchoolName()));
             // 학과명 조회 및 저장
-            departmentRepository.findById(univBoard.getDeptId()).ifPresent(dept -> departmentNames.put(univBoard.getDeptId(), dept.getDeptName()));
+            referenceRegistry.department(univBoard.getDeptId()).ifPresent(dept -> departmentNames.put(univBoard.getDeptId(), dept.getDeptName()));
         }
         model.addAttribute("univBoards", univBoards);
         model.addAttribute("universityNames", universityNames);
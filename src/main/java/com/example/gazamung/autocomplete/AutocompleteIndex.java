@@ -0,0 +1,80 @@
+package com.example.gazamung.autocomplete;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 한 종류(범위) 의 자동완성 색인
+ * 이름의 각 단어 시작 위치부터 공백을 뺀 문자열을 자모 트라이와 초성 트라이에 색인한다.
+ * ("한국 외국어 대학교" → "한국외", "외국어대", "ㅎㄱㅇ", "ㄷㅎ" 모두 일치)
+ */
+public class AutocompleteIndex {
+
+    private final AutocompleteTrie jamoTrie;
+    private final AutocompleteTrie chosungTrie;
+
+    public AutocompleteIndex(int k) {
+        this.jamoTrie = new AutocompleteTrie(k);
+        this.chosungTrie = new AutocompleteTrie(k);
+    }
+
+    public static AutocompleteIndex build(Collection<AutocompleteItem> items, int k) {
+        AutocompleteIndex index = new AutocompleteIndex(k);
+        for (AutocompleteItem item : items) {
+            List<String> words = words(item.name());
+            index.jamoTrie.add(item, keys(words, Hangul::jamo));
+            index.chosungTrie.add(item, keys(words, Hangul::chosung));
+        }
+        index.jamoTrie.build();
+        index.chosungTrie.build();
+        return index;
+    }
+
+    public List<AutocompleteItem> search(String query, int limit) {
+        if (query == null || query.isBlank()) return List.of();
+        return Hangul.isChosungQuery(query)
+                ? chosungTrie.search(Hangul.chosung(query), limit)
+                : jamoTrie.search(Hangul.jamo(query), limit);
+    }
+
+    public void put(AutocompleteItem item) {
+        List<String> words = words(item.name());
+        jamoTrie.put(item, keys(words, Hangul::jamo));
+        chosungTrie.put(item, keys(words, Hangul::chosung));
+    }
+
+    public void remove(long id) {
+        jamoTrie.remove(id);
+        chosungTrie.remove(id);
+    }
+
+    /**
+     * 색인된 후보 (없으면 null)
+     */
+    public AutocompleteItem get(long id) {
+        return jamoTrie.get(id);
+    }
+
+    public int size() {
+        return jamoTrie.size();
+    }
+
+    // 각 단어부터 이름 끝까지 (단어 순서 유지)
+    private static List<String> words(String name) {
+        if (name == null || name.isBlank()) return List.of();
+        String[] tokens = name.trim().split("\\s+");
+        List<String> suffixes = new ArrayList<>(tokens.length);
+        for (int i = 0; i < tokens.length; i++) {
+            suffixes.add(String.join("", Arrays.asList(tokens).subList(i, tokens.length)));
+        }
+        return suffixes;
+    }
+
+    private static Set<String> keys(List<String> words, Function<String, String> keyOf) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String word : words) {
+            keys.add(keyOf.apply(word));
+        }
+        return keys;
+    }
+}
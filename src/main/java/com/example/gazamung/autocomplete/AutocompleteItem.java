@@ -0,0 +1,9 @@
+package com.example.gazamung.autocomplete;
+
+/**
+ * 자동완성 후보
+ * @param univId 모임/학과가 속한 대학 (종목, 대학은 null)
+ * @param popularity 높을수록 먼저 노출
+ */
+public record AutocompleteItem(AutocompleteType type, long id, String name, Long univId, long popularity) {
+}
@@ -0,0 +1,166 @@
+package com.example.gazamung.autocomplete;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 접두어 트라이, 노드마다 하위 후보 중 인기 상위 K 개를 미리 계산해 둔다.
+ * 조회는 키 길이만큼 내려간 뒤 그 노드의 목록을 읽으므로 O(키 길이 + K).
+ * - 대량 적재: add 후 build 한 번 (후위 순회로 전체 상위 K 계산)
+ * - 증분 반영: put/remove 시 해당 키 경로의 노드만 다시 계산
+ * 쓰기는 인스턴스 락으로 직렬화하고 조회는 락 없이 수행한다.
+ */
+public class AutocompleteTrie {
+
+    static final Comparator<AutocompleteItem> ORDER = Comparator
+            .comparingLong(AutocompleteItem::popularity).reversed()
+            .thenComparing(AutocompleteItem::name)
+            .thenComparingLong(AutocompleteItem::id);
+
+    private final int k;
+    private final Node root = new Node();
+    private final Map<Long, AutocompleteItem> items = new HashMap<>();
+    private final Map<Long, Set<String>> keysById = new HashMap<>();
+
+    private static final class Node {
+        private final Map<Character, Node> children = new ConcurrentHashMap<>();
+        private final Set<Long> ends = new HashSet<>();         // 이 노드에서 끝나는 키의 후보
+        private volatile List<AutocompleteItem> top = List.of();
+    }
+
+    public AutocompleteTrie(int k) {
+        this.k = Math.max(1, k);
+    }
+
+    public List<AutocompleteItem> search(String key, int limit) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null) return List.of();
+        List<AutocompleteItem> top = node.top;
+        return top.size() <= limit ? top : top.subList(0, limit);
+    }
+
+    /**
+     * 대량 적재용 (build 전까지 조회 결과에 반영되지 않음)
+     */
+    public synchronized void add(AutocompleteItem item, Collection<String> keys) {
+        items.put(item.id(), item);
+        Set<String> itemKeys = keysById.computeIfAbsent(item.id(), id -> new HashSet<>());
+        for (String key : keys) {
+            if (key.isEmpty() || !itemKeys.add(key)) continue;
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            }
+            node.ends.add(item.id());
+        }
+    }
+
+    public synchronized void build() {
+        build(root);
+    }
+
+    /**
+     * 후보 추가 또는 교체 (이름/인기 변경)
+     */
+    public synchronized void put(AutocompleteItem item, Collection<String> keys) {
+        Set<String> dirty = new HashSet<>(unlink(item.id()));
+        add(item, keys);
+        dirty.addAll(keysById.getOrDefault(item.id(), Set.of()));
+        dirty.forEach(this::refresh);
+    }
+
+    public synchronized void remove(long id) {
+        unlink(id).forEach(this::refresh);
+    }
+
+    public synchronized AutocompleteItem get(long id) {
+        return items.get(id);
+    }
+
+    public synchronized int size() {
+        return items.size();
+    }
+
+    // 후보를 키 끝 노드에서 떼어 내고 기존 키 반환
+    private Set<String> unlink(long id) {
+        items.remove(id);
+        Set<String> keys = keysById.remove(id);
+        if (keys == null) return Set.of();
+        for (String key : keys) {
+            Node node = find(key);
+            if (node != null) node.ends.remove(id);
+        }
+        return keys;
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    // 키 경로를 아래에서부터 다시 계산하고 빈 노드는 정리
+    private void refresh(String key) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            Node next = path[depth].children.get(key.charAt(depth));
+            if (next == null) break;
+            path[++depth] = next;
+        }
+        for (int i = depth; i >= 0; i--) {
+            Node node = path[i];
+            if (i > 0 && node.ends.isEmpty() && node.children.isEmpty()) {
+                path[i - 1].children.remove(key.charAt(i - 1));
+                continue;
+            }
+            node.top = merge(node);
+        }
+    }
+
+    private List<AutocompleteItem> build(Node node) {
+        for (Node child : node.children.values()) {
+            build(child);
+        }
+        node.top = merge(node);
+        return node.top;
+    }
+
+    // 이 노드에서 끝나는 후보 + 자식 노드 상위 목록 중 상위 K (여러 키로 색인된 후보는 한 번만)
+    private List<AutocompleteItem> merge(Node node) {
+        // 가지가 하나뿐인 중간 노드는 자식 목록을 그대로 공유
+        if (node.ends.isEmpty() && node.children.size() == 1) {
+            return node.children.values().iterator().next().top;
+        }
+        PriorityQueue<AutocompleteItem> heap = new PriorityQueue<>(ORDER.reversed());
+        Set<Long> seen = new HashSet<>();
+        for (Long id : node.ends) {
+            offer(heap, seen, items.get(id));
+        }
+        for (Node child : node.children.values()) {
+            for (AutocompleteItem item : child.top) {
+                // 자식 목록은 정렬되어 있으므로 힙 최솟값보다 뒤면 나머지도 건너뜀
+                if (heap.size() >= k && ORDER.compare(item, heap.peek()) >= 0) break;
+                offer(heap, seen, item);
+            }
+        }
+
+        AutocompleteItem[] sorted = heap.toArray(new AutocompleteItem[0]);
+        Arrays.sort(sorted, ORDER);
+        return List.of(sorted);
+    }
+
+    private void offer(PriorityQueue<AutocompleteItem> heap, Set<Long> seen, AutocompleteItem item) {
+        if (item == null || !seen.add(item.id())) return;
+        heap.add(item);
+        if (heap.size() > k) {
+            seen.remove(heap.poll().id());
+        }
+    }
+}
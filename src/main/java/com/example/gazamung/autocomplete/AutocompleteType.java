@@ -0,0 +1,8 @@
+package com.example.gazamung.autocomplete;
+
+public enum AutocompleteType {
+    CLUB,           // 모임명 (인기: 회원 수)
+    EVENT,          // 종목명 (인기: 모임 수)
+    UNIVERSITY,     // 대학명 (인기: 가입 회원 수)
+    DEPARTMENT      // 학과명, 대학별 (인기: 가입 회원 수)
+}
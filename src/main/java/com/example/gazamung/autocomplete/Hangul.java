@@ -0,0 +1,97 @@
+package com.example.gazamung.autocomplete;
+
+/**
+ * 한글 자모 분해 (자동완성 색인/검색 키)
+ * - jamo: 음절을 초성/중성/종성 호환 자모로 풀고 겹모음, 겹받침도 입력 순서대로 나눔
+ *   (입력 중인 "서우", "닭" 도 "서울", "닭갈비" 의 앞부분과 일치)
+ * - chosung: 음절의 초성만 남김 ("ㅅㅇㄷ" → "서울대")
+ * 공백은 제거하고 영문은 소문자로 바꾼다.
+ */
+public final class Hangul {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+            "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private Hangul() {
+    }
+
+    public static String jamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BEGIN;
+                sb.append(CHOSUNG.charAt(offset / (21 * 28)));
+                sb.append(JUNGSUNG[offset % (21 * 28) / 28]);
+                sb.append(JONGSUNG[offset % 28]);
+            } else {
+                sb.append(splitCompatibility(Character.toLowerCase(c)));
+            }
+        }
+        return sb.toString();
+    }
+
+    public static String chosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            sb.append(isSyllable(c) ? CHOSUNG.charAt((c - SYLLABLE_BEGIN) / (21 * 28)) : Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 공백을 뺀 모든 글자가 자음(ㄱ~ㅎ) 이면 초성 검색
+     */
+    public static boolean isChosungQuery(String query) {
+        boolean any = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (CHOSUNG.indexOf(c) < 0) return false;
+            any = true;
+        }
+        return any;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    // 직접 입력된 겹모음/겹받침 자모도 나눠서 음절 분해 결과와 맞춤
+    private static String splitCompatibility(char c) {
+        return switch (c) {
+            case 'ㅘ' -> "ㅗㅏ";
+            case 'ㅙ' -> "ㅗㅐ";
+            case 'ㅚ' -> "ㅗㅣ";
+            case 'ㅝ' -> "ㅜㅓ";
+            case 'ㅞ' -> "ㅜㅔ";
+            case 'ㅟ' -> "ㅜㅣ";
+            case 'ㅢ' -> "ㅡㅣ";
+            case 'ㄳ' -> "ㄱㅅ";
+            case 'ㄵ' -> "ㄴㅈ";
+            case 'ㄶ' -> "ㄴㅎ";
+            case 'ㄺ' -> "ㄹㄱ";
+            case 'ㄻ' -> "ㄹㅁ";
+            case 'ㄼ' -> "ㄹㅂ";
+            case 'ㄽ' -> "ㄹㅅ";
+            case 'ㄾ' -> "ㄹㅌ";
+            case 'ㄿ' -> "ㄹㅍ";
+            case 'ㅀ' -> "ㄹㅎ";
+            case 'ㅄ' -> "ㅂㅅ";
+            default -> String.valueOf(c);
+        };
+    }
+}
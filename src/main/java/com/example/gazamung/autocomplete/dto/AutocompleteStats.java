@@ -0,0 +1,30 @@
+package com.example.gazamung.autocomplete.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AutocompleteStats {
+
+    private boolean ready;
+    private int scopes;                 // 색인 범위 수 (대학별 모임/학과 포함)
+    private int clubs;
+    private int events;
+    private int universities;
+    private int departments;
+
+    private long searches;
+    private long updates;               // 증분 반영 건수
+    private double searchP50Ms;
+    private double searchP99Ms;
+
+    private LocalDateTime loadedAt;
+    private long loadMillis;
+}
@@ -0,0 +1,297 @@
+package com.example.gazamung.autocomplete.service;
+
+import com.example.gazamung.autocomplete.AutocompleteIndex;
+import com.example.gazamung.autocomplete.AutocompleteItem;
+import com.example.gazamung.autocomplete.AutocompleteType;
+import com.example.gazamung.autocomplete.dto.AutocompleteStats;
+import com.example.gazamung.cache.LatencyRecorder;
+import com.example.gazamung.club.entity.Club;
+import com.example.gazamung.club.repository.ClubRepository;
+import com.example.gazamung.department.entity.Department;
+import com.example.gazamung.department.repository.DepartmentRepository;
+import com.example.gazamung.event.entity.Event;
+import com.example.gazamung.event.repository.EventRepository;
+import com.example.gazamung.member.repository.MemberRepository;
+import com.example.gazamung.university.entity.University;
+import com.example.gazamung.university.repository.UniversityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 모임/종목/대학/학과 이름 자동완성 색인 관리
+ * 서버 시작 시와 주기적으로 전체를 적재하고, 모임/종목 생성·수정·삭제는 커밋 후 증분 반영한다.
+ * 대학/학과는 SQL 스크립트로 적재되므로 적재 API 실행 후 reload 로 반영한다.
+ * 인기도: 모임은 현재 인원, 종목은 모임 수, 대학/학과는 회원 수
+ */
+@Component
+@Slf4j
+public class AutocompleteIndexManager {
+
+    private final ClubRepository clubRepository;
+    private final EventRepository eventRepository;
+    private final UniversityRepository universityRepository;
+    private final DepartmentRepository departmentRepository;
+    private final MemberRepository memberRepository;
+    private final int topK;
+
+    // 적재 중 반영된 갱신 횟수, 적재 전후 값이 다르면 다시 적재
+    private final AtomicLong modCount = new AtomicLong();
+    private final AtomicLong searches = new AtomicLong();
+    private final AtomicLong updates = new AtomicLong();
+    private final LatencyRecorder latency = new LatencyRecorder();
+
+    // univId 가 null 이면 전체 범위 (모임은 전체/대학별 둘 다, 학과는 대학별만 색인)
+    private record Scope(AutocompleteType type, Long univId) {
+    }
+
+    private volatile Map<Scope, AutocompleteIndex> indexes;
+    private volatile LocalDateTime loadedAt;
+    private volatile long loadMillis;
+
+    public AutocompleteIndexManager(ClubRepository clubRepository,
+                                    EventRepository eventRepository,
+                                    UniversityRepository universityRepository,
+                                    DepartmentRepository departmentRepository,
+                                    MemberRepository memberRepository,
+                                    @Value("${autocomplete.top-k:10}") int topK) {
+        this.clubRepository = clubRepository;
+        this.eventRepository = eventRepository;
+        this.universityRepository = universityRepository;
+        this.departmentRepository = departmentRepository;
+        this.memberRepository = memberRepository;
+        this.topK = topK;
+    }
+
+    public boolean isReady() {
+        return indexes != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reload();
+    }
+
+    /**
+     * DB 기준으로 전체 재적재 (인기도 갱신, 다중 서버 환경의 오차 보정용으로 주기적으로도 실행)
+     */
+    @Scheduled(fixedDelayString = "${autocomplete.reload-ms:600000}", initialDelayString = "${autocomplete.reload-ms:600000}")
+    public void reload() {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            long before = modCount.get();
+            long started = System.currentTimeMillis();
+            Map<Scope, AutocompleteIndex> loaded;
+            try {
+                loaded = load();
+            } catch (Exception e) {
+                log.error("자동완성 색인 적재 실패", e);
+                return;
+            }
+
+            synchronized (this) {
+                if (modCount.get() == before) {
+                    indexes = loaded;
+                    loadedAt = LocalDateTime.now();
+                    loadMillis = System.currentTimeMillis() - started;
+                    log.info("자동완성 색인 적재 완료: 범위 {}개, {}ms", loaded.size(), loadMillis);
+                    return;
+                }
+            }
+        }
+        log.warn("자동완성 색인 적재 중 갱신이 계속되어 다음 주기로 미룸");
+    }
+
+    /**
+     * @param univId 모임은 선택 (없으면 전체), 학과는 필수
+     */
+    public List<AutocompleteItem> search(AutocompleteType type, String query, Long univId, int size) {
+        long started = System.nanoTime();
+        try {
+            Map<Scope, AutocompleteIndex> current = indexes;
+            if (current == null || type == null) return List.of();
+            AutocompleteIndex index = current.get(scopeOf(type, univId));
+            return index == null ? List.of() : index.search(query, size);
+        } finally {
+            searches.incrementAndGet();
+            latency.record(System.nanoTime() - started);
+        }
+    }
+
+    public AutocompleteStats stats() {
+        Map<Scope, AutocompleteIndex> current = indexes;
+        return AutocompleteStats.builder()
+                .ready(current != null)
+                .scopes(current == null ? 0 : current.size())
+                .clubs(size(current, new Scope(AutocompleteType.CLUB, null)))
+                .events(size(current, new Scope(AutocompleteType.EVENT, null)))
+                .universities(size(current, new Scope(AutocompleteType.UNIVERSITY, null)))
+                .departments(current == null ? 0 : current.entrySet().stream()
+                        .filter(e -> e.getKey().type() == AutocompleteType.DEPARTMENT)
+                        .mapToInt(e -> e.getValue().size())
+                        .sum())
+                .searches(searches.get())
+                .updates(updates.get())
+                .searchP50Ms(latency.percentileMillis(50))
+                .searchP99Ms(latency.percentileMillis(99))
+                .loadedAt(loadedAt)
+                .loadMillis(loadMillis)
+                .build();
+    }
+
+    /**
+     * 모임 생성/수정 반영 (대학이 바뀐 경우를 위해 다른 대학 범위에서는 제거)
+     */
+    public void clubSaved(Club club) {
+        if (club.getClubId() == null || club.getClubName() == null) return;
+        AutocompleteItem item = toItem(club);
+        afterCommit(() -> apply(current -> {
+            for (Map.Entry<Scope, AutocompleteIndex> entry : current.entrySet()) {
+                Scope scope = entry.getKey();
+                if (scope.type() == AutocompleteType.CLUB && scope.univId() != null && !scope.univId().equals(item.univId())) {
+                    entry.getValue().remove(item.id());
+                }
+            }
+            index(current, new Scope(AutocompleteType.CLUB, null)).put(item);
+            if (item.univId() != null) {
+                index(current, new Scope(AutocompleteType.CLUB, item.univId())).put(item);
+            }
+        }));
+    }
+
+    public void clubRemoved(Club club) {
+        Long clubId = club.getClubId();
+        Long univId = club.getUnivId();
+        if (clubId == null) return;
+        afterCommit(() -> apply(current -> {
+            remove(current, new Scope(AutocompleteType.CLUB, null), clubId);
+            remove(current, new Scope(AutocompleteType.CLUB, univId), clubId);
+        }));
+    }
+
+    /**
+     * 종목 생성/수정 반영 (인기도는 기존 값 유지, 다음 재적재 때 갱신)
+     */
+    public void eventSaved(Event event) {
+        if (event.getEventId() == null || event.getEventName() == null) return;
+        Long eventId = event.getEventId();
+        String eventName = event.getEventName();
+        afterCommit(() -> apply(current -> {
+            AutocompleteIndex index = index(current, new Scope(AutocompleteType.EVENT, null));
+            AutocompleteItem existing = index.get(eventId);
+            long popularity = existing != null ? existing.popularity() : 0L;
+            index.put(new AutocompleteItem(AutocompleteType.EVENT, eventId, eventName, null, popularity));
+        }));
+    }
+
+    public void eventRemoved(Long eventId) {
+        if (eventId == null) return;
+        afterCommit(() -> apply(current -> remove(current, new Scope(AutocompleteType.EVENT, null), eventId)));
+    }
+
+    private synchronized void apply(Consumer<Map<Scope, AutocompleteIndex>> update) {
+        modCount.incrementAndGet();
+        Map<Scope, AutocompleteIndex> current = indexes;
+        if (current == null) return;
+        update.accept(current);
+        updates.incrementAndGet();
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private Map<Scope, AutocompleteIndex> load() {
+        Map<Scope, List<AutocompleteItem>> items = new HashMap<>();
+
+        for (Club club : clubRepository.findAll()) {
+            if (club.getClubId() == null || club.getClubName() == null) continue;
+            AutocompleteItem item = toItem(club);
+            items.computeIfAbsent(new Scope(AutocompleteType.CLUB, null), s -> new ArrayList<>()).add(item);
+            if (item.univId() != null) {
+                items.computeIfAbsent(new Scope(AutocompleteType.CLUB, item.univId()), s -> new ArrayList<>()).add(item);
+            }
+        }
+
+        Map<Long, Long> clubsByEvent = counts(clubRepository.countByEvent());
+        for (Event event : eventRepository.findAll()) {
+            if (event.getEventName() == null) continue;
+            items.computeIfAbsent(new Scope(AutocompleteType.EVENT, null), s -> new ArrayList<>())
+                    .add(new AutocompleteItem(AutocompleteType.EVENT, event.getEventId(), event.getEventName(), null,
+                            clubsByEvent.getOrDefault(event.getEventId(), 0L)));
+        }
+
+        Map<Long, Long> membersByUniv = counts(memberRepository.countByUniv());
+        for (University university : universityRepository.findAll()) {
+            if (university.getSchoolName() == null) continue;
+            items.computeIfAbsent(new Scope(AutocompleteType.UNIVERSITY, null), s -> new ArrayList<>())
+                    .add(new AutocompleteItem(AutocompleteType.UNIVERSITY, university.getId(), university.getSchoolName(), null,
+                            membersByUniv.getOrDefault(university.getId(), 0L)));
+        }
+
+        Map<Long, Long> membersByDept = counts(memberRepository.countByDept());
+        for (Department department : departmentRepository.findAll()) {
+            if (department.getDeptName() == null || department.getUnivId() == null) continue;
+            items.computeIfAbsent(new Scope(AutocompleteType.DEPARTMENT, department.getUnivId()), s -> new ArrayList<>())
+                    .add(new AutocompleteItem(AutocompleteType.DEPARTMENT, department.getDeptId(), department.getDeptName(),
+                            department.getUnivId(), membersByDept.getOrDefault(department.getDeptId(), 0L)));
+        }
+
+        Map<Scope, AutocompleteIndex> loaded = new ConcurrentHashMap<>();
+        items.forEach((scope, list) -> loaded.put(scope, AutocompleteIndex.build(list, topK)));
+        return loaded;
+    }
+
+    private AutocompleteIndex index(Map<Scope, AutocompleteIndex> current, Scope scope) {
+        return current.computeIfAbsent(scope, s -> new AutocompleteIndex(topK));
+    }
+
+    private void remove(Map<Scope, AutocompleteIndex> current, Scope scope, long id) {
+        AutocompleteIndex index = current.get(scope);
+        if (index != null) index.remove(id);
+    }
+
+    private int size(Map<Scope, AutocompleteIndex> current, Scope scope) {
+        AutocompleteIndex index = current == null ? null : current.get(scope);
+        return index == null ? 0 : index.size();
+    }
+
+    private Scope scopeOf(AutocompleteType type, Long univId) {
+        return switch (type) {
+            case CLUB, DEPARTMENT -> new Scope(type, univId);
+            case EVENT, UNIVERSITY -> new Scope(type, null);
+        };
+    }
+
+    private AutocompleteItem toItem(Club club) {
+        long members = club.getCurrentMembers() == null ? 0L : club.getCurrentMembers();
+        return new AutocompleteItem(AutocompleteType.CLUB, club.getClubId(), club.getClubName(), club.getUnivId(), members);
+    }
+
+    private Map<Long, Long> counts(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.gazamung.battle;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 대항전 일정(battleDate) 문자열 → 일시 변환
+ * 클라이언트마다 형식이 달라 자주 쓰이는 형식을 차례로 시도하고, 모두 실패하면 null 을 돌려준다.
+ */
+public final class BattleDates {
+
+    private static final List<DateTimeFormatter> DATE_TIME_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"),
+            DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm"),
+            DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm"),
+            DateTimeFormatter.ofPattern("yyyy.M.d H:mm"),
+            DateTimeFormatter.ofPattern("yyyy년 M월 d일 H시 m분"),
+            DateTimeFormatter.ofPattern("yyyy년 M월 d일 H:mm")
+    );
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("yyyy.MM.dd"),
+            DateTimeFormatter.ofPattern("yyyy/MM/dd"),
+            DateTimeFormatter.ofPattern("yyyy년 M월 d일")
+    );
+
+    private BattleDates() {
+    }
+
+    public static LocalDateTime parse(String value) {
+        if (value == null || value.isBlank()) return null;
+        String text = value.trim();
+
+        for (DateTimeFormatter format : DATE_TIME_FORMATS) {
+            try {
+                return LocalDateTime.parse(text, format);
+            } catch (DateTimeParseException ignored) {
+            }
+        }
+        // 날짜만 있으면 자정으로 간주
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(text, format).atStartOfDay();
+            } catch (DateTimeParseException ignored) {
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.gazamung.battle;
+
+import com.example.gazamung._enum.MatchStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상태별 대항전 수 집계 결과 (GROUP BY match_status)
+ */
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BattleStatusCountRow {
+
+    private Long univId;            // 학과 대항전이면 주최 대학, 대학 대항전이면 null
+    private MatchStatus matchStatus;
+    private Long cnt;
+
+}
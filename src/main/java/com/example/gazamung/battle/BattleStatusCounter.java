@@ -0,0 +1,146 @@
+package com.example.gazamung.battle;
+
+import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.mapper.DeptBattleMapper;
+import com.example.gazamung.mapper.UnivBattleMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 목록 화면 탭 뱃지용 상태별 대항전 수.
+ * 기동 시 GROUP BY 로 한 번 적재하고, 이후에는 BattleStatusListener 가 생성/상태 변경을 커밋 후에 반영한다.
+ * 다중 인스턴스 간 차이나 반영 누락은 주기적인 재집계로 맞춘다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BattleStatusCounter {
+
+    private final UnivBattleMapper univBattleMapper;
+    private final DeptBattleMapper deptBattleMapper;
+
+    private volatile Map<MatchStatus, AtomicLong> univCounts = emptyCounts();
+    private volatile Map<Long, Map<MatchStatus, AtomicLong>> deptCounts = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        resync();
+    }
+
+    @Scheduled(cron = "${battle.status-count.resync-cron:0 30 * * * *}")
+    public void resync() {
+        try {
+            Map<MatchStatus, AtomicLong> univ = emptyCounts();
+            for (BattleStatusCountRow row : univBattleMapper.countByStatus()) {
+                if (row.getMatchStatus() != null) {
+                    univ.get(row.getMatchStatus()).set(row.getCnt());
+                }
+            }
+
+            Map<Long, Map<MatchStatus, AtomicLong>> dept = new ConcurrentHashMap<>();
+            for (BattleStatusCountRow row : deptBattleMapper.countByStatus()) {
+                if (row.getUnivId() != null && row.getMatchStatus() != null) {
+                    dept.computeIfAbsent(row.getUnivId(), k -> emptyCounts()).get(row.getMatchStatus()).set(row.getCnt());
+                }
+            }
+
+            univCounts = univ;
+            deptCounts = dept;
+        } catch (Exception e) {
+            log.error("대항전 상태별 집계 실패", e);
+        }
+    }
+
+    /**
+     * 대학 대항전 상태 변경 반영 (before == null 이면 신규 생성)
+     */
+    public void univChanged(MatchStatus before, MatchStatus after) {
+        afterCommit(() -> move(univCounts, before, after));
+    }
+
+    /**
+     * 학과 대항전 상태 변경 반영 (before == null 이면 신규 생성)
+     */
+    public void deptChanged(Long univId, MatchStatus before, MatchStatus after) {
+        if (univId == null) return;
+        afterCommit(() -> move(deptCounts.computeIfAbsent(univId, k -> emptyCounts()), before, after));
+    }
+
+    public Map<String, Long> univCounts() {
+        return snapshot(univCounts);
+    }
+
+    public Map<String, Long> deptCounts(Long univId) {
+        Map<MatchStatus, AtomicLong> counts = deptCounts.get(univId);
+        return snapshot(counts != null ? counts : emptyCounts());
+    }
+
+    private void move(Map<MatchStatus, AtomicLong> counts, MatchStatus before, MatchStatus after) {
+        if (before == after) return;
+        if (before != null) counts.get(before).updateAndGet(v -> Math.max(v - 1, 0));
+        if (after != null) counts.get(after).incrementAndGet();
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // 상태 탭 순서(ALL 포함)로 고정된 뷰
+    private Map<String, Long> snapshot(Map<MatchStatus, AtomicLong> counts) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        long all = 0;
+        for (Map.Entry<MatchStatus, AtomicLong> e : counts.entrySet()) {
+            all += e.getValue().get();
+        }
+        result.put("ALL", all);
+        for (Map.Entry<MatchStatus, AtomicLong> e : counts.entrySet()) {
+            result.put(e.getKey().name(), e.getValue().get());
+        }
+        return result;
+    }
+
+    private static Map<MatchStatus, AtomicLong> emptyCounts() {
+        Map<MatchStatus, AtomicLong> counts = new EnumMap<>(MatchStatus.class);
+        for (MatchStatus status : MatchStatus.values()) {
+            counts.put(status, new AtomicLong());
+        }
+        return counts;
+    }
+
+    /**
+     * 목록 화면 탭 번호 → 상태 (0 은 전체)
+     */
+    public static MatchStatus statusOfTab(int status) {
+        return switch (status) {
+            case 0 -> null;
+            case 1 -> MatchStatus.RECRUIT;
+            case 2 -> MatchStatus.WAITING;
+            case 3 -> MatchStatus.IN_PROGRESS;
+            case 4 -> MatchStatus.COMPLETED;
+            default -> throw new CustomException(CustomExceptionCode.SERVER_ERROR);
+        };
+    }
+}
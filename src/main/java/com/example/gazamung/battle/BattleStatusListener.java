@@ -0,0 +1,57 @@
+package com.example.gazamung.battle;
+
+import com.example.gazamung.deptBattle.entity.DeptBattle;
+import com.example.gazamung.univBattle.entity.UnivBattle;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 대항전 엔티티의 상태 변경을 감지해 BattleStatusCounter, InvitationCodeIndex 에 반영한다.
+ * 상태를 바꾸는 곳이 여러 서비스에 흩어져 있어 저장 시점에 한 번에 처리한다.
+ */
+@RequiredArgsConstructor
+public class BattleStatusListener {
+
+    private final BattleStatusCounter battleStatusCounter;
+    // JPA 저장소를 쓰므로 사용 시점에 꺼냄 (이유는 NearbyIndexListener 참고)
+    private final ObjectProvider<InvitationCodeIndex> invitationCodeIndex;
+
+    @PostLoad
+    public void loaded(Object entity) {
+        if (entity instanceof UnivBattle battle) {
+            battle.setLoadedStatus(battle.getMatchStatus());
+        } else if (entity instanceof DeptBattle battle) {
+            battle.setLoadedStatus(battle.getMatchStatus());
+        }
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void saved(Object entity) {
+        if (entity instanceof UnivBattle battle) {
+            battleStatusCounter.univChanged(battle.getLoadedStatus(), battle.getMatchStatus());
+            invitationCodeIndex.getObject().changed(BattleType.UNIV, battle.getUnivBattleId(), battle.getInvitationCode(), battle.getMatchStatus());
+            battle.setLoadedStatus(battle.getMatchStatus());
+        } else if (entity instanceof DeptBattle battle) {
+            battleStatusCounter.deptChanged(battle.getUnivId(), battle.getLoadedStatus(), battle.getMatchStatus());
+            invitationCodeIndex.getObject().changed(BattleType.DEPT, battle.getDeptBattleId(), battle.getInvitationCode(), battle.getMatchStatus());
+            battle.setLoadedStatus(battle.getMatchStatus());
+        }
+    }
+
+    @PostRemove
+    public void removed(Object entity) {
+        if (entity instanceof UnivBattle battle) {
+            battleStatusCounter.univChanged(battle.getLoadedStatus(), null);
+            invitationCodeIndex.getObject().changed(BattleType.UNIV, battle.getUnivBattleId(), null, null);
+        } else if (entity instanceof DeptBattle battle) {
+            battleStatusCounter.deptChanged(battle.getUnivId(), battle.getLoadedStatus(), null);
+            invitationCodeIndex.getObject().changed(BattleType.DEPT, battle.getDeptBattleId(), null, null);
+        }
+    }
+}
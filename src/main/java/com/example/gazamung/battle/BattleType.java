@@ -0,0 +1,7 @@
+package com.example.gazamung.battle;
+
+public enum BattleType {
+
+    UNIV,       // 대학 vs 대학
+    DEPT;       // 과 vs 과
+}
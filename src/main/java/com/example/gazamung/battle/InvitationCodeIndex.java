@@ -0,0 +1,173 @@
+package com.example.gazamung.battle;
+
+import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung.deptBattle.entity.DeptBattle;
+import com.example.gazamung.deptBattle.repository.DeptBattleRepository;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.univBattle.entity.UnivBattle;
+import com.example.gazamung.univBattle.repository.UnivBattleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 초대 코드 → 대항전 조회
+ * 참가 가능한(모집중/대기중) 대항전의 코드만 메모리에 두고, 상태가 바뀌면 BattleStatusListener 가 커밋 후 제거한다.
+ * 코드는 대학/학과 대항전이 한 공간을 쓰며, 생성 시 메모리와 DB(유니크 인덱스)를 확인해 겹치면 다시 만든다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class InvitationCodeIndex {
+
+    public static final Set<MatchStatus> JOINABLE = EnumSet.of(MatchStatus.RECRUIT, MatchStatus.WAITING);
+
+    // 헷갈리기 쉬운 문자(0, O, 1, I, L) 제외
+    private static final char[] ALPHABET = "23456789ABCDEFGHJKMNPQRSTUVWXYZ".toCharArray();
+    private static final int CODE_LENGTH = 8;
+    private static final int MAX_ATTEMPTS = 10;
+
+    private final UnivBattleRepository univBattleRepository;
+    private final DeptBattleRepository deptBattleRepository;
+
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, BattleRef> codes = new ConcurrentHashMap<>();
+    private final Map<BattleRef, String> battles = new ConcurrentHashMap<>();
+
+    public record BattleRef(BattleType type, Long battleId) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            for (UnivBattle battle : univBattleRepository.findByMatchStatusInAndInvitationCodeIsNotNull(JOINABLE)) {
+                put(new BattleRef(BattleType.UNIV, battle.getUnivBattleId()), battle.getInvitationCode());
+            }
+            for (DeptBattle battle : deptBattleRepository.findByMatchStatusInAndInvitationCodeIsNotNull(JOINABLE)) {
+                put(new BattleRef(BattleType.DEPT, battle.getDeptBattleId()), battle.getInvitationCode());
+            }
+            log.info("초대 코드 적재 완료: {}건", codes.size());
+        } catch (Exception e) {
+            log.error("초대 코드 적재 실패", e);
+        }
+    }
+
+    /**
+     * 겹치지 않는 새 초대 코드
+     */
+    public String newCode() {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            String code = randomCode();
+            if (!codes.containsKey(code)
+                    && !univBattleRepository.existsByInvitationCode(code)
+                    && !deptBattleRepository.existsByInvitationCode(code)) {
+                return code;
+            }
+            log.warn("초대 코드 충돌, 재생성 ({}회)", attempt);
+        }
+        throw new CustomException(CustomExceptionCode.SERVER_ERROR);
+    }
+
+    /**
+     * 코드로 참가 가능한 대항전 조회 (메모리에 없으면 DB 에서 한 번 더 확인)
+     */
+    public BattleRef resolve(String code) {
+        if (code == null || code.isBlank()) return null;
+        String key = code.trim();
+
+        BattleRef ref = lookup(key);
+        // 새 코드는 대문자만 쓰므로 소문자로 입력해도 찾을 수 있게 한 번 더 확인
+        if (ref == null && !key.equals(key.toUpperCase())) {
+            ref = lookup(key.toUpperCase());
+        }
+        return ref;
+    }
+
+    /**
+     * resolve() 로 찾은 대항전의 실제 초대 코드
+     */
+    public String codeOf(BattleRef ref) {
+        return battles.get(ref);
+    }
+
+    private BattleRef lookup(String key) {
+        BattleRef ref = codes.get(key);
+        if (ref != null) return ref;
+
+        UnivBattle univBattle = univBattleRepository.findByInvitationCode(key).orElse(null);
+        if (univBattle != null && JOINABLE.contains(univBattle.getMatchStatus())) {
+            ref = new BattleRef(BattleType.UNIV, univBattle.getUnivBattleId());
+            put(ref, key);
+            return ref;
+        }
+        DeptBattle deptBattle = deptBattleRepository.findByInvitationCode(key).orElse(null);
+        if (deptBattle != null && JOINABLE.contains(deptBattle.getMatchStatus())) {
+            ref = new BattleRef(BattleType.DEPT, deptBattle.getDeptBattleId());
+            put(ref, key);
+            return ref;
+        }
+        return null;
+    }
+
+    /**
+     * 대항전 저장/삭제 반영 (status 가 null 이면 삭제)
+     */
+    public void changed(BattleType type, Long battleId, String code, MatchStatus status) {
+        if (battleId == null) return;
+        BattleRef ref = new BattleRef(type, battleId);
+        afterCommit(() -> {
+            if (code != null && status != null && JOINABLE.contains(status)) {
+                put(ref, code);
+            } else {
+                evict(ref);
+            }
+        });
+    }
+
+    private synchronized void put(BattleRef ref, String code) {
+        String old = battles.put(ref, code);
+        if (old != null && !old.equals(code)) {
+            codes.remove(old, ref);
+        }
+        codes.put(code, ref);
+    }
+
+    private synchronized void evict(BattleRef ref) {
+        String old = battles.remove(ref);
+        if (old != null) {
+            codes.remove(old, ref);
+        }
+    }
+
+    private String randomCode() {
+        char[] chars = new char[CODE_LENGTH];
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            chars[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+        }
+        return new String(chars);
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
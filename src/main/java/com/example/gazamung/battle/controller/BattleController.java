@@ -0,0 +1,48 @@
+package com.example.gazamung.battle.controller;
+
+import com.example.gazamung._enum.ApiResponseCode;
+import com.example.gazamung.battle.dto.JoinByCodeReq;
+import com.example.gazamung.battle.dto.JoinByCodeRes;
+import com.example.gazamung.battle.service.BattleJoinService;
+import com.example.gazamung.dto.ResultDTO;
+import com.example.gazamung.exception.CustomException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/battle")
+@CrossOrigin(origins = "*", exposedHeaders = {"Content-Disposition"}, allowedHeaders = "*")
+@Tag(name = "대항전 공통 API", description = "")
+public class BattleController {
+
+    private final BattleJoinService battleJoinService;
+
+    @Operation(summary = "초대 코드로 대항전 참가", description = "" +
+            " 대항전 ID 없이 초대 코드만으로 대학/학과 대항전에 참가." +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- NOT_FOUND_USER: 존재하지 않는 회원입니다." +
+            "\n- INVALID_INVITE_CODE: 참가 코드가 유효하지 않습니다." +
+            "\n- ALREADY_IN_PROGRESS: 이미 진행중인 경기입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @PostMapping("/join")
+    public ResultDTO joinByCode(@RequestBody JoinByCodeReq request) {
+        try {
+            JoinByCodeRes result = battleJoinService.joinByCode(request);
+            return ResultDTO.of(true, ApiResponseCode.CREATED.getCode(), "대항전 참가 완료.", result);
+        } catch (CustomException e) {
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+}
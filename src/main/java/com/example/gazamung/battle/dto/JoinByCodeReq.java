@@ -0,0 +1,17 @@
+package com.example.gazamung.battle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class JoinByCodeReq {
+
+    private long memberIdx;
+    private String invitationCode;  // 초대코드
+
+}
@@ -0,0 +1,18 @@
+package com.example.gazamung.battle.dto;
+
+import com.example.gazamung.battle.BattleType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class JoinByCodeRes {
+
+    private BattleType type;        // UNIV: 대학 대항전, DEPT: 학과 대항전
+    private Long battleId;          // univBattleId 또는 deptBattleId
+
+}
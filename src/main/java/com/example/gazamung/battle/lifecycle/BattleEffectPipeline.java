@@ -0,0 +1,224 @@
+package com.example.gazamung.battle.lifecycle;
+
+import com.example.gazamung.chat.chatMessage.ChatMessage;
+import com.example.gazamung.chat.chatMessage.ChatMessageRepository;
+import com.example.gazamung.fcmSend.FcmSendDto;
+import com.example.gazamung.fcmSend.FcmService;
+import com.example.gazamung.member.entity.Member;
+import com.example.gazamung.member.repository.MemberRepository;
+import com.example.gazamung.notification.dto.NotifyCreateReq;
+import com.example.gazamung.notification.service.NotificationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 대항전 부수 효과 (채팅 시스템 메시지, 알림, FCM, 랭크 반영) 를 트랜잭션 단위로 모아 한 번에 처리한다.
+ * - 랭크/전적 반영: 커밋 직전 같은 트랜잭션에서 실행 (상태 변경과 함께 커밋/롤백)
+ * - 채팅 메시지, 알림: 커밋 후 saveAll 한 번씩
+ * - FCM: 커밋 후 수신자 토큰을 한 번에 조회해 전송
+ * 트랜잭션 밖에서 호출되면 등록 즉시 처리한다.
+ */
+@Component
+@Slf4j
+public class BattleEffectPipeline {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final NotificationService notificationService;
+    private final MemberRepository memberRepository;
+    private final FcmService fcmService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService sender = Executors.newFixedThreadPool(2);
+
+    public BattleEffectPipeline(ChatMessageRepository chatMessageRepository,
+                                NotificationService notificationService,
+                                MemberRepository memberRepository,
+                                FcmService fcmService,
+                                PlatformTransactionManager transactionManager) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.notificationService = notificationService;
+        this.memberRepository = memberRepository;
+        this.fcmService = fcmService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 현재 트랜잭션의 Batch (없으면 생성 후 커밋 훅 등록)
+     */
+    Batch currentBatch() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new Batch(this);
+        }
+
+        Batch batch = (Batch) TransactionSynchronizationManager.getResource(this);
+        if (batch != null) {
+            return batch;
+        }
+
+        Batch created = new Batch(null);
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                created.runResults();
+            }
+
+            @Override
+            public void afterCommit() {
+                submit(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(BattleEffectPipeline.this);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * 트랜잭션 밖에서 등록된 효과 즉시 처리
+     */
+    private void dispatch(Batch batch) {
+        batch.runResults();
+        submit(batch.drain());
+    }
+
+    private void submit(Batch batch) {
+        if (batch.isEmpty()) return;
+        sender.execute(() -> flush(batch));
+    }
+
+    private void flush(Batch batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!batch.chatMessages.isEmpty()) {
+                    chatMessageRepository.saveAll(batch.chatMessages);
+                }
+                if (!batch.notifications.isEmpty()) {
+                    notificationService.sendNotifyAll(batch.notifications);
+                }
+            });
+        } catch (Exception e) {
+            log.error("대항전 채팅/알림 저장 실패 ({}건)", batch.chatMessages.size() + batch.notifications.size(), e);
+        }
+
+        if (batch.pushes.isEmpty()) return;
+
+        // 수신자 토큰 한 번에 조회
+        Set<Long> receivers = new HashSet<>();
+        for (Push push : batch.pushes) {
+            receivers.addAll(push.receivers());
+        }
+        Map<Long, String> tokens = new HashMap<>();
+        for (Member member : memberRepository.findAllById(receivers)) {
+            if (member.getFcmToken() != null && !member.getFcmToken().isEmpty()) {
+                tokens.put(member.getMemberIdx(), member.getFcmToken());
+            }
+        }
+
+        for (Push push : batch.pushes) {
+            for (Long receiver : push.receivers()) {
+                String token = tokens.get(receiver);
+                if (token == null) continue;
+
+                FcmSendDto fcmSendDto = FcmSendDto.builder()
+                        .token(token)
+                        .title(push.title())
+                        .body(push.body())
+                        .target(push.target())
+                        .data(push.data())
+                        .build();
+                try {
+                    fcmService.sendMessageTo(fcmSendDto);
+                } catch (Exception e) {
+                    log.warn("대항전 FCM 전송 실패 memberIdx={}: {}", receiver, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdown();
+    }
+
+    record Push(Collection<Long> receivers, String title, String body, String target, String data) {
+    }
+
+    /**
+     * 한 트랜잭션 동안 쌓이는 부수 효과
+     */
+    static final class Batch {
+
+        private final BattleEffectPipeline immediate;    // 트랜잭션 밖이면 등록 즉시 처리
+        private final List<ChatMessage> chatMessages = new ArrayList<>();
+        private final List<NotifyCreateReq> notifications = new ArrayList<>();
+        private final List<Push> pushes = new ArrayList<>();
+        private final List<Runnable> results = new ArrayList<>();
+
+        private Batch(BattleEffectPipeline immediate) {
+            this.immediate = immediate;
+        }
+
+        void chat(ChatMessage chatMessage) {
+            chatMessages.add(chatMessage);
+            dispatchIfImmediate();
+        }
+
+        void notification(NotifyCreateReq notification) {
+            notifications.add(notification);
+            dispatchIfImmediate();
+        }
+
+        void push(Push push) {
+            pushes.add(push);
+            dispatchIfImmediate();
+        }
+
+        void result(Runnable task) {
+            results.add(task);
+            dispatchIfImmediate();
+        }
+
+        private void dispatchIfImmediate() {
+            if (immediate != null) {
+                immediate.dispatch(this);
+            }
+        }
+
+        private void runResults() {
+            // 실행 중 추가되는 작업까지 처리
+            for (int i = 0; i < results.size(); i++) {
+                results.get(i).run();
+            }
+            results.clear();
+        }
+
+        private Batch drain() {
+            Batch drained = new Batch(null);
+            drained.chatMessages.addAll(chatMessages);
+            drained.notifications.addAll(notifications);
+            drained.pushes.addAll(pushes);
+            chatMessages.clear();
+            notifications.clear();
+            pushes.clear();
+            return drained;
+        }
+
+        private boolean isEmpty() {
+            return chatMessages.isEmpty() && notifications.isEmpty() && pushes.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.gazamung.battle.lifecycle;
+
+import com.example.gazamung.chat.chatMessage.ChatMessage;
+import com.example.gazamung.chat.chatRoom.ChatRoom;
+import com.example.gazamung.notification.dto.NotifyCreateReq;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 대항전 하나에 대한 부수 효과 등록 (BattleEngine.effects 로 생성)
+ * 실제 처리는 BattleEffectPipeline 이 트랜잭션 커밋 시점에 모아서 한다.
+ */
+public class BattleEffects {
+
+    private final BattleEffectPipeline.Batch batch;
+    private final BattleLifecycleConfig<?> config;
+    private final Long battleId;
+
+    BattleEffects(BattleEffectPipeline.Batch batch, BattleLifecycleConfig<?> config, Long battleId) {
+        this.batch = batch;
+        this.config = config;
+        this.battleId = battleId;
+    }
+
+    /**
+     * 채팅방 시스템 메시지
+     */
+    public BattleEffects chat(ChatRoom chatRoom, String content) {
+        if (chatRoom == null) return this;
+        batch.chat(ChatMessage.builder()
+                .chatRoomType(chatRoom.getChatRoomType())
+                .chatRoomId(chatRoom.getChatRoomId())
+                .content(content)
+                .nickname(" ")
+                .regDt(LocalDateTime.now())
+                .build());
+        return this;
+    }
+
+    public BattleEffects notification(Long receiver, String title, String content) {
+        return notification(List.of(receiver), title, content);
+    }
+
+    public BattleEffects notification(Collection<Long> receivers, String title, String content) {
+        for (Long receiver : receivers) {
+            batch.notification(NotifyCreateReq.builder()
+                    .type(config.msgType())
+                    .isRead(false)
+                    .receiver(receiver)
+                    .title(title)
+                    .content(content)
+                    .relatedItemId(battleId)
+                    .build());
+        }
+        return this;
+    }
+
+    public BattleEffects push(Long receiver, String title, String body) {
+        return push(List.of(receiver), title, body, config.infoTarget());
+    }
+
+    public BattleEffects push(Collection<Long> receivers, String title, String body) {
+        return push(receivers, title, body, config.infoTarget());
+    }
+
+    public BattleEffects push(Collection<Long> receivers, String title, String body, String target) {
+        if (receivers.isEmpty()) return this;
+        batch.push(new BattleEffectPipeline.Push(List.copyOf(receivers), title, body, target, String.valueOf(battleId)));
+        return this;
+    }
+
+    /**
+     * 결과 응답 요청 푸시 (결과 응답 화면으로 이동)
+     */
+    public BattleEffects pushResultRequest(Long receiver, String title, String body) {
+        return push(List.of(receiver), title, body, config.resultTarget());
+    }
+
+    /**
+     * 랭크/전적 반영 (커밋 직전 같은 트랜잭션에서 실행)
+     */
+    public BattleEffects result(Runnable task) {
+        batch.result(task);
+        return this;
+    }
+}
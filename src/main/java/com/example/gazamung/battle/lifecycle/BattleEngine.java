@@ -0,0 +1,221 @@
+package com.example.gazamung.battle.lifecycle;
+
+import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung.chat.chatMember.ChatMember;
+import com.example.gazamung.chat.chatMember.ChatMemberRepository;
+import com.example.gazamung.chat.chatRoom.ChatRoom;
+import com.example.gazamung.chat.chatRoom.ChatRoomRepository;
+import com.example.gazamung.exception.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * 대학/과 대항전 공통 진행 엔진
+ * - 상태 전이: BattleStateMachine 규칙 검사 후 DB compare-and-set (동시 요청 중 하나만 성공)
+ * - 부수 효과: BattleEffects 로 등록하면 BattleEffectPipeline 이 커밋 시점에 모아서 처리
+ * - 채팅방 참가, 결과 확인 대기 예약
+ * 대항전 종류별 차이는 BattleLifecycleConfig 구현으로 분리한다.
+ */
+@Component
+@Slf4j
+public class BattleEngine {
+
+    private final Map<Class<?>, BattleLifecycleConfig<?>> configs = new HashMap<>();
+    private final List<BattleTransitionListener> listeners;
+    private final BattleEffectPipeline effectPipeline;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMemberRepository chatMemberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long confirmTimeoutMinutes;
+
+    // 결과 확인 대기 (참가팀 대표가 응답하지 않으면 주최측 결과로 종료)
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final ConcurrentHashMap<String, ScheduledFuture<?>> confirmations = new ConcurrentHashMap<>();
+
+    public BattleEngine(List<BattleLifecycleConfig<?>> configs,
+                        List<BattleTransitionListener> listeners,
+                        BattleEffectPipeline effectPipeline,
+                        ChatRoomRepository chatRoomRepository,
+                        ChatMemberRepository chatMemberRepository,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${battle.result-confirm-timeout-minutes:1}") long confirmTimeoutMinutes) {
+        for (BattleLifecycleConfig<?> config : configs) {
+            this.configs.put(config.battleClass(), config);
+        }
+        this.listeners = listeners;
+        this.effectPipeline = effectPipeline;
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatMemberRepository = chatMemberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.confirmTimeoutMinutes = confirmTimeoutMinutes;
+    }
+
+    /**
+     * 상태 전이 (compare-and-set)
+     * 엔티티에 읽어 둔 상태가 DB 에 그대로 있을 때만 변경하고, 엔티티 상태도 맞춰 둔다.
+     * @throws CustomException INVALID_STATUS_TRANSITION: 허용되지 않는 전이, BATTLE_STATUS_CONFLICT: 다른 요청이 먼저 변경
+     */
+    public <B> void transit(B battle, MatchStatus next) {
+        BattleLifecycleConfig<B> config = config(battle);
+        MatchStatus current = config.statusOf(battle);
+
+        BattleStateMachine.require(current, next);
+
+        if (config.compareAndSetStatus(config.idOf(battle), current, next) == 0) {
+            throw new CustomException(CustomExceptionCode.BATTLE_STATUS_CONFLICT);
+        }
+        config.applyStatus(battle, next);
+
+        if (!listeners.isEmpty()) {
+            BattleTransition transition = new BattleTransition(config.type(), config.idOf(battle), current, next,
+                    config.hostLeaderOf(battle), config.hostScoreOf(battle), config.guestScoreOf(battle));
+            afterCommit(() -> listeners.forEach(listener -> {
+                try {
+                    listener.transited(transition);
+                } catch (Exception e) {
+                    log.error("대항전 상태 변경 후처리 실패 {}", transition, e);
+                }
+            }));
+        }
+    }
+
+    /**
+     * 해당 대항전의 부수 효과 등록기 (현재 트랜잭션에 묶임)
+     */
+    public <B> BattleEffects effects(B battle) {
+        BattleLifecycleConfig<B> config = config(battle);
+        return new BattleEffects(effectPipeline.currentBatch(), config, config.idOf(battle));
+    }
+
+    /**
+     * 대항전 채팅방
+     */
+    public <B> ChatRoom chatRoom(B battle) {
+        BattleLifecycleConfig<B> config = config(battle);
+        return chatRoomRepository.findByChatRoomTypeAndDynamicId(config.chatRoomType(), config.idOf(battle));
+    }
+
+    /**
+     * 채팅방 참가
+     * @param roomName 참가자에게 보일 채팅방 이름
+     * @param roomImg 참가자에게 보일 채팅방 이미지 (null 가능)
+     */
+    public void joinChat(ChatRoom chatRoom, Long memberIdx, String roomName, String roomImg) {
+        if (chatRoom == null) return;
+
+        ChatMember chatMember = ChatMember.builder()
+                .chatRoomId(chatRoom.getChatRoomId())
+                .chatRoomType(chatRoom.getChatRoomType())
+                .customChatRoomName(roomName)
+                .memberIdx(memberIdx)
+                .chatRoomImg(roomImg)
+                .build();
+        chatMemberRepository.save(chatMember);
+    }
+
+    /**
+     * 기존 참가자의 채팅방 이름/이미지 변경 (roomImg 가 null 이면 이미지는 유지)
+     */
+    public void renameChat(ChatRoom chatRoom, Long memberIdx, String roomName, String roomImg) {
+        if (chatRoom == null) return;
+
+        ChatMember chatMember = chatMemberRepository.findByMemberIdxAndChatRoomId(memberIdx, chatRoom.getChatRoomId());
+        if (chatMember == null) return;
+
+        chatMember.setCustomChatRoomName(roomName);
+        if (roomImg != null) {
+            chatMember.setChatRoomImg(roomImg);
+        }
+        chatMemberRepository.save(chatMember);
+    }
+
+    /**
+     * 결과 확인 대기 예약 (커밋 후), 시간 안에 confirmReceived 가 없으면 onTimeout 을 트랜잭션 안에서 실행
+     */
+    public <B> void awaitConfirmation(B battle, Runnable onTimeout) {
+        String key = key(battle);
+        afterCommit(() -> {
+            ScheduledFuture<?> scheduledFuture = scheduler.schedule(() -> {
+                confirmations.remove(key);
+                log.info("결과 확인 대기 만료 {}", key);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> onTimeout.run());
+                } catch (CustomException e) {
+                    // 응답과 만료가 겹친 경우 (상태 충돌) 먼저 처리된 쪽을 따른다
+                    log.info("결과 확인 대기 만료 처리 생략 {}: {}", key, e.getCustomErrorCode());
+                } catch (Exception e) {
+                    log.error("결과 확인 대기 만료 처리 실패 {}", key, e);
+                }
+            }, confirmTimeoutMinutes, TimeUnit.MINUTES);
+
+            ScheduledFuture<?> previous = confirmations.put(key, scheduledFuture);
+            if (previous != null) {
+                previous.cancel(false);
+            }
+        });
+    }
+
+    /**
+     * 결과 응답 수신 시 예약 취소
+     */
+    public <B> void confirmReceived(B battle) {
+        ScheduledFuture<?> future = confirmations.remove(key(battle));
+        if (future != null) {
+            future.cancel(false);
+            log.info("결과 확인 대기 취소 {}", key(battle));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private <B> String key(B battle) {
+        BattleLifecycleConfig<B> config = config(battle);
+        return config.type() + ":" + config.idOf(battle);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <B> BattleLifecycleConfig<B> config(B battle) {
+        BattleLifecycleConfig<?> config = configs.get(battle.getClass());
+        if (config == null) {
+            // Hibernate 프록시 등 하위 클래스
+            for (Map.Entry<Class<?>, BattleLifecycleConfig<?>> entry : configs.entrySet()) {
+                if (entry.getKey().isInstance(battle)) {
+                    config = entry.getValue();
+                    break;
+                }
+            }
+        }
+        if (config == null) {
+            throw new IllegalArgumentException("등록되지 않은 대항전 종류: " + battle.getClass());
+        }
+        return (BattleLifecycleConfig<B>) config;
+    }
+}
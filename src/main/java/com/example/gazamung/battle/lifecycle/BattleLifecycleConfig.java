@@ -0,0 +1,44 @@
+package com.example.gazamung.battle.lifecycle;
+
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung._enum.MsgType;
+import com.example.gazamung.battle.BattleType;
+
+/**
+ * 대항전 종류별 설정 (BattleEngine 에 등록)
+ * @param <B> 대항전 엔티티
+ */
+public interface BattleLifecycleConfig<B> {
+
+    BattleType type();
+
+    Class<B> battleClass();
+
+    Long idOf(B battle);
+
+    MatchStatus statusOf(B battle);
+
+    Long hostLeaderOf(B battle);
+
+    Long hostScoreOf(B battle);
+
+    Long guestScoreOf(B battle);
+
+    /**
+     * 엔티티 상태만 변경 (DB 반영은 compareAndSetStatus 에서 이미 끝난 상태)
+     */
+    void applyStatus(B battle, MatchStatus status);
+
+    /**
+     * @return 변경된 행 수
+     */
+    int compareAndSetStatus(Long id, MatchStatus expected, MatchStatus next);
+
+    int chatRoomType();         // 0: 대학 대항전, 1: 과 대항전
+
+    MsgType msgType();
+
+    String infoTarget();        // FCM 이동 화면 (상세)
+
+    String resultTarget();      // FCM 이동 화면 (결과 응답)
+}
@@ -0,0 +1,41 @@
+package com.example.gazamung.battle.lifecycle;
+
+import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung.exception.CustomException;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대항전 상태 전이 규칙 (대학/과 대항전 공통)
+ * RECRUIT → WAITING → PREPARED → IN_PROGRESS → COMPLETED
+ * 일반 참가자는 참가팀 대표가 참가해 WAITING 이 된 뒤에만 참가할 수 있다 (RECRUIT 에서 바로 PREPARED 로 가지 않음).
+ */
+public final class BattleStateMachine {
+
+    private static final Map<MatchStatus, Set<MatchStatus>> TRANSITIONS = new EnumMap<>(MatchStatus.class);
+
+    static {
+        TRANSITIONS.put(MatchStatus.RECRUIT, EnumSet.of(MatchStatus.WAITING));             // 참가팀 대표 참가
+        TRANSITIONS.put(MatchStatus.WAITING, EnumSet.of(MatchStatus.PREPARED));            // 마지막 참가자 참가
+        TRANSITIONS.put(MatchStatus.PREPARED, EnumSet.of(MatchStatus.IN_PROGRESS));        // 경기 시작
+        TRANSITIONS.put(MatchStatus.IN_PROGRESS, EnumSet.of(MatchStatus.COMPLETED));       // 결과 확정
+        TRANSITIONS.put(MatchStatus.COMPLETED, EnumSet.noneOf(MatchStatus.class));
+    }
+
+    private BattleStateMachine() {
+    }
+
+    public static boolean canTransit(MatchStatus from, MatchStatus to) {
+        return from != null && to != null && TRANSITIONS.get(from).contains(to);
+    }
+
+    public static void require(MatchStatus from, MatchStatus to) {
+        if (!canTransit(from, to)) {
+            throw new CustomException(CustomExceptionCode.INVALID_STATUS_TRANSITION);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.gazamung.battle.lifecycle;
+
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung.battle.BattleType;
+
+/**
+ * 커밋된 대항전 상태 변경 (전이 시점 값)
+ */
+public record BattleTransition(BattleType type,
+                               Long battleId,
+                               MatchStatus from,
+                               MatchStatus to,
+                               Long hostLeader,
+                               Long hostScore,
+                               Long guestScore) {
+}
@@ -0,0 +1,9 @@
+package com.example.gazamung.battle.lifecycle;
+
+/**
+ * 대항전 상태 변경이 커밋된 뒤 호출 (BattleEngine 에 빈으로 등록)
+ */
+public interface BattleTransitionListener {
+
+    void transited(BattleTransition transition);
+}
@@ -0,0 +1,81 @@
+package com.example.gazamung.battle.lifecycle;
+
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung._enum.MsgType;
+import com.example.gazamung.battle.BattleType;
+import com.example.gazamung.deptBattle.entity.DeptBattle;
+import com.example.gazamung.deptBattle.repository.DeptBattleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class DeptBattleLifecycle implements BattleLifecycleConfig<DeptBattle> {
+
+    private final DeptBattleRepository deptBattleRepository;
+
+    @Override
+    public BattleType type() {
+        return BattleType.DEPT;
+    }
+
+    @Override
+    public Class<DeptBattle> battleClass() {
+        return DeptBattle.class;
+    }
+
+    @Override
+    public Long idOf(DeptBattle battle) {
+        return battle.getDeptBattleId();
+    }
+
+    @Override
+    public MatchStatus statusOf(DeptBattle battle) {
+        return battle.getMatchStatus();
+    }
+
+    @Override
+    public Long hostLeaderOf(DeptBattle battle) {
+        return battle.getHostLeader();
+    }
+
+    @Override
+    public Long hostScoreOf(DeptBattle battle) {
+        return battle.getHostScore();
+    }
+
+    @Override
+    public Long guestScoreOf(DeptBattle battle) {
+        return battle.getGuestScore();
+    }
+
+    @Override
+    public void applyStatus(DeptBattle battle, MatchStatus status) {
+        battle.setMatchStatus(status);
+    }
+
+    @Override
+    public int compareAndSetStatus(Long id, MatchStatus expected, MatchStatus next) {
+        return deptBattleRepository.compareAndSetStatus(id, expected, next);
+    }
+
+    @Override
+    public int chatRoomType() {
+        return 1;
+    }
+
+    @Override
+    public MsgType msgType() {
+        return MsgType.DEPT_BATTLE;
+    }
+
+    @Override
+    public String infoTarget() {
+        return "deptBattle/info";
+    }
+
+    @Override
+    public String resultTarget() {
+        return "deptBattle/resultRes";
+    }
+}
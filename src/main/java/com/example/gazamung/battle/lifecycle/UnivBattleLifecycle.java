@@ -0,0 +1,81 @@
+package com.example.gazamung.battle.lifecycle;
+
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung._enum.MsgType;
+import com.example.gazamung.battle.BattleType;
+import com.example.gazamung.univBattle.entity.UnivBattle;
+import com.example.gazamung.univBattle.repository.UnivBattleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UnivBattleLifecycle implements BattleLifecycleConfig<UnivBattle> {
+
+    private final UnivBattleRepository univBattleRepository;
+
+    @Override
+    public BattleType type() {
+        return BattleType.UNIV;
+    }
+
+    @Override
+    public Class<UnivBattle> battleClass() {
+        return UnivBattle.class;
+    }
+
+    @Override
+    public Long idOf(UnivBattle battle) {
+        return battle.getUnivBattleId();
+    }
+
+    @Override
+    public MatchStatus statusOf(UnivBattle battle) {
+        return battle.getMatchStatus();
+    }
+
+    @Override
+    public Long hostLeaderOf(UnivBattle battle) {
+        return battle.getHostLeader();
+    }
+
+    @Override
+    public Long hostScoreOf(UnivBattle battle) {
+        return battle.getHostScore();
+    }
+
+    @Override
+    public Long guestScoreOf(UnivBattle battle) {
+        return battle.getGuestScore();
+    }
+
+    @Override
+    public void applyStatus(UnivBattle battle, MatchStatus status) {
+        battle.setMatchStatus(status);
+    }
+
+    @Override
+    public int compareAndSetStatus(Long id, MatchStatus expected, MatchStatus next) {
+        return univBattleRepository.compareAndSetStatus(id, expected, next);
+    }
+
+    @Override
+    public int chatRoomType() {
+        return 0;
+    }
+
+    @Override
+    public MsgType msgType() {
+        return MsgType.UNIV_BATTLE;
+    }
+
+    @Override
+    public String infoTarget() {
+        return "univBattle/info";
+    }
+
+    @Override
+    public String resultTarget() {
+        return "univBattle/resultRes";
+    }
+}
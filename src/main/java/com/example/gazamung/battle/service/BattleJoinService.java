@@ -0,0 +1,16 @@
+package com.example.gazamung.battle.service;
+
+import com.example.gazamung.battle.dto.JoinByCodeReq;
+import com.example.gazamung.battle.dto.JoinByCodeRes;
+import org.springframework.stereotype.Service;
+
+@Service
+public interface BattleJoinService {
+
+    /**
+     * 초대 코드로 대항전 참가 (대학/학과 대항전 공통)
+     * @param request
+     * @return
+     */
+    JoinByCodeRes joinByCode(JoinByCodeReq request);
+}
@@ -0,0 +1,55 @@
+package com.example.gazamung.battle.service;
+
+import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung.battle.BattleType;
+import com.example.gazamung.battle.InvitationCodeIndex;
+import com.example.gazamung.battle.dto.JoinByCodeReq;
+import com.example.gazamung.battle.dto.JoinByCodeRes;
+import com.example.gazamung.deptBattle.dto.DeptBattleAttendRequest;
+import com.example.gazamung.deptBattle.service.DeptBattleService;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.univBattle.dto.AttendRequest;
+import com.example.gazamung.univBattle.service.UnivBattleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BattleJoinServiceImpl implements BattleJoinService {
+
+    private final InvitationCodeIndex invitationCodeIndex;
+    private final UnivBattleService univBattleService;
+    private final DeptBattleService deptBattleService;
+
+    @Override
+    public JoinByCodeRes joinByCode(JoinByCodeReq request) {
+
+        InvitationCodeIndex.BattleRef ref = invitationCodeIndex.resolve(request.getInvitationCode());
+        if (ref == null) {
+            throw new CustomException(CustomExceptionCode.INVALID_INVITE_CODE);
+        }
+        String code = invitationCodeIndex.codeOf(ref);
+
+        // 기존 참가 로직(정원, 같은 대학/학과 검증 등)을 그대로 사용
+        if (ref.type() == BattleType.UNIV) {
+            univBattleService.attend(AttendRequest.builder()
+                    .memberIdx(request.getMemberIdx())
+                    .univBattleId(ref.battleId())
+                    .invitationCode(code)
+                    .build());
+        } else {
+            deptBattleService.attend(DeptBattleAttendRequest.builder()
+                    .memberIdx(request.getMemberIdx())
+                    .deptBattleId(ref.battleId())
+                    .invitationCode(code)
+                    .build());
+        }
+
+        return JoinByCodeRes.builder()
+                .type(ref.type())
+                .battleId(ref.battleId())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.gazamung.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class CacheConfig {
+
+    /**
+     * 캐시 미적중 시 서로 독립적인 조회를 병렬로 실행하기 위한 스레드 풀
+     * (DB 커넥션 풀보다 작게 유지)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService readModelExecutor(@Value("${cache.read-model.threads:4}") int threads) {
+        return Executors.newFixedThreadPool(threads);
+    }
+}
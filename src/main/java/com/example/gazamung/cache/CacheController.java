@@ -0,0 +1,49 @@
+package com.example.gazamung.cache;
+
+import com.example.gazamung._enum.ApiResponseCode;
+import com.example.gazamung.dto.ResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/cache")
+@CrossOrigin(origins = "*", exposedHeaders = {"Content-Disposition"}, allowedHeaders = "*")
+@Tag(name = "캐시 API", description = "")
+public class CacheController {
+
+    private final CacheRegistry cacheRegistry;
+    private final ResponseSnapshots responseSnapshots;
+
+    @Operation(summary = "조회 캐시 현황", description = "" +
+            "\n캐시별 크기, 적중률, 응답 시간(p50, p99)" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/stats")
+    public ResultDTO stats() {
+        return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "캐시 현황 조회 성공", cacheRegistry.stats());
+    }
+
+    @Operation(summary = "기준 정보 응답 캐시 현황", description = "" +
+            "\n그룹(대학, 학과, 종목, 카테고리)별 버전(무효화 횟수), 응답 재사용/생성 횟수, 304 응답 횟수" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/snapshots")
+    public ResultDTO snapshots() {
+        return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "기준 정보 응답 캐시 현황 조회 성공", responseSnapshots.stats());
+    }
+}
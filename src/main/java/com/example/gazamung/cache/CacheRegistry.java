@@ -0,0 +1,42 @@
+package com.example.gazamung.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * 조회 캐시 목록 관리 및 적중률/응답 시간 주기 보고
+ */
+@Component
+@Slf4j
+public class CacheRegistry {
+
+    private final List<ReadModelCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+    public <K, V> ReadModelCache<K, V> create(String name, int maxSize, Duration ttl) {
+        ReadModelCache<K, V> cache = new ReadModelCache<>(name, maxSize, ttl);
+        caches.add(cache);
+        return cache;
+    }
+
+    public List<CacheStats> stats() {
+        return caches.stream().map(ReadModelCache::stats).collect(Collectors.toList());
+    }
+
+    @Scheduled(fixedDelayString = "${cache.stats.report-ms:300000}")
+    public void report() {
+        for (CacheStats stats : stats()) {
+            if (stats.getHits() + stats.getMisses() > 0) {
+                log.info("[cache] {} - size: {}, hit: {}, miss: {}, coalesced: {}, hitRatio: {}, p50: {}ms, p99: {}ms",
+                        stats.getName(), stats.getSize(), stats.getHits(), stats.getMisses(), stats.getCoalesced(),
+                        String.format("%.3f", stats.getHitRatio()),
+                        String.format("%.2f", stats.getP50Ms()), String.format("%.2f", stats.getP99Ms()));
+            }
+        }
+    }
+}
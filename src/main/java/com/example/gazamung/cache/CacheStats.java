@@ -0,0 +1,23 @@
+package com.example.gazamung.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheStats {
+
+    private String name;
+    private int size;
+    private long hits;
+    private long misses;
+    private long coalesced;     // 미적중 중 다른 요청의 로딩 결과를 기다린 횟수
+    private double hitRatio;
+    private double p50Ms;       // 조회 응답 시간 (캐시 적중 + 미적중 전체)
+    private double p99Ms;
+
+}
@@ -0,0 +1,35 @@
+package com.example.gazamung.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최근 응답 시간 샘플 (고정 크기 링 버퍼) 로 백분위 계산
+ */
+public class LatencyRecorder {
+
+    private static final int SAMPLE_SIZE = 2048;
+
+    private final long[] samples = new long[SAMPLE_SIZE];
+    private final AtomicLong count = new AtomicLong();
+
+    public void record(long nanos) {
+        long index = count.getAndIncrement();
+        samples[(int) (index % SAMPLE_SIZE)] = nanos;
+    }
+
+    /**
+     * @param percentile 0 ~ 100
+     * @return 밀리초, 샘플이 없으면 0
+     */
+    public double percentileMillis(double percentile) {
+        int size = (int) Math.min(count.get(), SAMPLE_SIZE);
+        if (size == 0) {
+            return 0;
+        }
+        long[] copy = Arrays.copyOf(samples, size);
+        Arrays.sort(copy);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return copy[Math.max(0, Math.min(index, size - 1))] / 1_000_000.0;
+    }
+}
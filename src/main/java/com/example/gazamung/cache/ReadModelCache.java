@@ -0,0 +1,176 @@
+package com.example.gazamung.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * 조회 전용 화면 데이터 캐시
+ * 변경 시 invalidate 로 무효화하며, 무효화와 겹쳐서 로딩된 값은 저장하지 않는다. (오래된 값이 다시 캐시되는 것 방지)
+ * 같은 키의 동시 미적중은 먼저 들어온 요청 하나만 로딩하고 나머지는 그 결과를 기다린다. (single-flight)
+ * ttl 은 무효화가 누락된 경우를 위한 안전장치.
+ * @param <K>
+ * @param <V>
+ */
+public class ReadModelCache<K, V> {
+
+    private static final int STRIPES = 64;
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+
+        private Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    // 키별 로딩 중인 요청, 무효화되면 제거해서 이후 요청은 새로 로딩
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    // 키 구간별 무효화 횟수, 로딩 전후 값이 다르면 로딩 결과를 저장하지 않음
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final LatencyRecorder latency = new LatencyRecorder();
+
+    public ReadModelCache(String name, int maxSize, Duration ttl) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        long start = System.nanoTime();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && start - entry.loadedAt < ttlNanos) {
+                hits.incrementAndGet();
+                return entry.value;
+            }
+            misses.incrementAndGet();
+
+            CompletableFuture<V> flight = new CompletableFuture<>();
+            CompletableFuture<V> running = loading.putIfAbsent(key, flight);
+            if (running != null) {
+                coalesced.incrementAndGet();
+                return await(running);
+            }
+
+            try {
+                int stripe = stripe(key);
+                long generation = generations.get(stripe);
+                V value = loader.apply(key);
+                if (value != null && generations.get(stripe) == generation) {
+                    entries.put(key, new Entry<>(value, System.nanoTime()));
+                    evictIfNeeded();
+                }
+                flight.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                loading.remove(key, flight);
+            }
+        } finally {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+
+    // 먼저 시작된 로딩 결과 대기 (로딩 중 발생한 예외는 그대로 전달)
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw e;
+        }
+    }
+
+    /**
+     * 무효화 (트랜잭션 안이면 커밋 이후에 한 번 더 무효화해서 커밋 전 값이 남지 않도록 함)
+     * @param key
+     */
+    public void invalidate(K key) {
+        evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(key);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        entries.clear();
+        loading.clear();
+    }
+
+    public CacheStats stats() {
+        long hit = hits.get();
+        long miss = misses.get();
+        return CacheStats.builder()
+                .name(name)
+                .size(entries.size())
+                .hits(hit)
+                .misses(miss)
+                .coalesced(coalesced.get())
+                .hitRatio(hit + miss == 0 ? 0 : (double) hit / (hit + miss))
+                .p50Ms(latency.percentileMillis(50))
+                .p99Ms(latency.percentileMillis(99))
+                .build();
+    }
+
+    private void evict(K key) {
+        generations.incrementAndGet(stripe(key));
+        entries.remove(key);
+        loading.remove(key);
+    }
+
+    // 최대 크기를 넘으면 오래 전에 로딩된 항목부터 10% 정리
+    private void evictIfNeeded() {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        long cutoff = System.nanoTime() - ttlNanos / 2;
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && entries.size() > maxSize * 9 / 10) {
+            Map.Entry<K, Entry<V>> next = iterator.next();
+            if (next.getValue().loadedAt < cutoff || entries.size() > maxSize) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private int stripe(K key) {
+        return (key.hashCode() & 0x7fffffff) % STRIPES;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.gazamung.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화가 끝난 응답 본문 (JSON 원본 + gzip 압축본 + ETag)
+ * ETag 는 본문 해시라 서버가 여러 대이거나 재생성되어도 내용이 같으면 값이 같다.
+ * gzip 응답은 바이트가 다르므로 강한 ETag 도 따로 둔다 (JSON ETag 에 -gz 를 붙인 값).
+ */
+public final class ResponseSnapshot {
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final String gzipEtag;
+
+    private ResponseSnapshot(byte[] json, byte[] gzip, String etag) {
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = etag;
+        this.gzipEtag = etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    public static ResponseSnapshot of(byte[] json) {
+        return new ResponseSnapshot(json, gzip(json), etag(json));
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    public byte[] gzip() {
+        return gzip;
+    }
+
+    public String etag() {
+        return etag;
+    }
+
+    public String gzipEtag() {
+        return gzipEtag;
+    }
+
+    /**
+     * If-None-Match 값에 현재 ETag 가 있는지 ("*", 여러 값, 약한 비교 W/ 포함, JSON/gzip ETag 모두 인정)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag)) return true;
+        }
+        return false;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(Arrays.copyOf(hash, 12)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.gazamung.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 거의 바뀌지 않는 기준 정보 목록 응답 캐시 (대학, 학과, 종목, 카테고리)
+ * 응답 본문을 미리 직렬화/압축해 두고 ETag 로 조건부 요청(If-None-Match) 에 304 를 돌려준다.
+ * 그룹 단위로 생성/수정/삭제 시 invalidate 하며 (버전 증가), 다음 요청에서 한 번만 다시 만든다.
+ * ttl 은 다른 서버에서 일어난 변경을 반영하기 위한 안전장치 (내용이 같으면 ETag 도 같음)
+ */
+@Component
+@Slf4j
+public class ResponseSnapshots {
+
+    public static final String UNIVERSITY = "university";
+    public static final String DEPARTMENT = "department";
+    public static final String EVENT = "event";
+    public static final String CATEGORY = "category";
+
+    private final ObjectMapper objectMapper;
+    private final CacheRegistry cacheRegistry;
+    private final int maxSize;
+    private final Duration ttl;
+
+    private static final class Group {
+        private final ReadModelCache<String, ResponseSnapshot> cache;
+        private final AtomicLong version = new AtomicLong();
+        private final AtomicLong notModified = new AtomicLong();
+
+        private Group(ReadModelCache<String, ResponseSnapshot> cache) {
+            this.cache = cache;
+        }
+    }
+
+    private final Map<String, Group> groups = new ConcurrentHashMap<>();
+
+    public ResponseSnapshots(ObjectMapper objectMapper,
+                             CacheRegistry cacheRegistry,
+                             @Value("${cache.snapshot.max-size:1000}") int maxSize,
+                             @Value("${cache.snapshot.ttl-seconds:600}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.cacheRegistry = cacheRegistry;
+        this.maxSize = maxSize;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * @param key 그룹 안에서 응답을 구분하는 값 (예: 대학별 학과 목록의 univId)
+     * @param body 캐시가 없을 때만 호출되는 응답 본문 생성
+     */
+    public ResponseEntity<byte[]> respond(String group, String key, Supplier<?> body, HttpServletRequest request) {
+        Group target = group(group);
+        ResponseSnapshot snapshot = target.cache.get(key, k -> serialize(body.get()));
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))
+                && snapshot.gzip().length < snapshot.json().length;
+        String etag = gzip ? snapshot.gzipEtag() : snapshot.etag();
+
+        if (snapshot.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            target.notModified.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return builder.body(snapshot.json());
+    }
+
+    /**
+     * 그룹 전체 무효화 (트랜잭션 안이면 커밋 이후에 한 번 더 무효화해서 커밋 전 값이 남지 않도록 함)
+     */
+    public void invalidate(String group) {
+        Group target = group(group);
+        evict(target);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(target);
+                }
+            });
+        }
+    }
+
+    public List<SnapshotStats> stats() {
+        return groups.entrySet().stream()
+                .map(entry -> {
+                    CacheStats stats = entry.getValue().cache.stats();
+                    return SnapshotStats.builder()
+                            .group(entry.getKey())
+                            .version(entry.getValue().version.get())
+                            .entries(stats.getSize())
+                            .hits(stats.getHits())
+                            .builds(stats.getMisses() - stats.getCoalesced())
+                            .notModified(entry.getValue().notModified.get())
+                            .build();
+                })
+                .toList();
+    }
+
+    private Group group(String name) {
+        return groups.computeIfAbsent(name, n -> new Group(cacheRegistry.create("snapshot:" + n, maxSize, ttl)));
+    }
+
+    private void evict(Group group) {
+        group.version.incrementAndGet();
+        group.cache.invalidateAll();
+    }
+
+    private ResponseSnapshot serialize(Object body) {
+        try {
+            return ResponseSnapshot.of(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * Accept-Encoding 이 gzip 을 허용하는지 (gzip 이 없으면 "*" 를 따르고, q=0 은 거부)
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) return false;
+        Boolean wildcard = null;
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            if (!coding.equals("gzip") && !coding.equals("x-gzip") && !coding.equals("*")) continue;
+
+            boolean accepted = quality(parts) > 0;
+            if (!coding.equals("*")) return accepted;
+            wildcard = accepted;
+        }
+        return wildcard != null && wildcard;
+    }
+
+    // q 값 (없으면 1, 형식이 잘못되면 0)
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() < 2 || Character.toLowerCase(param.charAt(0)) != 'q' || param.charAt(1) != '=') continue;
+            try {
+                return Double.parseDouble(param.substring(2).trim());
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 1;
+    }
+}
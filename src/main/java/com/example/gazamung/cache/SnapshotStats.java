@@ -0,0 +1,21 @@
+package com.example.gazamung.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SnapshotStats {
+
+    private String group;
+    private long version;           // 무효화 횟수
+    private int entries;
+    private long hits;              // 만들어 둔 응답 재사용
+    private long builds;            // 조회 + 직렬화 + 압축
+    private long notModified;       // 304 응답
+
+}
@@ -1,7 +1,7 @@
 package com.example.gazamung.category.controller;
 
 import com.example.gazamung._enum.ApiResponseCode;
-import com.example.gazamung.category.dto.CategoryDto;
+import com.example.gazamung.cache.ResponseSnapshots;
 import com.example.gazamung.category.service.CategoryService;
 import com.example.gazamung.dto.ResultDTO;
 import com.example.gazamung.exception.CustomException;
@@ -11,9 +11,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import javax.servlet.http.HttpServletRequest;
 
 
 
@@ -26,6 +27,7 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final ResponseSnapshots responseSnapshots;
 
     @Operation(summary = "카테고리 생성", description = "" +
             "전체 카테고리 생성합니다." +
@@ -57,12 +59,12 @@ public class CategoryController {
             @ApiResponse(responseCode = "200", description = "리스트 조회 성공"),
     })
     @GetMapping("/list")
-    public ResultDTO getCategoryList() {
+    public ResponseEntity<?> getCategoryList(HttpServletRequest request) {
         try {
-            List<CategoryDto> categoryList = categoryService.getCategoryList();
-            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "카테고리 리스트", categoryList);
+            return responseSnapshots.respond(ResponseSnapshots.CATEGORY, "all", () ->
+                    ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "카테고리 리스트", categoryService.getCategoryList()), request);
         } catch (CustomException e) {
-            return  ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+            return ResponseEntity.ok(ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null));
         }
     }
 
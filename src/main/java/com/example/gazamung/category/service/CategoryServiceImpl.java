@@ -7,6 +7,7 @@ import com.example.gazamung.category.repository.CategoryRepository;
 import com.example.gazamung.exception.CustomException;
 import com.example.gazamung.member.entity.Member;
 import com.example.gazamung.member.repository.MemberRepository;
+import com.example.gazamung.reference.service.ReferenceRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +23,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final MemberRepository memberRepository;
+    private final ReferenceRegistry referenceRegistry;
 
 
     @Override
@@ -38,6 +40,7 @@ public class CategoryServiceImpl implements CategoryService {
         category.setCategoryName(categoryName);
 
         categoryRepository.save(category);
+        referenceRegistry.refresh();
         return true;
     }
 
@@ -50,6 +53,7 @@ public class CategoryServiceImpl implements CategoryService {
 
             if (member.getRole().equals(1)) {
                 categoryRepository.deleteById(categoryId);
+                referenceRegistry.refresh();
                 return true;
             } else {
                 throw new CustomException(CustomExceptionCode.UNAUTHORIZED_USER);
@@ -62,7 +66,7 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     public List<CategoryDto> getCategoryList() {
 
-        List<Category> categoryList = categoryRepository.findAll();
+        List<Category> categoryList = referenceRegistry.current().categories();
 
          return convertToCategoryDtoList(categoryList);
 
@@ -3,6 +3,7 @@ package com.example.gazamung.club.repository;
 
 import com.example.gazamung.club.entity.Club;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -31,4 +32,8 @@ public interface ClubRepository extends JpaRepository<Club, Long>{
     List<Club> findAllByClubIdNotInAndUnivId(List<Long> suggestedClubIds, Long univId);
 
     List<Club> findAllByEventIdInAndClubIdInAndUnivId(List<Long> eventIds, List<Long> clubIds, Long univId);
+
+    // 자동완성 인기도 (종목별 모임 수)
+    @Query("SELECT c.eventId, COUNT(c) FROM Club c WHERE c.eventId IS NOT NULL GROUP BY c.eventId")
+    List<Object[]> countByEvent();
 }
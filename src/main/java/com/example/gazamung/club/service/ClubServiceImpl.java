@@ -4,6 +4,8 @@ import com.example.gazamung.S3FileUploader.UploadImage;
 import com.example.gazamung.S3FileUploader.UploadService;
 import com.example.gazamung._enum.AttachmentType;
 import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung._enum.ModerationStatus;
+import com.example.gazamung.autocomplete.service.AutocompleteIndexManager;
 import com.example.gazamung.chat.chatMember.ChatMember;
 import com.example.gazamung.chat.chatMember.ChatMemberRepository;
 import com.example.gazamung.chat.chatMessage.ChatMessage;
@@ -16,19 +18,19 @@ import com.example.gazamung.club.repository.ClubRepository;
 import com.example.gazamung.clubMember.entity.ClubMember;
 import com.example.gazamung.clubMember.repository.ClubMemberRepository;
 import com.example.gazamung.event.entity.Event;
-import com.example.gazamung.event.repository.EventRepository;
 import com.example.gazamung.exception.CustomException;
 import com.example.gazamung.mapper.ClubMapper;
 import com.example.gazamung.member.entity.Member;
 import com.example.gazamung.member.repository.MemberRepository;
 import com.example.gazamung.member.service.MemberServiceImpl;
+import com.example.gazamung.reference.service.ReferenceRegistry;
 import com.example.gazamung.univBoard.entity.UnivBoard;
 import com.example.gazamung.univBoard.repository.UnivBoardRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.checkerframework.checker.units.qual.C;
 import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -42,17 +44,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ClubServiceImpl implements ClubService {
 
+    private static final List<ModerationStatus> VISIBLE_STATUSES = List.of(ModerationStatus.PUBLISHED, ModerationStatus.REDACTED);
+
     private final ClubRepository clubRepository;
     private final MemberRepository memberRepository;
     private final UploadService uploadService;
     private final ClubMemberRepository clubMemberRepository;
     private final MemberServiceImpl memberServiceImpl;
     private final ClubMapper clubMapper;
-    private final EventRepository eventRepository;
     private final UnivBoardRepository univBoardRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMemberRepository chatMemberRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final AutocompleteIndexManager autocompleteIndexManager;
+    private final ReferenceRegistry referenceRegistry;
 
     /**
      * @param dto
@@ -123,6 +128,8 @@ public class ClubServiceImpl implements ClubService {
             chatMemberRepository.save(chatMember);
         }
 
+        autocompleteIndexManager.clubSaved(club);
+
         return result;
 
     }
@@ -188,6 +195,7 @@ public class ClubServiceImpl implements ClubService {
             createdClub.setMaximumMembers(dto.getMaximumMembers());
 
             clubRepository.save(createdClub);
+            autocompleteIndexManager.clubSaved(createdClub);
         } catch (CustomException e) {
             System.err.println("modifyJournal Exception : " + e);
         }
@@ -242,6 +250,7 @@ public class ClubServiceImpl implements ClubService {
 
             // 모임을 DB 에서 삭제.
             clubRepository.delete(club);
+            autocompleteIndexManager.clubRemoved(club);
 
             ChatRoom chatRoom = chatRoomRepository.findByChatRoomTypeAndDynamicId(3, clubId);
             List<ChatMember> chatMember = chatMemberRepository.findAllByChatRoomIdAndChatRoomType(chatRoom.getChatRoomId(), 3);
@@ -277,7 +286,7 @@ public class ClubServiceImpl implements ClubService {
                 .map(club -> {
                     Long currentMembers = calculateCurrentMembers(club.getClubId()); // 현재 멤버 수 계산
                     List<UploadImage> clubImage = uploadService.getImageByAttachmentType(AttachmentType.CLUB, club.getClubId());
-                    Event event = eventRepository.findById(club.getEventId())
+                    Event event = referenceRegistry.event(club.getEventId())
                             .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_EVENT));
                     String clubImageUrl = clubImage.isEmpty() ? "" : clubImage.get(0).getImageUrl();
                     boolean isClubMember;
@@ -319,7 +328,7 @@ public class ClubServiceImpl implements ClubService {
         Member member = memberRepository.findById(club.getMemberIdx())
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
 
-        Event event = eventRepository.findById(club.getEventId())
+        Event event = referenceRegistry.event(club.getEventId())
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_EVENT));
 
         ChatRoom chatRoom = chatRoomRepository.findByChatRoomTypeAndDynamicId(3,club.getClubId());
@@ -451,7 +460,7 @@ public class ClubServiceImpl implements ClubService {
                 // 클럽 이미지가 없는 경우
                 imageUrl = "";
             }
-            Optional<Event> event = eventRepository.findById(club.getEventId());
+            Optional<Event> event = referenceRegistry.event(club.getEventId());
             if (event.isEmpty()) {
                 throw new CustomException(CustomExceptionCode.NOT_FOUND_EVENT);
             }
@@ -491,7 +500,7 @@ public class ClubServiceImpl implements ClubService {
                     imageUrl = "";
                 }
 
-                Optional<Event> event = eventRepository.findById(additionalClub.getEventId());
+                Optional<Event> event = referenceRegistry.event(additionalClub.getEventId());
                 if (event.isEmpty()) {
                     throw new CustomException(CustomExceptionCode.NOT_FOUND_EVENT);
                 }
@@ -582,8 +591,9 @@ public class ClubServiceImpl implements ClubService {
         Member member = memberRepository.findById(memberIdx)
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
 
-        // categoryId가 1(모집)인 게시판의 게시물을 최신순으로 가져옴
-        List<UnivBoard> univBoardList = univBoardRepository.findByCategoryIdAndUnivId(2L, member.getUnivId(), Sort.by(Sort.Direction.DESC, "regDt"));
+        // categoryId가 2(모집)인 게시판의 게시된 게시물 중 최신 3개만 가져옴
+        List<UnivBoard> univBoardList = univBoardRepository.findLatestVisible(
+                2L, member.getUnivId(), VISIBLE_STATUSES, PageRequest.of(0, 3));
 
         if (univBoardList.isEmpty()) {
             throw new CustomException(CustomExceptionCode.NOT_FOUND_BOARD);
@@ -592,7 +602,7 @@ public class ClubServiceImpl implements ClubService {
         // univBoardList의 각각의 UnivBoard에 대해 이벤트 정보를 가져와서 MercenaryDto로 변환
         return univBoardList.stream()
                 .map(univBoard -> {
-                    Optional<Event> event = eventRepository.findById(univBoard.getEventId());
+                    Optional<Event> event = referenceRegistry.event(univBoard.getEventId());
                     if (event.isEmpty()) {
                         throw new CustomException(CustomExceptionCode.NOT_FOUND_EVENT);
                     }
@@ -611,7 +621,6 @@ public class ClubServiceImpl implements ClubService {
                             .matchDt(univBoard.getMatchDt())
                             .build();
                 })
-                .limit(3) // 3개만 반환
                 .collect(Collectors.toList());
     }
 
@@ -683,7 +692,7 @@ public class ClubServiceImpl implements ClubService {
                 .map(club -> {
                     Long currentMembers = calculateCurrentMembers(club.getClubId()); // 현재 멤버 수 계산
                     List<UploadImage> clubImage = uploadService.getImageByAttachmentType(AttachmentType.CLUB, club.getClubId());
-                    Event event = eventRepository.findById(club.getEventId())
+                    Event event = referenceRegistry.event(club.getEventId())
                             .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_EVENT));
 
                     String clubImageUrl = clubImage.isEmpty() ? "" : clubImage.get(0).getImageUrl();
@@ -0,0 +1,77 @@
+package com.example.gazamung.config;
+
+import com.example.gazamung.battle.BattleType;
+import com.example.gazamung.liveScore.LiveScoreBoard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.net.URI;
+
+/**
+ * 실시간 점수 구독 (읽기 전용)
+ * ws://host/ws/score/{battleType}/{battleId} , battleType: UNIV, DEPT
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class LiveScoreHandler extends TextWebSocketHandler {
+
+    private static final String TYPE = "battleType";
+    private static final String ID = "battleId";
+
+    private final LiveScoreBoard liveScoreBoard;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        String[] parts = extractPath(session.getUri());
+        if (parts == null) {
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+
+        BattleType battleType;
+        Long battleId;
+        try {
+            battleType = BattleType.valueOf(parts[0].toUpperCase());
+            battleId = Long.parseLong(parts[1]);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid score uri: " + session.getUri());
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+
+        session.getAttributes().put(TYPE, battleType);
+        session.getAttributes().put(ID, battleId);
+        liveScoreBoard.subscribe(battleType, battleId, session);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        // 점수 변경은 API 로만 받음
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        BattleType battleType = (BattleType) session.getAttributes().get(TYPE);
+        Long battleId = (Long) session.getAttributes().get(ID);
+        if (battleType != null && battleId != null) {
+            liveScoreBoard.unsubscribe(battleType, battleId, session);
+        }
+    }
+
+    private String[] extractPath(URI uri) {
+        if (uri == null) return null;
+
+        String path = uri.getPath();
+        int index = path.indexOf("/ws/score/");
+        if (index < 0) return null;
+
+        String[] parts = path.substring(index + "/ws/score/".length()).split("/");
+        return parts.length == 2 ? parts : null;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.gazamung.config;
+
+import com.example.gazamung.moderation.ModerationEventBroker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * 본인 댓글/게시글 검수 결과 구독 (읽기 전용)
+ * ws://host/ws/moderation , memberIdx 는 헤더 또는 쿼리 파라미터로 전달
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ModerationHandler extends TextWebSocketHandler {
+
+    private static final String MEMBER_IDX = "memberIdx";
+
+    private final ModerationEventBroker moderationEventBroker;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Long memberIdx = extractMemberIdx(session);
+        if (memberIdx == null) {
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+
+        session.getAttributes().put(MEMBER_IDX, memberIdx);
+        moderationEventBroker.subscribe(memberIdx, session);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        // 검수 결과 전송 전용
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Long memberIdx = (Long) session.getAttributes().get(MEMBER_IDX);
+        if (memberIdx != null) {
+            moderationEventBroker.unsubscribe(memberIdx, session);
+        }
+    }
+
+    private Long extractMemberIdx(WebSocketSession session) {
+        String value = null;
+        List<String> headerValues = session.getHandshakeHeaders().get(MEMBER_IDX);
+        if (headerValues != null && !headerValues.isEmpty()) {
+            value = headerValues.get(0);
+        } else if (session.getUri() != null) {
+            value = UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst(MEMBER_IDX);
+        }
+
+        try {
+            return value != null ? Long.parseLong(value) : null;
+        } catch (NumberFormatException e) {
+            log.error("Invalid memberIdx: " + value);
+            return null;
+        }
+    }
+}
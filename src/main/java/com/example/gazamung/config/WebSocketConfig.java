@@ -14,6 +14,8 @@ import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry
 public class WebSocketConfig implements WebSocketConfigurer {
 
     private final ChatHandler chatHandler;
+    private final LiveScoreHandler liveScoreHandler;
+    private final ModerationHandler moderationHandler;
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
@@ -21,5 +23,13 @@ public class WebSocketConfig implements WebSocketConfigurer {
         // ws://localhost:8080/ws/chat/{roomId} 형식의 엔드포인트를 추가합니다.
         registry.addHandler(chatHandler, "/ws/chat/{roomType}/{roomId}")
                 .setAllowedOrigins("*");
+
+        // 진행 중 경기 실시간 점수 구독
+        registry.addHandler(liveScoreHandler, "/ws/score/{battleType}/{battleId}")
+                .setAllowedOrigins("*");
+
+        // 본인 댓글/게시글 검수 결과 구독
+        registry.addHandler(moderationHandler, "/ws/moderation")
+                .setAllowedOrigins("*");
     }
 }
\ No newline at end of file
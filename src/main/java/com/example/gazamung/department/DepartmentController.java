@@ -2,6 +2,7 @@ package com.example.gazamung.department;
 
 
 import com.example.gazamung._enum.ApiResponseCode;
+import com.example.gazamung.cache.ResponseSnapshots;
 import com.example.gazamung.department.entity.Department;
 import com.example.gazamung.dto.ResultDTO;
 import com.example.gazamung.exception.CustomException;
@@ -15,9 +16,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.sql.DataSource;
 import java.io.IOException;
 import java.util.List;
@@ -31,6 +34,7 @@ import java.util.List;
 public class DepartmentController {
 
     private final UniversityService universityService;
+    private final ResponseSnapshots responseSnapshots;
 
     @Operation(summary = "학과 리스트 조회 ", description = "" +
             "\n### HTTP STATUS 에 따른 조회 결과" +
@@ -42,25 +46,43 @@ public class DepartmentController {
             @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
     })
     @GetMapping("/deptList")
-    public ResultDTO allDepartmentList() {
+    public ResponseEntity<?> allDepartmentList(HttpServletRequest request) {
 
         try{
-            List<Department> list  = universityService.departmentList();
-            return ResultDTO.of(true, ApiResponseCode.CREATED.getCode(),"학과 리스트 조회 성공", list);
+            return responseSnapshots.respond(ResponseSnapshots.DEPARTMENT, "all", () ->
+                    ResultDTO.of(true, ApiResponseCode.CREATED.getCode(),"학과 리스트 조회 성공", universityService.departmentList()), request);
         }catch(CustomException e){
-            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+            return ResponseEntity.ok(ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null));
 
         }
     }
 
     @GetMapping("/matchDept")
-    public ResultDTO matchDeptList(@RequestParam Long univId) {
+    public ResponseEntity<?> matchDeptList(@RequestParam Long univId, HttpServletRequest request) {
         try{
-            List<Department> list  = universityService.matchDeptList(univId);
-            return ResultDTO.of(true, ApiResponseCode.CREATED.getCode(),"입력 대학 학과 리스트 조회 성공", list);
+            return responseSnapshots.respond(ResponseSnapshots.DEPARTMENT, String.valueOf(univId), () ->
+                    ResultDTO.of(true, ApiResponseCode.CREATED.getCode(),"입력 대학 학과 리스트 조회 성공", universityService.matchDeptList(univId)), request);
         }catch(CustomException e){
-            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+            return ResponseEntity.ok(ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null));
 
         }
     }
+
+    @Operation(summary = "학과 이름 검색", description = "" +
+            "\n선택한 대학의 학과 중 입력한 이름과 비슷한 학과를 점수순으로 조회합니다. (회원가입 학과 선택용)" +
+            "\n- 접미사(컴퓨터공학부 ↔ 컴퓨터공학과), 줄임말(컴공), 오타 허용" +
+            "\n- score: 0 ~ 1 (1: 이름 또는 별칭과 정확히 일치)" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/search")
+    public ResultDTO searchDepartment(@RequestParam Long univId,
+                                      @RequestParam String query,
+                                      @RequestParam(defaultValue = "10") int size) {
+        return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "학과 검색 성공",
+                universityService.searchDepartment(univId, query, Math.max(1, size)));
+    }
 }
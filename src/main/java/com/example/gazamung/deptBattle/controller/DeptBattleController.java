@@ -18,8 +18,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -131,6 +133,56 @@ public class DeptBattleController {
         }
     }
 
+    @Operation(summary = "과 vs 과 대항전 리스트 (페이지) ", description = "PARAMETER: status, memberIdx, eventId, lastRegDt, lastId, size " +
+            "\n첫 페이지는 lastRegDt, lastId 없이 요청하고 이후에는 응답의 nextRegDt, nextId 를 그대로 전달" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### status 값" +
+            "\n- 0 (ALL): 전체 리스트" +
+            "\n- 1 (RECRUIT): 모집중 리스트" +
+            "\n- 2 (WAITING): 대기중 리스트" +
+            "\n- 3 (IN_PROGRESS): 진행중 리스트" +
+            "\n- 4 (COMPLETED): 종료 리스트" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- NOT_FOUND_USER: 존재하지 않는 회원입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/page")
+    public ResultDTO deptBattlePage(@RequestParam(defaultValue = "0") int status,
+                                    @RequestParam Long memberIdx,
+                                    @RequestParam(required = false) Long eventId,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastRegDt,
+                                    @RequestParam(required = false) Long lastId,
+                                    @RequestParam(defaultValue = "20") int size){
+        try {
+            DeptBattlePageRes page = deptBattleService.page(status, memberIdx, eventId, lastRegDt, lastId, size);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "대항전리스트 조회 성공.", page);
+        } catch (CustomException e) {
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+
+    @Operation(summary = "과 vs 과 상태별 대항전 수 ", description = "PARAMETER: memberIdx " +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- NOT_FOUND_USER: 존재하지 않는 회원입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/counts")
+    public ResultDTO deptBattleCounts(@RequestParam Long memberIdx){
+        try {
+            Map<String, Long> counts = deptBattleService.statusCounts(memberIdx);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "상태별 대항전 수 조회 성공.", counts);
+        } catch (CustomException e) {
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+
 
     @Operation(summary = "해당 학과 경기 리스트 ", description = "PARAMETER: deptId " +
             "\n### HTTP STATUS 에 따른 조회 결과" +
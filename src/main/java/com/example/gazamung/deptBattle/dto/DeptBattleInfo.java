@@ -0,0 +1,50 @@
+package com.example.gazamung.deptBattle.dto;
+
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung.deptBattle.entity.DeptBattle;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대항전 상세 화면 캐시에 담는 과 대항전 (엔티티 대신 불변 복사본, 필드명은 엔티티 응답과 같음)
+ */
+public record DeptBattleInfo(Long deptBattleId,
+                             Long univId,
+                             Long hostLeader,
+                             Long guestLeader,
+                             Long hostDept,
+                             String hostDeptName,
+                             String guestDeptName,
+                             Long guestDept,
+                             Long winDept,
+                             Long loseDept,
+                             Long eventId,
+                             String content,
+                             String cost,
+                             long teamPtcLimit,
+                             String battleDate,
+                             LocalDateTime matchStartDt,
+                             LocalDateTime matchEndDt,
+                             String lat,
+                             String lng,
+                             String place,
+                             MatchStatus matchStatus,
+                             Long hostScore,
+                             Long guestScore,
+                             String univLogo,
+                             LocalDateTime regDt,
+                             LocalDateTime endDt,
+                             String invitationCode) {
+
+    public static DeptBattleInfo of(DeptBattle battle) {
+        return new DeptBattleInfo(battle.getDeptBattleId(), battle.getUnivId(),
+                battle.getHostLeader(), battle.getGuestLeader(),
+                battle.getHostDept(), battle.getHostDeptName(), battle.getGuestDeptName(), battle.getGuestDept(),
+                battle.getWinDept(), battle.getLoseDept(),
+                battle.getEventId(), battle.getContent(), battle.getCost(), battle.getTeamPtcLimit(),
+                battle.getBattleDate(), battle.getMatchStartDt(), battle.getMatchEndDt(),
+                battle.getLat(), battle.getLng(), battle.getPlace(),
+                battle.getMatchStatus(), battle.getHostScore(), battle.getGuestScore(),
+                battle.getUnivLogo(), battle.getRegDt(), battle.getEndDt(), battle.getInvitationCode());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.gazamung.deptBattle.dto;
+
+import com.example.gazamung.deptBattle.entity.DeptBattle;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeptBattlePageRes {
+
+    private List<DeptBattle> list;
+    private boolean hasNext;
+    private LocalDateTime nextRegDt;    // 다음 페이지 요청 시 lastRegDt
+    private Long nextId;                // 다음 페이지 요청 시 lastId
+    private Map<String, Long> counts;   // 상태별 대항전 수 (탭 뱃지)
+
+}
@@ -1,12 +1,19 @@
 package com.example.gazamung.deptBattle.entity;
 
 import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung.battle.BattleStatusListener;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
 @Entity
+@EntityListeners(BattleStatusListener.class)
+@Table(indexes = {
+        @Index(name = "IDX_DEPT_BATTLE_STATUS_REG", columnList = "univId, matchStatus, regDt, deptBattleId"),  // 목록 키셋 페이지네이션용
+        @Index(name = "UK_DEPT_BATTLE_INVITATION_CODE", columnList = "invitationCode", unique = true)          // 초대 코드 참가
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -53,5 +60,8 @@ public class DeptBattle {
     private LocalDateTime endDt;    // 종료일
     private String invitationCode;  // 초대 코드
 
+    @Transient
+    @JsonIgnore
+    private MatchStatus loadedStatus;   // 조회 시점 상태 (상태별 집계 반영용)
 
-}
\ No newline at end of file
+}
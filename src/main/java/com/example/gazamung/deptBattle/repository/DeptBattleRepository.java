@@ -3,8 +3,14 @@ package com.example.gazamung.deptBattle.repository;
 import com.example.gazamung._enum.MatchStatus;
 import com.example.gazamung.deptBattle.entity.DeptBattle;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface DeptBattleRepository extends JpaRepository<DeptBattle, Long> {
 
@@ -15,4 +21,19 @@ public interface DeptBattleRepository extends JpaRepository<DeptBattle, Long> {
     List<DeptBattle> findAllByUnivIdOrderByRegDtDesc(long univId);
 
     List<DeptBattle> findByMatchStatusAndUnivIdOrderByRegDtDesc(MatchStatus matchStatus, long univId);
+
+    List<DeptBattle> findByMatchStatusInAndInvitationCodeIsNotNull(Collection<MatchStatus> matchStatuses);
+
+    Optional<DeptBattle> findByInvitationCode(String invitationCode);
+
+    boolean existsByInvitationCode(String invitationCode);
+
+    /**
+     * 현재 상태가 expected 일 때만 next 로 변경 (compare-and-set)
+     * @return 변경된 행 수 (0 이면 다른 요청이 먼저 상태를 바꿈)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DeptBattle b SET b.matchStatus = :next WHERE b.deptBattleId = :id AND b.matchStatus = :expected")
+    int compareAndSetStatus(@Param("id") Long id, @Param("expected") MatchStatus expected, @Param("next") MatchStatus next);
 }
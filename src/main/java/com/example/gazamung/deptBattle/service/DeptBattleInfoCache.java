@@ -0,0 +1,137 @@
+package com.example.gazamung.deptBattle.service;
+
+import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung.cache.CacheRegistry;
+import com.example.gazamung.cache.ReadModelCache;
+import com.example.gazamung.chat.chatRoom.ChatRoom;
+import com.example.gazamung.chat.chatRoom.ChatRoomRepository;
+import com.example.gazamung.department.entity.Department;
+import com.example.gazamung.deptBattle.dto.DeptBattleInfo;
+import com.example.gazamung.deptBattle.entity.DeptBattle;
+import com.example.gazamung.deptBattle.repository.DeptBattleRepository;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.participant.dto.ParticipantInfo;
+import com.example.gazamung.participant.entity.Participant;
+import com.example.gazamung.participant.repository.ParticipantRepository;
+import com.example.gazamung.reference.service.ReferenceRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * 과 대항전 상세 화면 캐시
+ * 참가/경기 시작/결과 처리 시 DeptBattleServiceImpl 에서 무효화하며,
+ * 미적중 시 대항전을 읽은 뒤 참가자/채팅방 조회를 병렬로 실행한다. (대학/학과는 ReferenceRegistry 에서 조회)
+ */
+@Component
+@Slf4j
+public class DeptBattleInfoCache {
+
+    private final DeptBattleRepository deptBattleRepository;
+    private final ParticipantRepository participantRepository;
+    private final ReferenceRegistry referenceRegistry;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ExecutorService readModelExecutor;
+    private final ReadModelCache<Long, Map<String, Object>> cache;
+
+    public DeptBattleInfoCache(DeptBattleRepository deptBattleRepository,
+                               ParticipantRepository participantRepository,
+                               ReferenceRegistry referenceRegistry,
+                               ChatRoomRepository chatRoomRepository,
+                               @Qualifier("readModelExecutor") ExecutorService readModelExecutor,
+                               CacheRegistry cacheRegistry,
+                               @Value("${cache.battle-info.max-size:5000}") int maxSize,
+                               @Value("${cache.battle-info.ttl-seconds:60}") long ttlSeconds) {
+        this.deptBattleRepository = deptBattleRepository;
+        this.participantRepository = participantRepository;
+        this.referenceRegistry = referenceRegistry;
+        this.chatRoomRepository = chatRoomRepository;
+        this.readModelExecutor = readModelExecutor;
+        this.cache = cacheRegistry.create("deptBattleInfo", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public Map<String, Object> get(long deptBattleId) {
+        return cache.get(deptBattleId, this::load);
+    }
+
+    public void invalidate(long deptBattleId) {
+        cache.invalidate(deptBattleId);
+    }
+
+    private Map<String, Object> load(long deptBattleId) {
+        DeptBattle deptBattle = deptBattleRepository.findById(deptBattleId)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_BATTLE));
+
+        // 대항전 이외의 조회는 서로 독립적이므로 병렬 실행
+        CompletableFuture<List<Participant>> hostParticipants = async(() ->
+                participantRepository.findAllByDeptIdAndDeptBattleId(deptBattle.getHostDept(), deptBattleId));
+        CompletableFuture<List<Participant>> guestParticipants = async(() ->
+                participantRepository.findAllByDeptIdAndDeptBattleId(deptBattle.getGuestDept(), deptBattleId));
+        CompletableFuture<ChatRoom> chatRoom = async(() ->
+                chatRoomRepository.findByChatRoomTypeAndDynamicId(1, deptBattleId));
+
+        // 대학/학과는 기준 정보 스냅샷에서 조회
+        if (referenceRegistry.university(deptBattle.getUnivId()).isEmpty()) {
+            throw new CustomException(CustomExceptionCode.NOT_FOUND_UNIVERSITY);
+        }
+        Department host = referenceRegistry.department(deptBattle.getHostDept())
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_DEPARTMENT));
+        Department guest = deptBattle.getGuestDept() == null ? null
+                : referenceRegistry.department(deptBattle.getGuestDept())
+                        .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_DEPARTMENT));
+
+        List<ParticipantInfo> hostParticipantList = join(hostParticipants).stream().map(ParticipantInfo::of).toList();
+        List<ParticipantInfo> guestParticipantList = join(guestParticipants).stream().map(ParticipantInfo::of).toList();
+        ChatRoom room = join(chatRoom);
+
+        // 응답용 Map 생성 및 값 추가 (여러 요청이 공유하므로 엔티티 대신 불변 복사본을 담음)
+        Map<String, Object> response = new HashMap<>();
+
+        Map<String, Object> hostTeam = new HashMap<>();
+        hostTeam.put("hostDeptName", host.getDeptName());
+        hostTeam.put("hostPtcCnt", hostParticipantList.size());
+        hostTeam.put("hostPtcList", hostParticipantList);
+
+        Map<String, Object> guestTeam = new HashMap<>();
+        guestTeam.put("guestDeptName", guest == null ? "" : guest.getDeptName());
+        guestTeam.put("guestPtcCnt", guestParticipantList.size());  // 참가팀 회원 수
+        guestTeam.put("guestPtcList", guestParticipantList);        // 참가팀 회원 리스트
+
+        response.put("HostTeam", Collections.unmodifiableMap(hostTeam));
+        response.put("GuestTeam", Collections.unmodifiableMap(guestTeam));
+        response.put("deptBattle", DeptBattleInfo.of(deptBattle));
+        response.put("chatRoomType", room.getChatRoomType());
+        response.put("chatRoomId", room.getChatRoomId());
+
+        // 승리 과는 주최/참가 과 중 하나이므로 추가 조회 없이 사용
+        if (deptBattle.getWinDept() != null) {
+            Department winner = Objects.equals(deptBattle.getWinDept(), host.getDeptId()) ? host : guest;
+            response.put("winDeptName", winner == null ? null : winner.getDeptName());
+        }
+
+        return Collections.unmodifiableMap(response);
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, readModelExecutor);
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
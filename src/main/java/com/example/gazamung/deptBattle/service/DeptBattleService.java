@@ -9,6 +9,7 @@ import com.example.gazamung.univBattle.dto.UnivBattleListRes;
 import com.example.gazamung.univBattle.entity.UnivBattle;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -43,6 +44,25 @@ public interface DeptBattleService {
      */
     List<DeptBattle> list (int status, Long memberIdx);
 
+    /**
+     * 회원 소속 대학의 학과 대항전 리스트 (키셋 페이지네이션)
+     * @param status 0: 전체, 1: 모집중, 2: 대기중, 3: 진행중, 4: 종료
+     * @param memberIdx
+     * @param eventId 종목 (선택)
+     * @param lastRegDt 이전 페이지 마지막 생성일 (첫 페이지면 null)
+     * @param lastId 이전 페이지 마지막 대항전 ID (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return
+     */
+    DeptBattlePageRes page(int status, Long memberIdx, Long eventId, LocalDateTime lastRegDt, Long lastId, int size);
+
+    /**
+     * 회원 소속 대학의 상태별 학과 대항전 수
+     * @param memberIdx
+     * @return
+     */
+    Map<String, Long> statusCounts(Long memberIdx);
+
     /**
      * 대항전 정보
      * @param deptBattleId
@@ -2,43 +2,38 @@ package com.example.gazamung.deptBattle.service;
 
 import com.example.gazamung._enum.CustomExceptionCode;
 import com.example.gazamung._enum.MatchStatus;
-import com.example.gazamung._enum.MsgType;
+import com.example.gazamung.battle.BattleStatusCounter;
+import com.example.gazamung.battle.InvitationCodeIndex;
+import com.example.gazamung.battle.lifecycle.BattleEffects;
+import com.example.gazamung.battle.lifecycle.BattleEngine;
 import com.example.gazamung.chat.chatMember.ChatMember;
 import com.example.gazamung.chat.chatMember.ChatMemberRepository;
-import com.example.gazamung.chat.chatMessage.ChatMessage;
-import com.example.gazamung.chat.chatMessage.ChatMessageRepository;
 import com.example.gazamung.chat.chatRoom.ChatRoom;
 import com.example.gazamung.chat.chatRoom.ChatRoomRepository;
 import com.example.gazamung.department.entity.Department;
-import com.example.gazamung.department.repository.DepartmentRepository;
 import com.example.gazamung.deptBattle.dto.*;
 import com.example.gazamung.deptBattle.entity.DeptBattle;
 import com.example.gazamung.deptBattle.repository.DeptBattleRepository;
 import com.example.gazamung.exception.CustomException;
-import com.example.gazamung.fcmSend.FcmSendDto;
-import com.example.gazamung.fcmSend.FcmService;
 import com.example.gazamung.mapper.DeptBattleMapper;
-import com.example.gazamung.mapper.RankMapper;
 import com.example.gazamung.member.entity.Member;
 import com.example.gazamung.member.repository.MemberRepository;
-import com.example.gazamung.notification.dto.NotifyCreateReq;
-import com.example.gazamung.notification.service.NotificationService;
 import com.example.gazamung.participant.entity.Participant;
 import com.example.gazamung.participant.repository.ParticipantRepository;
+import com.example.gazamung.rank.service.RankService;
+import com.example.gazamung.reference.service.ReferenceRegistry;
 import com.example.gazamung.univBattle.dto.UnivBattleListRes;
 import com.example.gazamung.univBattle.entity.UnivBattle;
 import com.example.gazamung.univBattle.service.UnivBattleServiceImpl;
 import com.example.gazamung.university.entity.University;
-import com.example.gazamung.university.repository.UniversityRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.*;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -46,22 +41,19 @@ import java.util.concurrent.*;
 public class DeptBattleServiceImpl implements DeptBattleService {
 
     private final MemberRepository memberRepository;
-    private final UniversityRepository universityRepository;
+    private final ReferenceRegistry referenceRegistry;
     private final DeptBattleRepository deptBattleRepository;
     private final ParticipantRepository participantRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMemberRepository chatMemberRepository;
-    private final DepartmentRepository departmentRepository;
-    private final FcmService fcmService;
-    private final NotificationService notificationService;
-    private final RankMapper rankMapper;
-    private final ChatMessageRepository chatMessageRepository;
+    private final BattleEngine battleEngine;
+    private final RankService rankService;
+    private final DeptBattleInfoCache deptBattleInfoCache;
+    private final BattleStatusCounter battleStatusCounter;
+    private final InvitationCodeIndex invitationCodeIndex;
     private final DeptBattleMapper deptBattleMapper;
 
-    // 스케줄러 생성
-    private final ScheduledExecutorService scheduler2 = Executors.newScheduledThreadPool(1);
-    // 예약 작업 관리를 위한 ConcurrentHashMap
-    private final ConcurrentHashMap<Long, ScheduledFuture<?>> scheduledTasks2 = new ConcurrentHashMap<>();
+    private static final int MAX_PAGE_SIZE = 100;
 
 
 
@@ -71,6 +63,7 @@ public class DeptBattleServiceImpl implements DeptBattleService {
      * @return
      */
     @Override
+    @Transactional
     public boolean create(DeptBattleCreateRequest request) {
         Member member = validateMember(request.getHostLeader());
         University university = validateUniversity(member.getUnivId());
@@ -87,6 +80,7 @@ public class DeptBattleServiceImpl implements DeptBattleService {
 
 
     @Override
+    @Transactional
     public boolean GuestLeaderAttend(DeptGuestLeaderAttendRequest request) {
 
 // 대항전 정보를 검증 후 존재하지 않을 경우 예외 발생
@@ -111,22 +105,26 @@ public class DeptBattleServiceImpl implements DeptBattleService {
         }
 
         // 대항전 게스트 리더 관련 정보를 업데이트
-        Department department = departmentRepository.findById(guest.getDeptId())
+        Department department = referenceRegistry.department(guest.getDeptId())
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_DEPARTMENT));
 
+        Member host = memberRepository.findById(deptBattle.getHostLeader())
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
+
+        // 상태를 "대기중" 으로 바꿈 (동시에 다른 대표가 참가한 경우 실패)
+        battleEngine.transit(deptBattle, MatchStatus.WAITING);
+
         deptBattle.setGuestLeader(guest.getMemberIdx());
         deptBattle.setGuestDept(guest.getDeptId());
         deptBattle.setGuestDeptName(department.getDeptName());
-        deptBattle.setMatchStatus(MatchStatus.WAITING);
-        deptBattle.setInvitationCode(generateRandomString(8));
-        deptBattleRepository.save(deptBattle);
+        deptBattle.setInvitationCode(invitationCodeIndex.newCode());
 
         // 참가자 관리 로직을 처리. 참가자 수에 따라 대항전의 상태를 업데이트.
         int totalParticipant = participantRepository.countByDeptBattleId(deptBattle.getDeptBattleId());
         if (totalParticipant == deptBattle.getTeamPtcLimit() * 2 - 1) {
-            deptBattle.setMatchStatus(MatchStatus.PREPARED);
-            deptBattleRepository.save(deptBattle);
+            battleEngine.transit(deptBattle, MatchStatus.PREPARED);
         }
+        deptBattleRepository.save(deptBattle);
 
         Participant participant = Participant.builder()
                 .memberIdx(guest.getMemberIdx())
@@ -137,71 +135,22 @@ public class DeptBattleServiceImpl implements DeptBattleService {
                 .univId(deptBattle.getUnivId())
                 .build();
         participantRepository.save(participant);
+        deptBattleInfoCache.invalidate(deptBattle.getDeptBattleId());
 
         // 관련 채팅방 멤버 정보를 관리. 채팅방 이름 업데이트 포함.
-        ChatRoom chatRoom = chatRoomRepository.findByChatRoomTypeAndDynamicId(1, deptBattle.getDeptBattleId());
-        if (chatRoom != null) {
-            Member host = memberRepository.findById(deptBattle.getHostLeader())
-                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-
-            ChatMember chatMember = ChatMember.builder()
-                    .chatRoomId(chatRoom.getChatRoomId())
-                    .chatRoomType(1)
-                    .customChatRoomName(deptBattle.getHostDeptName() + " 대항전")
-                    .memberIdx(guest.getMemberIdx())
-                    .chatRoomImg(host.getUnivLogoImg())
-                    .build();
-            chatMemberRepository.save(chatMember);
-
-            ChatMember hostChatMember = chatMemberRepository.findByMemberIdxAndChatRoomId(deptBattle.getHostLeader(), chatRoom.getChatRoomId());
-            if (hostChatMember != null) {
-                hostChatMember.setCustomChatRoomName(deptBattle.getGuestDeptName() + " 대항전");
-                hostChatMember.setChatRoomImg(guest.getUnivLogoImg());
-                chatMemberRepository.save(hostChatMember);
-            }
-        }
-
-        ChatMessage chatMessage =  ChatMessage.builder()
-                .chatRoomType(chatRoom.getChatRoomType())
-                .chatRoomId(chatRoom.getChatRoomId())
-                .content(guest.getNickname() + "님이 입장하셨습니다.")
-                .nickname(" ")
-                .regDt(LocalDateTime.now())
-                .build();
-
-        chatMessageRepository.save(chatMessage);
-
-        Member member = memberRepository.findById(deptBattle.getHostLeader())
-                .orElseThrow(()-> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
+        ChatRoom chatRoom = battleEngine.chatRoom(deptBattle);
+        battleEngine.joinChat(chatRoom, guest.getMemberIdx(), deptBattle.getHostDeptName() + " 대항전", host.getUnivLogoImg());
+        battleEngine.renameChat(chatRoom, deptBattle.getHostLeader(), deptBattle.getGuestDeptName() + " 대항전", guest.getUnivLogoImg());
 
-        String fcmToken = member.getFcmToken();
-
-        // FCM 알림 전송 메서드 (주최자에게만 발송)
-        if (fcmToken != null && !fcmToken.isEmpty()) {
-            FcmSendDto fcmSendDto = FcmSendDto.builder()
-                    .token(member.getFcmToken())
-                    .title(deptBattle.getGuestDeptName() + "대표자가 대항전에 참가했습니다.")
-                    .body(deptBattle.getHostDeptName() + "vs" + deptBattle.getGuestDeptName() + "대항전이 매칭되었습니다.")
-                    .target("deptBattle/info")
-                    .data(String.valueOf(deptBattle.getDeptBattleId()))
-                    .build();
-            try {
-                fcmService.sendMessageTo(fcmSendDto);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-
-        // 알림 전송 메서드 (주최자에게만 발송)
-        NotifyCreateReq dto = NotifyCreateReq.builder()
-                .type(MsgType.DEPT_BATTLE)
-                .isRead(false)
-                .receiver(deptBattle.getHostLeader())
-                .title(deptBattle.getGuestDeptName() + "대표자가 대항전에 참가했습니다. ")
-                .content(deptBattle.getGuestDeptName() + "VS" + deptBattle.getHostDeptName() + "대항전이 매칭되었습니다.")
-                .relatedItemId(deptBattle.getDeptBattleId())
-                .build();
-        notificationService.sendNotify(dto);
+        // 입장 메시지, 알림/FCM 전송 (주최자에게만 발송, 커밋 후 일괄 처리)
+        battleEngine.effects(deptBattle)
+                .chat(chatRoom, guest.getNickname() + "님이 입장하셨습니다.")
+                .push(deptBattle.getHostLeader(),
+                        deptBattle.getGuestDeptName() + "대표자가 대항전에 참가했습니다.",
+                        deptBattle.getHostDeptName() + "vs" + deptBattle.getGuestDeptName() + "대항전이 매칭되었습니다.")
+                .notification(deptBattle.getHostLeader(),
+                        deptBattle.getGuestDeptName() + "대표자가 대항전에 참가했습니다. ",
+                        deptBattle.getGuestDeptName() + "VS" + deptBattle.getHostDeptName() + "대항전이 매칭되었습니다.");
 
 
         return true;
@@ -226,69 +175,47 @@ public class DeptBattleServiceImpl implements DeptBattleService {
     }
 
     @Override
-    public Map<String, Object> info(long deptBattleId) {
-
-        DeptBattle deptBattle = deptBattleRepository.findById(deptBattleId)
-                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_BATTLE));
-
-
-        int hostPtc = participantRepository.countByDeptBattleIdAndDeptId(deptBattleId,deptBattle.getHostDept());
-        int guestPtc = participantRepository.countByDeptBattleIdAndDeptId(deptBattleId,deptBattle.getGuestDept());
-
-        List<Participant> hostparticipantList = participantRepository.findAllByDeptIdAndDeptBattleId(deptBattle.getHostDept(),deptBattleId);
-        List<Participant> guestparticipantList = participantRepository.findAllByDeptIdAndDeptBattleId(deptBattle.getGuestDept(),deptBattleId);
-
-        University university = universityRepository.findById(deptBattle.getUnivId())
-                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_UNIVERSITY));
-
-        String uvName = university.getSchoolName();
-
-        Department hostDept = departmentRepository.findById(deptBattle.getHostDept())
-                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_DEPARTMENT));
-
+    public DeptBattlePageRes page(int status, Long memberIdx, Long eventId, LocalDateTime lastRegDt, Long lastId, int size) {
 
+        Member member = memberRepository.findById(memberIdx)
+                .orElseThrow(() ->new CustomException(CustomExceptionCode.NOT_FOUND_USER));
 
-        String hostDeptName = hostDept.getDeptName();
-        String guestDeptName = "";
-
-        if(deptBattle.getGuestDept() != null){
-            Department guestDept = departmentRepository.findById(deptBattle.getGuestDept())
-                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_DEPARTMENT));
-            guestDeptName = guestDept.getDeptName();
-        }
-
-        ChatRoom chatRoom = chatRoomRepository.findByChatRoomTypeAndDynamicId(1,deptBattleId);
-        long chatRoomId = chatRoom.getChatRoomId();
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
 
-        // 응답용 Map 생성 및 값 추가
-        Map<String, Object> response = new HashMap<>();
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<DeptBattle> rows = deptBattleMapper.findPage(member.getUnivId(), BattleStatusCounter.statusOfTab(status),
+                eventId, lastRegDt, lastId, pageSize + 1);
 
-        Map<String, Object> hostTeam = new HashMap<>();
-        hostTeam.put("hostDeptName",hostDeptName);
-        hostTeam.put("hostPtcCnt", hostPtc);
-        hostTeam.put("hostPtcList", hostparticipantList);
+        boolean hasNext = rows.size() > pageSize;
+        List<DeptBattle> list = hasNext ? rows.subList(0, pageSize) : rows;
+        DeptBattle last = list.isEmpty() ? null : list.get(list.size() - 1);
 
-        Map<String, Object> guestTeam = new HashMap<>();
-        guestTeam.put("guestDeptName", guestDeptName);
-        guestTeam.put("guestPtcCnt", guestPtc);               // 참가팀 회원 수
-        guestTeam.put("guestPtcList", guestparticipantList);    // 참가팀 회원 리스트
+        return DeptBattlePageRes.builder()
+                .list(list)
+                .hasNext(hasNext)
+                .nextRegDt(hasNext ? last.getRegDt() : null)
+                .nextId(hasNext ? last.getDeptBattleId() : null)
+                .counts(battleStatusCounter.deptCounts(member.getUnivId()))
+                .build();
+    }
 
-        response.put("HostTeam", hostTeam);
-        response.put("GuestTeam", guestTeam);
-        response.put("deptBattle", deptBattle);
-        response.put("chatRoomType", chatRoom.getChatRoomType());
-        response.put("chatRoomId", chatRoomId);
+    @Override
+    public Map<String, Long> statusCounts(Long memberIdx) {
 
-        if(deptBattle.getWinDept() != null) {
-            String winUniv = departmentRepository.findById(deptBattle.getWinDept()).orElse(null).getDeptName();
-            response.put("winDeptName", winUniv);
-        }
+        Member member = memberRepository.findById(memberIdx)
+                .orElseThrow(() ->new CustomException(CustomExceptionCode.NOT_FOUND_USER));
 
+        return battleStatusCounter.deptCounts(member.getUnivId());
+    }
 
-        return response;
+    @Override
+    public Map<String, Object> info(long deptBattleId) {
+        // 참가/경기 시작/결과 처리 시 무효화되는 상세 화면 캐시
+        return deptBattleInfoCache.get(deptBattleId);
     }
 
     @Override
+    @Transactional
     public boolean matchStart(long deptBattleId) {
 
         DeptBattle deptBattle = deptBattleRepository.findById(deptBattleId)
@@ -304,55 +231,26 @@ public class DeptBattleServiceImpl implements DeptBattleService {
             throw new CustomException(CustomExceptionCode.INSUFFICIENT_MATCH_PLAYERS);
         }
 
-        deptBattle.setMatchStatus(MatchStatus.IN_PROGRESS);
+        battleEngine.transit(deptBattle, MatchStatus.IN_PROGRESS);
         deptBattle.setMatchStartDt(LocalDateTime.now());
         deptBattleRepository.save(deptBattle);
-
-
-        //@TODO 테스트를 위해 주석처리 실 배포때 사용할 메서드.
-        for (Participant participants : participantList){
-            Member member = memberRepository.findById(participants.getMemberIdx())
-                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-            String fcmToken = member.getFcmToken();
-
-            if (fcmToken != null && !fcmToken.isEmpty()) {
-
-                FcmSendDto fcmSendDto = FcmSendDto.builder()
-                        .token(fcmToken)
-                        .title("대항전이 시작되었습니다.")
-                        .body(deptBattle.getHostDept() + "vs" + deptBattle.getGuestDept() + "경기가 시작되었습니다!")
-                        .target("deptBattle/info")
-                        .data(String.valueOf(deptBattle.getDeptBattleId()))
-                        .build();
-                try {
-                    fcmService.sendMessageTo(fcmSendDto);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-        }
-
-        //@TODO 배포 전에 위 주석 메서드 부분에 추가할것. 지금은 따로 빼서 TEST
-        for (Participant participants : participantList){
-            Member member = memberRepository.findById(participants.getMemberIdx())
-                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-
-            NotifyCreateReq dto = NotifyCreateReq.builder()
-                    .type(MsgType.DEPT_BATTLE)
-                    .isRead(false)
-                    .receiver(member.getMemberIdx())
-                    .title("대항전이 시작되었습니다.")
-                    .content(deptBattle.getGuestDeptName() + "VS" + deptBattle.getHostDeptName() + "경기 시작")
-                    .relatedItemId(deptBattle.getDeptBattleId())
-                    .build();
-            notificationService.sendNotify(dto);
-
-        }
+        deptBattleInfoCache.invalidate(deptBattle.getDeptBattleId());
+
+        // 알림/FCM 전송 (참가자 전원에게 발송)
+        List<Long> memberIdxList = participantMemberIdx(participantList);
+        battleEngine.effects(deptBattle)
+                .push(memberIdxList,
+                        "대항전이 시작되었습니다.",
+                        deptBattle.getHostDeptName() + "vs" + deptBattle.getGuestDeptName() + "경기가 시작되었습니다!")
+                .notification(memberIdxList,
+                        "대항전이 시작되었습니다.",
+                        deptBattle.getGuestDeptName() + "VS" + deptBattle.getHostDeptName() + "경기 시작");
 
         return true;
     }
 
     @Override
+    @Transactional
     public boolean matchResultReq(DeptMatchResultReq dto) {
 
         DeptBattle deptBattle = deptBattleRepository.findById(dto.getDeptBattleId())
@@ -379,52 +277,23 @@ public class DeptBattleServiceImpl implements DeptBattleService {
         }
 
         deptBattleRepository.save(deptBattle);
+        deptBattleInfoCache.invalidate(deptBattle.getDeptBattleId());
 
         /**
          * 주최자측 대항전 결과 전송에 대한 참가자 동의를 1시간 동안 안 받을 시
          * checkIncompleteMatch 메서드 실행 후 대항전 상태를 COMPLETE 로 변경.
          */
-        // 1시간 이후에 실행될 스케줄링 작업을 생성합니다. (테스트용 1분 설정)
-        ScheduledFuture<?> scheduledFuture = scheduler2.schedule(() -> {
-            log.info("Scheduled Task 실행");
-            checkIncompleteMatch(deptBattle.getDeptBattleId());
-        }, 1, TimeUnit.MINUTES); // 1분 후에 실행
-
-        // 예약된 작업을 관리 목록에 추가
-        scheduledTasks2.put(deptBattle.getDeptBattleId(), scheduledFuture);
-
-        Member member = memberRepository.findById(deptBattle.getGuestLeader())
-                .orElseThrow(()-> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-
-        String fcmToken = member.getFcmToken();
-
-        // FCM 알림 전송 메서드 (참가자대표에게 발송)
-        if (fcmToken != null && !fcmToken.isEmpty()) {
-
-            FcmSendDto fcmSendDto = FcmSendDto.builder()
-                    .token(fcmToken)
-                    .title(deptBattle.getHostDeptName() + "경기 결과를 확인해주세요.")
-                    .body("1시간 안에 경기 결과에 대한 응답이 없을 시 주최측 경기결과로 경기가 종료됩니다.")
-                    .target("deptBattle/resultRes")
-                    .data(deptBattle.getDeptBattleId().toString())
-                    .build();
-            try {
-                fcmService.sendMessageTo(fcmSendDto);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-
-        // 알림 전송 메서드 (주최자에게만 발송)
-        NotifyCreateReq req = NotifyCreateReq.builder()
-                .type(MsgType.DEPT_BATTLE)
-                .isRead(false)
-                .receiver(deptBattle.getHostLeader())
-                .title(deptBattle.getHostDeptName() +  "경기 결과를 확인해주세요.")
-                .content("1시간 안에 경기 결과에 대한 응답이 없을 시 주최측 경기결과로 경기가 종료됩니다.")
-                .relatedItemId(deptBattle.getDeptBattleId())
-                .build();
-        notificationService.sendNotify(req);
+        Long deptBattleId = deptBattle.getDeptBattleId();
+        battleEngine.awaitConfirmation(deptBattle, () -> checkIncompleteMatch(deptBattleId));
+
+        // FCM 전송 (참가자대표에게 발송), 알림 전송 (주최자에게만 발송)
+        battleEngine.effects(deptBattle)
+                .pushResultRequest(deptBattle.getGuestLeader(),
+                        deptBattle.getHostDeptName() + "경기 결과를 확인해주세요.",
+                        "1시간 안에 경기 결과에 대한 응답이 없을 시 주최측 경기결과로 경기가 종료됩니다.")
+                .notification(deptBattle.getHostLeader(),
+                        deptBattle.getHostDeptName() +  "경기 결과를 확인해주세요.",
+                        "1시간 안에 경기 결과에 대한 응답이 없을 시 주최측 경기결과로 경기가 종료됩니다.");
 
         return true;
     }
@@ -441,6 +310,7 @@ public class DeptBattleServiceImpl implements DeptBattleService {
      */
 
     @Override
+    @Transactional
     public boolean matchResultRes(DeptMatchResultRes dto) {
 
         DeptBattle deptBattle = deptBattleRepository.findById(dto.getDeptBattleId())
@@ -452,91 +322,34 @@ public class DeptBattleServiceImpl implements DeptBattleService {
         }
 
         // 대표자가 맞는지 검사.
-        System.out.println("guestLeader : " + deptBattle.getGuestLeader() + " memberIdx : " + dto.getMemberIdx() );
         if (!Objects.equals(deptBattle.getGuestLeader(), dto.getMemberIdx())){
             throw new CustomException(CustomExceptionCode.UNAUTHORIZED_USER);
         }
 
 
-        // 주최자측 결과 보고에 응답했는 경우 관리 목록에서 해당 경기의 스케줄링 작업을 가져와 취소
-        ScheduledFuture<?> future = scheduledTasks2.remove(deptBattle.getDeptBattleId());
-        if (future != null) {
-            future.cancel(false); // 작업 취소
-            log.info("Scheduled Task 취소 시도");
-        }
+        // 주최자측 결과 보고에 응답했으므로 결과 확인 대기 예약 취소
+        battleEngine.confirmReceived(deptBattle);
 
         // true 로 반응한 경우 경기결과에 문제가 없으니 COMPLETED 처리
         if (dto.isResultYN()) {
-            // 대학 랭킹 점수 update
-            // 승리 팀 업데이트
-            int winExistence = rankMapper.checkDeptExistence(deptBattle.getUnivId(), deptBattle.getWinDept(), deptBattle.getEventId());
-            if (winExistence == 0) {
-                rankMapper.insertDeptRank(deptBattle.getUnivId(), deptBattle.getWinDept(), deptBattle.getEventId(), 10L, 1L, 0L);
-                System.out.println("Inserted new winning department rank");
-            } else {
-                rankMapper.updateDeptWinRank(deptBattle.getUnivId(), deptBattle.getWinDept(), deptBattle.getEventId());
-                System.out.println("Updated existing winning department rank");
-            }
-
-            // 패배 팀 업데이트
-            int loseExistence = rankMapper.checkDeptExistence(deptBattle.getUnivId(), deptBattle.getLoseDept(), deptBattle.getEventId());
-            if (loseExistence == 0) {
-                rankMapper.insertDeptRank(deptBattle.getUnivId(), deptBattle.getLoseDept(), deptBattle.getEventId(), 0L, 0L, 1L);
-                System.out.println("Inserted new losing department rank");
-            } else {
-                rankMapper.updateDeptLoseRank(deptBattle.getUnivId(), deptBattle.getLoseDept(), deptBattle.getEventId());
-                System.out.println("Updated existing losing department rank");
-            }
-
-            deptBattle.setMatchStatus(MatchStatus.COMPLETED);
 
             List<Participant> participantList = participantRepository.findByDeptBattleId(deptBattle.getDeptBattleId());
-            // 경기 참여 인원 수와 경기 인원 수가 같을 경우에만 경기 시작.
-
-            System.out.println("partp.size = " + participantList.size() + " dept ptcmember : " + deptBattle.getTeamPtcLimit() * 2);
+            // 경기 참여 인원 수와 경기 인원 수가 같을 경우에만 경기 종료.
             if(participantList.size() != deptBattle.getTeamPtcLimit() * 2){
                 throw new CustomException(CustomExceptionCode.INSUFFICIENT_MATCH_PLAYERS);
             }
 
-            for (Participant participants : participantList){
-                Member member2 = memberRepository.findById(participants.getMemberIdx())
-                        .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-
-
-                NotifyCreateReq req = NotifyCreateReq.builder()
-                        .type(MsgType.DEPT_BATTLE)
-                        .isRead(false)
-                        .receiver(member2.getMemberIdx())
-                        .title("대항전이  종료되었습니다.")
-                        .content(deptBattle.getGuestDeptName() + "VS" + deptBattle.getHostDeptName() + "대항전이 종료되었습니다.")
-                        .relatedItemId(deptBattle.getDeptBattleId())
-                        .build();
-                notificationService.sendNotify(req);
-
-            }
-
+            // 만료 처리와 동시에 들어온 경우 한 쪽만 성공 (랭크 중복 반영 방지)
+            battleEngine.transit(deptBattle, MatchStatus.COMPLETED);
 
-            //@TODO 테스트를 위해 주석처리 실 배포때 사용할 메서드.
-            for (Participant participants : participantList){
-                Member partiMember = memberRepository.findById(participants.getMemberIdx())
-                        .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-                String fcmToken = partiMember.getFcmToken();
-
-                if (fcmToken != null && !fcmToken.isEmpty()) {
-                    FcmSendDto fcmSendDto = FcmSendDto.builder()
-                            .token(fcmToken)
-                            .title("대항전 결과를 확인해주세요!")
-                            .body("경기 결과를 확인해주세요!")
-                            .target("deptBattle/info")
-                            .data(String.valueOf(deptBattle.getDeptBattleId()))
-                            .build();
-                    try {
-                        fcmService.sendMessageTo(fcmSendDto);
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
-            }
+            List<Long> memberIdxList = participantMemberIdx(participantList);
+            battleEngine.effects(deptBattle)
+                    // 승리/패배 팀 랭크 반영
+                    .result(() -> applyResult(deptBattle))
+                    .notification(memberIdxList,
+                            "대항전이  종료되었습니다.",
+                            deptBattle.getGuestDeptName() + "VS" + deptBattle.getHostDeptName() + "대항전이 종료되었습니다.")
+                    .push(memberIdxList, "대항전 결과를 확인해주세요!", "경기 결과를 확인해주세요!");
 
         }
         // false 로 반응한 경우 점수 및 승리팀 기록 초기화.
@@ -546,43 +359,18 @@ public class DeptBattleServiceImpl implements DeptBattleService {
             deptBattle.setMatchEndDt(null);
             deptBattle.setWinDept(null);
 
-
-            Member member = memberRepository.findById(deptBattle.getHostLeader())
-                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-
-            String fcmToken = member.getFcmToken();
-
-            // FCM 알림 전송 메서드 (주최자에게만 발송)
-            if (fcmToken != null && !fcmToken.isEmpty()) {
-
-                FcmSendDto fcmSendDto = FcmSendDto.builder()
-                        .token(member.getFcmToken())
-                        .title(deptBattle.getGuestDeptName() + "대표자가 경기결과에 동의하지 않았습니다.")
-                        .body("경기 결과를 다시 제출해주세요.")
-                        .target("deptBattle/info")
-                        .data(String.valueOf(deptBattle.getDeptBattleId()))
-                        .build();
-                try {
-                    fcmService.sendMessageTo(fcmSendDto);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-
-            // 알림 전송 메서드 (주최자에게만 발송)
-            NotifyCreateReq req = NotifyCreateReq.builder()
-                    .type(MsgType.DEPT_BATTLE)
-                    .isRead(false)
-                    .receiver(deptBattle.getHostLeader())
-                    .title(deptBattle.getGuestDeptName() + "대표자가 경기결과에 동의하지 않았습니다.")
-                    .content("경기 결과를 다시 제출해주세요.")
-                    .relatedItemId(deptBattle.getDeptBattleId()
-                    )
-                    .build();
-            notificationService.sendNotify(req);
+            // 알림/FCM 전송 (주최자에게만 발송)
+            battleEngine.effects(deptBattle)
+                    .push(deptBattle.getHostLeader(),
+                            deptBattle.getGuestDeptName() + "대표자가 경기결과에 동의하지 않았습니다.",
+                            "경기 결과를 다시 제출해주세요.")
+                    .notification(deptBattle.getHostLeader(),
+                            deptBattle.getGuestDeptName() + "대표자가 경기결과에 동의하지 않았습니다.",
+                            "경기 결과를 다시 제출해주세요.");
         }
 
         deptBattleRepository.save(deptBattle);
+        deptBattleInfoCache.invalidate(deptBattle.getDeptBattleId());
 
 
         return true;
@@ -631,6 +419,7 @@ public class DeptBattleServiceImpl implements DeptBattleService {
 
 
     @Override
+    @Transactional
     public boolean attend(DeptBattleAttendRequest request) {
 
         boolean last = false;
@@ -648,6 +437,11 @@ public class DeptBattleServiceImpl implements DeptBattleService {
             throw new CustomException(CustomExceptionCode.ALREADY_IN_PROGRESS);
         }
 
+        // 참가팀 대표가 정해지기 전(RECRUIT)에는 참가 불가 (마지막 참가자는 WAITING → PREPARED 로만 전이)
+        if (deptBattle.getMatchStatus() == MatchStatus.RECRUIT) {
+            throw new CustomException(CustomExceptionCode.INVALID_STATUS_TRANSITION);
+        }
+
         // 이미 참가한 경우 예외 처리
         boolean alreadyAttended = participantRepository.existsByMemberIdxAndDeptBattleId(member.getMemberIdx(), deptBattle.getDeptBattleId());
         if (alreadyAttended) {
@@ -671,9 +465,9 @@ public class DeptBattleServiceImpl implements DeptBattleService {
             throw new CustomException(CustomExceptionCode.INVALID_INVITE_CODE);
         }
 
-        // 마지막 참가자일 경우 대기중으로 변경.
+        // 마지막 참가자일 경우 준비완료로 변경. (동시에 마지막 자리를 노린 요청은 하나만 성공)
         if(totalParticipant == deptBattle.getTeamPtcLimit() * 2 - 1){
-            deptBattle.setMatchStatus(MatchStatus.PREPARED);
+            battleEngine.transit(deptBattle, MatchStatus.PREPARED);
             last = true;
         }
 
@@ -687,70 +481,26 @@ public class DeptBattleServiceImpl implements DeptBattleService {
                 .nickName(member.getNickname())
                 .build();
         participantRepository.save(participant);
+        deptBattleInfoCache.invalidate(deptBattle.getDeptBattleId());
 
         // 해당 대항전에 대한 채팅방을 설정합니다.
-        ChatRoom chatRoom = chatRoomRepository.findByChatRoomTypeAndDynamicId(1, deptBattle.getDeptBattleId());
-        ChatMember chatMember = ChatMember.builder()
-                .chatRoomId(chatRoom.getChatRoomId())
-                .chatRoomType(1)
-                .customChatRoomName(deptBattle.getHostDeptName() + "대항전")
-                .memberIdx(request.getMemberIdx())
-                .build();
-
-        chatMemberRepository.save(chatMember);
-
-        // 호스트 채팅방의 이름을 게스트 부서 이름으로 업데이트합니다.
-        ChatMember hostChatMember = chatMemberRepository.findByMemberIdxAndChatRoomId(deptBattle.getHostLeader(), chatRoom.getChatRoomId());
-        hostChatMember.setCustomChatRoomName(deptBattle.getGuestDeptName() + "대항전");
-        chatMemberRepository.save(hostChatMember);
-
-        Member HostMember = memberRepository.findById(deptBattle.getHostLeader())
-                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-
-        String fcmToken = HostMember.getFcmToken();
-
-        ChatMessage chatMessage =  ChatMessage.builder()
-                .chatRoomType(chatRoom.getChatRoomType())
-                .chatRoomId(chatRoom.getChatRoomId())
-                .content(member.getNickname() + "님이 입장하셨습니다.")
-                .nickname(" ")
-                .regDt(LocalDateTime.now())
-                .build();
+        // 호스트 채팅방의 이름을 게스트 과 이름으로 업데이트합니다.
+        ChatRoom chatRoom = battleEngine.chatRoom(deptBattle);
+        battleEngine.joinChat(chatRoom, request.getMemberIdx(), deptBattle.getHostDeptName() + "대항전", null);
+        battleEngine.renameChat(chatRoom, deptBattle.getHostLeader(), deptBattle.getGuestDeptName() + "대항전", null);
 
-        chatMessageRepository.save(chatMessage);
+        BattleEffects effects = battleEngine.effects(deptBattle)
+                .chat(chatRoom, member.getNickname() + "님이 입장하셨습니다.");
 
         if (last) {
             //@TODO  마지막 참가자일 경우 모든 참가자가 참가했다고 전송할것.
-
-
-            // FCM 알림 전송 메서드 (주최자에게만 발송)
-            if (fcmToken != null && !fcmToken.isEmpty()) {
-
-                FcmSendDto fcmSendDto = FcmSendDto.builder()
-                        .token(fcmToken)
-                        .title("대항전 전원 참가 완료!")
-                        .body(deptBattle.getHostDept() + "vs" + deptBattle.getGuestDept() + "참가자 전원 참여완료!")
-                        .target("deptBattle/info")
-                        .data(String.valueOf(deptBattle.getDeptBattleId()))
-                        .build();
-                try {
-                    fcmService.sendMessageTo(fcmSendDto);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-
-            // 알림 전송 메서드 (주최자에게만 발송)
-            NotifyCreateReq dto = NotifyCreateReq.builder()
-                    .type(MsgType.UNIV_BATTLE)
-                    .isRead(false)
-                    .receiver(deptBattle.getHostLeader())
-                    .title("대항전 전원 참가 완료!")
-                    .content(deptBattle.getGuestDept() + "VS" + deptBattle.getHostDept() + "참가자 전원 참여완료!")
-                    .relatedItemId(deptBattle.getDeptBattleId())
-                    .build();
-            notificationService.sendNotify(dto);
-
+            // 알림/FCM 전송 (주최자에게만 발송)
+            effects.push(deptBattle.getHostLeader(),
+                            "대항전 전원 참가 완료!",
+                            deptBattle.getHostDeptName() + "vs" + deptBattle.getGuestDeptName() + "참가자 전원 참여완료!")
+                    .notification(deptBattle.getHostLeader(),
+                            "대항전 전원 참가 완료!",
+                            deptBattle.getGuestDeptName() + "VS" + deptBattle.getHostDeptName() + "참가자 전원 참여완료!");
         }
 
         return true;
@@ -765,12 +515,12 @@ public class DeptBattleServiceImpl implements DeptBattleService {
     }
 
     private University validateUniversity(Long universityId) {
-        return universityRepository.findById(universityId)
+        return referenceRegistry.university(universityId)
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND, "University not found with ID: " + universityId));
     }
 
     private Department validateDepartment(Long departmentId) {
-        return departmentRepository.findById(departmentId)
+        return referenceRegistry.department(departmentId)
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_DEPARTMENT, "Department not found with ID: " + departmentId));
     }
 
@@ -820,122 +570,25 @@ public class DeptBattleServiceImpl implements DeptBattleService {
         chatMemberRepository.save(chatMember);
     }
 
-    private DeptBattle validateDeptBattle(Long deptBattleId) {
-        return deptBattleRepository.findById(deptBattleId)
-                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_BATTLE));
-    }
-
-    private Member validateGuest(Long guestLeaderId, DeptBattle deptBattle) {
-        Member guest = memberRepository.findById(guestLeaderId)
-                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-
-        if (!Objects.equals(deptBattle.getUnivId(), guest.getUnivId())) {
-            throw new CustomException(CustomExceptionCode.NOT_SAME_UNIVERSITY);
-        }
-
-        if (deptBattle.getGuestLeader() != null) {
-            throw new CustomException(CustomExceptionCode.REPRESENTATIVE_ALREADY_EXISTS);
-        }
-
-        return guest;
-    }
-
-    private void validateDepartments(DeptBattle deptBattle, Member guest) {
-        if (Objects.equals(deptBattle.getHostDept(), guest.getDeptId())) {
-            throw new CustomException(CustomExceptionCode.SAME_DEPARTMENT);
-        }
-    }
-
-    private void updateDeptBattleWithGuestInfo(DeptBattle deptBattle, Member guest, DeptGuestLeaderAttendRequest request) {
-        Department department = departmentRepository.findById(guest.getDeptId())
-                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_DEPARTMENT));
-
-        deptBattle.setGuestLeader(guest.getMemberIdx());
-        deptBattle.setGuestDept(guest.getDeptId());
-        deptBattle.setGuestDeptName(department.getDeptName());
-        deptBattle.setMatchStatus(MatchStatus.WAITING);
-        deptBattle.setInvitationCode(generateRandomString(8));
-
-        deptBattleRepository.save(deptBattle);
-    }
-
-    private void manageParticipants(DeptBattle deptBattle, Member guest) {
-        int totalParticipant = participantRepository.countByDeptBattleId(deptBattle.getDeptBattleId());
-        // 마지막 참가자일 경우 대기중으로 변경.
-        if (totalParticipant == deptBattle.getTeamPtcLimit() * 2 - 1) {
-            deptBattle.setMatchStatus(MatchStatus.PREPARED);
-            deptBattleRepository.save(deptBattle);
-        }
-
-        Participant participant = Participant.builder()
-                .memberIdx(guest.getMemberIdx())
-                .nickName(guest.getNickname())
-                .userName(guest.getName())
-                .deptBattleId(deptBattle.getDeptBattleId())
-                .univId(deptBattle.getUnivId())
-                .build();
-        participantRepository.save(participant);
-    }
-
-    private void manageChatRoomMembers(DeptBattle deptBattle, Member guest) {
-        ChatRoom chatRoom = chatRoomRepository.findByChatRoomTypeAndDynamicId(1, deptBattle.getDeptBattleId());
-        if (chatRoom == null) {
-            // Handle chat room not found
-            return;
-        }
-
-        Member host = memberRepository.findById(deptBattle.getHostLeader())
-                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-
-        ChatMember chatMember = ChatMember.builder()
-                .chatRoomId(chatRoom.getChatRoomId())
-                .chatRoomType(1)
-                .customChatRoomName(deptBattle.getHostDeptName() + " 대항전")
-                .memberIdx(guest.getMemberIdx())
-                .chatRoomImg(host.getUnivLogoImg())
-                .build();
-        chatMemberRepository.save(chatMember);
-
-        ChatMember hostChatMember = chatMemberRepository.findByMemberIdxAndChatRoomId(deptBattle.getHostLeader(), chatRoom.getChatRoomId());
-        if (hostChatMember != null) {
-            hostChatMember.setCustomChatRoomName(deptBattle.getGuestDeptName() + " 대항전");
-            hostChatMember.setChatRoomImg(guest.getUnivLogoImg());
-            chatMemberRepository.save(hostChatMember);
-        }
-    }
-
-
     /**
      * 경기 종료 메서드
      * @author 이시영
      * @param deptBattleId
      */
-    // 경기 종료 처리 메서드
+    // 경기 종료 처리 메서드 (BattleEngine 이 트랜잭션 안에서 호출)
     private void checkIncompleteMatch(Long deptBattleId) {
         DeptBattle deptBattle = deptBattleRepository.findById(deptBattleId)
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_BATTLE));
 
         // 경기 상태가 완료되지 않았을 경우 경기를 종료 처리합니다.
         if (deptBattle.getMatchStatus() != MatchStatus.COMPLETED) {
-            deptBattle.setMatchStatus(MatchStatus.COMPLETED);
+            battleEngine.transit(deptBattle, MatchStatus.COMPLETED);
             deptBattle.setEndDt(LocalDateTime.now());
             deptBattleRepository.save(deptBattle);
+            deptBattleInfoCache.invalidate(deptBattle.getDeptBattleId());
 
-            // 승리 팀 업데이트
-            int winExistence = rankMapper.checkDeptExistence(deptBattle.getUnivId(), deptBattle.getWinDept(), deptBattle.getEventId());
-            if (winExistence == 0) {
-                rankMapper.insertDeptRank(deptBattle.getUnivId(), deptBattle.getWinDept(), deptBattle.getEventId(), 10L, 1L, 0L);
-            } else {
-                rankMapper.updateDeptWinRank(deptBattle.getUnivId(),deptBattle.getWinDept() ,deptBattle.getEventId());
-            }
-
-            // 패배 팀 업데이트
-            int loseExistence = rankMapper.checkDeptExistence(deptBattle.getUnivId(), deptBattle.getLoseDept(), deptBattle.getEventId());
-            if (loseExistence == 0) {
-                rankMapper.insertDeptRank(deptBattle.getUnivId(), deptBattle.getLoseDept(), deptBattle.getEventId(), 0L, 0L, 1L);
-            } else {
-                rankMapper.updateDeptLoseRank(deptBattle.getUnivId(), deptBattle.getLoseDept(), deptBattle.getEventId());
-            }
+            // 승리/패배 팀 랭크 반영
+            battleEngine.effects(deptBattle).result(() -> applyResult(deptBattle));
 
 
             log.info("경기 종료 처리 완료");
@@ -944,15 +597,34 @@ public class DeptBattleServiceImpl implements DeptBattleService {
 
 
     /**
-     * 초대 코드 생성기
-     * @author 이시영
-     * @param length
+     * 랭크 점수 반영
+     * @param deptBattle
+     */
+    private void applyResult(DeptBattle deptBattle) {
+        rankService.applyDeptResult(deptBattle.getEventId(), deptBattle.getUnivId(), deptBattle.getWinDept(), deptBattle.getLoseDept(), scoreMargin(deptBattle));
+    }
+
+    /**
+     * 참가자 memberIdx 목록
+     * @param participantList
+     * @return
+     */
+    private List<Long> participantMemberIdx(List<Participant> participantList) {
+        return participantList.stream()
+                .map(Participant::getMemberIdx)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+
+    /**
+     * 점수 차 (레이팅 계산용)
+     * @param deptBattle
      * @return
      */
-    private String generateRandomString(int length) {
-        SecureRandom random = new SecureRandom();
-        byte[] bytes = new byte[length];
-        random.nextBytes(bytes);
-        return Base64.getUrlEncoder().encodeToString(bytes).substring(0, length);
+    private long scoreMargin(DeptBattle deptBattle) {
+        long host = deptBattle.getHostScore() == null ? 0 : deptBattle.getHostScore();
+        long guest = deptBattle.getGuestScore() == null ? 0 : deptBattle.getGuestScore();
+        return Math.abs(host - guest);
     }
 }
\ No newline at end of file
@@ -1,9 +1,9 @@
 package com.example.gazamung.event.controller;
 
 import com.example.gazamung._enum.ApiResponseCode;
+import com.example.gazamung.cache.ResponseSnapshots;
 import com.example.gazamung.dto.ResultDTO;
 import com.example.gazamung.event.dto.EventDto;
-import com.example.gazamung.event.dto.ListDto;
 import com.example.gazamung.event.service.EventService;
 import com.example.gazamung.exception.CustomException;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,9 +12,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import javax.servlet.http.HttpServletRequest;
 
 @Slf4j
 @RestController
@@ -25,6 +26,7 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final ResponseSnapshots responseSnapshots;
 
     @Operation(summary = "종목 생성 ", description = "" +
             " 종목 생성." +
@@ -95,12 +97,11 @@ public class EventController {
             @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
     })
     @GetMapping("/list")
-    public List<ListDto> list(){
+    public ResponseEntity<?> list(HttpServletRequest request){
         try{
-            List<ListDto> listDtos = eventService.list();
-            return listDtos;
+            return responseSnapshots.respond(ResponseSnapshots.EVENT, "all", eventService::list, request);
         } catch (CustomException e) {
-            return (List<ListDto>) ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), "모임 전체 리스트 조회 완료");
+            return ResponseEntity.ok(ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), "모임 전체 리스트 조회 완료"));
         }
     }
 }
@@ -1,6 +1,7 @@
 package com.example.gazamung.event.service;
 
 import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung.autocomplete.service.AutocompleteIndexManager;
 import com.example.gazamung.event.dto.EventDto;
 import com.example.gazamung.event.dto.ListDto;
 import com.example.gazamung.event.entity.Event;
@@ -8,6 +9,7 @@ import com.example.gazamung.event.repository.EventRepository;
 import com.example.gazamung.exception.CustomException;
 import com.example.gazamung.member.entity.Member;
 import com.example.gazamung.member.repository.MemberRepository;
+import com.example.gazamung.reference.service.ReferenceRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,12 +24,16 @@ public class EventServiceImpl implements EventService {
 
     private final EventRepository eventRepository;
     private final MemberRepository memberRepository;
+    private final AutocompleteIndexManager autocompleteIndexManager;
+    private final ReferenceRegistry referenceRegistry;
 
     @Override
     public boolean create(EventDto dto) {
         checkAdmin(dto.getMemberIdx()); // 관리자 여부 확인
 
-        eventRepository.save(Event.builder().eventName(dto.getEventName()).build());
+        Event event = eventRepository.save(Event.builder().eventName(dto.getEventName()).build());
+        autocompleteIndexManager.eventSaved(event);
+        referenceRegistry.refresh();
 
         return true;
     }
@@ -37,6 +43,8 @@ public class EventServiceImpl implements EventService {
         checkAdmin(dto.getMemberIdx()); // 관리자 여부 확인
 
         eventRepository.deleteById(dto.getEventId());
+        autocompleteIndexManager.eventRemoved(dto.getEventId());
+        referenceRegistry.refresh();
 
         return true;
     }
@@ -51,13 +59,15 @@ public class EventServiceImpl implements EventService {
         event.setEventName(dto.getEventName());
 
         eventRepository.save(event);
+        autocompleteIndexManager.eventSaved(event);
+        referenceRegistry.refresh();
 
         return true;
     }
 
     @Override
     public List<ListDto> list() {
-        List<Event> events = eventRepository.findAll();
+        List<Event> events = referenceRegistry.current().events();
         return events.stream()
                 .map(event -> ListDto.builder()
                         .eventId(event.getEventId())
@@ -0,0 +1,279 @@
+package com.example.gazamung.liveScore;
+
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung.battle.BattleType;
+import com.example.gazamung.battle.lifecycle.BattleTransition;
+import com.example.gazamung.battle.lifecycle.BattleTransitionListener;
+import com.example.gazamung.liveScore.dto.LiveScoreRes;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 진행 중 경기 실시간 점수판
+ * - 경기별 최신 점수를 메모리에만 보관 (확정 점수만 경기 결과로 DB 저장)
+ * - 점수 변경은 한 번만 직렬화해 구독 세션 전체에 전송 (경기별 전송 순서 보장)
+ * - 늦게 들어온 구독자에게는 구독 즉시 현재 점수를 보냄
+ * 경기 시작/종료는 BattleEngine 상태 변경 커밋 후 반영된다.
+ */
+@Component
+@Slf4j
+public class LiveScoreBoard implements BattleTransitionListener {
+
+    public static final String EVENT_SNAPSHOT = "snapshot";
+    public static final String EVENT_SCORE = "score";
+    public static final String EVENT_FINAL = "final";
+
+    private final ObjectMapper objectMapper;
+    private final ExecutorService fanout;
+    private final int sendTimeLimitMs;
+    private final int bufferSizeLimit;
+
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    public LiveScoreBoard(ObjectMapper objectMapper,
+                          @Value("${live-score.fanout-threads:4}") int fanoutThreads,
+                          @Value("${live-score.send-time-limit-ms:5000}") int sendTimeLimitMs,
+                          @Value("${live-score.buffer-size-limit:65536}") int bufferSizeLimit) {
+        this.objectMapper = objectMapper;
+        this.fanout = Executors.newFixedThreadPool(fanoutThreads);
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.bufferSizeLimit = bufferSizeLimit;
+    }
+
+    private record Snapshot(Long hostLeader, long hostScore, long guestScore, long version, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * 경기별 구독 세션과 최신 점수
+     */
+    private static final class Channel {
+        private final BattleType type;
+        private final Long battleId;
+        private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+        private final Queue<TextMessage> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile Snapshot live;     // null 이면 진행 중 아님
+
+        private Channel(BattleType type, Long battleId) {
+            this.type = type;
+            this.battleId = battleId;
+        }
+    }
+
+    @Override
+    public void transited(BattleTransition transition) {
+        if (transition.to() == MatchStatus.IN_PROGRESS) {
+            open(transition.type(), transition.battleId(), transition.hostLeader());
+        } else if (transition.to() == MatchStatus.COMPLETED) {
+            finish(transition.type(), transition.battleId(), transition.hostScore(), transition.guestScore());
+        }
+    }
+
+    /**
+     * 경기 시작 (이미 진행 중이면 그대로 둠)
+     */
+    public void open(BattleType type, Long battleId, Long hostLeader) {
+        Channel channel = channels.computeIfAbsent(key(type, battleId), k -> new Channel(type, battleId));
+        synchronized (channel) {
+            if (channel.live != null) return;
+            channel.live = new Snapshot(hostLeader, 0, 0, 0, LocalDateTime.now());
+            publish(channel, toRes(channel, channel.live, EVENT_SNAPSHOT, 0, 0));
+        }
+    }
+
+    /**
+     * 점수 변경 (누적 점수 기준)
+     * @return 변경 결과, 진행 중이 아니면 null
+     */
+    public LiveScoreRes update(BattleType type, Long battleId, long hostScore, long guestScore) {
+        Channel channel = channels.get(key(type, battleId));
+        if (channel == null) return null;
+
+        synchronized (channel) {
+            Snapshot prev = channel.live;
+            if (prev == null) return null;
+
+            Snapshot next = new Snapshot(prev.hostLeader(), hostScore, guestScore, prev.version() + 1, LocalDateTime.now());
+            channel.live = next;
+
+            LiveScoreRes res = toRes(channel, next, EVENT_SCORE, hostScore - prev.hostScore(), guestScore - prev.guestScore());
+            publish(channel, res);
+            return res;
+        }
+    }
+
+    /**
+     * 경기 종료, 확정 점수를 마지막으로 보내고 진행 중 상태 제거
+     */
+    public void finish(BattleType type, Long battleId, Long hostScore, Long guestScore) {
+        Channel channel = channels.get(key(type, battleId));
+        if (channel == null) return;
+
+        synchronized (channel) {
+            Snapshot prev = channel.live;
+            long host = hostScore != null ? hostScore : prev != null ? prev.hostScore() : 0;
+            long guest = guestScore != null ? guestScore : prev != null ? prev.guestScore() : 0;
+            Snapshot last = new Snapshot(prev != null ? prev.hostLeader() : null, host, guest,
+                    prev != null ? prev.version() + 1 : 1, LocalDateTime.now());
+            channel.live = null;
+
+            LiveScoreRes res = toRes(channel, last, EVENT_FINAL,
+                    prev != null ? host - prev.hostScore() : 0, prev != null ? guest - prev.guestScore() : 0);
+            res.setLive(false);
+            publish(channel, res);
+        }
+        removeIfIdle(channel);
+    }
+
+    /**
+     * 현재 점수 (진행 중이 아니면 null)
+     */
+    public LiveScoreRes current(BattleType type, Long battleId) {
+        Channel channel = channels.get(key(type, battleId));
+        Snapshot live = channel != null ? channel.live : null;
+        return live != null ? toRes(channel, live, EVENT_SNAPSHOT, 0, 0) : null;
+    }
+
+    /**
+     * 진행 중 경기의 주최팀 대표 (진행 중이 아니면 null)
+     */
+    public Long hostLeader(BattleType type, Long battleId) {
+        Channel channel = channels.get(key(type, battleId));
+        Snapshot live = channel != null ? channel.live : null;
+        return live != null ? live.hostLeader() : null;
+    }
+
+    /**
+     * 구독 시작, 진행 중이면 현재 점수를 바로 전송
+     */
+    public void subscribe(BattleType type, Long battleId, WebSocketSession session) {
+        // 느린 구독자는 버퍼/시간 제한을 넘으면 끊고 재접속 시 최신 점수를 받게 함
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, bufferSizeLimit);
+
+        Channel channel = channels.compute(key(type, battleId), (k, c) -> {
+            Channel target = c != null ? c : new Channel(type, battleId);
+            target.sessions.put(session.getId(), decorated);
+            return target;
+        });
+
+        Snapshot live = channel.live;
+        if (live != null) {
+            TextMessage message = serialize(toRes(channel, live, EVENT_SNAPSHOT, 0, 0));
+            if (message != null) {
+                send(channel, decorated, message);
+            }
+        }
+    }
+
+    public void unsubscribe(BattleType type, Long battleId, WebSocketSession session) {
+        Channel channel = channels.get(key(type, battleId));
+        if (channel == null) return;
+
+        channel.sessions.remove(session.getId());
+        removeIfIdle(channel);
+    }
+
+    public int subscriberCount(BattleType type, Long battleId) {
+        Channel channel = channels.get(key(type, battleId));
+        return channel != null ? channel.sessions.size() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanout.shutdown();
+    }
+
+    private void publish(Channel channel, LiveScoreRes res) {
+        if (channel.sessions.isEmpty()) return;
+
+        TextMessage message = serialize(res);
+        if (message == null) return;
+
+        channel.outbox.add(message);
+        drain(channel);
+    }
+
+    private void drain(Channel channel) {
+        if (channel.draining.compareAndSet(false, true)) {
+            fanout.execute(() -> flush(channel));
+        }
+    }
+
+    private void flush(Channel channel) {
+        try {
+            TextMessage message;
+            while ((message = channel.outbox.poll()) != null) {
+                for (WebSocketSession session : channel.sessions.values()) {
+                    send(channel, session, message);
+                }
+            }
+        } finally {
+            channel.draining.set(false);
+            // 마지막 poll 이후 들어온 메시지
+            if (!channel.outbox.isEmpty()) {
+                drain(channel);
+            }
+        }
+    }
+
+    private void send(Channel channel, WebSocketSession session, TextMessage message) {
+        try {
+            session.sendMessage(message);
+        } catch (Exception e) {
+            // 끊긴 세션 또는 버퍼 초과
+            channel.sessions.remove(session.getId());
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void removeIfIdle(Channel channel) {
+        channels.computeIfPresent(key(channel.type, channel.battleId),
+                (k, c) -> c == channel && c.sessions.isEmpty() && c.live == null && c.outbox.isEmpty() ? null : c);
+    }
+
+    private TextMessage serialize(LiveScoreRes res) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(res));
+        } catch (JsonProcessingException e) {
+            log.error("실시간 점수 직렬화 실패 {}", res, e);
+            return null;
+        }
+    }
+
+    private static LiveScoreRes toRes(Channel channel, Snapshot snapshot, String event, long hostDelta, long guestDelta) {
+        return LiveScoreRes.builder()
+                .battleType(channel.type)
+                .battleId(channel.battleId)
+                .event(event)
+                .live(true)
+                .version(snapshot.version())
+                .hostScore(snapshot.hostScore())
+                .guestScore(snapshot.guestScore())
+                .hostDelta(hostDelta)
+                .guestDelta(guestDelta)
+                .updatedAt(snapshot.updatedAt())
+                .build();
+    }
+
+    private static String key(BattleType type, Long battleId) {
+        return type + ":" + battleId;
+    }
+}
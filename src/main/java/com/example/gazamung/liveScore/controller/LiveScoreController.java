@@ -0,0 +1,77 @@
+package com.example.gazamung.liveScore.controller;
+
+import com.example.gazamung._enum.ApiResponseCode;
+import com.example.gazamung.battle.BattleType;
+import com.example.gazamung.dto.ResultDTO;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.liveScore.dto.LiveScoreRes;
+import com.example.gazamung.liveScore.dto.LiveScoreUpdateReq;
+import com.example.gazamung.liveScore.service.LiveScoreService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/liveScore")
+@CrossOrigin(origins = "*", exposedHeaders = {"Content-Disposition"}, allowedHeaders = "*")
+@Tag(name = "실시간 점수 API", description = "")
+public class LiveScoreController {
+
+    private final LiveScoreService liveScoreService;
+
+    @Operation(summary = "실시간 점수 변경 ", description = "" +
+            " 진행 중 경기 점수를 변경합니다. (주최팀 대표, 누적 점수)" +
+            "\n 변경된 점수는 ws/score/{battleType}/{battleId} 구독자에게 바로 전송되며, 최종 점수는 경기 결과 요청으로 확정됩니다." +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- NOT_FOUND_BATTLE: 존재하지 않는 대항전" +
+            "\n- NOT_IN_PROGRESS: 아직 진행되지 않은 경기입니다." +
+            "\n- UNAUTHORIZED_USER: 주최팀 대표가 아닌 경우" +
+            "\n- INVALID_SCORE: 점수가 올바르지 않습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @PostMapping("/update")
+    public ResultDTO update(@RequestBody LiveScoreUpdateReq request) {
+
+        try{
+            LiveScoreRes res = liveScoreService.update(request);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"점수 변경 성공", res);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+
+        }
+    }
+
+    @Operation(summary = "현재 점수 ", description = "PARAMETER: battleType(UNIV, DEPT), battleId  " +
+            "\n진행 중이면 실시간 점수, 종료된 경기는 확정 점수를 반환합니다." +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- NOT_FOUND_BATTLE: 존재하지 않는 대항전"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("")
+    public ResultDTO current(@RequestParam BattleType battleType, @RequestParam Long battleId) {
+
+        try{
+            LiveScoreRes res = liveScoreService.current(battleType, battleId);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"현재 점수 조회 성공", res);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.gazamung.liveScore.dto;
+
+import com.example.gazamung.battle.BattleType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LiveScoreRes {
+
+    private BattleType battleType;
+    private Long battleId;
+    private String event;               // snapshot: 현재 상태, score: 점수 변경, final: 경기 종료 (확정 점수)
+    private boolean live;               // 경기 진행 중 여부
+    private long version;               // 점수 변경 순번 (클라이언트는 이전 순번 메시지를 무시)
+    private long hostScore;
+    private long guestScore;
+    private long hostDelta;             // 직전 대비 변화량
+    private long guestDelta;
+    private LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,21 @@
+package com.example.gazamung.liveScore.dto;
+
+import com.example.gazamung.battle.BattleType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LiveScoreUpdateReq {
+
+    private BattleType battleType;      // UNIV, DEPT
+    private Long battleId;
+    private Long memberIdx;             // 주최팀 대표
+    private Long hostScore;             // 현재 점수 (누적값)
+    private Long guestScore;
+
+}
@@ -0,0 +1,25 @@
+package com.example.gazamung.liveScore.service;
+
+import com.example.gazamung.battle.BattleType;
+import com.example.gazamung.liveScore.dto.LiveScoreRes;
+import com.example.gazamung.liveScore.dto.LiveScoreUpdateReq;
+import org.springframework.stereotype.Service;
+
+@Service
+public interface LiveScoreService {
+
+    /**
+     * 진행 중 경기 점수 변경 (주최팀 대표), 구독자에게 바로 전송
+     * @param request
+     * @return 변경된 점수
+     */
+    LiveScoreRes update(LiveScoreUpdateReq request);
+
+    /**
+     * 현재 점수 (종료된 경기는 확정 점수)
+     * @param battleType
+     * @param battleId
+     * @return
+     */
+    LiveScoreRes current(BattleType battleType, Long battleId);
+}
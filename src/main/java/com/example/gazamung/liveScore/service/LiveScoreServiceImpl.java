@@ -0,0 +1,90 @@
+package com.example.gazamung.liveScore.service;
+
+import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung.battle.BattleType;
+import com.example.gazamung.deptBattle.entity.DeptBattle;
+import com.example.gazamung.deptBattle.repository.DeptBattleRepository;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.liveScore.LiveScoreBoard;
+import com.example.gazamung.liveScore.dto.LiveScoreRes;
+import com.example.gazamung.liveScore.dto.LiveScoreUpdateReq;
+import com.example.gazamung.univBattle.entity.UnivBattle;
+import com.example.gazamung.univBattle.repository.UnivBattleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LiveScoreServiceImpl implements LiveScoreService {
+
+    private final LiveScoreBoard liveScoreBoard;
+    private final UnivBattleRepository univBattleRepository;
+    private final DeptBattleRepository deptBattleRepository;
+
+    @Override
+    public LiveScoreRes update(LiveScoreUpdateReq request) {
+        if (request.getBattleType() == null || request.getBattleId() == null) {
+            throw new CustomException(CustomExceptionCode.NOT_FOUND_BATTLE);
+        }
+        if (request.getHostScore() == null || request.getGuestScore() == null
+                || request.getHostScore() < 0 || request.getGuestScore() < 0) {
+            throw new CustomException(CustomExceptionCode.INVALID_SCORE);
+        }
+
+        // 진행 중 상태가 메모리에 없을 때만 (서버 재시작 등) 한 번 조회해 복구
+        Long hostLeader = liveScoreBoard.hostLeader(request.getBattleType(), request.getBattleId());
+        if (hostLeader == null) {
+            LiveBattle battle = load(request.getBattleType(), request.getBattleId());
+            if (battle.status() != MatchStatus.IN_PROGRESS) {
+                throw new CustomException(CustomExceptionCode.NOT_IN_PROGRESS);
+            }
+            liveScoreBoard.open(request.getBattleType(), request.getBattleId(), battle.hostLeader());
+            hostLeader = battle.hostLeader();
+        }
+
+        if (!hostLeader.equals(request.getMemberIdx())) {
+            throw new CustomException(CustomExceptionCode.UNAUTHORIZED_USER);
+        }
+
+        LiveScoreRes res = liveScoreBoard.update(request.getBattleType(), request.getBattleId(),
+                request.getHostScore(), request.getGuestScore());
+        if (res == null) {
+            // 그 사이 경기가 종료됨
+            throw new CustomException(CustomExceptionCode.NOT_IN_PROGRESS);
+        }
+        return res;
+    }
+
+    @Override
+    public LiveScoreRes current(BattleType battleType, Long battleId) {
+        LiveScoreRes live = liveScoreBoard.current(battleType, battleId);
+        if (live != null) return live;
+
+        LiveBattle battle = load(battleType, battleId);
+        return LiveScoreRes.builder()
+                .battleType(battleType)
+                .battleId(battleId)
+                .event(battle.status() == MatchStatus.COMPLETED ? LiveScoreBoard.EVENT_FINAL : LiveScoreBoard.EVENT_SNAPSHOT)
+                .live(false)
+                .hostScore(battle.hostScore() != null ? battle.hostScore() : 0)
+                .guestScore(battle.guestScore() != null ? battle.guestScore() : 0)
+                .build();
+    }
+
+    private record LiveBattle(MatchStatus status, Long hostLeader, Long hostScore, Long guestScore) {
+    }
+
+    private LiveBattle load(BattleType battleType, Long battleId) {
+        if (battleType == BattleType.UNIV) {
+            UnivBattle battle = univBattleRepository.findById(battleId)
+                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_BATTLE));
+            return new LiveBattle(battle.getMatchStatus(), battle.getHostLeader(), battle.getHostScore(), battle.getGuestScore());
+        }
+        DeptBattle battle = deptBattleRepository.findById(battleId)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_BATTLE));
+        return new LiveBattle(battle.getMatchStatus(), battle.getHostLeader(), battle.getHostScore(), battle.getGuestScore());
+    }
+}
@@ -1,14 +1,26 @@
 package com.example.gazamung.mapper;
 
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung.battle.BattleStatusCountRow;
 import com.example.gazamung.deptBattle.entity.DeptBattle;
 import com.example.gazamung.univBattle.entity.UnivBattle;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface DeptBattleMapper {
 
     List<DeptBattle> findByDeptAndUnivId( @Param("univId") Long univId, @Param("deptId") Long deptId);
+
+    List<DeptBattle> findPage(@Param("univId") Long univId,
+                              @Param("matchStatus") MatchStatus matchStatus,
+                              @Param("eventId") Long eventId,
+                              @Param("lastRegDt") LocalDateTime lastRegDt,
+                              @Param("lastId") Long lastId,
+                              @Param("limit") int limit);
+
+    List<BattleStatusCountRow> countByStatus();
 }
@@ -1,7 +1,11 @@
 package com.example.gazamung.mapper;
 
+import com.example.gazamung.rank.dto.BattleResultRow;
 import com.example.gazamung.rank.dto.DeptRankRes;
+import com.example.gazamung.rank.dto.RankRatingRow;
+import com.example.gazamung.rank.dto.RankTotal;
 import com.example.gazamung.rank.dto.UnivRankRes;
+import com.example.gazamung.rank.rating.Rating;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -11,60 +15,79 @@ import java.util.List;
 public interface RankMapper {
 
     /**
-     * 대학 랭크 승리 업데이트
-     * @param winUniv
+     * (대학) 승리/패배 팀 현재 레이팅 조회 (FOR UPDATE)
      * @param eventId
+     * @param winUniv
+     * @param loseUniv
+     * @return 랭크가 있는 팀만 반환
      */
-    void updateUnivWinRank(@Param("winUniv") Long winUniv, @Param("eventId") Long eventId);
+    List<RankRatingRow> findUnivRatingsForUpdate(@Param("eventId") Long eventId, @Param("winUniv") Long winUniv, @Param("loseUniv") Long loseUniv);
 
     /**
-     * 과 랭크 승리 업데이트
+     * (과) 승리/패배 팀 현재 레이팅 조회 (FOR UPDATE)
+     * @param eventId
      * @param univId
      * @param winDept
-     * @param eventId
+     * @param loseDept
+     * @return 랭크가 있는 팀만 반환
      */
-    void updateDeptWinRank(@Param("univId") Long univId, @Param("winDept") Long winDept, @Param("eventId") Long eventId);
+    List<RankRatingRow> findDeptRatingsForUpdate(@Param("eventId") Long eventId, @Param("univId") Long univId,
+                                                 @Param("winDept") Long winDept, @Param("loseDept") Long loseDept);
 
     /**
-     * 대학 랭크 패배 업데이트
-     * @param loseUniv
+     * 대학 대항전 결과 반영 (승리/패배 팀 새 레이팅을 MERGE 한 번으로 기록, 없으면 생성)
      * @param eventId
+     * @param winUniv
+     * @param win
+     * @param loseUniv
+     * @param lose
      */
-    void updateUnivLoseRank(@Param("loseUniv") Long loseUniv, @Param("eventId") Long eventId);
+    void upsertUnivRating(@Param("eventId") Long eventId,
+                          @Param("winUniv") Long winUniv, @Param("win") Rating win,
+                          @Param("loseUniv") Long loseUniv, @Param("lose") Rating lose);
 
     /**
-     * 과 랭크 패배 업데이트
-     * @param loseDept
+     * 과 대항전 결과 반영 (승리/패배 팀 새 레이팅을 MERGE 한 번으로 기록, 없으면 생성)
      * @param eventId
+     * @param univId
+     * @param winDept
+     * @param win
+     * @param loseDept
+     * @param lose
      */
-    void updateDeptLoseRank(@Param("univId") Long univId , @Param("loseDept") Long loseDept, @Param("eventId") Long eventId);
+    void upsertDeptRating(@Param("eventId") Long eventId, @Param("univId") Long univId,
+                          @Param("winDept") Long winDept, @Param("win") Rating win,
+                          @Param("loseDept") Long loseDept, @Param("lose") Rating lose);
 
     /**
-     * 대학 랭크 INSERT
-     * @param univId
-     * @param eventId
-     * @param rankPoint
-     * @param winCount
-     * @param loseCount
+     * 레이팅 재계산용 종료된 대학 대항전 결과
+     * @return
      */
+    List<BattleResultRow> findCompletedUnivResults();
 
-    void insertUnivRank(@Param("univId") Long univId, @Param("eventId") Long eventId,
-                        @Param("rankPoint") Long rankPoint, @Param("winCount") Long winCount, @Param("loseCount") Long loseCount);
+    /**
+     * 레이팅 재계산용 종료된 과 대항전 결과
+     * @return
+     */
+    List<BattleResultRow> findCompletedDeptResults();
 
     /**
-     * 과 랭크 INSERT
-     * @param univId
-     * @param eventId
-     * @param rankPoint
-     * @param winCount
-     * @param loseCount
+     * 레이팅 재계산 결과 일괄 기록
+     * @param totals
      */
-    void insertDeptRank(@Param("univId") Long univId, @Param("deptId") Long deptId, @Param("eventId") Long eventId,
-                        @Param("rankPoint") Long rankPoint, @Param("winCount") Long winCount, @Param("loseCount") Long loseCount);
+    void mergeRankTotals(@Param("totals") List<RankTotal> totals);
 
-    int checkUnivExistence(@Param("univId") Long univId, @Param("eventId") Long eventId);
+    /**
+     * 레이팅이 없는 랭크 수 (레이팅 도입 전 행)
+     * @return
+     */
+    int countUnratedRanks();
 
-    int checkDeptExistence(@Param("univId") Long univId, @Param("deptId") Long deptId, @Param("eventId") Long eventId);
+    /**
+     * 레이팅이 없는 랭크를 엔진 초기값으로 채움
+     * @param initial
+     */
+    void resetUnratedRanks(@Param("initial") Rating initial);
 
     List<UnivRankRes> findUnivRanksByEventId(Long eventId);
     List<UnivRankRes> findAllUnivRanks();
@@ -72,5 +95,17 @@ public interface RankMapper {
     List<DeptRankRes> findDeptRanksByEventId(Long eventId, Long univId);
     List<DeptRankRes> findAllDeptRanks(Long univId);
 
+    /**
+     * 메모리 순위표 적재용 (대학) 전체 종목 랭크 행
+     * @return
+     */
+    List<UnivRankRes> findUnivRankRows();
+
+    /**
+     * 메모리 순위표 적재용 (과) 전체 종목 랭크 행
+     * @return
+     */
+    List<DeptRankRes> findDeptRankRows();
+
 
 }
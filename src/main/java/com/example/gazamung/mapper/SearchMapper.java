@@ -0,0 +1,54 @@
+package com.example.gazamung.mapper;
+
+import com.example.gazamung.search.dto.ClubSearchRow;
+import com.example.gazamung.search.dto.ImageRow;
+import com.example.gazamung.search.dto.PostSearchRow;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface SearchMapper {
+
+    /**
+     * 모임명 또는 종목으로 모임 검색 (최신순)
+     * @param pattern LIKE 용으로 이스케이프한 검색어
+     * @param eventIds 종목명이 검색어와 일치하는 종목 (없으면 빈 목록)
+     * @param limit
+     * @return
+     */
+    List<ClubSearchRow> searchClubs(@Param("pattern") String pattern,
+                                    @Param("eventIds") Collection<Long> eventIds,
+                                    @Param("limit") int limit);
+
+    /**
+     * 제목/본문 또는 종목으로 게시글 검색 (최신순, 공개 게시글만)
+     * @param query 본문 미리보기 위치 계산용 원래 검색어
+     * @param pattern LIKE 용으로 이스케이프한 검색어
+     * @param categoryId 제목/본문 검색의 카테고리 조건 (선택)
+     * @param eventIds 종목명이 검색어와 일치하는 종목 (없으면 빈 목록)
+     * @param before 첫 번째 일치 위치 앞으로 잘라 올 글자 수
+     * @param window 잘라 올 본문 길이
+     * @param limit
+     * @return
+     */
+    List<PostSearchRow> searchPosts(@Param("query") String query,
+                                    @Param("pattern") String pattern,
+                                    @Param("categoryId") Long categoryId,
+                                    @Param("eventIds") Collection<Long> eventIds,
+                                    @Param("visibleStatuses") Collection<String> visibleStatuses,
+                                    @Param("before") int before,
+                                    @Param("window") int window,
+                                    @Param("limit") int limit);
+
+    /**
+     * 첨부 대상별 첫 번째 이미지
+     * @param attachmentType
+     * @param mappedIds 최대 1000개 (Oracle IN 목록 제한)
+     * @return
+     */
+    List<ImageRow> findFirstImages(@Param("attachmentType") String attachmentType,
+                                   @Param("mappedIds") Collection<Long> mappedIds);
+}
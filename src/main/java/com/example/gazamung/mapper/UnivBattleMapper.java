@@ -1,10 +1,13 @@
 package com.example.gazamung.mapper;
 
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung.battle.BattleStatusCountRow;
 import com.example.gazamung.univBattle.entity.UnivBattle;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Update;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -12,5 +15,17 @@ import java.util.Map;
 public interface UnivBattleMapper {
 //    void updateRankPoints(@Param("winUniv") Long winUniv, @Param("loseUniv") Long loseUniv);
 
-    List<UnivBattle> findByUnivId(@Param("univId") Long univId);
+    List<UnivBattle> findHistory(@Param("univId") Long univId,
+                                 @Param("eventId") Long eventId,
+                                 @Param("lastId") Long lastId,
+                                 @Param("limit") int limit);
+
+    List<UnivBattle> findPage(@Param("matchStatus") MatchStatus matchStatus,
+                              @Param("eventId") Long eventId,
+                              @Param("region") String region,
+                              @Param("lastRegDt") LocalDateTime lastRegDt,
+                              @Param("lastId") Long lastId,
+                              @Param("limit") int limit);
+
+    List<BattleStatusCountRow> countByStatus();
 }
@@ -0,0 +1,23 @@
+package com.example.gazamung.mapper;
+
+import com.example.gazamung.univStats.dto.UnivResultRow;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface UnivStatMapper {
+
+    void upsertStats(@Param("eventId") Long eventId,
+                     @Param("winUniv") Long winUniv,
+                     @Param("loseUniv") Long loseUniv,
+                     @Param("matchDt") LocalDateTime matchDt);
+
+    void upsertHeadToHead(@Param("winUniv") Long winUniv,
+                          @Param("loseUniv") Long loseUniv,
+                          @Param("matchDt") LocalDateTime matchDt);
+
+    List<UnivResultRow> findCompletedResults();
+}
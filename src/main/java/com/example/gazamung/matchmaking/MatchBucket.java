@@ -0,0 +1,83 @@
+package com.example.gazamung.matchmaking;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * (종목, 팀 인원) 단위 매칭 대기열
+ * 주최/참가 대표를 각각 대기 순서로 정렬해 두고, ticketId 인덱스로 취소를 O(log n) 에 처리한다.
+ * 모든 메서드는 버킷 단위로 동기화된다.
+ */
+public class MatchBucket {
+
+    private static final Comparator<MatchTicket> QUEUE_ORDER =
+            Comparator.comparing(MatchTicket::getEnqueuedAt).thenComparingLong(MatchTicket::getTicketId);
+
+    private final NavigableSet<MatchTicket> hosts = new TreeSet<>(QUEUE_ORDER);
+    private final NavigableSet<MatchTicket> guests = new TreeSet<>(QUEUE_ORDER);
+    private final Map<Long, MatchTicket> index = new HashMap<>();
+
+    public synchronized void add(MatchTicket ticket) {
+        queueOf(ticket.getRole()).add(ticket);
+        index.put(ticket.getTicketId(), ticket);
+    }
+
+    public synchronized boolean remove(long ticketId) {
+        MatchTicket ticket = index.remove(ticketId);
+        if (ticket == null) return false;
+        queueOf(ticket.getRole()).remove(ticket);
+        return true;
+    }
+
+    /**
+     * 대기열에 있는 ticket 의 상대를 오래 기다린 순서로 최대 scanLimit 건 훑어 찾고, 찾으면 둘 다 대기열에서 뺀다.
+     */
+    public synchronized MatchTicket pollPartner(MatchTicket ticket, int scanLimit) {
+        if (!index.containsKey(ticket.getTicketId())) return null;
+
+        NavigableSet<MatchTicket> opposite = queueOf(ticket.getRole() == MatchRole.HOST ? MatchRole.GUEST : MatchRole.HOST);
+        int scanned = 0;
+        for (MatchTicket candidate : opposite) {
+            if (scanned++ >= scanLimit) break;
+            if (ticket.compatibleWith(candidate)) {
+                opposite.remove(candidate);
+                index.remove(candidate.getTicketId());
+                queueOf(ticket.getRole()).remove(ticket);
+                index.remove(ticket.getTicketId());
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 희망 일시가 지난 항목 제거
+     */
+    public synchronized List<MatchTicket> removeExpired(LocalDateTime now) {
+        List<MatchTicket> expired = new ArrayList<>();
+        for (MatchTicket ticket : index.values()) {
+            if (ticket.getWindowEnd().isBefore(now)) {
+                expired.add(ticket);
+            }
+        }
+        for (MatchTicket ticket : expired) {
+            remove(ticket.getTicketId());
+        }
+        return expired;
+    }
+
+    /**
+     * 대기 순서대로 참가 대표 목록 (주기적 재매칭용 사본)
+     */
+    public synchronized List<MatchTicket> guests() {
+        return new ArrayList<>(guests);
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    private NavigableSet<MatchTicket> queueOf(MatchRole role) {
+        return role == MatchRole.HOST ? hosts : guests;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.gazamung.matchmaking;
+
+public enum MatchRole {
+
+    HOST,       // 주최팀 대표
+    GUEST;      // 참가팀 대표
+}
@@ -0,0 +1,63 @@
+package com.example.gazamung.matchmaking;
+
+import com.example.gazamung.nearby.Coordinates;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매칭 대기열 항목
+ * 주최 대표는 기존 모집중 대항전(univBattleId)을 걸거나, 대항전 정보(content, place, cost)를 함께 넘겨 매칭 시 생성한다.
+ */
+@Getter
+@Builder
+public class MatchTicket {
+
+    private final long ticketId;
+    private final MatchRole role;
+    private final Long memberIdx;
+    private final Long univId;
+
+    private final Long eventId;
+    private final int teamPtcLimit;
+    private final LocalDateTime windowStart;    // 희망 경기 일시 (시작)
+    private final LocalDateTime windowEnd;      // 희망 경기 일시 (끝)
+    private final Double lat;
+    private final Double lng;
+    private final double maxDistance;           // km
+
+    // 주최 대표 전용
+    private final Long univBattleId;            // 기존 대항전에 참가팀을 붙이는 경우
+    private final String battleDate;
+    private final String place;
+    private final String content;
+    private final String cost;
+
+    private final LocalDateTime enqueuedAt;
+
+    @Setter
+    private volatile MatchTicketStatus status;
+    @Setter
+    private volatile Long matchedBattleId;
+    @Setter
+    private volatile LocalDateTime closedAt;
+
+    /**
+     * 같은 버킷(종목, 팀 인원)의 상대 항목과 매칭 가능한지
+     */
+    public boolean compatibleWith(MatchTicket other) {
+        if (role == other.role) return false;
+        // 같은 대학끼리는 매칭하지 않음 (GuestLeaderAttend 와 동일)
+        if (univId != null && univId.equals(other.univId)) return false;
+        if (memberIdx.equals(other.memberIdx)) return false;
+        if (windowStart.isAfter(other.windowEnd) || other.windowStart.isAfter(windowEnd)) return false;
+
+        if (lat != null && lng != null && other.lat != null && other.lng != null) {
+            double distance = Coordinates.distanceKm(lat, lng, other.lat, other.lng);
+            return distance <= Math.min(maxDistance, other.maxDistance);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.gazamung.matchmaking;
+
+public enum MatchTicketStatus {
+
+    QUEUED,         // 매칭 대기중
+    MATCHED,        // 매칭 완료 (univBattleId 확정)
+    CANCELLED,      // 취소
+    EXPIRED,        // 희망 일시 경과
+    FAILED;         // 대항전 생성/참가 실패
+}
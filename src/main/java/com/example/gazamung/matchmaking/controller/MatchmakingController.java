@@ -0,0 +1,89 @@
+package com.example.gazamung.matchmaking.controller;
+
+import com.example.gazamung._enum.ApiResponseCode;
+import com.example.gazamung.dto.ResultDTO;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.matchmaking.dto.MatchEnqueueReq;
+import com.example.gazamung.matchmaking.dto.MatchTicketRes;
+import com.example.gazamung.matchmaking.service.MatchmakingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/matchmaking")
+@CrossOrigin(origins = "*", exposedHeaders = {"Content-Disposition"}, allowedHeaders = "*")
+@Tag(name = "대항전 자동 매칭 API", description = "")
+public class MatchmakingController {
+
+    private final MatchmakingService matchmakingService;
+
+    @Operation(summary = "매칭 대기 등록", description = "" +
+            "\n- role: HOST (주최 대표), GUEST (참가 대표)" +
+            "\n- HOST 는 univBattleId 로 기존 모집중 대항전을 걸거나, 대항전 정보를 함께 보내 매칭 시 생성" +
+            "\n- 같은 종목/팀 인원, 희망 일시가 겹치고 거리 조건을 만족하는 다른 대학 대표와 매칭" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- NOT_FOUND_USER: 존재하지 않는 회원입니다." +
+            "\n- NOT_FOUND_BATTLE: 존재하지 않는 대항전" +
+            "\n- INVALID_MATCH_WINDOW: 매칭 희망 일시가 올바르지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @PostMapping("/enqueue")
+    public ResultDTO enqueue(@RequestBody MatchEnqueueReq request) {
+        try {
+            MatchTicketRes ticket = matchmakingService.enqueue(request);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "매칭 대기 등록 성공", ticket);
+        } catch (CustomException e) {
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+
+    @Operation(summary = "매칭 대기 취소", description = "PARAMETER: ticketId, memberIdx " +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- NOT_FOUND_TICKET: 매칭 대기 정보가 존재하지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @DeleteMapping("/cancel")
+    public ResultDTO cancel(@RequestParam long ticketId, @RequestParam Long memberIdx) {
+        try {
+            boolean result = matchmakingService.cancel(ticketId, memberIdx);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "매칭 대기 취소 성공", result);
+        } catch (CustomException e) {
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+
+    @Operation(summary = "매칭 대기 상태 조회", description = "PARAMETER: ticketId " +
+            "\n- status: QUEUED, MATCHED (univBattleId 확정), CANCELLED, EXPIRED, FAILED" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- NOT_FOUND_TICKET: 매칭 대기 정보가 존재하지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/ticket")
+    public ResultDTO ticket(@RequestParam long ticketId) {
+        try {
+            MatchTicketRes ticket = matchmakingService.ticket(ticketId);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "매칭 대기 상태 조회 성공", ticket);
+        } catch (CustomException e) {
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.gazamung.matchmaking.dto;
+
+import com.example.gazamung.matchmaking.MatchRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MatchEnqueueReq {
+
+    private Long memberIdx;
+    private MatchRole role;             // HOST: 주최 대표, GUEST: 참가 대표
+
+    private Long univBattleId;          // HOST 전용, 기존 모집중 대항전에 참가팀을 붙일 때
+    private Long eventId;               // 종목ID (univBattleId 가 있으면 무시)
+    private int teamPtcLimit;           // 팀당 제한 인원 (univBattleId 가 있으면 무시)
+
+    private LocalDateTime windowStart;  // 희망 경기 일시 (시작)
+    private LocalDateTime windowEnd;    // 희망 경기 일시 (끝)
+
+    private Double lat;                 // 위도
+    private Double lng;                 // 경도
+    private Double maxDistance;         // 최대 거리 (km, 기본 20)
+
+    // HOST 가 univBattleId 없이 등록하면 매칭 시 아래 정보로 대항전 생성
+    private String battleDate;          // 일정 (없으면 희망 일시 기준)
+    private String place;               // 위치
+    private String content;             // 내용
+    private String cost;                // 비용
+
+}
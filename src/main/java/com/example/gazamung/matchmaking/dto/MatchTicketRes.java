@@ -0,0 +1,28 @@
+package com.example.gazamung.matchmaking.dto;
+
+import com.example.gazamung.matchmaking.MatchRole;
+import com.example.gazamung.matchmaking.MatchTicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MatchTicketRes {
+
+    private Long ticketId;
+    private MatchRole role;
+    private MatchTicketStatus status;
+    private Long eventId;
+    private int teamPtcLimit;
+    private LocalDateTime windowStart;
+    private LocalDateTime windowEnd;
+    private Long univBattleId;          // 매칭 완료 시 대항전 ID
+    private LocalDateTime enqueuedAt;
+
+}
@@ -0,0 +1,31 @@
+package com.example.gazamung.matchmaking.service;
+
+import com.example.gazamung.matchmaking.dto.MatchEnqueueReq;
+import com.example.gazamung.matchmaking.dto.MatchTicketRes;
+import org.springframework.stereotype.Service;
+
+@Service
+public interface MatchmakingService {
+
+    /**
+     * 매칭 대기열 등록 (이미 대기중이면 기존 항목은 취소), 즉시 매칭되면 MATCHED 로 반환
+     * @param request
+     * @return
+     */
+    MatchTicketRes enqueue(MatchEnqueueReq request);
+
+    /**
+     * 매칭 대기 취소
+     * @param ticketId
+     * @param memberIdx
+     * @return
+     */
+    boolean cancel(long ticketId, Long memberIdx);
+
+    /**
+     * 매칭 대기 상태 조회
+     * @param ticketId
+     * @return
+     */
+    MatchTicketRes ticket(long ticketId);
+}
@@ -0,0 +1,328 @@
+package com.example.gazamung.matchmaking.service;
+
+import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung._enum.MsgType;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.matchmaking.MatchBucket;
+import com.example.gazamung.matchmaking.MatchRole;
+import com.example.gazamung.matchmaking.MatchTicket;
+import com.example.gazamung.matchmaking.MatchTicketStatus;
+import com.example.gazamung.matchmaking.dto.MatchEnqueueReq;
+import com.example.gazamung.matchmaking.dto.MatchTicketRes;
+import com.example.gazamung.member.entity.Member;
+import com.example.gazamung.member.repository.MemberRepository;
+import com.example.gazamung.notification.dto.NotifyCreateReq;
+import com.example.gazamung.notification.service.NotificationService;
+import com.example.gazamung.univBattle.dto.GuestLeaderAttendRequest;
+import com.example.gazamung.univBattle.dto.UnivBattleCreateRequest;
+import com.example.gazamung.univBattle.entity.UnivBattle;
+import com.example.gazamung.univBattle.repository.UnivBattleRepository;
+import com.example.gazamung.univBattle.service.UnivBattleService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대학 대항전 자동 매칭
+ * (종목, 팀 인원) 버킷마다 주최/참가 대표 대기열을 두고, 등록 시점에 반대편 대기열을 오래 기다린 순서로 훑어
+ * 같은 대학이 아니고 희망 일시가 겹치며 거리 조건을 만족하는 첫 상대와 매칭한다.
+ * 매칭이 정해지면 대항전 생성(또는 기존 대항전 참가)과 채팅방 참가를 한 트랜잭션으로 처리한다.
+ */
+@Service
+@Slf4j
+public class MatchmakingServiceImpl implements MatchmakingService {
+
+    private static final DateTimeFormatter BATTLE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final double DEFAULT_MAX_DISTANCE_KM = 20;
+
+    private final UnivBattleService univBattleService;
+    private final UnivBattleRepository univBattleRepository;
+    private final MemberRepository memberRepository;
+    private final NotificationService notificationService;
+    private final int scanLimit;
+    private final Duration closedRetention;
+
+    private final Map<String, MatchBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<Long, MatchTicket> tickets = new ConcurrentHashMap<>();
+    private final Map<Long, Long> memberTickets = new ConcurrentHashMap<>();     // memberIdx → 대기중 ticketId
+    private final AtomicLong ticketSeq = new AtomicLong();
+
+    public MatchmakingServiceImpl(UnivBattleService univBattleService,
+                                  UnivBattleRepository univBattleRepository,
+                                  MemberRepository memberRepository,
+                                  NotificationService notificationService,
+                                  @Value("${matchmaking.scan-limit:500}") int scanLimit,
+                                  @Value("${matchmaking.closed-retention-minutes:30}") long closedRetentionMinutes) {
+        this.univBattleService = univBattleService;
+        this.univBattleRepository = univBattleRepository;
+        this.memberRepository = memberRepository;
+        this.notificationService = notificationService;
+        this.scanLimit = scanLimit;
+        this.closedRetention = Duration.ofMinutes(closedRetentionMinutes);
+    }
+
+    @Override
+    public MatchTicketRes enqueue(MatchEnqueueReq request) {
+
+        Member member = memberRepository.findById(request.getMemberIdx())
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
+
+        if (request.getWindowStart() == null || request.getWindowEnd() == null
+                || request.getWindowStart().isAfter(request.getWindowEnd())
+                || request.getWindowEnd().isBefore(LocalDateTime.now())) {
+            throw new CustomException(CustomExceptionCode.INVALID_MATCH_WINDOW);
+        }
+
+        MatchRole role = request.getRole() != null ? request.getRole() : MatchRole.GUEST;
+        Long eventId = request.getEventId();
+        int teamPtcLimit = request.getTeamPtcLimit();
+
+        // 기존 대항전에 참가팀을 붙이는 경우 종목/인원은 대항전 기준
+        if (role == MatchRole.HOST && request.getUnivBattleId() != null) {
+            UnivBattle univBattle = univBattleRepository.findById(request.getUnivBattleId())
+                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_BATTLE));
+            if (!Objects.equals(univBattle.getHostLeader(), member.getMemberIdx())) {
+                throw new CustomException(CustomExceptionCode.UNAUTHORIZED_USER);
+            }
+            if (univBattle.getGuestLeader() != null || univBattle.getMatchStatus() != MatchStatus.RECRUIT) {
+                throw new CustomException(CustomExceptionCode.REPRESENTATIVE_ALREADY_EXISTS);
+            }
+            eventId = univBattle.getEventId();
+            teamPtcLimit = univBattle.getTeamPtcLimit();
+        }
+
+        if (eventId == null || teamPtcLimit <= 0) {
+            throw new CustomException(CustomExceptionCode.NOT_FOUND_EVENT);
+        }
+
+        MatchTicket ticket = MatchTicket.builder()
+                .ticketId(ticketSeq.incrementAndGet())
+                .role(role)
+                .memberIdx(member.getMemberIdx())
+                .univId(member.getUnivId())
+                .eventId(eventId)
+                .teamPtcLimit(teamPtcLimit)
+                .windowStart(request.getWindowStart())
+                .windowEnd(request.getWindowEnd())
+                .lat(request.getLat())
+                .lng(request.getLng())
+                .maxDistance(request.getMaxDistance() != null ? request.getMaxDistance() : DEFAULT_MAX_DISTANCE_KM)
+                .univBattleId(role == MatchRole.HOST ? request.getUnivBattleId() : null)
+                .battleDate(request.getBattleDate())
+                .place(request.getPlace())
+                .content(request.getContent())
+                .cost(request.getCost())
+                .enqueuedAt(LocalDateTime.now())
+                .status(MatchTicketStatus.QUEUED)
+                .build();
+
+        // 회원당 대기 항목은 하나
+        Long previous = memberTickets.put(member.getMemberIdx(), ticket.getTicketId());
+        if (previous != null) {
+            close(previous, MatchTicketStatus.CANCELLED);
+        }
+
+        tickets.put(ticket.getTicketId(), ticket);
+        bucketOf(ticket).add(ticket);
+        tryMatch(ticket);
+
+        return toRes(ticket);
+    }
+
+    @Override
+    public boolean cancel(long ticketId, Long memberIdx) {
+        MatchTicket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new CustomException(CustomExceptionCode.NOT_FOUND_TICKET);
+        }
+        if (!Objects.equals(ticket.getMemberIdx(), memberIdx)) {
+            throw new CustomException(CustomExceptionCode.UNAUTHORIZED_USER);
+        }
+        return close(ticketId, MatchTicketStatus.CANCELLED);
+    }
+
+    @Override
+    public MatchTicketRes ticket(long ticketId) {
+        MatchTicket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new CustomException(CustomExceptionCode.NOT_FOUND_TICKET);
+        }
+        return toRes(ticket);
+    }
+
+    /**
+     * 만료 항목 정리 및 재매칭 (등록 시점 탐색 한도에 걸려 놓친 조합 보완)
+     */
+    @Scheduled(fixedDelayString = "${matchmaking.sweep-ms:5000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (MatchBucket bucket : buckets.values()) {
+            for (MatchTicket expired : bucket.removeExpired(now)) {
+                finish(expired, MatchTicketStatus.EXPIRED, null);
+            }
+            for (MatchTicket guest : bucket.guests()) {
+                tryMatch(guest);
+            }
+        }
+
+        tickets.values().removeIf(ticket -> ticket.getClosedAt() != null
+                && ticket.getClosedAt().plus(closedRetention).isBefore(now));
+    }
+
+    private void tryMatch(MatchTicket ticket) {
+        MatchTicket partner = bucketOf(ticket).pollPartner(ticket, scanLimit);
+        if (partner == null) return;
+
+        MatchTicket host = ticket.getRole() == MatchRole.HOST ? ticket : partner;
+        MatchTicket guest = ticket.getRole() == MatchRole.HOST ? partner : ticket;
+
+        long univBattleId;
+        try {
+            if (host.getUnivBattleId() != null) {
+                univBattleService.GuestLeaderAttend(GuestLeaderAttendRequest.builder()
+                        .univBattleId(host.getUnivBattleId())
+                        .guestLeader(guest.getMemberIdx())
+                        .build());
+                univBattleId = host.getUnivBattleId();
+            } else {
+                univBattleId = univBattleService.createMatched(toCreateRequest(host, guest), guest.getMemberIdx());
+            }
+        } catch (Exception e) {
+            log.warn("매칭 처리 실패 host ticket={}, guest ticket={}: {}", host.getTicketId(), guest.getTicketId(), e.getMessage());
+            MatchTicket failed = failedSide(host, guest);
+            if (failed == null) {
+                // 원인을 특정할 수 없으면 (DB 오류 등) 둘 다 실패 처리
+                finish(host, MatchTicketStatus.FAILED, null);
+                finish(guest, MatchTicketStatus.FAILED, null);
+                return;
+            }
+            finish(failed, MatchTicketStatus.FAILED, null);
+            requeue(failed == host ? guest : host);
+            return;
+        }
+
+        finish(host, MatchTicketStatus.MATCHED, univBattleId);
+        finish(guest, MatchTicketStatus.MATCHED, univBattleId);
+        notifyMatched(host, guest, univBattleId);
+    }
+
+    /**
+     * 매칭 처리 실패의 원인이 된 쪽 (특정할 수 없으면 null)
+     * 주최 쪽: 주최 회원이 없거나, 붙이려던 대항전이 없어졌거나 이미 모집이 끝난 경우
+     * 참가 쪽: 참가 회원이 없거나, 대학 정보가 없거나 주최와 같은 대학인 경우
+     */
+    private MatchTicket failedSide(MatchTicket host, MatchTicket guest) {
+        try {
+            if (host.getUnivBattleId() != null) {
+                UnivBattle univBattle = univBattleRepository.findById(host.getUnivBattleId()).orElse(null);
+                if (univBattle == null || univBattle.getGuestLeader() != null || univBattle.getMatchStatus() != MatchStatus.RECRUIT) {
+                    return host;
+                }
+            }
+            if (!memberRepository.existsById(host.getMemberIdx())) {
+                return host;
+            }
+            Member guestMember = memberRepository.findById(guest.getMemberIdx()).orElse(null);
+            if (guestMember == null || guestMember.getUnivId() == null
+                    || Objects.equals(guestMember.getUnivId(), host.getUnivId())) {
+                return guest;
+            }
+        } catch (Exception e) {
+            log.warn("매칭 실패 원인 확인 실패: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    // 실패 원인이 아닌 쪽은 원래 대기 순서로 다시 대기 (그 사이 새로 등록했으면 이전 항목은 취소)
+    private void requeue(MatchTicket ticket) {
+        if (!Objects.equals(memberTickets.get(ticket.getMemberIdx()), ticket.getTicketId())) {
+            finish(ticket, MatchTicketStatus.CANCELLED, null);
+            return;
+        }
+        bucketOf(ticket).add(ticket);
+    }
+
+    private UnivBattleCreateRequest toCreateRequest(MatchTicket host, MatchTicket guest) {
+        // 두 희망 일시가 겹치는 구간의 시작을 기본 일정으로 사용
+        LocalDateTime start = host.getWindowStart().isAfter(guest.getWindowStart()) ? host.getWindowStart() : guest.getWindowStart();
+
+        return UnivBattleCreateRequest.builder()
+                .hostLeader(host.getMemberIdx())
+                .eventId(host.getEventId())
+                .teamPtcLimit(host.getTeamPtcLimit())
+                .battleDate(host.getBattleDate() != null ? host.getBattleDate() : start.format(BATTLE_DATE_FORMAT))
+                .lat(host.getLat() != null ? String.valueOf(host.getLat()) : null)
+                .lng(host.getLng() != null ? String.valueOf(host.getLng()) : null)
+                .place(host.getPlace())
+                .content(host.getContent())
+                .cost(host.getCost())
+                .build();
+    }
+
+    // 주최/참가 대표 모두에게 알림 (알림 실패는 매칭 결과에 영향 없음)
+    private void notifyMatched(MatchTicket host, MatchTicket guest, long univBattleId) {
+        try {
+            notificationService.sendNotifyAll(List.of(
+                    matchedNotify(host, univBattleId, "자동 매칭으로 참가팀이 정해졌습니다."),
+                    matchedNotify(guest, univBattleId, "자동 매칭으로 대항전에 참가했습니다.")));
+        } catch (Exception e) {
+            log.warn("매칭 알림 실패 univBattleId={}: {}", univBattleId, e.getMessage());
+        }
+    }
+
+    private NotifyCreateReq matchedNotify(MatchTicket ticket, long univBattleId, String content) {
+        return NotifyCreateReq.builder()
+                .type(MsgType.UNIV_BATTLE)
+                .isRead(false)
+                .receiver(ticket.getMemberIdx())
+                .title("대항전 매칭이 완료되었습니다.")
+                .content(content)
+                .relatedItemId(univBattleId)
+                .build();
+    }
+
+    private boolean close(long ticketId, MatchTicketStatus status) {
+        MatchTicket ticket = tickets.get(ticketId);
+        if (ticket == null || ticket.getStatus() != MatchTicketStatus.QUEUED) return false;
+        if (!bucketOf(ticket).remove(ticketId)) return false;
+        finish(ticket, status, null);
+        return true;
+    }
+
+    private void finish(MatchTicket ticket, MatchTicketStatus status, Long univBattleId) {
+        ticket.setStatus(status);
+        ticket.setMatchedBattleId(univBattleId);
+        ticket.setClosedAt(LocalDateTime.now());
+        memberTickets.remove(ticket.getMemberIdx(), ticket.getTicketId());
+    }
+
+    private MatchBucket bucketOf(MatchTicket ticket) {
+        return buckets.computeIfAbsent(ticket.getEventId() + ":" + ticket.getTeamPtcLimit(), k -> new MatchBucket());
+    }
+
+    private MatchTicketRes toRes(MatchTicket ticket) {
+        return MatchTicketRes.builder()
+                .ticketId(ticket.getTicketId())
+                .role(ticket.getRole())
+                .status(ticket.getStatus())
+                .eventId(ticket.getEventId())
+                .teamPtcLimit(ticket.getTeamPtcLimit())
+                .windowStart(ticket.getWindowStart())
+                .windowEnd(ticket.getWindowEnd())
+                .univBattleId(ticket.getMatchedBattleId())
+                .enqueuedAt(ticket.getEnqueuedAt())
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -28,5 +29,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByPhone(String phone);
 
     Optional<Object> findByNickname(String nickname);
-}
 
+    // 자동완성 인기도 (대학/학과별 회원 수)
+    @Query("SELECT m.univId, COUNT(m) FROM Member m WHERE m.univId IS NOT NULL GROUP BY m.univId")
+    List<Object[]> countByUniv();
+
+    @Query("SELECT m.deptId, COUNT(m) FROM Member m WHERE m.deptId IS NOT NULL GROUP BY m.deptId")
+    List<Object[]> countByDept();
+}
@@ -0,0 +1,27 @@
+package com.example.gazamung.member.service;
+
+import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.member.entity.Member;
+import com.example.gazamung.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 전용 기능의 관리자 여부 확인 (role 1 = 관리자)
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminChecker {
+
+    private final MemberRepository memberRepository;
+
+    public void checkAdmin(Long memberIdx) {
+        Member member = memberRepository.findByMemberIdx(memberIdx)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
+
+        if (member.getRole() == null || member.getRole() != 1) {
+            throw new CustomException(CustomExceptionCode.UNAUTHORIZED_USER);
+        }
+    }
+}
@@ -8,7 +8,6 @@ import com.example.gazamung._enum.EmailAuthStatus;
 import com.example.gazamung._enum.UserStatus;
 import com.example.gazamung.auth.JwtTokenProvider;
 import com.example.gazamung.department.entity.Department;
-import com.example.gazamung.department.repository.DepartmentRepository;
 import com.example.gazamung.dto.TokenDto;
 import com.example.gazamung.emailAuth.entity.EmailAuth;
 import com.example.gazamung.emailAuth.repository.EmailAuthRepository;
@@ -20,8 +19,8 @@ import com.example.gazamung.member.dto.ProfileDto;
 import com.example.gazamung.member.dto.UpdateProfileDto;
 import com.example.gazamung.member.entity.Member;
 import com.example.gazamung.member.repository.MemberRepository;
+import com.example.gazamung.reference.service.ReferenceRegistry;
 import com.example.gazamung.university.entity.University;
-import com.example.gazamung.university.repository.UniversityRepository;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -60,9 +59,8 @@ public class MemberServiceImpl implements MemberService {
 
     private final UploadService uploadService;
 
-    private final UniversityRepository universityRepository;
+    private final ReferenceRegistry referenceRegistry;
 
-    private final DepartmentRepository departmentRepository;
     private final MemberMapper memberMapper;
     /**
      * 1. 로그인 요청으로 들어온 ID, PWD 기반으로 Authentication 객체 생성
@@ -185,7 +183,7 @@ public class MemberServiceImpl implements MemberService {
 //            emailAuthRepository.findByEmailAndEmailAuthStatus(email,EmailAuthStatus.VERIFIED)
 //                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_COMPLETE_AUTH));
 
-            University university = universityRepository.findById(dto.getUnivId())
+            University university = referenceRegistry.university(dto.getUnivId())
                     .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_UNIVERSITY));
 
             Member member = Member.builder()
@@ -544,14 +542,14 @@ public class MemberServiceImpl implements MemberService {
 
                     List<UploadImage> profileImg = uploadService.getImageByAttachmentType(AttachmentType.PROFILE, memberIdx);
 
-                    University university = universityRepository.findById(member.getUnivId())
+                    University university = referenceRegistry.university(member.getUnivId())
                             .orElseThrow(()-> new CustomException(CustomExceptionCode.NOT_FOUND_UNIVERSITY));
                     ProfileDto profileDto = new ProfileDto();
                     profileDto.setMemberIdx(memberIdx);
                     profileDto.setUserName(member.getUsername());
                     profileDto.setNickname(member.getNickname());
                     profileDto.setSchoolName(university.getSchoolName());
-                    profileDto.setDeptName(departmentRepository.findById(member.getDeptId())
+                    profileDto.setDeptName(referenceRegistry.department(member.getDeptId())
                             .orElseThrow(()-> new CustomException(CustomExceptionCode.NOT_FOUND_DEPARTMENT)).getDeptName());
                     profileDto.setPhone(member.getPhone());
                     profileDto.setOneLineIntro(member.getOneLineIntro());
@@ -0,0 +1,76 @@
+package com.example.gazamung.moderation;
+
+import com.example.gazamung.moderation.dto.ModerationEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검수 결과를 작성자 WebSocket 세션으로 전송 (회원별 여러 세션 가능)
+ */
+@Component
+@Slf4j
+public class ModerationEventBroker implements ModerationListener {
+
+    private final ObjectMapper objectMapper;
+    private final int sendTimeLimitMs;
+    private final int bufferSizeLimit;
+
+    private final Map<Long, Map<String, WebSocketSession>> sessions = new ConcurrentHashMap<>();
+
+    public ModerationEventBroker(ObjectMapper objectMapper,
+                                 @Value("${moderation.send-time-limit-ms:5000}") int sendTimeLimitMs,
+                                 @Value("${moderation.buffer-size-limit:65536}") int bufferSizeLimit) {
+        this.objectMapper = objectMapper;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.bufferSizeLimit = bufferSizeLimit;
+    }
+
+    public void subscribe(Long memberIdx, WebSocketSession session) {
+        sessions.computeIfAbsent(memberIdx, key -> new ConcurrentHashMap<>())
+                .put(session.getId(), new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, bufferSizeLimit));
+    }
+
+    public void unsubscribe(Long memberIdx, WebSocketSession session) {
+        sessions.computeIfPresent(memberIdx, (key, memberSessions) -> {
+            memberSessions.remove(session.getId());
+            return memberSessions.isEmpty() ? null : memberSessions;
+        });
+    }
+
+    @Override
+    public void moderated(ModerationEvent event) {
+        Map<String, WebSocketSession> memberSessions = sessions.get(event.getMemberIdx());
+        if (memberSessions == null || memberSessions.isEmpty()) return;
+
+        TextMessage message;
+        try {
+            message = new TextMessage(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            log.error("검수 결과 직렬화 실패", e);
+            return;
+        }
+
+        for (WebSocketSession session : memberSessions.values()) {
+            try {
+                session.sendMessage(message);
+            } catch (Exception e) {
+                // 느리거나 끊긴 세션은 제거
+                log.warn("검수 결과 전송 실패, 세션 제거 ({})", e.getMessage());
+                unsubscribe(event.getMemberIdx(), session);
+            }
+        }
+    }
+
+    public int subscribers() {
+        return sessions.size();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.gazamung.moderation;
+
+import com.example.gazamung.moderation.dto.ModerationEvent;
+
+/**
+ * 검수 판정이 커밋된 뒤 호출 (ModerationQueue 에 빈으로 등록)
+ */
+public interface ModerationListener {
+
+    void moderated(ModerationEvent event);
+}
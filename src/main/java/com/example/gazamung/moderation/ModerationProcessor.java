@@ -0,0 +1,166 @@
+package com.example.gazamung.moderation;
+
+import com.example.gazamung._enum.ModerationStatus;
+import com.example.gazamung.moderation.dto.ModerationEvent;
+import com.example.gazamung.profanity.ProfanityFilter;
+import com.example.gazamung.reply.entity.Reply;
+import com.example.gazamung.reply.repository.ReplyRepository;
+import com.example.gazamung.univBoard.entity.UnivBoard;
+import com.example.gazamung.univBoard.repository.UnivBoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 검수 배치 처리
+ * 1. 대기 중인 댓글/게시글을 한 번에 조회
+ * 2. 트랜잭션 밖에서 비속어 분류 (모델 호출 동안 DB 커넥션을 잡지 않음)
+ * 3. 한 트랜잭션에서 판정 반영, 분류 중 수정/삭제된 항목은 건너뜀 (수정 시 다시 등록됨)
+ *    반영은 검수 대기 상태 조건부 UPDATE 로 하여 같은 항목이 두 번 처리되어도 한 번만 반영된다.
+ * - 댓글: 정상이면 게시, 비속어면 안내 문구로 가림 후 게시 (게시글 댓글 수 증가)
+ * - 게시글: 제목이 비속어면 거부, 내용만 비속어면 내용을 가림 후 게시
+ */
+@Component
+@Slf4j
+public class ModerationProcessor {
+
+    private final ReplyRepository replyRepository;
+    private final UnivBoardRepository univBoardRepository;
+    private final ProfanityFilter profanityFilter;
+    private final TransactionTemplate transactionTemplate;
+
+    public ModerationProcessor(ReplyRepository replyRepository,
+                               UnivBoardRepository univBoardRepository,
+                               ProfanityFilter profanityFilter,
+                               PlatformTransactionManager transactionManager) {
+        this.replyRepository = replyRepository;
+        this.univBoardRepository = univBoardRepository;
+        this.profanityFilter = profanityFilter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 분류 당시의 제목/내용과 결과
+     */
+    private record Verdict(String title, String content, String titleLabel, String contentLabel) {
+    }
+
+    /**
+     * @return 판정된 항목의 결과 (건너뛴 항목 제외)
+     */
+    public List<ModerationEvent> process(List<ModerationTask> tasks) {
+        Set<Long> replyIds = new HashSet<>();
+        Set<Long> postIds = new HashSet<>();
+        for (ModerationTask task : tasks) {
+            (task.target() == ModerationTarget.REPLY ? replyIds : postIds).add(task.id());
+        }
+
+        Map<Long, Verdict> replyVerdicts = new HashMap<>();
+        if (!replyIds.isEmpty()) {
+            for (Reply reply : replyRepository.findAllById(replyIds)) {
+                if (reply.getModerationStatus() != ModerationStatus.PENDING) continue;
+                replyVerdicts.put(reply.getReplyId(),
+                        new Verdict(null, reply.getContent(), "", profanityFilter.classify(reply.getContent())));
+            }
+        }
+
+        Map<Long, Verdict> postVerdicts = new HashMap<>();
+        if (!postIds.isEmpty()) {
+            for (UnivBoard post : univBoardRepository.findAllById(postIds)) {
+                if (post.getModerationStatus() != ModerationStatus.PENDING) continue;
+                String titleLabel = profanityFilter.classify(post.getTitle());
+                // 제목에서 걸리면 거부되므로 내용은 검사하지 않음
+                String contentLabel = titleLabel.isEmpty() ? profanityFilter.classify(post.getContent()) : "";
+                postVerdicts.put(post.getUnivBoardId(),
+                        new Verdict(post.getTitle(), post.getContent(), titleLabel, contentLabel));
+            }
+        }
+
+        if (replyVerdicts.isEmpty() && postVerdicts.isEmpty()) {
+            return List.of();
+        }
+
+        return transactionTemplate.execute(status -> {
+            List<ModerationEvent> events = new ArrayList<>();
+            applyReplies(replyVerdicts, events);
+            applyPosts(postVerdicts, events);
+            return events;
+        });
+    }
+
+    private void applyReplies(Map<Long, Verdict> verdicts, List<ModerationEvent> events) {
+        if (verdicts.isEmpty()) return;
+
+        Map<Long, Long> replyCounts = new HashMap<>();
+        for (Reply reply : replyRepository.findAllById(verdicts.keySet())) {
+            Verdict verdict = verdicts.get(reply.getReplyId());
+            if (reply.getModerationStatus() != ModerationStatus.PENDING
+                    || !Objects.equals(reply.getContent(), verdict.content())) continue;
+
+            String label = verdict.contentLabel();
+            ModerationStatus status = label.isEmpty() ? ModerationStatus.PUBLISHED : ModerationStatus.REDACTED;
+            String content = label.isEmpty() ? reply.getContent() : profanityFilter.message(label);
+
+            // 검수 대기 상태일 때만 반영 (같은 항목을 다른 작업이 먼저 반영했으면 건너뜀)
+            if (replyRepository.moderate(reply.getReplyId(), status, content, ModerationStatus.PENDING) == 0) continue;
+            replyCounts.merge(reply.getUnivBoardId(), 1L, Long::sum);
+
+            events.add(ModerationEvent.builder()
+                    .target(ModerationTarget.REPLY)
+                    .id(reply.getReplyId())
+                    .univBoardId(reply.getUnivBoardId())
+                    .memberIdx(reply.getMemberIdx())
+                    .status(status)
+                    .label(label)
+                    .content(content)
+                    .decidedAt(LocalDateTime.now())
+                    .build());
+        }
+
+        // 이번에 게시된 댓글만 댓글 수에 포함
+        replyCounts.forEach(univBoardRepository::addReplyCount);
+    }
+
+    private void applyPosts(Map<Long, Verdict> verdicts, List<ModerationEvent> events) {
+        if (verdicts.isEmpty()) return;
+
+        for (UnivBoard post : univBoardRepository.findAllById(verdicts.keySet())) {
+            Verdict verdict = verdicts.get(post.getUnivBoardId());
+            if (post.getModerationStatus() != ModerationStatus.PENDING
+                    || !Objects.equals(post.getTitle(), verdict.title())
+                    || !Objects.equals(post.getContent(), verdict.content())) continue;
+
+            String label;
+            ModerationStatus status;
+            String content = post.getContent();
+            if (!verdict.titleLabel().isEmpty()) {
+                label = verdict.titleLabel();
+                status = ModerationStatus.REJECTED;
+            } else if (!verdict.contentLabel().isEmpty()) {
+                label = verdict.contentLabel();
+                status = ModerationStatus.REDACTED;
+                content = profanityFilter.message(label);
+            } else {
+                label = "";
+                status = ModerationStatus.PUBLISHED;
+            }
+
+            if (univBoardRepository.moderate(post.getUnivBoardId(), status, content, ModerationStatus.PENDING) == 0) continue;
+
+            events.add(ModerationEvent.builder()
+                    .target(ModerationTarget.POST)
+                    .id(post.getUnivBoardId())
+                    .univBoardId(post.getUnivBoardId())
+                    .memberIdx(post.getMemberIdx())
+                    .status(status)
+                    .label(label)
+                    .content(content)
+                    .decidedAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+}
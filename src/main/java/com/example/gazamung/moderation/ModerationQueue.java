@@ -0,0 +1,258 @@
+package com.example.gazamung.moderation;
+
+import com.example.gazamung._enum.ModerationStatus;
+import com.example.gazamung.cache.LatencyRecorder;
+import com.example.gazamung.moderation.dto.ModerationEvent;
+import com.example.gazamung.moderation.dto.ModerationStats;
+import com.example.gazamung.reply.repository.ReplyRepository;
+import com.example.gazamung.univBoard.repository.UnivBoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 댓글/게시글 비속어 검수 큐
+ * - 작성 요청은 검수 대기 상태로 저장 후 바로 응답하고, 커밋 후 큐에 등록
+ * - 작업 스레드가 큐에서 최대 batch-size 건씩 꺼내 ModerationProcessor 로 한 번에 판정
+ * - 판정 결과는 ModerationListener 빈에 전달 (작성자 WebSocket 전송 등)
+ * 큐는 메모리에만 있으므로 주기적으로 DB 의 검수 대기 항목을 다시 등록한다 (재시작, 배치 실패 복구).
+ */
+@Component
+@Slf4j
+public class ModerationQueue {
+
+    private static final int WINDOW_SECONDS = 60;
+
+    private final ModerationProcessor processor;
+    private final ModerationEventBroker broker;
+    private final List<ModerationListener> listeners;
+    private final ReplyRepository replyRepository;
+    private final UnivBoardRepository univBoardRepository;
+    private final int workerCount;
+    private final int batchSize;
+    private final ExecutorService workers;
+
+    private final BlockingQueue<ModerationTask> queue = new LinkedBlockingQueue<>();
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();    // 중복 등록 방지
+    private final Map<String, Integer> processing = new ConcurrentHashMap<>();   // 처리 중인 항목 (재등록 제외)
+    private volatile boolean running = true;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong redacted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong superseded = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final LatencyRecorder batchLatency = new LatencyRecorder();
+    private final LatencyRecorder pendingLatency = new LatencyRecorder();
+
+    // 초 단위 판정 건수 (최근 1분 처리량)
+    private final long[] windowCounts = new long[WINDOW_SECONDS];
+    private final long[] windowSeconds = new long[WINDOW_SECONDS];
+
+    public ModerationQueue(ModerationProcessor processor,
+                           ModerationEventBroker broker,
+                           List<ModerationListener> listeners,
+                           ReplyRepository replyRepository,
+                           UnivBoardRepository univBoardRepository,
+                           @Value("${moderation.workers:2}") int workerCount,
+                           @Value("${moderation.batch-size:50}") int batchSize) {
+        this.processor = processor;
+        this.broker = broker;
+        this.listeners = listeners;
+        this.replyRepository = replyRepository;
+        this.univBoardRepository = univBoardRepository;
+        this.workerCount = Math.max(1, workerCount);
+        this.batchSize = Math.max(1, batchSize);
+        this.workers = Executors.newFixedThreadPool(this.workerCount);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        workers.shutdownNow();
+    }
+
+    /**
+     * 검수 등록 (트랜잭션 안이면 커밋 후 등록)
+     */
+    public void submit(ModerationTarget target, Long id) {
+        ModerationTask task = new ModerationTask(target, id, System.currentTimeMillis());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(task);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offer(task);
+            }
+        });
+    }
+
+    /**
+     * DB 의 검수 대기 항목 재등록 (이미 큐에 있거나 처리 중인 항목은 무시)
+     */
+    @Scheduled(fixedDelayString = "${moderation.recover-ms:60000}", initialDelayString = "${moderation.recover-initial-ms:10000}")
+    public void recover() {
+        long now = System.currentTimeMillis();
+        int before = queue.size();
+        replyRepository.findIdsByModerationStatus(ModerationStatus.PENDING)
+                .forEach(id -> recover(new ModerationTask(ModerationTarget.REPLY, id, now)));
+        univBoardRepository.findIdsByModerationStatus(ModerationStatus.PENDING)
+                .forEach(id -> recover(new ModerationTask(ModerationTarget.POST, id, now)));
+
+        int recovered = queue.size() - before;
+        if (recovered > 0) {
+            log.info("검수 대기 항목 재등록 {}건", recovered);
+        }
+    }
+
+    public ModerationStats stats() {
+        return ModerationStats.builder()
+                .backlog(queue.size())
+                .inFlight(inFlight.get())
+                .workers(workerCount)
+                .subscribers(broker.subscribers())
+                .submitted(submitted.get())
+                .processed(processed.get())
+                .published(published.get())
+                .redacted(redacted.get())
+                .rejected(rejected.get())
+                .superseded(superseded.get())
+                .batches(batches.get())
+                .failedBatches(failedBatches.get())
+                .throughputPerSec(throughput())
+                .batchP50Ms(batchLatency.percentileMillis(50))
+                .batchP99Ms(batchLatency.percentileMillis(99))
+                .pendingP50Ms(pendingLatency.percentileMillis(50))
+                .pendingP99Ms(pendingLatency.percentileMillis(99))
+                .build();
+    }
+
+    // 처리 중인 항목은 아직 검수 대기 상태로 보이므로 건너뜀 (처리 실패 시 다음 재등록 때 다시 등록됨)
+    private void recover(ModerationTask task) {
+        if (processing.containsKey(task.key())) return;
+        offer(task);
+    }
+
+    private void offer(ModerationTask task) {
+        if (task.id() == null || !queued.add(task.key())) return;
+        submitted.incrementAndGet();
+        queue.add(task);
+    }
+
+    private void work() {
+        List<ModerationTask> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                ModerationTask first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            // 처리 중 수정되면 다시 등록될 수 있도록 먼저 제거 (재등록 작업은 처리 중 목록으로 건너뜀)
+            for (ModerationTask task : batch) {
+                processing.merge(task.key(), 1, Integer::sum);
+                queued.remove(task.key());
+            }
+            handle(batch);
+            batch.clear();
+        }
+    }
+
+    private void handle(List<ModerationTask> batch) {
+        inFlight.addAndGet(batch.size());
+        long start = System.nanoTime();
+        try {
+            List<ModerationEvent> events = processor.process(batch);
+
+            Map<String, Long> enqueuedAt = new HashMap<>();
+            batch.forEach(task -> enqueuedAt.merge(task.key(), task.enqueuedAt(), Math::min));
+            long now = System.currentTimeMillis();
+
+            for (ModerationEvent event : events) {
+                switch (event.getStatus()) {
+                    case PUBLISHED -> published.incrementAndGet();
+                    case REDACTED -> redacted.incrementAndGet();
+                    case REJECTED -> rejected.incrementAndGet();
+                    default -> {
+                    }
+                }
+                Long at = enqueuedAt.get(event.getTarget() + ":" + event.getId());
+                if (at != null) {
+                    pendingLatency.record(TimeUnit.MILLISECONDS.toNanos(Math.max(0, now - at)));
+                }
+                publish(event);
+            }
+
+            processed.addAndGet(events.size());
+            superseded.addAndGet(batch.size() - events.size());
+            countThroughput(events.size());
+        } catch (Exception e) {
+            // 판정 못한 항목은 검수 대기 상태로 남아 다음 재등록 때 다시 처리
+            failedBatches.incrementAndGet();
+            log.error("검수 배치 처리 실패 ({}건)", batch.size(), e);
+        } finally {
+            batches.incrementAndGet();
+            batchLatency.record(System.nanoTime() - start);
+            batch.forEach(task -> processing.computeIfPresent(task.key(), (key, count) -> count > 1 ? count - 1 : null));
+            inFlight.addAndGet(-batch.size());
+        }
+    }
+
+    private void publish(ModerationEvent event) {
+        for (ModerationListener listener : listeners) {
+            try {
+                listener.moderated(event);
+            } catch (Exception e) {
+                log.error("검수 판정 후처리 실패 {}", event, e);
+            }
+        }
+    }
+
+    private synchronized void countThroughput(int count) {
+        long second = System.currentTimeMillis() / 1000;
+        int slot = (int) (second % WINDOW_SECONDS);
+        if (windowSeconds[slot] != second) {
+            windowSeconds[slot] = second;
+            windowCounts[slot] = 0;
+        }
+        windowCounts[slot] += count;
+    }
+
+    private synchronized double throughput() {
+        long second = System.currentTimeMillis() / 1000;
+        long sum = 0;
+        for (int i = 0; i < WINDOW_SECONDS; i++) {
+            if (second - windowSeconds[i] < WINDOW_SECONDS) {
+                sum += windowCounts[i];
+            }
+        }
+        return (double) sum / WINDOW_SECONDS;
+    }
+}
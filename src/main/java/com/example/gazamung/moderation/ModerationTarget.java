@@ -0,0 +1,6 @@
+package com.example.gazamung.moderation;
+
+public enum ModerationTarget {
+    REPLY,      // 댓글
+    POST        // 게시글
+}
@@ -0,0 +1,12 @@
+package com.example.gazamung.moderation;
+
+/**
+ * 검수 큐 항목
+ * @param enqueuedAt 등록 시각 (epoch ms), 등록부터 판정까지 대기 시간 측정용
+ */
+public record ModerationTask(ModerationTarget target, Long id, long enqueuedAt) {
+
+    public String key() {
+        return target + ":" + id;
+    }
+}
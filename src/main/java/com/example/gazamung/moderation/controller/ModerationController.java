@@ -0,0 +1,37 @@
+package com.example.gazamung.moderation.controller;
+
+import com.example.gazamung._enum.ApiResponseCode;
+import com.example.gazamung.dto.ResultDTO;
+import com.example.gazamung.moderation.ModerationQueue;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/moderation")
+@CrossOrigin(origins = "*", exposedHeaders = {"Content-Disposition"}, allowedHeaders = "*")
+@Tag(name = "게시글/댓글 검수 API", description = "")
+public class ModerationController {
+
+    private final ModerationQueue moderationQueue;
+
+    @Operation(summary = "검수 큐 현황", description = "" +
+            "\n대기/처리 중 건수, 판정 결과별 건수(게시, 가림, 거부), 최근 1분 처리량, 배치 처리 시간, 등록부터 판정까지 대기 시간(p50, p99)" +
+            "\n판정 결과는 ws://host/ws/moderation?memberIdx={memberIdx} 로 작성자에게 전송됩니다." +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/stats")
+    public ResultDTO stats() {
+        return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "검수 큐 현황 조회 성공", moderationQueue.stats());
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.gazamung.moderation.dto;
+
+import com.example.gazamung._enum.ModerationStatus;
+import com.example.gazamung.moderation.ModerationTarget;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검수 결과 (작성자 WebSocket 으로 전송)
+ */
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ModerationEvent {
+
+    private ModerationTarget target;
+    private Long id;                    // 댓글 ID 또는 게시글 ID
+    private Long univBoardId;           // 게시글 ID
+    private Long memberIdx;             // 작성자
+    private ModerationStatus status;
+    private String label;               // 비속어 분류 (정상이면 빈 문자열)
+    private String content;             // 판정 후 내용 (가림 처리 시 안내 문구)
+    private LocalDateTime decidedAt;
+}
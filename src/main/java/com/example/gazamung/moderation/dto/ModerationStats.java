@@ -0,0 +1,33 @@
+package com.example.gazamung.moderation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ModerationStats {
+
+    private int backlog;                // 큐 대기 건수
+    private int inFlight;               // 처리 중 건수
+    private int workers;
+    private int subscribers;            // 결과 구독 중인 회원 수
+
+    private long submitted;             // 등록 건수
+    private long processed;             // 판정 건수
+    private long published;
+    private long redacted;
+    private long rejected;
+    private long superseded;            // 처리 중 수정/삭제되어 건너뜀
+    private long batches;
+    private long failedBatches;
+
+    private double throughputPerSec;    // 최근 1분 초당 판정 건수
+    private double batchP50Ms;          // 배치 처리 시간
+    private double batchP99Ms;
+    private double pendingP50Ms;        // 등록부터 판정까지 대기 시간
+    private double pendingP99Ms;
+}
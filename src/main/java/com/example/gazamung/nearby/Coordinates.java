@@ -0,0 +1,49 @@
+package com.example.gazamung.nearby;
+
+/**
+ * 위경도 문자열 파싱과 거리 계산
+ */
+public final class Coordinates {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private Coordinates() {
+    }
+
+    /**
+     * 위도 문자열 → 숫자 (범위를 벗어나거나 숫자가 아니면 null)
+     */
+    public static Double parseLat(String value) {
+        return parse(value, 90);
+    }
+
+    /**
+     * 경도 문자열 → 숫자 (범위를 벗어나거나 숫자가 아니면 null)
+     */
+    public static Double parseLng(String value) {
+        return parse(value, 180);
+    }
+
+    private static Double parse(String value, double bound) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            double d = Double.parseDouble(value.trim());
+            if (Double.isNaN(d) || d < -bound || d > bound) return null;
+            return d;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 두 좌표 사이의 거리 (km, haversine)
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.gazamung.nearby;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 위경도 격자 기반 공간 인덱스.
+ * 좌표를 CELL_DEGREE 크기의 격자로 나눠 셀 단위로 보관하고,
+ * 반경 조회 시 반경을 덮는 셀만 훑은 뒤 실제 거리로 걸러낸다.
+ * 쓰기는 인스턴스 락으로 직렬화하고 조회는 락 없이 수행한다.
+ */
+public class NearbyIndex {
+
+    static final double CELL_DEGREE = 0.02;     // 위도 기준 약 2.2km
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final Map<Long, Map<String, NearbyItem>> cells = new ConcurrentHashMap<>();
+    private final Map<String, NearbyItem> items = new ConcurrentHashMap<>();
+
+    public synchronized void put(NearbyItem item) {
+        NearbyItem old = items.put(item.key(), item);
+        if (old != null) {
+            removeFromCell(old);
+        }
+        cells.computeIfAbsent(cellOf(item.getLat(), item.getLng()), k -> new ConcurrentHashMap<>())
+                .put(item.key(), item);
+    }
+
+    public synchronized void remove(NearbyType type, Long id) {
+        NearbyItem old = items.remove(type.name() + ":" + id);
+        if (old != null) {
+            removeFromCell(old);
+        }
+    }
+
+    /**
+     * 조건에 맞는 항목 제거
+     * @return 제거한 항목 수
+     */
+    public synchronized int removeIf(Predicate<NearbyItem> filter) {
+        List<NearbyItem> removed = new ArrayList<>();
+        for (NearbyItem item : items.values()) {
+            if (filter.test(item)) removed.add(item);
+        }
+        for (NearbyItem item : removed) {
+            items.remove(item.key());
+            removeFromCell(item);
+        }
+        return removed.size();
+    }
+
+    public synchronized void clear() {
+        cells.clear();
+        items.clear();
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * 반경 내 항목 조회
+     * @param type null 이면 전체
+     * @param eventId null 이면 전체 종목
+     * @param byDate true 면 최신순, false 면 가까운 순 (동률은 서로 다른 기준으로 정렬)
+     */
+    public List<Hit> within(double lat, double lng, double radiusKm, NearbyType type, Long eventId,
+                            boolean byDate, int limit) {
+
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double cos = Math.max(Math.cos(Math.toRadians(lat)), 0.01);
+        double lngDelta = radiusKm / (KM_PER_DEGREE * cos);
+
+        int minLat = cellIndex(lat - latDelta);
+        int maxLat = cellIndex(lat + latDelta);
+        int minLng = cellIndex(lng - lngDelta);
+        int maxLng = cellIndex(lng + lngDelta);
+
+        List<Hit> hits = new ArrayList<>();
+        for (int y = minLat; y <= maxLat; y++) {
+            for (int x = minLng; x <= maxLng; x++) {
+                Map<String, NearbyItem> cell = cells.get(key(y, x));
+                if (cell == null) continue;
+                for (NearbyItem item : cell.values()) {
+                    if (type != null && item.getType() != type) continue;
+                    if (eventId != null && !eventId.equals(item.getEventId())) continue;
+                    double d = Coordinates.distanceKm(lat, lng, item.getLat(), item.getLng());
+                    if (d <= radiusKm) {
+                        hits.add(new Hit(item, d));
+                    }
+                }
+            }
+        }
+
+        Comparator<Hit> byDistance = Comparator.comparingDouble(Hit::distanceKm);
+        Comparator<Hit> byRegDt = Comparator.comparing((Hit h) -> h.item().getRegDt(),
+                Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+        hits.sort(byDate ? byRegDt.thenComparing(byDistance) : byDistance.thenComparing(byRegDt));
+
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    private void removeFromCell(NearbyItem item) {
+        long cellKey = cellOf(item.getLat(), item.getLng());
+        Map<String, NearbyItem> cell = cells.get(cellKey);
+        if (cell != null) {
+            cell.remove(item.key());
+            if (cell.isEmpty()) {
+                cells.remove(cellKey);
+            }
+        }
+    }
+
+    private static long cellOf(double lat, double lng) {
+        return key(cellIndex(lat), cellIndex(lng));
+    }
+
+    private static int cellIndex(double degree) {
+        return (int) Math.floor(degree / CELL_DEGREE);
+    }
+
+    private static long key(int latIndex, int lngIndex) {
+        return ((long) latIndex << 32) | (lngIndex & 0xffffffffL);
+    }
+
+    public record Hit(NearbyItem item, double distanceKm) {
+    }
+}
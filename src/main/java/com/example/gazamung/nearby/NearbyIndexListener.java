@@ -0,0 +1,42 @@
+package com.example.gazamung.nearby;
+
+import com.example.gazamung.nearby.service.NearbyIndexManager;
+import com.example.gazamung.univBattle.entity.UnivBattle;
+import com.example.gazamung.univBoard.entity.UnivBoard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 대항전/게시글 저장·삭제를 공간 인덱스에 반영한다.
+ * JPA 엔티티 리스너는 Hibernate 가 EntityManagerFactory 를 만드는 도중에 생성되므로,
+ * JPA 저장소를 쓰는 빈을 생성자로 받으면 순환 참조로 시작에 실패한다.
+ * 이런 빈은 ObjectProvider 로 받아 이벤트가 일어날 때 꺼낸다. (다른 엔티티 리스너도 같은 방식)
+ */
+@RequiredArgsConstructor
+public class NearbyIndexListener {
+
+    private final ObjectProvider<NearbyIndexManager> nearbyIndexManager;
+
+    @PostPersist
+    @PostUpdate
+    public void saved(Object entity) {
+        if (entity instanceof UnivBattle battle) {
+            nearbyIndexManager.getObject().battleSaved(battle);
+        } else if (entity instanceof UnivBoard board) {
+            nearbyIndexManager.getObject().boardSaved(board);
+        }
+    }
+
+    @PostRemove
+    public void removed(Object entity) {
+        if (entity instanceof UnivBattle battle) {
+            nearbyIndexManager.getObject().battleRemoved(battle);
+        } else if (entity instanceof UnivBoard board) {
+            nearbyIndexManager.getObject().boardRemoved(board);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.gazamung.nearby;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공간 인덱스에 올라가는 항목 (목록 응답에 필요한 값만 보관)
+ */
+@Getter
+@Builder
+public class NearbyItem {
+
+    private final NearbyType type;
+    private final Long id;
+    private final double lat;
+    private final double lng;
+
+    private final Long univId;
+    private final Long eventId;
+    private final String title;
+    private final String place;
+    private final String matchDt;       // 경기 일시 (battleDate / matchDt)
+    private final LocalDateTime matchAt;    // 경기 일시 (변환 실패 시 null)
+    private final LocalDateTime regDt;
+
+    public String key() {
+        return type.name() + ":" + id;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.gazamung.nearby;
+
+public enum NearbyType {
+
+    BATTLE,         // 모집중인 대학 대항전
+    MERCENARY;      // 용병 모집 게시글 (category 2)
+}
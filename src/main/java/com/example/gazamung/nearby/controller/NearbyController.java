@@ -0,0 +1,55 @@
+package com.example.gazamung.nearby.controller;
+
+import com.example.gazamung._enum.ApiResponseCode;
+import com.example.gazamung.dto.ResultDTO;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.nearby.NearbyType;
+import com.example.gazamung.nearby.dto.NearbyRes;
+import com.example.gazamung.nearby.service.NearbyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/nearby")
+@CrossOrigin(origins = "*", exposedHeaders = {"Content-Disposition"}, allowedHeaders = "*")
+@Tag(name = "주변 검색 API", description = "")
+public class NearbyController {
+
+    private final NearbyService nearbyService;
+
+    @Operation(summary = "내 주변 대항전 / 용병 모집", description = "PARAMETER: lat, lng, radius(km, 최대 50), type, eventId, sort, size " +
+            "\n- type: BATTLE (모집중 대항전), MERCENARY (용병 모집글), 생략 시 전체" +
+            "\n- sort: distance (가까운 순, 기본값), date (최신순)" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- INVALID_LOCATION: 위치 정보가 올바르지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("")
+    public ResultDTO nearby(@RequestParam double lat,
+                            @RequestParam double lng,
+                            @RequestParam(defaultValue = "5") double radius,
+                            @RequestParam(required = false) NearbyType type,
+                            @RequestParam(required = false) Long eventId,
+                            @RequestParam(defaultValue = "distance") String sort,
+                            @RequestParam(defaultValue = "20") int size) {
+        try {
+            List<NearbyRes> result = nearbyService.nearby(lat, lng, radius, type, eventId, sort, size);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "주변 조회 성공", result);
+        } catch (CustomException e) {
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+}
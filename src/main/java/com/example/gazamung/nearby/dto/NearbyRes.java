@@ -0,0 +1,29 @@
+package com.example.gazamung.nearby.dto;
+
+import com.example.gazamung.nearby.NearbyType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NearbyRes {
+
+    private NearbyType type;        // BATTLE: 대항전, MERCENARY: 용병 모집글
+    private Long id;                // univBattleId 또는 univBoardId
+    private Long univId;
+    private Long eventId;
+    private String title;           // 대항전이면 주최 대학명
+    private String place;
+    private double lat;
+    private double lng;
+    private double distance;        // km
+    private String matchDt;         // 경기 일시
+    private LocalDateTime regDt;
+
+}
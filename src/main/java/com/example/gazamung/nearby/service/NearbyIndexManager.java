@@ -0,0 +1,235 @@
+package com.example.gazamung.nearby.service;
+
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung._enum.ModerationStatus;
+import com.example.gazamung.battle.BattleDates;
+import com.example.gazamung.moderation.ModerationListener;
+import com.example.gazamung.moderation.ModerationTarget;
+import com.example.gazamung.moderation.dto.ModerationEvent;
+import com.example.gazamung.nearby.Coordinates;
+import com.example.gazamung.nearby.NearbyIndex;
+import com.example.gazamung.nearby.NearbyItem;
+import com.example.gazamung.nearby.NearbyType;
+import com.example.gazamung.univBattle.entity.UnivBattle;
+import com.example.gazamung.univBattle.repository.UnivBattleRepository;
+import com.example.gazamung.univBoard.entity.UnivBoard;
+import com.example.gazamung.univBoard.repository.UnivBoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 내 주변 대항전/용병 모집 공간 인덱스 관리
+ * 서버 시작 시 모집중 대항전과 용병 모집글을 적재하고, 이후에는 NearbyIndexListener 가 커밋 후 증분 반영한다.
+ * 경기일이 지난 항목은 적재하지 않고 주기적으로 제거한다. (경기 일시를 알 수 없으면 작성 후 max-age-days 까지만 노출)
+ * 용병 모집글은 검수를 통과해 게시된 글만 두고, 검수 결과(일괄 UPDATE 라 엔티티 리스너가 호출되지 않음)는 moderated 로 반영한다.
+ */
+@Component
+@Slf4j
+public class NearbyIndexManager implements ModerationListener {
+
+    public static final long MERCENARY_CATEGORY = 2L;
+    private static final List<ModerationStatus> VISIBLE_STATUSES = List.of(ModerationStatus.PUBLISHED, ModerationStatus.REDACTED);
+
+    private final UnivBattleRepository univBattleRepository;
+    private final UnivBoardRepository univBoardRepository;
+    private final int maxAgeDays;
+
+    // 적재 중 반영된 갱신 횟수, 적재 전후 값이 다르면 다시 적재
+    private final AtomicLong modCount = new AtomicLong();
+
+    private volatile NearbyIndex index;
+
+    public NearbyIndexManager(UnivBattleRepository univBattleRepository,
+                              UnivBoardRepository univBoardRepository,
+                              @Value("${nearby.index.max-age-days:30}") int maxAgeDays) {
+        this.univBattleRepository = univBattleRepository;
+        this.univBoardRepository = univBoardRepository;
+        this.maxAgeDays = maxAgeDays;
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    public NearbyIndex index() {
+        return index;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reload();
+    }
+
+    /**
+     * DB 기준으로 인덱스 재적재 (다중 서버 환경의 오차 보정용으로 주기적으로도 실행)
+     */
+    @Scheduled(fixedDelayString = "${nearby.index.reload-ms:3600000}", initialDelayString = "${nearby.index.reload-ms:3600000}")
+    public void reload() {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            long before = modCount.get();
+            NearbyIndex loaded = new NearbyIndex();
+            try {
+                for (UnivBattle battle : univBattleRepository.findByMatchStatus(MatchStatus.RECRUIT)) {
+                    NearbyItem item = toItem(battle);
+                    if (item != null) loaded.put(item);
+                }
+                LocalDate today = LocalDate.now();
+                for (UnivBoard board : univBoardRepository.findOpenByCategoryId(MERCENARY_CATEGORY,
+                        today.atStartOfDay(), LocalDateTime.now().minusDays(maxAgeDays), VISIBLE_STATUSES)) {
+                    NearbyItem item = toItem(board);
+                    if (item != null) loaded.put(item);
+                }
+            } catch (Exception e) {
+                log.error("주변 검색 인덱스 적재 실패", e);
+                return;
+            }
+
+            synchronized (this) {
+                if (modCount.get() == before) {
+                    index = loaded;
+                    log.info("주변 검색 인덱스 적재 완료: {}건", loaded.size());
+                    return;
+                }
+            }
+        }
+        log.warn("주변 검색 인덱스 적재 중 갱신이 계속되어 다음 주기로 미룸");
+    }
+
+    /**
+     * 경기일이 지난 항목 제거
+     */
+    @Scheduled(fixedDelayString = "${nearby.index.evict-ms:600000}", initialDelayString = "${nearby.index.evict-ms:600000}")
+    public void evictExpired() {
+        NearbyIndex current = index;
+        if (current == null) return;
+        int removed = current.removeIf(this::isExpired);
+        if (removed > 0) {
+            log.info("주변 검색 인덱스 만료 항목 제거: {}건", removed);
+        }
+    }
+
+    /**
+     * 대항전 저장/상태 변경 반영 (모집중이 아니면 인덱스에서 제거)
+     */
+    public void battleSaved(UnivBattle battle) {
+        NearbyItem item = MatchStatus.RECRUIT == battle.getMatchStatus() ? toItem(battle) : null;
+        Long id = battle.getUnivBattleId();
+        afterCommit(() -> apply(NearbyType.BATTLE, id, item));
+    }
+
+    public void battleRemoved(UnivBattle battle) {
+        Long id = battle.getUnivBattleId();
+        afterCommit(() -> apply(NearbyType.BATTLE, id, null));
+    }
+
+    /**
+     * 게시글 작성/수정 반영 (용병 모집글이 아니거나 좌표가 없거나 게시 전이면 인덱스에서 제거)
+     */
+    public void boardSaved(UnivBoard board) {
+        NearbyItem item = Long.valueOf(MERCENARY_CATEGORY).equals(board.getCategoryId()) ? toItem(board) : null;
+        Long id = board.getUnivBoardId();
+        afterCommit(() -> apply(NearbyType.MERCENARY, id, item));
+    }
+
+    public void boardRemoved(UnivBoard board) {
+        Long id = board.getUnivBoardId();
+        afterCommit(() -> apply(NearbyType.MERCENARY, id, null));
+    }
+
+    /**
+     * 모집글 검수 판정 반영 (게시/가림 게시면 추가, 거부면 제거)
+     */
+    @Override
+    public void moderated(ModerationEvent event) {
+        if (event.getTarget() != ModerationTarget.POST) return;
+        Long id = event.getId();
+        univBoardRepository.findById(id).ifPresentOrElse(this::boardSaved, () -> apply(NearbyType.MERCENARY, id, null));
+    }
+
+    private synchronized void apply(NearbyType type, Long id, NearbyItem item) {
+        modCount.incrementAndGet();
+        NearbyIndex current = index;
+        if (current == null || id == null) return;
+        if (item != null) {
+            current.put(item);
+        } else {
+            current.remove(type, id);
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private NearbyItem toItem(UnivBattle battle) {
+        Double lat = battle.getLatitude() != null ? battle.getLatitude() : Coordinates.parseLat(battle.getLat());
+        Double lng = battle.getLongitude() != null ? battle.getLongitude() : Coordinates.parseLng(battle.getLng());
+        if (lat == null || lng == null || battle.getUnivBattleId() == null) return null;
+
+        NearbyItem item = NearbyItem.builder()
+                .type(NearbyType.BATTLE)
+                .id(battle.getUnivBattleId())
+                .lat(lat)
+                .lng(lng)
+                .univId(battle.getHostUniv())
+                .eventId(battle.getEventId())
+                .title(battle.getHostUnivName())
+                .place(battle.getPlace())
+                .matchDt(battle.getBattleDate())
+                .matchAt(battle.getBattleAt() != null ? battle.getBattleAt() : BattleDates.parse(battle.getBattleDate()))
+                .regDt(battle.getRegDt())
+                .build();
+        return isExpired(item) ? null : item;
+    }
+
+    private NearbyItem toItem(UnivBoard board) {
+        if (!ModerationStatus.isVisible(board.getModerationStatus())) return null;
+
+        Double lat = board.getLatitude() != null ? board.getLatitude() : Coordinates.parseLat(board.getLat());
+        Double lng = board.getLongitude() != null ? board.getLongitude() : Coordinates.parseLng(board.getLng());
+        if (lat == null || lng == null || board.getUnivBoardId() == null) return null;
+
+        NearbyItem item = NearbyItem.builder()
+                .type(NearbyType.MERCENARY)
+                .id(board.getUnivBoardId())
+                .lat(lat)
+                .lng(lng)
+                .univId(board.getUnivId())
+                .eventId(board.getEventId())
+                .title(board.getTitle())
+                .place(board.getPlace())
+                .matchDt(board.getMatchDt())
+                .matchAt(board.getMatchAt() != null ? board.getMatchAt() : BattleDates.parse(board.getMatchDt()))
+                .regDt(board.getRegDt())
+                .build();
+        return isExpired(item) ? null : item;
+    }
+
+    // 경기일이 지났거나, 경기 일시를 알 수 없는데 작성한 지 max-age-days 가 지난 항목
+    private boolean isExpired(NearbyItem item) {
+        if (item.getMatchAt() != null) {
+            return item.getMatchAt().toLocalDate().isBefore(LocalDate.now());
+        }
+        return item.getRegDt() != null && item.getRegDt().isBefore(LocalDateTime.now().minusDays(maxAgeDays));
+    }
+}
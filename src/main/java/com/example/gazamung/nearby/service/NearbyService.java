@@ -0,0 +1,24 @@
+package com.example.gazamung.nearby.service;
+
+import com.example.gazamung.nearby.NearbyType;
+import com.example.gazamung.nearby.dto.NearbyRes;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public interface NearbyService {
+
+    /**
+     * 내 주변 모집중 대항전 / 용병 모집글
+     * @param lat 위도
+     * @param lng 경도
+     * @param radius 반경 (km)
+     * @param type null 이면 전체
+     * @param eventId null 이면 전체 종목
+     * @param sort distance: 가까운 순, date: 최신순
+     * @param size
+     * @return
+     */
+    List<NearbyRes> nearby(double lat, double lng, double radius, NearbyType type, Long eventId, String sort, int size);
+}
@@ -0,0 +1,61 @@
+package com.example.gazamung.nearby.service;
+
+import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.nearby.NearbyIndex;
+import com.example.gazamung.nearby.NearbyItem;
+import com.example.gazamung.nearby.NearbyType;
+import com.example.gazamung.nearby.dto.NearbyRes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class NearbyServiceImpl implements NearbyService {
+
+    private static final double MAX_RADIUS_KM = 50;
+    private static final int MAX_SIZE = 100;
+
+    private final NearbyIndexManager nearbyIndexManager;
+
+    @Override
+    public List<NearbyRes> nearby(double lat, double lng, double radius, NearbyType type, Long eventId, String sort, int size) {
+
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180 || !(radius > 0)) {
+            throw new CustomException(CustomExceptionCode.INVALID_LOCATION);
+        }
+
+        NearbyIndex index = nearbyIndexManager.index();
+        if (index == null) {
+            throw new CustomException(CustomExceptionCode.SERVER_ERROR);
+        }
+
+        double radiusKm = Math.min(radius, MAX_RADIUS_KM);
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        boolean byDate = "date".equalsIgnoreCase(sort);
+
+        return index.within(lat, lng, radiusKm, type, eventId, byDate, limit).stream()
+                .map(hit -> {
+                    NearbyItem item = hit.item();
+                    return NearbyRes.builder()
+                            .type(item.getType())
+                            .id(item.getId())
+                            .univId(item.getUnivId())
+                            .eventId(item.getEventId())
+                            .title(item.getTitle())
+                            .place(item.getPlace())
+                            .lat(item.getLat())
+                            .lng(item.getLng())
+                            .distance(Math.round(hit.distanceKm() * 100) / 100.0)
+                            .matchDt(item.getMatchDt())
+                            .regDt(item.getRegDt())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -8,6 +8,10 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "IDX_NOTIFICATION_RECEIVER", columnList = "receiver"),
+        @Index(name = "IDX_NOTIFICATION_READ_REG_DT", columnList = "IS_READ, regDt")   // 보관 기간 정리용
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -3,7 +3,12 @@ package com.example.gazamung.notification.repository;
 
 import com.example.gazamung.notification.entity.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +16,16 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     Optional<Notification> findByReceiverAndNotifId(Long receiver, Long notifId);
     List<Notification> findByReceiver(Long memberIdx);
+
+    /**
+     * 보관 기간이 지난 알림을 최대 limit 건만 삭제 (호출 단위로 커밋)
+     * @param isRead 읽음 여부 (1: 읽음, 0: 안 읽음)
+     * @param cutoff 이 시간 이전에 발생한 알림이 삭제 대상
+     * @param limit 한 번에 삭제할 최대 건수
+     * @return 삭제된 건수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM notification WHERE is_read = :isRead AND reg_dt < :cutoff AND ROWNUM <= :limit", nativeQuery = true)
+    int deleteExpiredChunk(@Param("isRead") int isRead, @Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
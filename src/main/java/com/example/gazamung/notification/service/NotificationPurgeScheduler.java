@@ -0,0 +1,91 @@
+package com.example.gazamung.notification.service;
+
+import com.example.gazamung.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 알림 보관 정책에 따라 오래된 알림을 정리하는 배치 작업
+ * - 읽은 알림 : notification.retention.read-days (기본 30일) 경과 시 삭제
+ * - 안 읽은 알림 : notification.retention.unread-days (기본 180일) 경과 시 삭제
+ * 청크 단위로 삭제하고 청크마다 커밋하므로, 중간에 서버가 재시작되어도 다음 실행에서 남은 대상부터 이어서 삭제된다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationPurgeScheduler {
+
+    private final NotificationRepository notificationRepository;
+
+    @Value("${notification.retention.read-days:30}")
+    private long readRetentionDays;
+
+    @Value("${notification.retention.unread-days:180}")
+    private long unreadRetentionDays;
+
+    @Value("${notification.purge.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${notification.purge.pause-ms:200}")
+    private long pauseMillis;
+
+    // 이전 실행이 끝나기 전에 다음 실행이 겹치지 않도록
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Scheduled(cron = "${notification.purge.cron:0 30 4 * * *}")
+    public void purge() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("알림 정리 작업이 이미 실행 중입니다.");
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            LocalDateTime now = LocalDateTime.now();
+
+            long readPurged = purgeChunks(1, now.minusDays(readRetentionDays));
+            long unreadPurged = purgeChunks(0, now.minusDays(unreadRetentionDays));
+
+            log.info("알림 정리 완료 - 읽음: {}건, 안 읽음: {}건, 소요: {}ms",
+                    readPurged, unreadPurged, System.currentTimeMillis() - start);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 대상이 없어질 때까지 청크 단위로 삭제, 청크 사이에 잠시 쉬어 락 경합을 줄인다.
+     * @param isRead 읽음 여부
+     * @param cutoff 삭제 기준 시간
+     * @return 삭제된 총 건수
+     */
+    private long purgeChunks(int isRead, LocalDateTime cutoff) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = notificationRepository.deleteExpiredChunk(isRead, cutoff, chunkSize);
+            total += deleted;
+
+            if (deleted == chunkSize && !sleepQuietly()) {
+                break;
+            }
+        } while (deleted == chunkSize);
+        return total;
+    }
+
+    private boolean sleepQuietly() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("알림 정리 작업이 중단되었습니다.");
+            return false;
+        }
+    }
+}
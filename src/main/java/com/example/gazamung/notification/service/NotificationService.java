@@ -14,6 +14,13 @@ public interface NotificationService {
 
     boolean sendNotify(NotifyCreateReq request);
 
+    /**
+     * 알림 여러 건 한 번에 저장
+     * @param requests
+     * @return 저장 건수
+     */
+    int sendNotifyAll(List<NotifyCreateReq> requests);
+
     NotifyRes readNotify(Long memberIdx, Long notifId);
 
     List<Notification> notifyList(Long memberIdx);
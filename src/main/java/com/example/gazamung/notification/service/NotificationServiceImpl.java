@@ -12,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -24,8 +25,25 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     public boolean sendNotify(NotifyCreateReq request) {
 
+        notificationRepository.save(toNotification(request));
 
-        Notification notification = Notification.builder()
+        return true;
+    }
+
+    @Override
+    public int sendNotifyAll(List<NotifyCreateReq> requests) {
+
+        List<Notification> notifications = new ArrayList<>(requests.size());
+        for (NotifyCreateReq request : requests) {
+            notifications.add(toNotification(request));
+        }
+        notificationRepository.saveAll(notifications);
+
+        return notifications.size();
+    }
+
+    private Notification toNotification(NotifyCreateReq request) {
+        return Notification.builder()
                 .caller(request.getCaller())
                 .receiver(request.getReceiver())
                 .type(request.getType())
@@ -36,10 +54,6 @@ public class NotificationServiceImpl implements NotificationService {
                 .targetUrl(generateTargetUrl(request.getType(),request.getRelatedItemId()))
                 .title(request.getTitle())
                 .build();
-
-        notificationRepository.save(notification);
-
-        return true;
     }
 
     @Override
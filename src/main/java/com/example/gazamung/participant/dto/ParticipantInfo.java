@@ -0,0 +1,23 @@
+package com.example.gazamung.participant.dto;
+
+import com.example.gazamung.participant.entity.Participant;
+
+/**
+ * 대항전 상세 화면 캐시에 담는 참가자 (엔티티 대신 불변 복사본)
+ */
+public record ParticipantInfo(Long participantId,
+                              Long memberIdx,
+                              Long univId,
+                              Long deptId,
+                              String userName,
+                              String nickName,
+                              Long univBattleId,
+                              Long deptBattleId) {
+
+    public static ParticipantInfo of(Participant participant) {
+        return new ParticipantInfo(participant.getParticipantId(), participant.getMemberIdx(),
+                participant.getUnivId(), participant.getDeptId(),
+                participant.getUserName(), participant.getNickName(),
+                participant.getUnivBattleId(), participant.getDeptBattleId());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.gazamung.profanity;
+
+import java.util.*;
+
+/**
+ * 다중 패턴 문자열 매칭 (Aho-Corasick)
+ * 사전 단어 수와 관계없이 본문 길이에 비례한 시간으로 모든 출현 위치를 찾는다.
+ */
+public class AhoCorasick {
+
+    public record Match(int start, int end, int pattern) {
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Node fail;
+        private Node output;            // fail 경로에서 가장 가까운 패턴 끝 노드
+        private int pattern = -1;       // 이 노드에서 끝나는 패턴
+        private int depth;
+    }
+
+    private final Node root = new Node();
+    private final int patternCount;
+
+    public AhoCorasick(List<String> patterns) {
+        for (int i = 0; i < patterns.size(); i++) {
+            String pattern = patterns.get(i);
+            if (pattern == null || pattern.isEmpty()) continue;
+
+            Node node = root;
+            for (int c = 0; c < pattern.length(); c++) {
+                Node parent = node;
+                node = node.children.computeIfAbsent(pattern.charAt(c), key -> {
+                    Node child = new Node();
+                    child.depth = parent.depth + 1;
+                    return child;
+                });
+            }
+            if (node.pattern < 0) {
+                node.pattern = i;
+            }
+        }
+        this.patternCount = patterns.size();
+        buildLinks();
+    }
+
+    public int patternCount() {
+        return patternCount;
+    }
+
+    /**
+     * 모든 출현 위치 (end 는 제외 위치)
+     */
+    public List<Match> findAll(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        Node node = root;
+        for (int i = 0; i < text.length(); i++) {
+            node = next(node, text.charAt(i));
+            for (Node out = node.pattern >= 0 ? node : node.output; out != null; out = out.output) {
+                matches.add(new Match(i + 1 - out.depth, i + 1, out.pattern));
+            }
+        }
+        return matches;
+    }
+
+    private Node next(Node node, char c) {
+        while (node != root && !node.children.containsKey(c)) {
+            node = node.fail;
+        }
+        return node.children.getOrDefault(c, root);
+    }
+
+    private void buildLinks() {
+        Deque<Node> queue = new ArrayDeque<>();
+        root.fail = root;
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                Node child = entry.getValue();
+                Node fail = node.fail;
+                while (fail != root && !fail.children.containsKey(entry.getKey())) {
+                    fail = fail.fail;
+                }
+                Node target = fail.children.get(entry.getKey());
+                child.fail = target != null && target != child ? target : root;
+                child.output = child.fail.pattern >= 0 ? child.fail : child.fail.output;
+                queue.add(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.gazamung.profanity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 연속 실패 시 일정 시간 호출을 막고, 이후 한 건만 시험 호출해 복구 여부 판단
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,         // 정상 호출
+        OPEN,           // 호출 차단
+        HALF_OPEN       // 시험 호출 중
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    public boolean allow() {
+        State current = state.get();
+        if (current == State.CLOSED) return true;
+        if (current == State.OPEN && System.currentTimeMillis() - openedAt.get() >= openMillis) {
+            // 한 요청만 시험 호출
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    public void success() {
+        failures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    public void failure() {
+        if (state.get() == State.HALF_OPEN || failures.incrementAndGet() >= failureThreshold) {
+            openedAt.set(System.currentTimeMillis());
+            state.set(State.OPEN);
+        }
+    }
+
+    public State state() {
+        return state.get();
+    }
+}
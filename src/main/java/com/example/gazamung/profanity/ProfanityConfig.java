@@ -0,0 +1,34 @@
+package com.example.gazamung.profanity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Configuration
+public class ProfanityConfig {
+
+    @Bean
+    public ProfanityFilter profanityFilter(ObjectMapper objectMapper,
+                                           @Value("${profanity.dictionary:profanity/words.txt}") String dictionaryPath,
+                                           @Value("${profanity.model-url:http://localhost:5000/predict}") String modelUrl,
+                                           @Value("${profanity.model-timeout-ms:500}") int modelTimeoutMs,
+                                           @Value("${profanity.threshold:0.5}") double threshold,
+                                           @Value("${profanity.cache-size:10000}") int cacheSize,
+                                           @Value("${profanity.breaker-failures:5}") int breakerFailures,
+                                           @Value("${profanity.breaker-open-ms:30000}") long breakerOpenMs) throws IOException {
+        ProfanityDictionary dictionary;
+        try (InputStream in = new ClassPathResource(dictionaryPath).getInputStream()) {
+            dictionary = ProfanityDictionary.load(in);
+        }
+
+        return new ProfanityFilter(dictionary,
+                new VerdictCache(cacheSize),
+                new CircuitBreaker(breakerFailures, breakerOpenMs),
+                new ProfanityModelClient(modelUrl, modelTimeoutMs, threshold, objectMapper));
+    }
+}
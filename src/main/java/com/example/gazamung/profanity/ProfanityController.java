@@ -0,0 +1,35 @@
+package com.example.gazamung.profanity;
+
+import com.example.gazamung._enum.ApiResponseCode;
+import com.example.gazamung.dto.ResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/profanity")
+@CrossOrigin(origins = "*", exposedHeaders = {"Content-Disposition"}, allowedHeaders = "*")
+@Tag(name = "비속어 필터 API", description = "")
+public class ProfanityController {
+
+    private final ProfanityFilter profanityFilter;
+
+    @Operation(summary = "비속어 필터 현황", description = "" +
+            "\n사전/캐시/모델 처리 건수, 모델 호출 비율, 차단기 상태, 응답 시간(p50, p95, p99)" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/stats")
+    public ResultDTO stats() {
+        return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "비속어 필터 현황 조회 성공", profanityFilter.stats());
+    }
+}
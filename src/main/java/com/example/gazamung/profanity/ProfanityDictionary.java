@@ -0,0 +1,82 @@
+package com.example.gazamung.profanity;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 비속어 사전 (1차 필터)
+ * "!" 로 시작하는 단어는 예외 단어로, 예외 단어 구간 안에 있는 비속어는 무시한다. (예: 시발점)
+ */
+public class ProfanityDictionary {
+
+    private final AhoCorasick matcher;
+    private final boolean[] allowed;
+
+    public ProfanityDictionary(List<String> lines) {
+        List<String> patterns = new ArrayList<>();
+        List<Boolean> allow = new ArrayList<>();
+        for (String line : lines) {
+            String word = line.trim();
+            if (word.isEmpty() || word.startsWith("#")) continue;
+
+            boolean isAllow = word.startsWith("!");
+            String pattern = TextNormalizer.compact(isAllow ? word.substring(1) : word);
+            if (pattern.isEmpty()) continue;
+
+            patterns.add(pattern);
+            allow.add(isAllow);
+        }
+
+        this.matcher = new AhoCorasick(patterns);
+        this.allowed = new boolean[patterns.size()];
+        for (int i = 0; i < allowed.length; i++) {
+            allowed[i] = allow.get(i);
+        }
+    }
+
+    public static ProfanityDictionary load(InputStream in) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        return new ProfanityDictionary(lines);
+    }
+
+    public int size() {
+        return allowed.length;
+    }
+
+    /**
+     * @param compact TextNormalizer.compact 결과
+     * @return 비속어 포함 여부
+     */
+    public boolean contains(String compact) {
+        List<AhoCorasick.Match> matches = matcher.findAll(compact);
+        if (matches.isEmpty()) return false;
+
+        for (AhoCorasick.Match match : matches) {
+            if (allowed[match.pattern()]) continue;
+            if (!coveredByAllowed(match, matches)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean coveredByAllowed(AhoCorasick.Match target, List<AhoCorasick.Match> matches) {
+        for (AhoCorasick.Match match : matches) {
+            if (allowed[match.pattern()] && match.start() <= target.start() && target.end() <= match.end()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.gazamung.profanity;
+
+import com.example.gazamung.cache.LatencyRecorder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 댓글 비속어 필터
+ * 1. 사전 (Aho-Corasick) 으로 먼저 검사
+ * 2. 같은 문장의 모델 판정 캐시
+ * 3. 모델 호출 (시간 제한), 연속 실패 시 차단기가 열려 사전만으로 검사
+ */
+@Slf4j
+public class ProfanityFilter {
+
+    private static final String SUFFIX = " 비속어 필터링 되었습니다.";
+    private static final String DICTIONARY_LABEL = "욕설";
+
+    private final ProfanityDictionary dictionary;
+    private final VerdictCache cache;
+    private final CircuitBreaker breaker;
+    private final ProfanityModelClient modelClient;
+
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong dictionaryHits = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong modelCalls = new AtomicLong();
+    private final AtomicLong modelFailures = new AtomicLong();
+    private final AtomicLong modelSkipped = new AtomicLong();
+    private final LatencyRecorder latency = new LatencyRecorder();
+    private final LatencyRecorder modelLatency = new LatencyRecorder();
+
+    public ProfanityFilter(ProfanityDictionary dictionary, VerdictCache cache, CircuitBreaker breaker, ProfanityModelClient modelClient) {
+        this.dictionary = dictionary;
+        this.cache = cache;
+        this.breaker = breaker;
+        this.modelClient = modelClient;
+    }
+
+    /**
+     * @return 비속어면 안내 문구, 아니면 원문
+     */
+    public String filter(String content) {
+        String label = classify(content);
+        return label.isEmpty() ? content : message(label);
+    }
+
+    /**
+     * @return 비속어 분류 라벨, 정상이면 빈 문자열
+     */
+    public String classify(String content) {
+        long start = System.nanoTime();
+        total.incrementAndGet();
+        try {
+            if (content == null || content.isBlank()) return "";
+
+            if (dictionary.contains(TextNormalizer.compact(content))) {
+                dictionaryHits.incrementAndGet();
+                return DICTIONARY_LABEL;
+            }
+
+            String key = TextNormalizer.hash(TextNormalizer.normalize(content));
+            String verdict = cache.get(key);
+            if (verdict != null) {
+                cacheHits.incrementAndGet();
+                return verdict;
+            }
+
+            if (!breaker.allow()) {
+                modelSkipped.incrementAndGet();
+                return "";
+            }
+
+            modelCalls.incrementAndGet();
+            long modelStart = System.nanoTime();
+            try {
+                verdict = modelClient.predict(content);
+                breaker.success();
+            } catch (Exception e) {
+                // 모델 장애 시 사전 검사 결과로 저장
+                modelFailures.incrementAndGet();
+                breaker.failure();
+                log.warn("비속어 모델 호출 실패, 사전 검사만 적용 ({})", e.getMessage());
+                return "";
+            } finally {
+                modelLatency.record(System.nanoTime() - modelStart);
+            }
+
+            cache.put(key, verdict);
+            return verdict;
+        } finally {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 비속어로 분류된 내용 대신 보여줄 안내 문구
+     */
+    public String message(String label) {
+        return label + SUFFIX;
+    }
+
+    public ProfanityStats stats() {
+        long totalCount = total.get();
+        return ProfanityStats.builder()
+                .total(totalCount)
+                .dictionaryHits(dictionaryHits.get())
+                .cacheHits(cacheHits.get())
+                .modelCalls(modelCalls.get())
+                .modelFailures(modelFailures.get())
+                .modelSkipped(modelSkipped.get())
+                .modelCallRatio(totalCount == 0 ? 0 : (double) modelCalls.get() / totalCount)
+                .breakerState(breaker.state().name())
+                .cacheSize(cache.size())
+                .dictionarySize(dictionary.size())
+                .p50Ms(latency.percentileMillis(50))
+                .p95Ms(latency.percentileMillis(95))
+                .p99Ms(latency.percentileMillis(99))
+                .modelP99Ms(modelLatency.percentileMillis(99))
+                .build();
+    }
+}
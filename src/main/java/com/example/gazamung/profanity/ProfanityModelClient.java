@@ -0,0 +1,57 @@
+package com.example.gazamung.profanity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+/**
+ * 비속어 분류 모델 호출 (연결/응답 시간 제한)
+ */
+public class ProfanityModelClient {
+
+    private static final TypeReference<Map<String, Double>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final String url;
+    private final double threshold;
+
+    public ProfanityModelClient(String url, int timeoutMs, double threshold, ObjectMapper objectMapper) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMs);
+        requestFactory.setReadTimeout(timeoutMs);
+
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.objectMapper = objectMapper;
+        this.url = url;
+        this.threshold = threshold;
+    }
+
+    /**
+     * @return 비속어 분류명, 정상이면 빈 문자열
+     * @throws Exception 시간 초과, 연결 실패, 비정상 응답
+     */
+    public String predict(String content) throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(Map.of("text", content), headers);
+
+        String body = restTemplate.postForObject(url, request, String.class);
+        Map<String, Double> response = objectMapper.readValue(body, RESPONSE_TYPE);
+
+        // "None"을 제외하고 비속어 확률이 기준 이상인 첫 분류
+        for (Map.Entry<String, Double> entry : response.entrySet()) {
+            if (!entry.getKey().equals("None") && entry.getValue() != null && entry.getValue() >= threshold) {
+                return entry.getKey();
+            }
+        }
+        return "";
+    }
+}
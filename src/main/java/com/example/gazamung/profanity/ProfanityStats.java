@@ -0,0 +1,30 @@
+package com.example.gazamung.profanity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProfanityStats {
+
+    private long total;                 // 검사 건수
+    private long dictionaryHits;        // 사전에서 걸러짐
+    private long cacheHits;             // 모델 판정 캐시 적중
+    private long modelCalls;            // 모델 호출
+    private long modelFailures;         // 모델 호출 실패 (시간 초과 포함)
+    private long modelSkipped;          // 차단 상태라 사전만 사용
+    private double modelCallRatio;      // 검사 대비 모델 호출 비율
+    private String breakerState;
+    private int cacheSize;
+    private int dictionarySize;
+
+    private double p50Ms;               // 검사 전체 응답 시간
+    private double p95Ms;
+    private double p99Ms;
+    private double modelP99Ms;          // 모델 호출 응답 시간
+
+}
@@ -0,0 +1,72 @@
+package com.example.gazamung.profanity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * 비속어 검사용 문자열 정규화
+ */
+public final class TextNormalizer {
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * 전각/호환 문자 통일, 소문자, 연속 공백 하나로 (모델 판정 캐시 키)
+     */
+    public static String normalize(String text) {
+        if (text == null) return "";
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return normalized.replaceAll("\\s+", " ").trim();
+    }
+
+    /**
+     * 어절마다 글자(한글, 영문)만 남김 (사전 매칭용, "병.신" 같은 끼워넣기 우회 대응)
+     * 어절 사이는 공백 하나로 남겨 "혹시 발표" 처럼 두 어절에 걸쳐 일치하지 않도록 하고,
+     * 한 글자 어절이 이어지면 ("시 1 발", "씨 발") 띄어쓰기 우회로 보고 붙인다.
+     */
+    public static String compact(String text) {
+        String normalized = normalize(text);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        boolean previousSingle = false;
+        for (String token : normalized.split(" ")) {
+            String word = letters(token);
+            if (word.isEmpty()) continue;   // 숫자/기호만 있는 어절은 건너뜀
+
+            boolean single = word.length() == 1;
+            if (builder.length() > 0 && !(single && previousSingle)) {
+                builder.append(' ');
+            }
+            builder.append(word);
+            previousSingle = single;
+        }
+        return builder.toString();
+    }
+
+    private static String letters(String token) {
+        StringBuilder builder = new StringBuilder(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (Character.isLetter(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 정규화 문자열 SHA-256 (캐시에 원문을 보관하지 않음)
+     */
+    public static String hash(String normalized) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
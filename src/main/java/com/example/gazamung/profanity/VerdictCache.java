@@ -0,0 +1,36 @@
+package com.example.gazamung.profanity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 모델 판정 결과 LRU 캐시 (정규화 문자열 해시 → 판정)
+ */
+public class VerdictCache {
+
+    private final Map<String, String> entries;
+
+    public VerdictCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return 판정 (비속어 분류명, 정상은 빈 문자열), 없으면 null
+     */
+    public synchronized String get(String key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(String key, String verdict) {
+        entries.put(key, verdict);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -4,8 +4,12 @@ import com.example.gazamung._enum.ApiResponseCode;
 import com.example.gazamung.dto.ResultDTO;
 import com.example.gazamung.exception.CustomException;
 import com.example.gazamung.rank.dto.DeptRankRes;
+import com.example.gazamung.rank.dto.RecomputeRes;
+import com.example.gazamung.rank.dto.SnapshotRankRes;
+import com.example.gazamung.rank.dto.SnapshotSeasonRes;
 import com.example.gazamung.rank.dto.UnivRankRes;
 import com.example.gazamung.rank.service.RankService;
+import com.example.gazamung.rank.service.RankSnapshotService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -25,6 +29,7 @@ import java.util.List;
 public class RankController {
 
     private final RankService rankService;
+    private final RankSnapshotService rankSnapshotService;
 
     @Operation(summary = "대학 랭킹 점수 리스트 ", description = "PARAMETER: eventId  " +
             "\n### HTTP STATUS 에 따른 조회 결과" +
@@ -68,4 +73,202 @@ public class RankController {
         }
     }
 
+    @Operation(summary = "대학 랭킹 페이지 조회 ", description = "PARAMETER: eventId(미입력 시 전체 종목, 경기한 종목 점수 평균), page(0부터), size  " +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/univ/page")
+    public ResultDTO univRankPage(@RequestParam(required = false) Long eventId,
+                                  @RequestParam(defaultValue = "0") int page,
+                                  @RequestParam(defaultValue = "20") int size) {
+
+        try{
+            List<UnivRankRes> list = rankService.univRankPage(eventId, page, size);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"랭킹 페이지 조회 성공", list);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+
+        }
+    }
+
+    @Operation(summary = "대학 순위 조회 ", description = "PARAMETER: eventId(미입력 시 전체 종목, 경기한 종목 점수 평균), univId  " +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/univ/position")
+    public ResultDTO univRankPosition(@RequestParam(required = false) Long eventId, @RequestParam Long univId) {
+
+        try{
+            UnivRankRes res = rankService.univRankPosition(eventId, univId);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"순위 조회 성공", res);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+
+        }
+    }
+
+    @Operation(summary = "과 랭킹 페이지 조회 ", description = "PARAMETER: eventId(미입력 시 전체 종목, 경기한 종목 점수 평균), univId, page(0부터), size  " +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/dept/page")
+    public ResultDTO deptRankPage(@RequestParam(required = false) Long eventId, @RequestParam Long univId,
+                                  @RequestParam(defaultValue = "0") int page,
+                                  @RequestParam(defaultValue = "20") int size) {
+
+        try{
+            List<DeptRankRes> list = rankService.deptRankPage(eventId, univId, page, size);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"랭킹 페이지 조회 성공", list);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+
+        }
+    }
+
+    @Operation(summary = "과 순위 조회 ", description = "PARAMETER: eventId(미입력 시 전체 종목, 경기한 종목 점수 평균), univId, deptId  " +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/dept/position")
+    public ResultDTO deptRankPosition(@RequestParam(required = false) Long eventId, @RequestParam Long univId, @RequestParam Long deptId) {
+
+        try{
+            DeptRankRes res = rankService.deptRankPosition(eventId, univId, deptId);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"순위 조회 성공", res);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+
+        }
+    }
+
+    @Operation(summary = "레이팅 재계산 (관리자) ", description = "PARAMETER: memberIdx  " +
+            "\n종료된 전체 경기 이력으로 랭크 레이팅/점수/승패를 다시 계산합니다." +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- UNAUTHORIZED_USER: 관리자가 아닌 경우"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @PostMapping("/recompute")
+    public ResultDTO recomputeRatings(@RequestParam Long memberIdx) {
+
+        try{
+            RecomputeRes res = rankService.recomputeRatings(memberIdx);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"레이팅 재계산 성공", res);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+
+        }
+    }
+
+    @Operation(summary = "랭킹 스냅샷 생성 (관리자) ", description = "PARAMETER: memberIdx, season  " +
+            "\n현재 모든 대학/과 순위표를 시즌 라벨로 저장합니다. (같은 시즌은 덮어씀)" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @PostMapping("/snapshot")
+    public ResultDTO createSnapshot(@RequestParam Long memberIdx, @RequestParam String season) {
+
+        try{
+            int boardCount = rankSnapshotService.createSnapshot(memberIdx, season);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"랭킹 스냅샷 저장 성공", boardCount);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+
+        }
+    }
+
+    @Operation(summary = "랭킹 스냅샷 시즌 목록 ", description = "PARAMETER: 없음  " +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/snapshot/seasons")
+    public ResultDTO seasonList() {
+
+        try{
+            List<SnapshotSeasonRes> list = rankSnapshotService.seasonList();
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"시즌 목록 조회 성공", list);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+
+        }
+    }
+
+    @Operation(summary = "시즌별 대학 랭킹 조회 ", description = "PARAMETER: season, eventId(미입력 시 전체 종목, 경기한 종목 점수 평균), compareSeason(순위 변동 비교 시즌, 선택)  " +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/snapshot/univ")
+    public ResultDTO univSnapshot(@RequestParam String season, @RequestParam(required = false) Long eventId,
+                                  @RequestParam(required = false) String compareSeason) {
+
+        try{
+            List<SnapshotRankRes> list = rankSnapshotService.univSnapshot(season, eventId, compareSeason);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"시즌 랭킹 조회 성공", list);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+
+        }
+    }
+
+    @Operation(summary = "시즌별 과 랭킹 조회 ", description = "PARAMETER: season, eventId(미입력 시 전체 종목, 경기한 종목 점수 평균), univId, compareSeason(순위 변동 비교 시즌, 선택)  " +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/snapshot/dept")
+    public ResultDTO deptSnapshot(@RequestParam String season, @RequestParam(required = false) Long eventId,
+                                  @RequestParam Long univId, @RequestParam(required = false) String compareSeason) {
+
+        try{
+            List<SnapshotRankRes> list = rankSnapshotService.deptSnapshot(season, eventId, univId, compareSeason);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"시즌 랭킹 조회 성공", list);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+
+        }
+    }
+
 }
@@ -0,0 +1,24 @@
+package com.example.gazamung.rank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 레이팅 재계산용 종료된 경기 결과
+ */
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BattleResultRow {
+
+    private Long eventId;
+    private Long univId;        // 과 대항전인 경우 소속 대학
+    private Long winner;        // 승리 팀 (대학 또는 과)
+    private Long loser;         // 패배 팀 (대학 또는 과)
+    private Long hostScore;
+    private Long guestScore;
+
+}
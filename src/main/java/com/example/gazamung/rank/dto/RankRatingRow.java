@@ -0,0 +1,19 @@
+package com.example.gazamung.rank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankRatingRow {
+
+    private Long teamId;        // 대학 랭크면 univId, 과 랭크면 deptId
+    private Double rating;
+    private Double ratingDeviation;
+    private Double ratingVolatility;
+
+}
@@ -0,0 +1,29 @@
+package com.example.gazamung.rank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 레이팅 재계산 결과 (rank 행 하나에 그대로 기록되는 값)
+ */
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankTotal {
+
+    private Long univId;
+    private Long deptId;        // 대학 랭크면 null
+    private Long eventId;
+
+    private Double rating;
+    private Double ratingDeviation;
+    private Double ratingVolatility;
+    private Long rankPoint;
+
+    private Long winCount;
+    private Long loseCount;
+
+}
@@ -0,0 +1,19 @@
+package com.example.gazamung.rank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RecomputeRes {
+
+    private int battleCount;        // 재계산에 사용된 경기 수
+    private int partitionCount;     // 종목(과는 대학+종목) 단위 파티션 수
+    private int rankCount;          // 기록된 랭크 행 수
+    private long elapsedMs;
+
+}
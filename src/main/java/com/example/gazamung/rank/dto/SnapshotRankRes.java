@@ -0,0 +1,26 @@
+package com.example.gazamung.rank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SnapshotRankRes {
+
+    private Long teamId;            // 대학 순위표면 univId, 과 순위표면 deptId
+    private String name;            // 학교명 또는 학과명
+    private String logoImg;
+
+    private Long ranking;
+    private Long rankPoint;
+    private Long winCount;
+    private Long loseCount;
+
+    private Long previousRanking;   // 비교 시즌의 순위 (없으면 null)
+    private Long movement;          // 순위 변동 (양수: 상승, 음수: 하락, 비교 시즌에 없으면 null)
+
+}
@@ -0,0 +1,20 @@
+package com.example.gazamung.rank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SnapshotSeasonRes {
+
+    private String season;
+    private LocalDateTime takenDt;
+    private Long boardCount;        // 저장된 순위표 수
+
+}
@@ -23,4 +23,6 @@ public class UnivRankRes {
     private Long loseCount;
     private Long totalCount;
 
+    private Long ranking;   // 순위 (메모리 순위표 조회 시)
+
 }
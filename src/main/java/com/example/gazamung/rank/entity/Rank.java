@@ -8,6 +8,9 @@ import org.hibernate.annotations.ColumnDefault;
 import javax.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "UK_RANK_UNIV_DEPT_EVENT", columnNames = {"univ_id", "dept_id", "event_id"})
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -28,6 +31,10 @@ public class Rank {
     @ColumnDefault("0")
     private Long rankPoint;
 
+    private Double rating;              // 레이팅 엔진 값 (rankPoint 는 이 값을 반올림)
+    private Double ratingDeviation;     // Glicko-2 전용
+    private Double ratingVolatility;    // Glicko-2 전용
+
     private Long winCount;
     private Long loseCount;
 
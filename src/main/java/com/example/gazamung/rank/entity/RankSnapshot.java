@@ -0,0 +1,41 @@
+package com.example.gazamung.rank.entity;
+
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 순위표 스냅샷 (시즌별 순위표 하나당 한 행)
+ * 항목은 SnapshotCodec 으로 인코딩해서 payload 에 저장
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "IDX_RANK_SNAPSHOT_SEASON", columnList = "season, boardType, eventId, univId")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+@Slf4j
+public class RankSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "RANK_SNAPSHOT_SEQ")
+    @SequenceGenerator(name = "RANK_SNAPSHOT_SEQ", sequenceName = "rank_snapshot_sequence", allocationSize = 1)
+    private Long snapshotId;
+
+    private String season;          // 시즌 라벨 (ex. 2024-1, 2024-06-01)
+    private String boardType;       // UNIV, DEPT
+    private Long eventId;           // 종목 전체 순위표는 -1
+    private Long univId;            // 과 순위표의 대학, 대학 순위표는 null
+
+    private int entryCount;
+
+    @Lob
+    private byte[] payload;
+
+    private LocalDateTime takenDt;  // 스냅샷 생성 시간
+}
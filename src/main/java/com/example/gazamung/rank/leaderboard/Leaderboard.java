@@ -0,0 +1,229 @@
+package com.example.gazamung.rank.leaderboard;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 순위표 (order-statistic treap)
+ * 점수 내림차순, 동점이면 id 오름차순으로 정렬되며
+ * 추가/변경/삭제, N위 조회, 특정 id 의 순위 조회를 모두 O(log n) 에 처리한다.
+ * @param <T> 순위표 항목 (저장된 객체는 변경하지 않고 교체해서 사용)
+ */
+public class Leaderboard<T> {
+
+    private static final class Node {
+        private final long id;
+        private final long point;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(long id, long point, int priority) {
+            this.id = id;
+            this.point = point;
+            this.priority = priority;
+        }
+    }
+
+    private final Map<Long, Long> points = new HashMap<>();
+    private final Map<Long, T> items = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Random random = new Random();
+    private Node root;
+
+    /**
+     * 항목 추가 (이미 있으면 점수/항목 교체)
+     * @param id
+     * @param point
+     * @param item
+     */
+    public void put(long id, long point, T item) {
+        lock.writeLock().lock();
+        try {
+            Long old = points.put(id, point);
+            if (old != null) {
+                root = remove(root, old, id);
+            }
+            Node node = new Node(id, point, random.nextInt());
+            Node[] parts = split(root, point, id);
+            root = merge(merge(parts[0], node), parts[1]);
+            items.put(id, item);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 항목 삭제
+     * @param id
+     * @return 삭제 여부
+     */
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Long old = points.remove(id);
+            if (old == null) {
+                return false;
+            }
+            root = remove(root, old, id);
+            items.remove(id);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public T get(long id) {
+        lock.readLock().lock();
+        try {
+            return items.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * id 의 순위 (1부터 시작)
+     * @param id
+     * @return 순위, 없으면 -1
+     */
+    public int rankOf(long id) {
+        lock.readLock().lock();
+        try {
+            Long point = points.get(id);
+            if (point == null) {
+                return -1;
+            }
+            int count = 0;
+            Node node = root;
+            while (node != null) {
+                int c = compare(node.point, node.id, point, id);
+                if (c < 0) {
+                    count += size(node.left) + 1;
+                    node = node.right;
+                } else if (c > 0) {
+                    node = node.left;
+                } else {
+                    count += size(node.left);
+                    break;
+                }
+            }
+            return count + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * offset 번째부터 limit 개 (순위 순)
+     * @param offset 0부터 시작
+     * @param limit
+     * @return
+     */
+    public List<T> range(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<T> out = new ArrayList<>(Math.max(0, Math.min(limit, size(root) - offset)));
+            if (offset >= 0 && limit > 0) {
+                collect(root, new int[]{offset}, limit, out);
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(Node node, int[] skip, int limit, List<T> out) {
+        if (node == null || out.size() >= limit) {
+            return;
+        }
+        int leftSize = size(node.left);
+        if (skip[0] >= leftSize) {
+            skip[0] -= leftSize;
+        } else {
+            collect(node.left, skip, limit, out);
+        }
+        if (out.size() >= limit) {
+            return;
+        }
+        if (skip[0] > 0) {
+            skip[0]--;
+        } else {
+            out.add(items.get(node.id));
+        }
+        collect(node.right, skip, limit, out);
+    }
+
+    // 점수 내림차순, 동점이면 id 오름차순
+    private static int compare(long pointA, long idA, long pointB, long idB) {
+        if (pointA != pointB) {
+            return pointA > pointB ? -1 : 1;
+        }
+        return Long.compare(idA, idB);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    // [key 보다 앞, key 이상] 으로 분리
+    private static Node[] split(Node node, long point, long id) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(node.point, node.id, point, id) < 0) {
+            Node[] parts = split(node.right, point, id);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = split(node.left, point, id);
+        node.left = parts[1];
+        update(node);
+        return new Node[]{parts[0], node};
+    }
+
+    private static Node merge(Node a, Node b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    private static Node remove(Node node, long point, long id) {
+        Node[] parts = split(node, point, id);
+        return merge(parts[0], removeMin(parts[1]));
+    }
+
+    private static Node removeMin(Node node) {
+        if (node == null) {
+            return null;
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        update(node);
+        return node;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.gazamung.rank.leaderboard;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 순위표 스냅샷 인코딩
+ * 순위 순으로 정렬된 항목을 varint 로 저장하며,
+ * 점수는 내림차순이므로 앞 항목과의 차이(0 이상)만, 팀 ID 는 앞 항목과의 차이(zigzag)만 저장한다.
+ * [버전][항목 수][팀 ID 차이, 점수 차이, 승, 패]...
+ */
+public final class SnapshotCodec {
+
+    private static final int VERSION = 1;
+
+    private SnapshotCodec() {
+    }
+
+    /**
+     * @param entries 순위 순으로 정렬된 항목
+     * @return
+     */
+    public static byte[] encode(List<SnapshotEntry> entries) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(entries.size() * 6 + 8);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeVarLong(out, entries.size());
+
+            long prevId = 0;
+            long prevPoint = 0;
+            for (int i = 0; i < entries.size(); i++) {
+                SnapshotEntry entry = entries.get(i);
+                writeVarLong(out, zigzag(entry.getTeamId() - prevId));
+                writeVarLong(out, i == 0 ? zigzag(entry.getRankPoint()) : zigzag(prevPoint - entry.getRankPoint()));
+                writeVarLong(out, entry.getWinCount());
+                writeVarLong(out, entry.getLoseCount());
+                prevId = entry.getTeamId();
+                prevPoint = entry.getRankPoint();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param payload
+     * @return 순위 순으로 정렬된 항목
+     */
+    public static List<SnapshotEntry> decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IllegalStateException("지원하지 않는 스냅샷 버전: " + version);
+            }
+            int size = (int) readVarLong(in);
+            List<SnapshotEntry> entries = new ArrayList<>(size);
+
+            long prevId = 0;
+            long prevPoint = 0;
+            for (int i = 0; i < size; i++) {
+                long id = prevId + unzigzag(readVarLong(in));
+                long pointDelta = unzigzag(readVarLong(in));
+                long point = i == 0 ? pointDelta : prevPoint - pointDelta;
+                entries.add(new SnapshotEntry(id, point, readVarLong(in), readVarLong(in)));
+                prevId = id;
+                prevPoint = point;
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 varint");
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.gazamung.rank.leaderboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스냅샷에 저장되는 순위표 항목 (순위 순서대로 저장되므로 순위는 따로 저장하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class SnapshotEntry {
+
+    private final long teamId;
+    private final long rankPoint;
+    private final long winCount;
+    private final long loseCount;
+}
@@ -0,0 +1,39 @@
+package com.example.gazamung.rank.rating;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Elo 레이팅
+ * 기대 승률 대비 결과로 변동폭을 정하고, 점수 차가 클수록 변동폭을 키운다.
+ * (강팀이 약팀을 크게 이긴 경우는 덜 반영되도록 레이팅 차이로 보정)
+ */
+@Component
+@ConditionalOnProperty(name = "rank.rating.engine", havingValue = "elo", matchIfMissing = true)
+public class EloRatingEngine implements RatingEngine {
+
+    @Value("${rank.rating.elo.initial:1000}")
+    private double initialRating;
+
+    @Value("${rank.rating.elo.k-factor:32}")
+    private double kFactor;
+
+    @Override
+    public Rating initial() {
+        return new Rating(initialRating, 0, 0);
+    }
+
+    @Override
+    public RatingResult rate(Rating winner, Rating loser, long scoreMargin) {
+        double diff = winner.getRating() - loser.getRating();
+        double expected = 1.0 / (1.0 + Math.pow(10, -diff / 400.0));
+
+        double marginMultiplier = Math.log(Math.max(scoreMargin, 1) + 1) * (2.2 / (Math.max(diff, 0) * 0.001 + 2.2));
+        double change = kFactor * marginMultiplier * (1 - expected);
+
+        return new RatingResult(
+                new Rating(winner.getRating() + change, 0, 0),
+                new Rating(Math.max(loser.getRating() - change, 0), 0, 0));
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.gazamung.rank.rating;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Glicko-2 레이팅 (경기 하나를 하나의 rating period 로 처리)
+ * 경기 수가 적은 팀은 deviation 이 커서 변동폭이 크고, 경기가 쌓일수록 안정된다.
+ */
+@Component
+@ConditionalOnProperty(name = "rank.rating.engine", havingValue = "glicko2")
+public class Glicko2RatingEngine implements RatingEngine {
+
+    private static final double SCALE = 173.7178;
+    private static final double BASE = 1500;
+    private static final double EPSILON = 0.000001;
+
+    @Value("${rank.rating.glicko2.initial-deviation:350}")
+    private double initialDeviation;
+
+    @Value("${rank.rating.glicko2.initial-volatility:0.06}")
+    private double initialVolatility;
+
+    @Value("${rank.rating.glicko2.tau:0.5}")
+    private double tau;
+
+    @Override
+    public Rating initial() {
+        return new Rating(BASE, initialDeviation, initialVolatility);
+    }
+
+    @Override
+    public RatingResult rate(Rating winner, Rating loser, long scoreMargin) {
+        return new RatingResult(update(winner, loser, 1.0), update(loser, winner, 0.0));
+    }
+
+    private Rating update(Rating player, Rating opponent, double score) {
+        double mu = (player.getRating() - BASE) / SCALE;
+        double phi = deviation(player) / SCALE;
+        double sigma = player.getVolatility() > 0 ? player.getVolatility() : initialVolatility;
+
+        double muJ = (opponent.getRating() - BASE) / SCALE;
+        double phiJ = deviation(opponent) / SCALE;
+
+        double g = 1.0 / Math.sqrt(1 + 3 * phiJ * phiJ / (Math.PI * Math.PI));
+        double e = 1.0 / (1 + Math.exp(-g * (mu - muJ)));
+        double v = 1.0 / (g * g * e * (1 - e));
+        double delta = v * g * (score - e);
+
+        double newSigma = volatility(phi, sigma, v, delta);
+        double phiStar = Math.sqrt(phi * phi + newSigma * newSigma);
+        double newPhi = 1.0 / Math.sqrt(1 / (phiStar * phiStar) + 1 / v);
+        double newMu = mu + newPhi * newPhi * g * (score - e);
+
+        return new Rating(SCALE * newMu + BASE, SCALE * newPhi, newSigma);
+    }
+
+    private double deviation(Rating rating) {
+        return rating.getDeviation() > 0 ? rating.getDeviation() : initialDeviation;
+    }
+
+    // Glicko-2 step 5 (Illinois 알고리즘으로 새 volatility 계산)
+    private double volatility(double phi, double sigma, double v, double delta) {
+        double a = Math.log(sigma * sigma);
+        double A = a;
+        double B;
+        if (delta * delta > phi * phi + v) {
+            B = Math.log(delta * delta - phi * phi - v);
+        } else {
+            int k = 1;
+            while (f(a - k * tau, delta, phi, v, a) < 0) {
+                k++;
+            }
+            B = a - k * tau;
+        }
+
+        double fA = f(A, delta, phi, v, a);
+        double fB = f(B, delta, phi, v, a);
+        while (Math.abs(B - A) > EPSILON) {
+            double C = A + (A - B) * fA / (fB - fA);
+            double fC = f(C, delta, phi, v, a);
+            if (fC * fB <= 0) {
+                A = B;
+                fA = fB;
+            } else {
+                fA = fA / 2;
+            }
+            B = C;
+            fB = fC;
+        }
+        return Math.exp(A / 2);
+    }
+
+    private double f(double x, double delta, double phi, double v, double a) {
+        double ex = Math.exp(x);
+        double num = ex * (delta * delta - phi * phi - v - ex);
+        double den = 2 * Math.pow(phi * phi + v + ex, 2);
+        return num / den - (x - a) / (tau * tau);
+    }
+}
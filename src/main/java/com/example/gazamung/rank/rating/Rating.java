@@ -0,0 +1,26 @@
+package com.example.gazamung.rank.rating;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 팀 레이팅 (Elo 는 rating 만 사용, Glicko-2 는 deviation/volatility 까지 사용)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class Rating {
+
+    private final double rating;
+    private final double deviation;
+    private final double volatility;
+
+    /**
+     * 화면에 노출되는 랭크 점수 (rank.rank_point)
+     * @return
+     */
+    public long toRankPoint() {
+        return Math.max(0L, Math.round(rating));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.gazamung.rank.rating;
+
+/**
+ * 경기 결과 → 레이팅 계산 방식
+ * rank.rating.engine 설정값(elo, glicko2)에 따라 구현체가 선택된다.
+ */
+public interface RatingEngine {
+
+    /**
+     * 랭크가 처음 생성되는 팀의 레이팅
+     * @return
+     */
+    Rating initial();
+
+    /**
+     * 한 경기 결과 반영
+     * @param winner 승리 팀의 현재 레이팅
+     * @param loser 패배 팀의 현재 레이팅
+     * @param scoreMargin 점수 차 (0 이상)
+     * @return
+     */
+    RatingResult rate(Rating winner, Rating loser, long scoreMargin);
+}
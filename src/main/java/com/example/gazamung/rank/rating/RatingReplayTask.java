@@ -0,0 +1,88 @@
+package com.example.gazamung.rank.rating;
+
+import com.example.gazamung.rank.dto.BattleResultRow;
+import com.example.gazamung.rank.dto.RankTotal;
+
+import java.util.*;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 경기 이력 재생 (fork/join)
+ * 파티션(종목, 과는 대학+종목)끼리는 서로 영향이 없으므로 나눠서 병렬로 계산하고,
+ * 파티션 안에서는 경기 종료 순서대로 차례로 반영한다.
+ */
+public class RatingReplayTask extends RecursiveTask<List<RankTotal>> {
+
+    private final List<List<BattleResultRow>> partitions;
+    private final int from;
+    private final int to;
+    private final RatingEngine ratingEngine;
+    private final boolean dept;
+
+    public RatingReplayTask(List<List<BattleResultRow>> partitions, RatingEngine ratingEngine, boolean dept) {
+        this(partitions, 0, partitions.size(), ratingEngine, dept);
+    }
+
+    private RatingReplayTask(List<List<BattleResultRow>> partitions, int from, int to, RatingEngine ratingEngine, boolean dept) {
+        this.partitions = partitions;
+        this.from = from;
+        this.to = to;
+        this.ratingEngine = ratingEngine;
+        this.dept = dept;
+    }
+
+    @Override
+    protected List<RankTotal> compute() {
+        if (to - from <= 1) {
+            return from < to ? replay(partitions.get(from)) : new ArrayList<>();
+        }
+        int mid = (from + to) >>> 1;
+        RatingReplayTask left = new RatingReplayTask(partitions, from, mid, ratingEngine, dept);
+        left.fork();
+        List<RankTotal> result = new RatingReplayTask(partitions, mid, to, ratingEngine, dept).compute();
+        result.addAll(left.join());
+        return result;
+    }
+
+    private List<RankTotal> replay(List<BattleResultRow> battles) {
+        Map<Long, Rating> ratings = new HashMap<>();
+        Map<Long, long[]> records = new HashMap<>();     // teamId → {승, 패}
+
+        for (BattleResultRow battle : battles) {
+            Rating winner = ratings.getOrDefault(battle.getWinner(), ratingEngine.initial());
+            Rating loser = ratings.getOrDefault(battle.getLoser(), ratingEngine.initial());
+
+            RatingResult result = ratingEngine.rate(winner, loser, margin(battle));
+            ratings.put(battle.getWinner(), result.getWinner());
+            ratings.put(battle.getLoser(), result.getLoser());
+
+            records.computeIfAbsent(battle.getWinner(), k -> new long[2])[0]++;
+            records.computeIfAbsent(battle.getLoser(), k -> new long[2])[1]++;
+        }
+
+        BattleResultRow first = battles.get(0);
+        List<RankTotal> totals = new ArrayList<>(ratings.size());
+        for (Map.Entry<Long, Rating> entry : ratings.entrySet()) {
+            Rating rating = entry.getValue();
+            long[] record = records.get(entry.getKey());
+            totals.add(RankTotal.builder()
+                    .univId(dept ? first.getUnivId() : entry.getKey())
+                    .deptId(dept ? entry.getKey() : null)
+                    .eventId(first.getEventId())
+                    .rating(rating.getRating())
+                    .ratingDeviation(rating.getDeviation())
+                    .ratingVolatility(rating.getVolatility())
+                    .rankPoint(rating.toRankPoint())
+                    .winCount(record[0])
+                    .loseCount(record[1])
+                    .build());
+        }
+        return totals;
+    }
+
+    private static long margin(BattleResultRow battle) {
+        long host = battle.getHostScore() == null ? 0 : battle.getHostScore();
+        long guest = battle.getGuestScore() == null ? 0 : battle.getGuestScore();
+        return Math.abs(host - guest);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.gazamung.rank.rating;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 한 경기 결과를 반영한 승리/패배 팀의 새 레이팅
+ */
+@Getter
+@AllArgsConstructor
+public class RatingResult {
+
+    private final Rating winner;
+    private final Rating loser;
+}
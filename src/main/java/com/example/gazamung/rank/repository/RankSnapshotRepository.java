@@ -0,0 +1,22 @@
+package com.example.gazamung.rank.repository;
+
+import com.example.gazamung.rank.entity.RankSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface RankSnapshotRepository extends JpaRepository<RankSnapshot, Long> {
+
+    Optional<RankSnapshot> findBySeasonAndBoardTypeAndEventIdAndUnivId(String season, String boardType, Long eventId, Long univId);
+
+    @Modifying
+    @Query("DELETE FROM RankSnapshot s WHERE s.season = :season")
+    void deleteBySeason(@Param("season") String season);
+
+    @Query("SELECT s.season, MIN(s.takenDt), COUNT(s) FROM RankSnapshot s GROUP BY s.season ORDER BY MIN(s.takenDt) DESC")
+    List<Object[]> findSeasons();
+}
@@ -0,0 +1,425 @@
+package com.example.gazamung.rank.service;
+
+import com.example.gazamung.department.entity.Department;
+import com.example.gazamung.mapper.RankMapper;
+import com.example.gazamung.rank.dto.DeptRankRes;
+import com.example.gazamung.rank.dto.UnivRankRes;
+import com.example.gazamung.rank.leaderboard.Leaderboard;
+import com.example.gazamung.reference.service.ReferenceRegistry;
+import com.example.gazamung.university.entity.University;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대학/과 랭킹 메모리 순위표
+ * 서버 시작 시 rank 테이블을 한 번 적재하고, 이후에는 경기 결과가 확정될 때마다 증분 갱신한다.
+ * 적재 전(또는 적재 실패 시)에는 isReady() 가 false 이며 RankServiceImpl 이 DB 조회로 대신한다.
+ * 종목별 레이팅은 더해도 의미가 없으므로 종목 전체 순위는 경기한 종목 레이팅의 평균으로 매긴다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RankBoardManager {
+
+    public static final long ALL_EVENTS = -1L;    // 종목 전체 순위표 키 (경기한 종목 레이팅의 평균)
+
+    private final RankMapper rankMapper;
+    private final ReferenceRegistry referenceRegistry;
+
+    // 적재 중 반영된 갱신 횟수, 적재 전후 값이 다르면 다시 적재
+    private final AtomicLong modCount = new AtomicLong();
+
+    private volatile Boards boards;
+
+    private static class Boards {
+        // eventId → 대학 순위표
+        private final Map<Long, Leaderboard<UnivRankRes>> univ = new ConcurrentHashMap<>();
+        // univId → eventId → 과 순위표
+        private final Map<Long, Map<Long, Leaderboard<DeptRankRes>>> dept = new ConcurrentHashMap<>();
+
+        private Leaderboard<UnivRankRes> univ(long eventId) {
+            return univ.computeIfAbsent(eventId, k -> new Leaderboard<>());
+        }
+
+        private Leaderboard<DeptRankRes> dept(long univId, long eventId) {
+            return dept.computeIfAbsent(univId, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(eventId, k -> new Leaderboard<>());
+        }
+    }
+
+    public boolean isReady() {
+        return boards != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reload();
+    }
+
+    /**
+     * rank 테이블 기준으로 순위표 재적재 (다중 서버 환경의 오차 보정용으로 주기적으로도 실행)
+     */
+    @Scheduled(fixedDelayString = "${rank.board.reload-ms:3600000}", initialDelayString = "${rank.board.reload-ms:3600000}")
+    public void reload() {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            long before = modCount.get();
+            Boards loaded;
+            try {
+                loaded = load();
+            } catch (Exception e) {
+                log.error("랭킹 순위표 적재 실패", e);
+                return;
+            }
+            synchronized (this) {
+                if (modCount.get() == before) {
+                    boards = loaded;
+                    log.info("랭킹 순위표 적재 완료 - 대학 순위표: {}개, 과 순위표 대학 수: {}개", loaded.univ.size(), loaded.dept.size());
+                    return;
+                }
+            }
+        }
+        log.warn("적재 중 랭킹 갱신이 계속 발생하여 다음 주기에 다시 적재합니다.");
+    }
+
+    private Boards load() {
+        Boards loaded = new Boards();
+
+        Map<Long, UnivRankRes> univs = new HashMap<>();
+        for (UnivRankRes row : rankMapper.findUnivRankRows()) {
+            long point = nvl(row.getRankPoint());
+            loaded.univ(row.getEventId()).put(row.getUnivId(), point,
+                    univEntry(row, row.getEventId(), point, nvl(row.getWinCount()), nvl(row.getLoseCount())));
+            univs.putIfAbsent(row.getUnivId(), row);
+        }
+        univs.forEach((univId, row) -> refreshUnivTotal(loaded, univId, row));
+
+        Map<Long, DeptRankRes> depts = new HashMap<>();
+        for (DeptRankRes row : rankMapper.findDeptRankRows()) {
+            long point = nvl(row.getRankPoint());
+            loaded.dept(row.getUnivId(), row.getEventId()).put(row.getDeptId(), point,
+                    deptEntry(row, row.getEventId(), point, nvl(row.getWinCount()), nvl(row.getLoseCount())));
+            depts.putIfAbsent(row.getDeptId(), row);
+        }
+        depts.forEach((deptId, row) -> refreshDeptTotal(loaded, row.getUnivId(), deptId, row));
+        return loaded;
+    }
+
+    /**
+     * 대학 대항전 결과 반영 (트랜잭션 안이면 커밋 이후에 반영)
+     * @param eventId
+     * @param winUniv
+     * @param winPoint 승리 팀의 새 랭크 점수
+     * @param loseUniv
+     * @param losePoint 패배 팀의 새 랭크 점수
+     */
+    public void applyUnivResult(Long eventId, Long winUniv, long winPoint, Long loseUniv, long losePoint) {
+        afterCommit(() -> {
+            synchronized (this) {
+                modCount.incrementAndGet();
+                Boards current = boards;
+                if (current == null) {
+                    return;
+                }
+                applyUniv(current, eventId, winUniv, winPoint, true);
+                applyUniv(current, eventId, loseUniv, losePoint, false);
+            }
+        });
+    }
+
+    /**
+     * 과 대항전 결과 반영 (트랜잭션 안이면 커밋 이후에 반영)
+     * @param eventId
+     * @param univId
+     * @param winDept
+     * @param winPoint 승리 팀의 새 랭크 점수
+     * @param loseDept
+     * @param losePoint 패배 팀의 새 랭크 점수
+     */
+    public void applyDeptResult(Long eventId, Long univId, Long winDept, long winPoint, Long loseDept, long losePoint) {
+        afterCommit(() -> {
+            synchronized (this) {
+                modCount.incrementAndGet();
+                Boards current = boards;
+                if (current == null) {
+                    return;
+                }
+                applyDept(current, eventId, univId, winDept, winPoint, true);
+                applyDept(current, eventId, univId, loseDept, losePoint, false);
+            }
+        });
+    }
+
+    private void applyUniv(Boards current, Long eventId, Long univId, long point, boolean won) {
+        Leaderboard<UnivRankRes> board = current.univ(eventId);
+        UnivRankRes entry = board.get(univId);
+        if (entry == null) {
+            University university = referenceRegistry.university(univId).orElse(null);
+            if (university == null) {
+                return;
+            }
+            entry = UnivRankRes.builder()
+                    .univId(univId)
+                    .schoolName(university.getSchoolName())
+                    .logoImg(university.getLogoImg())
+                    .rankPoint(0L).winCount(0L).loseCount(0L)
+                    .build();
+        }
+        board.put(univId, point, univEntry(entry, eventId, point,
+                entry.getWinCount() + (won ? 1 : 0), entry.getLoseCount() + (won ? 0 : 1)));
+        refreshUnivTotal(current, univId, entry);
+    }
+
+    private void applyDept(Boards current, Long eventId, Long univId, Long deptId, long point, boolean won) {
+        Leaderboard<DeptRankRes> board = current.dept(univId, eventId);
+        DeptRankRes entry = board.get(deptId);
+        if (entry == null) {
+            Department department = referenceRegistry.department(deptId).orElse(null);
+            if (department == null) {
+                return;
+            }
+            String logoImg = referenceRegistry.university(univId).map(University::getLogoImg).orElse(null);
+            entry = DeptRankRes.builder()
+                    .deptId(deptId)
+                    .univId(univId)
+                    .deptName(department.getDeptName())
+                    .logoImg(logoImg)
+                    .rankPoint(0L).winCount(0L).loseCount(0L)
+                    .build();
+        }
+        board.put(deptId, point, deptEntry(entry, eventId, point,
+                entry.getWinCount() + (won ? 1 : 0), entry.getLoseCount() + (won ? 0 : 1)));
+        refreshDeptTotal(current, univId, deptId, entry);
+    }
+
+    // 종목 전체 항목 다시 계산 (경기한 종목 레이팅 평균, 승/패는 합계)
+    private static void refreshUnivTotal(Boards current, Long univId, UnivRankRes src) {
+        long point = 0, win = 0, lose = 0, events = 0;
+        for (Map.Entry<Long, Leaderboard<UnivRankRes>> board : current.univ.entrySet()) {
+            if (board.getKey() == ALL_EVENTS) continue;
+            UnivRankRes entry = board.getValue().get(univId);
+            if (entry == null || nvl(entry.getWinCount()) + nvl(entry.getLoseCount()) == 0) continue;
+            point += nvl(entry.getRankPoint());
+            win += nvl(entry.getWinCount());
+            lose += nvl(entry.getLoseCount());
+            events++;
+        }
+        Leaderboard<UnivRankRes> all = current.univ(ALL_EVENTS);
+        if (events == 0) {
+            all.remove(univId);
+            return;
+        }
+        long average = Math.round((double) point / events);
+        all.put(univId, average, univEntry(src, null, average, win, lose));
+    }
+
+    private static void refreshDeptTotal(Boards current, Long univId, Long deptId, DeptRankRes src) {
+        long point = 0, win = 0, lose = 0, events = 0;
+        for (Map.Entry<Long, Leaderboard<DeptRankRes>> board : current.dept.getOrDefault(univId, Map.of()).entrySet()) {
+            if (board.getKey() == ALL_EVENTS) continue;
+            DeptRankRes entry = board.getValue().get(deptId);
+            if (entry == null || nvl(entry.getWinCount()) + nvl(entry.getLoseCount()) == 0) continue;
+            point += nvl(entry.getRankPoint());
+            win += nvl(entry.getWinCount());
+            lose += nvl(entry.getLoseCount());
+            events++;
+        }
+        Leaderboard<DeptRankRes> all = current.dept(univId, ALL_EVENTS);
+        if (events == 0) {
+            all.remove(deptId);
+            return;
+        }
+        long average = Math.round((double) point / events);
+        all.put(deptId, average, deptEntry(src, null, average, win, lose));
+    }
+
+    /**
+     * 대학 순위 페이지 조회
+     * @param eventId null 이면 종목 전체
+     * @param offset
+     * @param limit
+     * @return
+     */
+    public List<UnivRankRes> univRange(Long eventId, int offset, int limit) {
+        Leaderboard<UnivRankRes> board = boards.univ.get(eventKey(eventId));
+        List<UnivRankRes> result = new ArrayList<>();
+        if (board == null) {
+            return result;
+        }
+        List<UnivRankRes> entries = board.range(offset, limit);
+        for (int i = 0; i < entries.size(); i++) {
+            result.add(ranked(entries.get(i), offset + i + 1));
+        }
+        return result;
+    }
+
+    /**
+     * 특정 대학의 순위 조회
+     * @param eventId null 이면 종목 전체
+     * @param univId
+     * @return 순위 정보, 없으면 null
+     */
+    public UnivRankRes univPosition(Long eventId, Long univId) {
+        Leaderboard<UnivRankRes> board = boards.univ.get(eventKey(eventId));
+        if (board == null) {
+            return null;
+        }
+        int rank = board.rankOf(univId);
+        return rank < 0 ? null : ranked(board.get(univId), rank);
+    }
+
+    public int univSize(Long eventId) {
+        Leaderboard<UnivRankRes> board = boards.univ.get(eventKey(eventId));
+        return board == null ? 0 : board.size();
+    }
+
+    /**
+     * 과 순위 페이지 조회
+     * @param eventId null 이면 종목 전체
+     * @param univId
+     * @param offset
+     * @param limit
+     * @return
+     */
+    public List<DeptRankRes> deptRange(Long eventId, Long univId, int offset, int limit) {
+        Leaderboard<DeptRankRes> board = deptBoard(eventId, univId);
+        List<DeptRankRes> result = new ArrayList<>();
+        if (board == null) {
+            return result;
+        }
+        List<DeptRankRes> entries = board.range(offset, limit);
+        for (int i = 0; i < entries.size(); i++) {
+            result.add(ranked(entries.get(i), offset + i + 1));
+        }
+        return result;
+    }
+
+    /**
+     * 특정 과의 순위 조회
+     * @param eventId null 이면 종목 전체
+     * @param univId
+     * @param deptId
+     * @return 순위 정보, 없으면 null
+     */
+    public DeptRankRes deptPosition(Long eventId, Long univId, Long deptId) {
+        Leaderboard<DeptRankRes> board = deptBoard(eventId, univId);
+        if (board == null) {
+            return null;
+        }
+        int rank = board.rankOf(deptId);
+        return rank < 0 ? null : ranked(board.get(deptId), rank);
+    }
+
+    public int deptSize(Long eventId, Long univId) {
+        Leaderboard<DeptRankRes> board = deptBoard(eventId, univId);
+        return board == null ? 0 : board.size();
+    }
+
+    /**
+     * 스냅샷용 대학 순위표 전체
+     * @return eventId(종목 전체는 ALL_EVENTS) → 순위 순 항목
+     */
+    public Map<Long, List<UnivRankRes>> exportUnivBoards() {
+        Map<Long, List<UnivRankRes>> result = new HashMap<>();
+        boards.univ.forEach((eventId, board) -> result.put(eventId, board.range(0, Integer.MAX_VALUE)));
+        return result;
+    }
+
+    /**
+     * 스냅샷용 과 순위표 전체
+     * @return univId → eventId(종목 전체는 ALL_EVENTS) → 순위 순 항목
+     */
+    public Map<Long, Map<Long, List<DeptRankRes>>> exportDeptBoards() {
+        Map<Long, Map<Long, List<DeptRankRes>>> result = new HashMap<>();
+        boards.dept.forEach((univId, byEvent) -> {
+            Map<Long, List<DeptRankRes>> eventBoards = new HashMap<>();
+            byEvent.forEach((eventId, board) -> eventBoards.put(eventId, board.range(0, Integer.MAX_VALUE)));
+            result.put(univId, eventBoards);
+        });
+        return result;
+    }
+
+    private Leaderboard<DeptRankRes> deptBoard(Long eventId, Long univId) {
+        Map<Long, Leaderboard<DeptRankRes>> byEvent = boards.dept.get(univId);
+        return byEvent == null ? null : byEvent.get(eventKey(eventId));
+    }
+
+    private void afterCommit(Runnable task) {
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("랭킹 순위표 갱신 실패, 다음 적재 시 보정됩니다.", e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeTask.run();
+                }
+            });
+        } else {
+            safeTask.run();
+        }
+    }
+
+    private static long eventKey(Long eventId) {
+        return eventId == null ? ALL_EVENTS : eventId;
+    }
+
+    private static long nvl(Long value) {
+        return value == null ? 0L : value;
+    }
+
+    private static UnivRankRes univEntry(UnivRankRes src, Long eventId, long point, long win, long lose) {
+        return UnivRankRes.builder()
+                .univId(src.getUnivId())
+                .eventId(eventId)
+                .schoolName(src.getSchoolName())
+                .logoImg(src.getLogoImg())
+                .rankPoint(point)
+                .winCount(win)
+                .loseCount(lose)
+                .totalCount(win + lose)
+                .build();
+    }
+
+    private static DeptRankRes deptEntry(DeptRankRes src, Long eventId, long point, long win, long lose) {
+        return DeptRankRes.builder()
+                .deptId(src.getDeptId())
+                .univId(src.getUnivId())
+                .eventId(eventId)
+                .deptName(src.getDeptName())
+                .logoImg(src.getLogoImg())
+                .rankPoint(point)
+                .winCount(win)
+                .loseCount(lose)
+                .totalCount(win + lose)
+                .build();
+    }
+
+    private static UnivRankRes ranked(UnivRankRes src, long ranking) {
+        UnivRankRes copy = univEntry(src, src.getEventId(), src.getRankPoint(), src.getWinCount(), src.getLoseCount());
+        copy.setRanking(ranking);
+        return copy;
+    }
+
+    private static DeptRankRes ranked(DeptRankRes src, long ranking) {
+        DeptRankRes copy = deptEntry(src, src.getEventId(), src.getRankPoint(), src.getWinCount(), src.getLoseCount());
+        copy.setRanking(ranking);
+        return copy;
+    }
+}
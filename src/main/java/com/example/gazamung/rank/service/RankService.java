@@ -1,6 +1,7 @@
 package com.example.gazamung.rank.service;
 
 import com.example.gazamung.rank.dto.DeptRankRes;
+import com.example.gazamung.rank.dto.RecomputeRes;
 import com.example.gazamung.rank.dto.UnivRankRes;
 import org.springframework.stereotype.Service;
 
@@ -11,4 +12,15 @@ public interface RankService {
 
     public List<UnivRankRes> univRankList(Long eventId);
     public List<DeptRankRes> deptRankList(Long eventId, Long univId);
-}
\ No newline at end of file
+
+    public List<UnivRankRes> univRankPage(Long eventId, int page, int size);
+    public UnivRankRes univRankPosition(Long eventId, Long univId);
+
+    public List<DeptRankRes> deptRankPage(Long eventId, Long univId, int page, int size);
+    public DeptRankRes deptRankPosition(Long eventId, Long univId, Long deptId);
+
+    public void applyUnivResult(Long eventId, Long winUniv, Long loseUniv, long scoreMargin);
+    public void applyDeptResult(Long eventId, Long univId, Long winDept, Long loseDept, long scoreMargin);
+
+    public RecomputeRes recomputeRatings(Long memberIdx);
+}
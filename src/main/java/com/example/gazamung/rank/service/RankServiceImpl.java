@@ -1,14 +1,29 @@
 package com.example.gazamung.rank.service;
 
+import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung.exception.CustomException;
 import com.example.gazamung.mapper.RankMapper;
-import com.example.gazamung.rank.dto.DeptRankRes;
-import com.example.gazamung.rank.dto.UnivRankRes;
-import com.example.gazamung.rank.repository.RankRepository;
+import com.example.gazamung.member.service.AdminChecker;
+import com.example.gazamung.rank.dto.*;
+import com.example.gazamung.rank.rating.Rating;
+import com.example.gazamung.rank.rating.RatingEngine;
+import com.example.gazamung.rank.rating.RatingReplayTask;
+import com.example.gazamung.rank.rating.RatingResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 @Service
 @Slf4j
@@ -16,23 +31,311 @@ import java.util.List;
 public class RankServiceImpl implements RankService {
 
     private final RankMapper rankMapper;
+    private final RankBoardManager rankBoardManager;
+    private final RatingEngine ratingEngine;
+    private final AdminChecker adminChecker;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int RECOMPUTE_BATCH_SIZE = 500;
+
+    // 레이팅 재계산 전용 fork/join 풀
+    private final ForkJoinPool recomputePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
 
     @Override
     public List<UnivRankRes> univRankList(Long eventId) {
+        if (rankBoardManager.isReady()) {
+            return rankBoardManager.univRange(eventId, 0, Integer.MAX_VALUE);
+        }
+        return univRankListFromDb(eventId);
+    }
+
+    @Override
+    public List<DeptRankRes> deptRankList(Long eventId, Long univId) {
+        if (rankBoardManager.isReady()) {
+            return rankBoardManager.deptRange(eventId, univId, 0, Integer.MAX_VALUE);
+        }
+        return deptRankListFromDb(eventId, univId);
+    }
+
+    /**
+     * 대학 랭킹 페이지 조회
+     * @param eventId null 이면 종목 전체
+     * @param page 0부터 시작
+     * @param size
+     * @return
+     */
+    @Override
+    public List<UnivRankRes> univRankPage(Long eventId, int page, int size) {
+        int offset = offset(page, size);
+        if (rankBoardManager.isReady()) {
+            return rankBoardManager.univRange(eventId, offset, size);
+        }
+
+        // 순위표 적재 전에는 DB 결과에서 잘라서 반환
+        List<UnivRankRes> list = univRankListFromDb(eventId);
+        List<UnivRankRes> pageList = list.subList(Math.min(offset, list.size()), Math.min(offset + size, list.size()));
+        for (int i = 0; i < pageList.size(); i++) {
+            pageList.get(i).setRanking((long) offset + i + 1);
+        }
+        return pageList;
+    }
+
+    /**
+     * 대학의 현재 순위 조회
+     * @param eventId null 이면 종목 전체
+     * @param univId
+     * @return
+     */
+    @Override
+    public UnivRankRes univRankPosition(Long eventId, Long univId) {
+        if (rankBoardManager.isReady()) {
+            UnivRankRes position = rankBoardManager.univPosition(eventId, univId);
+            if (position == null) {
+                throw new CustomException(CustomExceptionCode.NOT_FOUND_RANK);
+            }
+            return position;
+        }
+
+        List<UnivRankRes> list = univRankListFromDb(eventId);
+        for (int i = 0; i < list.size(); i++) {
+            if (Objects.equals(list.get(i).getUnivId(), univId)) {
+                list.get(i).setRanking((long) i + 1);
+                return list.get(i);
+            }
+        }
+        throw new CustomException(CustomExceptionCode.NOT_FOUND_RANK);
+    }
+
+    /**
+     * 과 랭킹 페이지 조회
+     * @param eventId null 이면 종목 전체
+     * @param univId
+     * @param page 0부터 시작
+     * @param size
+     * @return
+     */
+    @Override
+    public List<DeptRankRes> deptRankPage(Long eventId, Long univId, int page, int size) {
+        int offset = offset(page, size);
+        if (rankBoardManager.isReady()) {
+            return rankBoardManager.deptRange(eventId, univId, offset, size);
+        }
+
+        List<DeptRankRes> list = deptRankListFromDb(eventId, univId);
+        List<DeptRankRes> pageList = list.subList(Math.min(offset, list.size()), Math.min(offset + size, list.size()));
+        for (int i = 0; i < pageList.size(); i++) {
+            pageList.get(i).setRanking((long) offset + i + 1);
+        }
+        return pageList;
+    }
+
+    /**
+     * 과의 현재 순위 조회
+     * @param eventId null 이면 종목 전체
+     * @param univId
+     * @param deptId
+     * @return
+     */
+    @Override
+    public DeptRankRes deptRankPosition(Long eventId, Long univId, Long deptId) {
+        if (rankBoardManager.isReady()) {
+            DeptRankRes position = rankBoardManager.deptPosition(eventId, univId, deptId);
+            if (position == null) {
+                throw new CustomException(CustomExceptionCode.NOT_FOUND_RANK);
+            }
+            return position;
+        }
+
+        List<DeptRankRes> list = deptRankListFromDb(eventId, univId);
+        for (int i = 0; i < list.size(); i++) {
+            if (Objects.equals(list.get(i).getDeptId(), deptId)) {
+                list.get(i).setRanking((long) i + 1);
+                return list.get(i);
+            }
+        }
+        throw new CustomException(CustomExceptionCode.NOT_FOUND_RANK);
+    }
+
+    /**
+     * 대학 대항전 결과를 랭크에 반영
+     * 두 팀의 레이팅을 잠그고 읽은 뒤 레이팅 엔진으로 계산해서 MERGE 한 번으로 기록한다.
+     * 같은 (대학, 종목) 랭크가 동시에 처음 생성되면 한쪽이 유니크 제약에 걸리는데,
+     * 그 사이 행이 생겼으므로 다시 실행하면 잠금 후 UPDATE 로 반영된다.
+     * @param eventId
+     * @param winUniv
+     * @param loseUniv
+     * @param scoreMargin 점수 차
+     */
+    @Override
+    @Transactional
+    public void applyUnivResult(Long eventId, Long winUniv, Long loseUniv, long scoreMargin) {
+        RatingResult result;
+        try {
+            result = upsertUnivRating(eventId, winUniv, loseUniv, scoreMargin);
+        } catch (DuplicateKeyException e) {
+            log.info("대학 랭크 동시 생성 감지, 재시도 - eventId: {}, univ: {} / {}", eventId, winUniv, loseUniv);
+            result = upsertUnivRating(eventId, winUniv, loseUniv, scoreMargin);
+        }
+        rankBoardManager.applyUnivResult(eventId, winUniv, result.getWinner().toRankPoint(),
+                loseUniv, result.getLoser().toRankPoint());
+    }
+
+    /**
+     * 과 대항전 결과를 랭크에 반영
+     * @param eventId
+     * @param univId
+     * @param winDept
+     * @param loseDept
+     * @param scoreMargin 점수 차
+     */
+    @Override
+    @Transactional
+    public void applyDeptResult(Long eventId, Long univId, Long winDept, Long loseDept, long scoreMargin) {
+        RatingResult result;
+        try {
+            result = upsertDeptRating(eventId, univId, winDept, loseDept, scoreMargin);
+        } catch (DuplicateKeyException e) {
+            log.info("과 랭크 동시 생성 감지, 재시도 - eventId: {}, dept: {} / {}", eventId, winDept, loseDept);
+            result = upsertDeptRating(eventId, univId, winDept, loseDept, scoreMargin);
+        }
+        rankBoardManager.applyDeptResult(eventId, univId, winDept, result.getWinner().toRankPoint(),
+                loseDept, result.getLoser().toRankPoint());
+    }
+
+    /**
+     * 종료된 전체 경기 이력으로 레이팅 재계산 (관리자)
+     * 종목(과는 대학+종목) 단위로 나눠 fork/join 으로 병렬 계산한 뒤 rank 테이블에 일괄 기록한다.
+     * 레이팅 방식을 바꾼 뒤 전체 랭킹을 다시 만들 때 사용.
+     * @param memberIdx
+     * @return
+     */
+    @Override
+    @Transactional
+    public RecomputeRes recomputeRatings(Long memberIdx) {
+        adminChecker.checkAdmin(memberIdx);
+        return recompute();
+    }
+
+    /**
+     * 레이팅 도입 전 행이 남아 있으면 서버 시작 시 전체 이력으로 한 번 재계산
+     * (기존 rank_point 는 +10/-5 점수라 레이팅과 같은 척도가 아님)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recomputeLegacyRatings() {
+        try {
+            int unrated = rankMapper.countUnratedRanks();
+            if (unrated > 0) {
+                log.info("레이팅 없는 랭크 {}건, 전체 이력으로 재계산합니다.", unrated);
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> recompute());
+            }
+        } catch (Exception e) {
+            log.error("레이팅 초기 재계산 실패", e);
+        }
+    }
+
+    private RecomputeRes recompute() {
+        long start = System.currentTimeMillis();
+
+        List<BattleResultRow> univResults = rankMapper.findCompletedUnivResults();
+        List<BattleResultRow> deptResults = rankMapper.findCompletedDeptResults();
+
+        List<List<BattleResultRow>> univPartitions = partition(univResults, row -> String.valueOf(row.getEventId()));
+        List<List<BattleResultRow>> deptPartitions = partition(deptResults, row -> row.getUnivId() + ":" + row.getEventId());
+
+        List<RankTotal> totals = recomputePool.invoke(new RatingReplayTask(univPartitions, ratingEngine, false));
+        totals.addAll(recomputePool.invoke(new RatingReplayTask(deptPartitions, ratingEngine, true)));
+
+        for (int i = 0; i < totals.size(); i += RECOMPUTE_BATCH_SIZE) {
+            rankMapper.mergeRankTotals(totals.subList(i, Math.min(i + RECOMPUTE_BATCH_SIZE, totals.size())));
+        }
+        // 종료된 경기가 없어 재계산되지 않은 기존 행은 초기값에서 시작
+        rankMapper.resetUnratedRanks(ratingEngine.initial());
+
+        // 커밋 이후 메모리 순위표도 다시 적재
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rankBoardManager.reload();
+            }
+        });
+
+        RecomputeRes res = RecomputeRes.builder()
+                .battleCount(univResults.size() + deptResults.size())
+                .partitionCount(univPartitions.size() + deptPartitions.size())
+                .rankCount(totals.size())
+                .elapsedMs(System.currentTimeMillis() - start)
+                .build();
+        log.info("레이팅 재계산 완료 - {}", res);
+        return res;
+    }
+
+    private RatingResult upsertUnivRating(Long eventId, Long winUniv, Long loseUniv, long scoreMargin) {
+        Map<Long, Rating> current = toRatings(rankMapper.findUnivRatingsForUpdate(eventId, winUniv, loseUniv));
+        RatingResult result = ratingEngine.rate(
+                current.getOrDefault(winUniv, ratingEngine.initial()),
+                current.getOrDefault(loseUniv, ratingEngine.initial()),
+                scoreMargin);
+        rankMapper.upsertUnivRating(eventId, winUniv, result.getWinner(), loseUniv, result.getLoser());
+        return result;
+    }
+
+    private RatingResult upsertDeptRating(Long eventId, Long univId, Long winDept, Long loseDept, long scoreMargin) {
+        Map<Long, Rating> current = toRatings(rankMapper.findDeptRatingsForUpdate(eventId, univId, winDept, loseDept));
+        RatingResult result = ratingEngine.rate(
+                current.getOrDefault(winDept, ratingEngine.initial()),
+                current.getOrDefault(loseDept, ratingEngine.initial()),
+                scoreMargin);
+        rankMapper.upsertDeptRating(eventId, univId, winDept, result.getWinner(), loseDept, result.getLoser());
+        return result;
+    }
+
+    // 레이팅이 아직 없는 행은 빼서 엔진 초기값에서 시작 (기존 rank_point 는 다른 척도라 쓰지 않음)
+    private Map<Long, Rating> toRatings(List<RankRatingRow> rows) {
+        Map<Long, Rating> ratings = new HashMap<>();
+        for (RankRatingRow row : rows) {
+            if (row.getRating() != null) {
+                ratings.put(row.getTeamId(), new Rating(row.getRating(),
+                        row.getRatingDeviation() == null ? 0 : row.getRatingDeviation(),
+                        row.getRatingVolatility() == null ? 0 : row.getRatingVolatility()));
+            }
+        }
+        return ratings;
+    }
+
+    // 정렬된 결과를 키가 바뀌는 지점마다 잘라서 파티션 생성
+    private List<List<BattleResultRow>> partition(List<BattleResultRow> rows, Function<BattleResultRow, String> key) {
+        Map<String, List<BattleResultRow>> partitions = new LinkedHashMap<>();
+        for (BattleResultRow row : rows) {
+            partitions.computeIfAbsent(key.apply(row), k -> new ArrayList<>()).add(row);
+        }
+        return new ArrayList<>(partitions.values());
+    }
+
+    private List<UnivRankRes> univRankListFromDb(Long eventId) {
         if (eventId != null) {
             return rankMapper.findUnivRanksByEventId(eventId);
         } else {
             return rankMapper.findAllUnivRanks();
         }
-
     }
 
-    @Override
-    public List<DeptRankRes> deptRankList(Long eventId, Long univId) {
+    private List<DeptRankRes> deptRankListFromDb(Long eventId, Long univId) {
         if (eventId != null) {
             return rankMapper.findDeptRanksByEventId(eventId, univId);
         } else {
             return rankMapper.findAllDeptRanks(univId);
         }
     }
-}
\ No newline at end of file
+
+    // offset + size 까지 int 범위 안이어야 함 (subList 끝 인덱스)
+    private int offset(int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new CustomException(CustomExceptionCode.INVALID_PAGE);
+        }
+        long offset = (long) page * size;
+        if (offset + size > Integer.MAX_VALUE) {
+            throw new CustomException(CustomExceptionCode.INVALID_PAGE);
+        }
+        return (int) offset;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.gazamung.rank.service;
+
+import com.example.gazamung.rank.dto.SnapshotRankRes;
+import com.example.gazamung.rank.dto.SnapshotSeasonRes;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public interface RankSnapshotService {
+
+    public int createSnapshot(Long memberIdx, String season);
+    public List<SnapshotSeasonRes> seasonList();
+
+    public List<SnapshotRankRes> univSnapshot(String season, Long eventId, String compareSeason);
+    public List<SnapshotRankRes> deptSnapshot(String season, Long eventId, Long univId, String compareSeason);
+}
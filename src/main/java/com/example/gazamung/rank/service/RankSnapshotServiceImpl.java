@@ -0,0 +1,217 @@
+package com.example.gazamung.rank.service;
+
+import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung.department.entity.Department;
+import com.example.gazamung.department.repository.DepartmentRepository;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.member.service.AdminChecker;
+import com.example.gazamung.rank.dto.SnapshotRankRes;
+import com.example.gazamung.rank.dto.SnapshotSeasonRes;
+import com.example.gazamung.rank.entity.RankSnapshot;
+import com.example.gazamung.rank.leaderboard.SnapshotCodec;
+import com.example.gazamung.rank.leaderboard.SnapshotEntry;
+import com.example.gazamung.rank.repository.RankSnapshotRepository;
+import com.example.gazamung.reference.service.ReferenceRegistry;
+import com.example.gazamung.university.entity.University;
+import com.example.gazamung.university.repository.UniversityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RankSnapshotServiceImpl implements RankSnapshotService {
+
+    private static final String UNIV = "UNIV";
+    private static final String DEPT = "DEPT";
+
+    private final RankSnapshotRepository rankSnapshotRepository;
+    private final RankBoardManager rankBoardManager;
+    private final UniversityRepository universityRepository;
+    private final ReferenceRegistry referenceRegistry;
+    private final DepartmentRepository departmentRepository;
+    private final AdminChecker adminChecker;
+
+    /**
+     * 정기 스냅샷 (기본 매월 1일 05시, 시즌 라벨은 날짜)
+     */
+    @Scheduled(cron = "${rank.snapshot.cron:0 0 5 1 * *}")
+    @Transactional
+    public void scheduledSnapshot() {
+        if (!rankBoardManager.isReady()) {
+            log.warn("랭킹 순위표 적재 전이라 정기 스냅샷을 건너뜁니다.");
+            return;
+        }
+        takeSnapshot(LocalDate.now().toString());
+    }
+
+    /**
+     * 관리자 스냅샷 생성 (같은 시즌이 있으면 덮어씀)
+     * @param memberIdx
+     * @param season
+     * @return 저장된 순위표 수
+     */
+    @Override
+    @Transactional
+    public int createSnapshot(Long memberIdx, String season) {
+        adminChecker.checkAdmin(memberIdx);
+        if (!rankBoardManager.isReady()) {
+            throw new CustomException(CustomExceptionCode.SERVER_ERROR);
+        }
+        return takeSnapshot(season);
+    }
+
+    /**
+     * 메모리 순위표 전체를 시즌 라벨로 저장
+     * @param season
+     * @return 저장된 순위표 수
+     */
+    private int takeSnapshot(String season) {
+        LocalDateTime now = LocalDateTime.now();
+        rankSnapshotRepository.deleteBySeason(season);
+
+        List<RankSnapshot> snapshots = new ArrayList<>();
+        rankBoardManager.exportUnivBoards().forEach((eventId, entries) -> {
+            List<SnapshotEntry> encoded = entries.stream()
+                    .map(e -> new SnapshotEntry(e.getUnivId(), e.getRankPoint(), e.getWinCount(), e.getLoseCount()))
+                    .collect(Collectors.toList());
+            snapshots.add(snapshot(season, UNIV, eventId, null, encoded, now));
+        });
+        rankBoardManager.exportDeptBoards().forEach((univId, byEvent) -> byEvent.forEach((eventId, entries) -> {
+            List<SnapshotEntry> encoded = entries.stream()
+                    .map(e -> new SnapshotEntry(e.getDeptId(), e.getRankPoint(), e.getWinCount(), e.getLoseCount()))
+                    .collect(Collectors.toList());
+            snapshots.add(snapshot(season, DEPT, eventId, univId, encoded, now));
+        }));
+        rankSnapshotRepository.saveAll(snapshots);
+
+        log.info("랭킹 스냅샷 저장 완료 - 시즌: {}, 순위표: {}개", season, snapshots.size());
+        return snapshots.size();
+    }
+
+    @Override
+    public List<SnapshotSeasonRes> seasonList() {
+        return rankSnapshotRepository.findSeasons().stream()
+                .map(row -> SnapshotSeasonRes.builder()
+                        .season((String) row[0])
+                        .takenDt((LocalDateTime) row[1])
+                        .boardCount((Long) row[2])
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 시즌 시점의 대학 순위표
+     * @param season
+     * @param eventId null 이면 종목 전체
+     * @param compareSeason 순위 변동 비교 시즌 (선택)
+     * @return
+     */
+    @Override
+    public List<SnapshotRankRes> univSnapshot(String season, Long eventId, String compareSeason) {
+        List<SnapshotEntry> entries = load(season, UNIV, eventId, null);
+        Map<Long, Long> previous = previousRanks(compareSeason, UNIV, eventId, null);
+
+        Map<Long, University> universities = universityRepository.findAllById(
+                entries.stream().map(SnapshotEntry::getTeamId).collect(Collectors.toList()))
+                .stream().collect(Collectors.toMap(University::getId, Function.identity()));
+
+        List<SnapshotRankRes> result = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            University university = universities.get(entries.get(i).getTeamId());
+            result.add(toRes(entries.get(i), i + 1, previous,
+                    university == null ? null : university.getSchoolName(),
+                    university == null ? null : university.getLogoImg()));
+        }
+        return result;
+    }
+
+    /**
+     * 시즌 시점의 과 순위표
+     * @param season
+     * @param eventId null 이면 종목 전체
+     * @param univId
+     * @param compareSeason 순위 변동 비교 시즌 (선택)
+     * @return
+     */
+    @Override
+    public List<SnapshotRankRes> deptSnapshot(String season, Long eventId, Long univId, String compareSeason) {
+        List<SnapshotEntry> entries = load(season, DEPT, eventId, univId);
+        Map<Long, Long> previous = previousRanks(compareSeason, DEPT, eventId, univId);
+
+        Map<Long, String> deptNames = departmentRepository.findAllById(
+                entries.stream().map(SnapshotEntry::getTeamId).collect(Collectors.toList()))
+                .stream().collect(Collectors.toMap(Department::getDeptId, Department::getDeptName));
+        String logoImg = referenceRegistry.university(univId).map(University::getLogoImg).orElse(null);
+
+        List<SnapshotRankRes> result = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            result.add(toRes(entries.get(i), i + 1, previous, deptNames.get(entries.get(i).getTeamId()), logoImg));
+        }
+        return result;
+    }
+
+    private List<SnapshotEntry> load(String season, String boardType, Long eventId, Long univId) {
+        RankSnapshot snapshot = rankSnapshotRepository.findBySeasonAndBoardTypeAndEventIdAndUnivId(
+                        season, boardType, eventKey(eventId), univId)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_RANK));
+        return SnapshotCodec.decode(snapshot.getPayload());
+    }
+
+    // teamId → 비교 시즌 순위
+    private Map<Long, Long> previousRanks(String compareSeason, String boardType, Long eventId, Long univId) {
+        Map<Long, Long> ranks = new HashMap<>();
+        if (compareSeason == null || compareSeason.isBlank()) {
+            return ranks;
+        }
+        rankSnapshotRepository.findBySeasonAndBoardTypeAndEventIdAndUnivId(compareSeason, boardType, eventKey(eventId), univId)
+                .ifPresent(snapshot -> {
+                    List<SnapshotEntry> entries = SnapshotCodec.decode(snapshot.getPayload());
+                    for (int i = 0; i < entries.size(); i++) {
+                        ranks.put(entries.get(i).getTeamId(), (long) i + 1);
+                    }
+                });
+        return ranks;
+    }
+
+    private SnapshotRankRes toRes(SnapshotEntry entry, long ranking, Map<Long, Long> previous, String name, String logoImg) {
+        Long previousRanking = previous.get(entry.getTeamId());
+        return SnapshotRankRes.builder()
+                .teamId(entry.getTeamId())
+                .name(name)
+                .logoImg(logoImg)
+                .ranking(ranking)
+                .rankPoint(entry.getRankPoint())
+                .winCount(entry.getWinCount())
+                .loseCount(entry.getLoseCount())
+                .previousRanking(previousRanking)
+                .movement(previousRanking == null ? null : previousRanking - ranking)
+                .build();
+    }
+
+    private RankSnapshot snapshot(String season, String boardType, Long eventId, Long univId,
+                                  List<SnapshotEntry> entries, LocalDateTime takenDt) {
+        return RankSnapshot.builder()
+                .season(season)
+                .boardType(boardType)
+                .eventId(eventId)
+                .univId(univId)
+                .entryCount(entries.size())
+                .payload(SnapshotCodec.encode(entries))
+                .takenDt(takenDt)
+                .build();
+    }
+
+    private static Long eventKey(Long eventId) {
+        return eventId == null ? RankBoardManager.ALL_EVENTS : eventId;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.gazamung.reference;
+
+import java.util.Arrays;
+
+/**
+ * long 키 → 값 읽기 전용 해시 맵 (선형 탐사)
+ * Long 박싱/Entry 객체 없이 배열 두 개로 조회한다. 만든 뒤에는 바뀌지 않으므로 여러 스레드가 락 없이 읽는다.
+ */
+public final class LongMap<V> {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final long[] keys;
+    private final Object[] values;
+    private final int mask;
+    private final int size;
+
+    private LongMap(long[] keys, Object[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    public static <V> Builder<V> builder(int expectedSize) {
+        return new Builder<>(expectedSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == EMPTY) return null;
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) return (V) values[slot];
+            if (current == EMPTY) return null;
+        }
+    }
+
+    public V get(Long key) {
+        return key == null ? null : get(key.longValue());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    public static final class Builder<V> {
+
+        private final long[] keys;
+        private final Object[] values;
+        private final int mask;
+        private int size;
+
+        private Builder(int expectedSize) {
+            // 적재율 0.5 이하
+            int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(keys, EMPTY);
+        }
+
+        /**
+         * 같은 키는 나중 값으로 덮어씀
+         */
+        public Builder<V> put(long key, V value) {
+            if (key == EMPTY) throw new IllegalArgumentException("unsupported key");
+            for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    values[slot] = value;
+                    return this;
+                }
+                if (keys[slot] == EMPTY) {
+                    if ((size + 1) * 2 > keys.length) throw new IllegalStateException("capacity exceeded");
+                    keys[slot] = key;
+                    values[slot] = value;
+                    size++;
+                    return this;
+                }
+            }
+        }
+
+        public LongMap<V> build() {
+            return new LongMap<>(keys.clone(), values.clone(), size);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.gazamung.reference;
+
+import com.example.gazamung.category.entity.Category;
+import com.example.gazamung.department.entity.Department;
+import com.example.gazamung.event.entity.Event;
+import com.example.gazamung.university.entity.University;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 대학/학과/종목/카테고리 기준 정보 스냅샷 (불변)
+ * 적재할 때 엔티티를 복사해 두므로 영속성 컨텍스트와 무관하고, 변경은 새 스냅샷을 만들어 통째로 교체한다.
+ * 조회 결과 엔티티는 여러 요청이 공유하므로 값을 바꾸지 않는다.
+ * 학과 rankPoint 처럼 경기마다 바뀌는 값은 담지 않는다.
+ */
+public final class ReferenceData {
+
+    private final long version;
+    private final LocalDateTime loadedAt;
+
+    private final List<University> universities;
+    private final List<Department> departments;
+    private final List<Event> events;
+    private final List<Category> categories;
+
+    private final LongMap<University> universityById;
+    private final LongMap<Department> departmentById;
+    private final LongMap<Event> eventById;
+    private final LongMap<Category> categoryById;
+    private final LongMap<List<Department>> departmentsByUniv;
+
+    public ReferenceData(long version,
+                         List<University> universities,
+                         List<Department> departments,
+                         List<Event> events,
+                         List<Category> categories) {
+        this.version = version;
+        this.loadedAt = LocalDateTime.now();
+        this.universities = universities.stream().map(ReferenceData::copy).toList();
+        this.departments = departments.stream().map(ReferenceData::copy).toList();
+        this.events = events.stream().map(ReferenceData::copy).toList();
+        this.categories = categories.stream().map(ReferenceData::copy).toList();
+
+        LongMap.Builder<University> universityBuilder = LongMap.builder(this.universities.size());
+        this.universities.forEach(university -> universityBuilder.put(university.getId(), university));
+        this.universityById = universityBuilder.build();
+
+        LongMap.Builder<Department> departmentBuilder = LongMap.builder(this.departments.size());
+        Map<Long, List<Department>> byUniv = new HashMap<>();
+        for (Department department : this.departments) {
+            departmentBuilder.put(department.getDeptId(), department);
+            if (department.getUnivId() != null) {
+                byUniv.computeIfAbsent(department.getUnivId(), id -> new ArrayList<>()).add(department);
+            }
+        }
+        this.departmentById = departmentBuilder.build();
+        LongMap.Builder<List<Department>> byUnivBuilder = LongMap.builder(byUniv.size());
+        byUniv.forEach((univId, list) -> byUnivBuilder.put(univId, List.copyOf(list)));
+        this.departmentsByUniv = byUnivBuilder.build();
+
+        LongMap.Builder<Event> eventBuilder = LongMap.builder(this.events.size());
+        this.events.forEach(event -> eventBuilder.put(event.getEventId(), event));
+        this.eventById = eventBuilder.build();
+
+        LongMap.Builder<Category> categoryBuilder = LongMap.builder(this.categories.size());
+        this.categories.forEach(category -> categoryBuilder.put(category.getCategoryId(), category));
+        this.categoryById = categoryBuilder.build();
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public LocalDateTime loadedAt() {
+        return loadedAt;
+    }
+
+    public List<University> universities() {
+        return universities;
+    }
+
+    public List<Department> departments() {
+        return departments;
+    }
+
+    public List<Department> departments(Long univId) {
+        List<Department> list = departmentsByUniv.get(univId);
+        return list != null ? list : List.of();
+    }
+
+    public List<Event> events() {
+        return events;
+    }
+
+    public List<Category> categories() {
+        return categories;
+    }
+
+    public University university(Long univId) {
+        return universityById.get(univId);
+    }
+
+    public Department department(Long deptId) {
+        return departmentById.get(deptId);
+    }
+
+    public Event event(Long eventId) {
+        return eventById.get(eventId);
+    }
+
+    public Category category(Long categoryId) {
+        return categoryById.get(categoryId);
+    }
+
+    public String universityName(Long univId) {
+        University university = university(univId);
+        return university != null ? university.getSchoolName() : null;
+    }
+
+    public String logoImg(Long univId) {
+        University university = university(univId);
+        return university != null ? university.getLogoImg() : null;
+    }
+
+    public String departmentName(Long deptId) {
+        Department department = department(deptId);
+        return department != null ? department.getDeptName() : null;
+    }
+
+    public String eventName(Long eventId) {
+        Event event = event(eventId);
+        return event != null ? event.getEventName() : null;
+    }
+
+    public String categoryName(Long categoryId) {
+        Category category = category(categoryId);
+        return category != null ? category.getCategoryName() : null;
+    }
+
+    private static University copy(University university) {
+        return University.builder()
+                .id(university.getId())
+                .schoolName(university.getSchoolName())
+                .region(university.getRegion())
+                .regionCode(university.getRegionCode())
+                .logoImg(university.getLogoImg())
+                .build();
+    }
+
+    private static Department copy(Department department) {
+        return Department.builder()
+                .deptId(department.getDeptId())
+                .univId(department.getUnivId())
+                .deptName(department.getDeptName())
+                .build();
+    }
+
+    private static Event copy(Event event) {
+        return Event.builder()
+                .eventId(event.getEventId())
+                .eventName(event.getEventName())
+                .build();
+    }
+
+    private static Category copy(Category category) {
+        return Category.builder()
+                .categoryId(category.getCategoryId())
+                .categoryName(category.getCategoryName())
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.gazamung.reference;
+
+/**
+ * 기준 정보 스냅샷이 교체된 뒤 호출 (ReferenceRegistry 에 빈으로 등록)
+ * 스냅샷에서 파생된 색인/캐시를 새 스냅샷 기준으로 다시 만든다.
+ */
+public interface ReferenceListener {
+
+    void reloaded(ReferenceData data);
+}
@@ -0,0 +1,36 @@
+package com.example.gazamung.reference.controller;
+
+import com.example.gazamung._enum.ApiResponseCode;
+import com.example.gazamung.dto.ResultDTO;
+import com.example.gazamung.reference.service.ReferenceRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reference")
+@CrossOrigin(origins = "*", exposedHeaders = {"Content-Disposition"}, allowedHeaders = "*")
+@Tag(name = "기준 정보 API", description = "")
+public class ReferenceController {
+
+    private final ReferenceRegistry referenceRegistry;
+
+    @Operation(summary = "기준 정보 스냅샷 현황", description = "" +
+            "\n스냅샷 버전, 적재 시각, 대학/학과/종목/카테고리 건수, 스냅샷 조회/DB 조회 횟수" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/stats")
+    public ResultDTO stats() {
+        return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "기준 정보 현황 조회 성공", referenceRegistry.stats());
+    }
+}
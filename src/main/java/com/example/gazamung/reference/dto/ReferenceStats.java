@@ -0,0 +1,26 @@
+package com.example.gazamung.reference.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReferenceStats {
+
+    private long version;           // 스냅샷 교체 횟수
+    private LocalDateTime loadedAt;
+    private int universities;
+    private int departments;
+    private int events;
+    private int categories;
+    private long loads;             // 전체 테이블 적재 횟수
+    private long hits;              // 스냅샷에서 조회
+    private long fallbacks;         // 스냅샷에 없어 DB 조회
+
+}
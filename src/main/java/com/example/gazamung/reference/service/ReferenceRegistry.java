@@ -0,0 +1,213 @@
+package com.example.gazamung.reference.service;
+
+import com.example.gazamung.cache.ResponseSnapshots;
+import com.example.gazamung.category.entity.Category;
+import com.example.gazamung.category.repository.CategoryRepository;
+import com.example.gazamung.department.entity.Department;
+import com.example.gazamung.department.repository.DepartmentRepository;
+import com.example.gazamung.event.entity.Event;
+import com.example.gazamung.event.repository.EventRepository;
+import com.example.gazamung.reference.ReferenceData;
+import com.example.gazamung.reference.ReferenceListener;
+import com.example.gazamung.reference.dto.ReferenceStats;
+import com.example.gazamung.university.entity.University;
+import com.example.gazamung.university.repository.UniversityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대학/학과/종목/카테고리 기준 정보 저장소
+ * 서버 시작 시 네 테이블을 한 번 읽어 ReferenceData 로 만들어 두고, 요청 처리 중에는 findById 대신 여기서 조회한다.
+ * 관리자 API 로 바뀌면 커밋 후 새 스냅샷으로 통째로 교체하고, 다른 서버의 변경은 주기적인 재적재로 반영한다.
+ * 스냅샷에 없는 id 는 DB 에서 조회한다 (다른 서버에서 방금 추가된 경우 등).
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ReferenceRegistry {
+
+    private final UniversityRepository universityRepository;
+    private final DepartmentRepository departmentRepository;
+    private final EventRepository eventRepository;
+    private final CategoryRepository categoryRepository;
+    private final ResponseSnapshots responseSnapshots;
+    private final List<ReferenceListener> listeners;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    private volatile ReferenceData data;
+
+    public boolean isReady() {
+        return data != null;
+    }
+
+    /**
+     * 현재 스냅샷 (시작 전 요청이면 그 자리에서 적재)
+     */
+    public ReferenceData current() {
+        ReferenceData current = data;
+        if (current == null) {
+            synchronized (this) {
+                current = data;
+                if (current == null) {
+                    current = load();
+                }
+            }
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reload();
+    }
+
+    /**
+     * DB 기준으로 스냅샷 교체 (다중 서버 환경의 오차 보정용으로 주기적으로도 실행)
+     */
+    @Scheduled(fixedDelayString = "${reference.reload-ms:600000}", initialDelayString = "${reference.reload-ms:600000}")
+    public void reload() {
+        try {
+            synchronized (this) {
+                load();
+            }
+        } catch (Exception e) {
+            log.error("기준 정보 적재 실패", e);
+        }
+    }
+
+    /**
+     * 관리자 변경 후 호출, 커밋된 뒤에 다시 적재 (트랜잭션 밖이면 바로 적재)
+     */
+    public void refresh() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+    public Optional<University> university(Long univId) {
+        if (univId == null) return Optional.empty();
+        University university = current().university(univId);
+        if (university != null) {
+            hits.incrementAndGet();
+            return Optional.of(university);
+        }
+        fallbacks.incrementAndGet();
+        return universityRepository.findById(univId);
+    }
+
+    public Optional<Department> department(Long deptId) {
+        if (deptId == null) return Optional.empty();
+        Department department = current().department(deptId);
+        if (department != null) {
+            hits.incrementAndGet();
+            return Optional.of(department);
+        }
+        fallbacks.incrementAndGet();
+        return departmentRepository.findById(deptId);
+    }
+
+    public Optional<Event> event(Long eventId) {
+        if (eventId == null) return Optional.empty();
+        Event event = current().event(eventId);
+        if (event != null) {
+            hits.incrementAndGet();
+            return Optional.of(event);
+        }
+        fallbacks.incrementAndGet();
+        return eventRepository.findById(eventId);
+    }
+
+    public Optional<Category> category(Long categoryId) {
+        if (categoryId == null) return Optional.empty();
+        Category category = current().category(categoryId);
+        if (category != null) {
+            hits.incrementAndGet();
+            return Optional.of(category);
+        }
+        fallbacks.incrementAndGet();
+        return categoryRepository.findById(categoryId);
+    }
+
+    public String universityName(Long univId) {
+        return university(univId).map(University::getSchoolName).orElse(null);
+    }
+
+    public String logoImg(Long univId) {
+        return university(univId).map(University::getLogoImg).orElse(null);
+    }
+
+    public String departmentName(Long deptId) {
+        return department(deptId).map(Department::getDeptName).orElse(null);
+    }
+
+    public String eventName(Long eventId) {
+        return event(eventId).map(Event::getEventName).orElse(null);
+    }
+
+    public String categoryName(Long categoryId) {
+        return category(categoryId).map(Category::getCategoryName).orElse(null);
+    }
+
+    public ReferenceStats stats() {
+        ReferenceData current = data;
+        return ReferenceStats.builder()
+                .version(current != null ? current.version() : 0)
+                .loadedAt(current != null ? current.loadedAt() : null)
+                .universities(current != null ? current.universities().size() : 0)
+                .departments(current != null ? current.departments().size() : 0)
+                .events(current != null ? current.events().size() : 0)
+                .categories(current != null ? current.categories().size() : 0)
+                .loads(loads.get())
+                .hits(hits.get())
+                .fallbacks(fallbacks.get())
+                .build();
+    }
+
+    // synchronized (this) 안에서만 호출
+    private ReferenceData load() {
+        ReferenceData loaded = new ReferenceData(version.incrementAndGet(),
+                universityRepository.findAll(),
+                departmentRepository.findAll(),
+                eventRepository.findAll(),
+                categoryRepository.findAll());
+        loads.incrementAndGet();
+        data = loaded;
+
+        for (ReferenceListener listener : listeners) {
+            try {
+                listener.reloaded(loaded);
+            } catch (Exception e) {
+                log.error("기준 정보 갱신 반영 실패: {}", listener.getClass().getSimpleName(), e);
+            }
+        }
+        // 목록 응답은 새 스냅샷 기준으로 다시 생성 (내용이 같으면 ETag 도 같음)
+        responseSnapshots.invalidate(ResponseSnapshots.UNIVERSITY);
+        responseSnapshots.invalidate(ResponseSnapshots.DEPARTMENT);
+        responseSnapshots.invalidate(ResponseSnapshots.EVENT);
+        responseSnapshots.invalidate(ResponseSnapshots.CATEGORY);
+        log.info("기준 정보 적재 완료 (v{}): 대학 {}건, 학과 {}건, 종목 {}건, 카테고리 {}건", loaded.version(),
+                loaded.universities().size(), loaded.departments().size(), loaded.events().size(), loaded.categories().size());
+        return loaded;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.gazamung.reminder;
+
+import com.example.gazamung.univBattle.entity.UnivBattle;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 대항전 일정/상태 변경을 알림 예약에 반영한다.
+ */
+@RequiredArgsConstructor
+public class BattleReminderListener {
+
+    // 사용 시점에 꺼냄 (이유는 NearbyIndexListener 참고)
+    private final ObjectProvider<BattleReminderScheduler> battleReminderScheduler;
+
+    @PostPersist
+    @PostUpdate
+    public void saved(UnivBattle battle) {
+        battleReminderScheduler.getObject().battleSaved(battle);
+    }
+
+    @PostRemove
+    public void removed(UnivBattle battle) {
+        battleReminderScheduler.getObject().battleRemoved(battle);
+    }
+}
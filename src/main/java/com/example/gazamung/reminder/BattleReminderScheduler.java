@@ -0,0 +1,233 @@
+package com.example.gazamung.reminder;
+
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung._enum.MsgType;
+import com.example.gazamung.fcmSend.FcmSendDto;
+import com.example.gazamung.fcmSend.FcmService;
+import com.example.gazamung.member.entity.Member;
+import com.example.gazamung.member.repository.MemberRepository;
+import com.example.gazamung.notification.dto.NotifyCreateReq;
+import com.example.gazamung.notification.service.NotificationService;
+import com.example.gazamung.participant.entity.Participant;
+import com.example.gazamung.participant.repository.ParticipantRepository;
+import com.example.gazamung.univBattle.entity.UnivBattle;
+import com.example.gazamung.univBattle.repository.UnivBattleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 대학 대항전 시작 전 알림 (기본 24시간, 1시간 전)
+ * 예약은 메모리의 TimingWheel 에 두고 서버 시작 시 DB 의 예정된 대항전으로 다시 만든다.
+ * 일정/상태 변경은 BattleReminderListener 가 커밋 후 반영하며, 일정이 같으면 기존 예약을 그대로 둔다.
+ */
+@Component
+@Slf4j
+public class BattleReminderScheduler {
+
+    private static final Set<MatchStatus> ACTIVE = EnumSet.of(MatchStatus.RECRUIT, MatchStatus.WAITING, MatchStatus.PREPARED);
+
+    private final UnivBattleRepository univBattleRepository;
+    private final ParticipantRepository participantRepository;
+    private final MemberRepository memberRepository;
+    private final NotificationService notificationService;
+    private final FcmService fcmService;
+    private final List<Duration> offsets;
+
+    private final TimingWheel<Reminder> wheel = new TimingWheel<>(System.currentTimeMillis());
+    private final Map<Long, Reservation> reservations = new ConcurrentHashMap<>();     // univBattleId → 예약
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService sender = Executors.newFixedThreadPool(2);
+
+    private record Reminder(Long univBattleId, LocalDateTime battleAt, Duration offset, boolean last) {
+    }
+
+    private record Reservation(LocalDateTime battleAt, List<TimingWheel.Timeout<Reminder>> timeouts) {
+    }
+
+    public BattleReminderScheduler(UnivBattleRepository univBattleRepository,
+                                   ParticipantRepository participantRepository,
+                                   MemberRepository memberRepository,
+                                   NotificationService notificationService,
+                                   FcmService fcmService,
+                                   @Value("${battle.reminder.offset-minutes:1440,60}") List<Long> offsetMinutes) {
+        this.univBattleRepository = univBattleRepository;
+        this.participantRepository = participantRepository;
+        this.memberRepository = memberRepository;
+        this.notificationService = notificationService;
+        this.fcmService = fcmService;
+        // 먼저 울리는 알림부터 (마지막 알림이 끝나면 예약 정보 제거)
+        this.offsets = offsetMinutes.stream()
+                .map(Duration::ofMinutes)
+                .sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            List<UnivBattle> upcoming = univBattleRepository.findByBattleAtAfterAndMatchStatusIn(LocalDateTime.now(), ACTIVE);
+            for (UnivBattle battle : upcoming) {
+                schedule(battle.getUnivBattleId(), battle.getBattleAt(), battle.getMatchStatus());
+            }
+            log.info("대항전 알림 예약 복구 완료: 대항전 {}건, 알림 {}건", reservations.size(), wheel.size());
+        } catch (Exception e) {
+            log.error("대항전 알림 예약 복구 실패", e);
+        }
+        ticker.scheduleAtFixedRate(this::tick, 1, 1, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        sender.shutdown();
+    }
+
+    public void battleSaved(UnivBattle battle) {
+        Long univBattleId = battle.getUnivBattleId();
+        LocalDateTime battleAt = battle.getBattleAt();
+        MatchStatus status = battle.getMatchStatus();
+        afterCommit(() -> schedule(univBattleId, battleAt, status));
+    }
+
+    public void battleRemoved(UnivBattle battle) {
+        Long univBattleId = battle.getUnivBattleId();
+        afterCommit(() -> cancel(univBattleId));
+    }
+
+    private synchronized void schedule(Long univBattleId, LocalDateTime battleAt, MatchStatus status) {
+        if (univBattleId == null) return;
+        if (battleAt == null || !ACTIVE.contains(status)) {
+            cancel(univBattleId);
+            return;
+        }
+
+        Reservation current = reservations.get(univBattleId);
+        if (current != null && current.battleAt().equals(battleAt)) return;
+        cancel(univBattleId);
+
+        long now = System.currentTimeMillis();
+        long battleMs = battleAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        List<TimingWheel.Timeout<Reminder>> timeouts = new ArrayList<>();
+        for (int i = 0; i < offsets.size(); i++) {
+            Duration offset = offsets.get(i);
+            long fireAt = battleMs - offset.toMillis();
+            if (fireAt <= now) continue;
+            Reminder reminder = new Reminder(univBattleId, battleAt, offset, i == offsets.size() - 1);
+            timeouts.add(wheel.add(fireAt, reminder));
+        }
+        if (!timeouts.isEmpty()) {
+            reservations.put(univBattleId, new Reservation(battleAt, timeouts));
+        }
+    }
+
+    private synchronized void cancel(Long univBattleId) {
+        Reservation reservation = reservations.remove(univBattleId);
+        if (reservation != null) {
+            reservation.timeouts().forEach(wheel::cancel);
+        }
+    }
+
+    private void tick() {
+        try {
+            for (Reminder reminder : wheel.advance(System.currentTimeMillis())) {
+                if (reminder.last()) {
+                    synchronized (this) {
+                        Reservation reservation = reservations.get(reminder.univBattleId());
+                        if (reservation != null && reservation.battleAt().equals(reminder.battleAt())) {
+                            reservations.remove(reminder.univBattleId());
+                        }
+                    }
+                }
+                sender.execute(() -> send(reminder));
+            }
+        } catch (Exception e) {
+            log.error("대항전 알림 타이머 처리 실패", e);
+        }
+    }
+
+    private void send(Reminder reminder) {
+        try {
+            UnivBattle battle = univBattleRepository.findById(reminder.univBattleId()).orElse(null);
+            // 예약 이후 일정이 바뀌었거나 경기가 끝난 경우 무시
+            if (battle == null || !ACTIVE.contains(battle.getMatchStatus())
+                    || !reminder.battleAt().equals(battle.getBattleAt())) {
+                return;
+            }
+
+            List<Long> memberIdxList = participantRepository.findByUnivBattleId(battle.getUnivBattleId()).stream()
+                    .map(Participant::getMemberIdx)
+                    .distinct()
+                    .collect(Collectors.toList());
+
+            String title = "대항전 시작 " + label(reminder.offset()) + " 전입니다.";
+            String content = battle.getHostUnivName()
+                    + (battle.getGuestUnivName() != null ? " vs " + battle.getGuestUnivName() : "")
+                    + " 대항전 (" + battle.getBattleDate() + ")";
+
+            for (Member member : memberRepository.findAllById(memberIdxList)) {
+                NotifyCreateReq dto = NotifyCreateReq.builder()
+                        .type(MsgType.UNIV_BATTLE)
+                        .isRead(false)
+                        .receiver(member.getMemberIdx())
+                        .title(title)
+                        .content(content)
+                        .relatedItemId(battle.getUnivBattleId())
+                        .build();
+                notificationService.sendNotify(dto);
+
+                String fcmToken = member.getFcmToken();
+                if (fcmToken != null && !fcmToken.isEmpty()) {
+                    FcmSendDto fcmSendDto = FcmSendDto.builder()
+                            .token(fcmToken)
+                            .title(title)
+                            .body(content)
+                            .target("univBattle/info")
+                            .data(String.valueOf(battle.getUnivBattleId()))
+                            .build();
+                    try {
+                        fcmService.sendMessageTo(fcmSendDto);
+                    } catch (Exception e) {
+                        log.warn("대항전 알림 FCM 전송 실패 memberIdx={}: {}", member.getMemberIdx(), e.getMessage());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("대항전 알림 전송 실패 univBattleId={}", reminder.univBattleId(), e);
+        }
+    }
+
+    private static String label(Duration offset) {
+        long minutes = offset.toMinutes();
+        return minutes % 60 == 0 ? (minutes / 60) + "시간" : minutes + "분";
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.gazamung.reminder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠
+ * 1초 × 60 → 1분 × 60 → 1시간 × 24 → 1일 × 512 네 단계 휠에 만료 시각별로 항목을 걸어 두고,
+ * advance() 가 초 단위로 시계를 진행하면서 상위 휠의 칸을 하위 휠로 내려보내고 0단계 칸을 만료시킨다.
+ * 각 칸은 이중 연결 리스트라 등록/취소가 O(1) 이다. 모든 메서드는 휠 단위로 동기화된다.
+ */
+public class TimingWheel<T> {
+
+    private static final long[] TICK_MS = {1_000L, 60_000L, 3_600_000L, 86_400_000L};
+    private static final int[] WHEEL_SIZE = {60, 60, 24, 512};
+
+    private final Slot<T>[][] wheels;
+    private long currentTick;       // 처리 완료된 마지막 초 (epoch ms / 1000)
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long startMs) {
+        wheels = new Slot[TICK_MS.length][];
+        for (int level = 0; level < TICK_MS.length; level++) {
+            wheels[level] = new Slot[WHEEL_SIZE[level]];
+            for (int i = 0; i < WHEEL_SIZE[level]; i++) {
+                wheels[level][i] = new Slot<>();
+            }
+        }
+        currentTick = startMs / TICK_MS[0];
+    }
+
+    /**
+     * 항목 등록, 이미 지난 시각이면 다음 advance() 에서 바로 만료된다.
+     */
+    public synchronized Timeout<T> add(long deadlineMs, T value) {
+        Timeout<T> timeout = new Timeout<>(deadlineMs, value);
+        place(timeout, currentTick + 1);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 등록 취소 (이미 만료되었거나 취소된 항목이면 false)
+     */
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.slot == null) return false;
+        timeout.slot.unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * nowMs 까지 시계를 진행하고 만료된 항목을 돌려준다.
+     */
+    public synchronized List<T> advance(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        long targetTick = nowMs / TICK_MS[0];
+
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // 상위 휠의 칸 경계를 지나면 해당 칸을 하위 휠로 내려보냄
+            for (int level = TICK_MS.length - 1; level > 0; level--) {
+                long ticksPerSlot = TICK_MS[level] / TICK_MS[0];
+                if (currentTick % ticksPerSlot == 0) {
+                    Slot<T> slot = wheels[level][(int) ((currentTick / ticksPerSlot) % WHEEL_SIZE[level])];
+                    for (Timeout<T> timeout : slot.drain()) {
+                        place(timeout, currentTick);
+                    }
+                }
+            }
+
+            Slot<T> slot = wheels[0][(int) (currentTick % WHEEL_SIZE[0])];
+            for (Timeout<T> timeout : slot.drain()) {
+                if (deadlineTick(timeout) <= currentTick) {
+                    expired.add(timeout.value);
+                    size--;
+                } else {
+                    place(timeout, currentTick + 1);
+                }
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // earliestTick 이전 칸은 이미 처리되었으므로 그보다 앞선 만료 시각은 earliestTick 으로 당겨 배치
+    private void place(Timeout<T> timeout, long earliestTick) {
+        long deadlineTick = Math.max(deadlineTick(timeout), earliestTick);
+        long delta = deadlineTick - currentTick;
+
+        int level = 0;
+        while (level < TICK_MS.length - 1 && delta >= (TICK_MS[level] / TICK_MS[0]) * WHEEL_SIZE[level]) {
+            level++;
+        }
+
+        long ticksPerSlot = TICK_MS[level] / TICK_MS[0];
+        // 최상위 휠 범위를 넘는 항목은 마지막 칸에 두고 돌아올 때마다 다시 배치
+        long slotTick = Math.min(deadlineTick, currentTick + ticksPerSlot * (WHEEL_SIZE[level] - 1));
+        int index = (int) ((slotTick / ticksPerSlot) % WHEEL_SIZE[level]);
+        wheels[level][index].link(timeout);
+    }
+
+    // 만료 시각을 넘긴 첫 초 (일찍 만료되지 않도록 올림)
+    private static long deadlineTick(Timeout<?> timeout) {
+        return Math.floorDiv(timeout.deadlineMs + TICK_MS[0] - 1, TICK_MS[0]);
+    }
+
+    public static final class Timeout<T> {
+
+        private final long deadlineMs;
+        private final T value;
+        private Slot<T> slot;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(long deadlineMs, T value) {
+            this.deadlineMs = deadlineMs;
+            this.value = value;
+        }
+
+        public long getDeadlineMs() {
+            return deadlineMs;
+        }
+
+        public T getValue() {
+            return value;
+        }
+    }
+
+    private static final class Slot<T> {
+
+        private Timeout<T> head;
+
+        private void link(Timeout<T> timeout) {
+            timeout.slot = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) head.prev = timeout;
+            head = timeout;
+        }
+
+        private void unlink(Timeout<T> timeout) {
+            if (timeout.prev != null) timeout.prev.next = timeout.next;
+            else head = timeout.next;
+            if (timeout.next != null) timeout.next.prev = timeout.prev;
+            timeout.slot = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        private List<Timeout<T>> drain() {
+            List<Timeout<T>> drained = new ArrayList<>();
+            Timeout<T> cursor = head;
+            while (cursor != null) {
+                Timeout<T> next = cursor.next;
+                cursor.slot = null;
+                cursor.prev = null;
+                cursor.next = null;
+                drained.add(cursor);
+                cursor = next;
+            }
+            head = null;
+            return drained;
+        }
+    }
+}
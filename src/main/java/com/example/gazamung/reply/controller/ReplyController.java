@@ -6,6 +6,7 @@ import com.example.gazamung.exception.CustomException;
 import com.example.gazamung.reply.dto.CreateDto;
 import com.example.gazamung.reply.dto.InfoDto;
 import com.example.gazamung.reply.dto.ModifyDto;
+import com.example.gazamung.reply.dto.ReplyPageRes;
 import com.example.gazamung.reply.service.ReplyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -70,6 +71,31 @@ public class ReplyController {
         }
     }
 
+    @Operation(summary = "게시글 댓글 페이지 조회", description = "" +
+            " 해당 게시글의 댓글을 작성 순으로 size 개씩 조회 (다음 페이지는 응답의 nextId 를 lastId 로 전달)" +
+            "\n검수 대기 중인 댓글은 작성자(memberIdx)에게만 보입니다." +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- NOT_FOUND_BOARD: 존재하지 않는 게시글입니다." +
+            "\n- NOT_FOUND_USER: 가입되지 않은 회원입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/page")
+    public ResultDTO pageReply(@RequestParam Long univBoardId,
+                               @RequestParam(required = false) Long lastId,
+                               @RequestParam(required = false) Long memberIdx,
+                               @RequestParam(defaultValue = "30") int size){
+        try {
+            ReplyPageRes res = replyService.pageReply(univBoardId, lastId, memberIdx, size);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "댓글 조회 완료.", res);
+        } catch (CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+
     @Operation(summary = "댓글 수정", description = "" +
             " 댓글 수정 " +
             "\n### HTTP STATUS 에 따른 조회 결과" +
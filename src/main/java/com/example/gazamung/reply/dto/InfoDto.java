@@ -1,5 +1,6 @@
 package com.example.gazamung.reply.dto;
 
+import com.example.gazamung._enum.ModerationStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -25,4 +26,6 @@ public class InfoDto {
 
     private String nickOrAnon;
 
+    private ModerationStatus moderationStatus;  // 검수 상태 (PENDING 은 작성자에게만 보임)
+
 }
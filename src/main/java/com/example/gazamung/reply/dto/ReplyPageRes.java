@@ -0,0 +1,21 @@
+package com.example.gazamung.reply.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReplyPageRes {
+
+    private List<InfoDto> list;
+    private boolean hasNext;
+    private Long nextId;                // 다음 페이지 요청 시 lastId
+    private long replyCount;            // 게시글 전체 댓글 수
+
+}
@@ -1,5 +1,6 @@
 package com.example.gazamung.reply.entity;
 
+import com.example.gazamung._enum.ModerationStatus;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 
@@ -7,6 +8,9 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "IDX_REPLY_BOARD_ID", columnList = "univBoardId, replyId")  // 게시글별 댓글 키셋 페이지네이션용
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -25,4 +29,7 @@ public class Reply {
     private Long univBoardId;   // 게시글 ID
     private String content;     // 내용
     private Integer anonymous; // 0 닉네임, 1 익명
+
+    @Enumerated(EnumType.STRING)
+    private ModerationStatus moderationStatus;  // 비속어 검수 상태
 }
@@ -1,12 +1,49 @@
 package com.example.gazamung.reply.repository;
 
+import com.example.gazamung._enum.ModerationStatus;
 import com.example.gazamung.reply.entity.Reply;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ReplyRepository extends JpaRepository<Reply, Long> {
     List<Reply> findByUnivBoardId(Long univBoardId);
 
     List<Reply> findByUnivBoardIdOrderByLastDtAsc(Long univBoardId);
+
+    /**
+     * 댓글 키셋 페이지 (작성 순, lastId 이후) 중 조회자에게 보이는 댓글 (검수 통과 + 본인 댓글)
+     */
+    @Query("SELECT r FROM Reply r WHERE r.univBoardId = :univBoardId AND r.replyId > :lastId " +
+            "AND (r.moderationStatus IS NULL OR r.moderationStatus IN :visible OR r.memberIdx = :viewerIdx) " +
+            "ORDER BY r.replyId ASC")
+    List<Reply> findVisiblePage(@Param("univBoardId") Long univBoardId,
+                                @Param("lastId") Long lastId,
+                                @Param("viewerIdx") Long viewerIdx,
+                                @Param("visible") Collection<ModerationStatus> visible,
+                                Pageable pageable);
+
+    /**
+     * 검수 대기 댓글 ID (재시작 후 검수 큐 복구용)
+     */
+    @Query("SELECT r.replyId FROM Reply r WHERE r.moderationStatus = :status ORDER BY r.replyId ASC")
+    List<Long> findIdsByModerationStatus(@Param("status") ModerationStatus status);
+
+    /**
+     * 검수 판정 반영 (아직 검수 대기 상태일 때만, 다른 작업이 먼저 반영했으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Reply r SET r.moderationStatus = :status, r.content = :content " +
+            "WHERE r.replyId = :replyId AND r.moderationStatus = :pending")
+    int moderate(@Param("replyId") Long replyId,
+                 @Param("status") ModerationStatus status,
+                 @Param("content") String content,
+                 @Param("pending") ModerationStatus pending);
 }
@@ -3,6 +3,7 @@ package com.example.gazamung.reply.service;
 import com.example.gazamung.reply.dto.CreateDto;
 import com.example.gazamung.reply.dto.InfoDto;
 import com.example.gazamung.reply.dto.ModifyDto;
+import com.example.gazamung.reply.dto.ReplyPageRes;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,6 +14,16 @@ public interface ReplyService {
 
     List<InfoDto> listReply(Long univBoardId);
 
+    /**
+     * 게시글 댓글 키셋 페이지 (작성 순)
+     * @param univBoardId
+     * @param lastId 이전 페이지 마지막 replyId (첫 페이지는 null)
+     * @param viewerIdx 조회자 (본인의 검수 대기 댓글 포함), 없으면 null
+     * @param size
+     * @return
+     */
+    ReplyPageRes pageReply(Long univBoardId, Long lastId, Long viewerIdx, int size);
+
     Object deleteReply(Long replyId, Long memberIdx);
 
     Object modifyReply(ModifyDto dto);
@@ -1,42 +1,37 @@
 package com.example.gazamung.reply.service;
 
 import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung._enum.ModerationStatus;
 import com.example.gazamung._enum.MsgType;
 import com.example.gazamung.exception.CustomException;
 import com.example.gazamung.fcmSend.FcmSendDto;
 import com.example.gazamung.fcmSend.FcmService;
 import com.example.gazamung.member.entity.Member;
 import com.example.gazamung.member.repository.MemberRepository;
+import com.example.gazamung.moderation.ModerationQueue;
+import com.example.gazamung.moderation.ModerationTarget;
 import com.example.gazamung.notification.dto.NotifyCreateReq;
 import com.example.gazamung.notification.service.NotificationService;
 import com.example.gazamung.participant.entity.Participant;
 import com.example.gazamung.reply.dto.CreateDto;
 import com.example.gazamung.reply.dto.InfoDto;
 import com.example.gazamung.reply.dto.ModifyDto;
+import com.example.gazamung.reply.dto.ReplyPageRes;
 import com.example.gazamung.reply.entity.Reply;
 import com.example.gazamung.reply.repository.ReplyRepository;
 import com.example.gazamung.univBoard.entity.UnivBoard;
 import com.example.gazamung.univBoard.repository.UnivBoardRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.ResponseEntity;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.web.client.DefaultResponseErrorHandler;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import java.io.IOException;
-import java.util.Map;
-
-import java.io.IOException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -48,8 +43,15 @@ public class ReplyServiceImpl implements ReplyService {
     private final UnivBoardRepository univBoardRepository;
     private final NotificationService notificationService;
     private final FcmService fcmService;
+    private final ModerationQueue moderationQueue;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int IN_QUERY_LIMIT = 1000;    // Oracle IN 목록 최대 개수
+    private static final List<ModerationStatus> VISIBLE_STATUSES = List.of(ModerationStatus.PUBLISHED, ModerationStatus.REDACTED);
+    private static final String ANONYMOUS_PROFILE = "https://jhuniversus.s3.ap-northeast-2.amazonaws.com/default/df_profile.jpg";
 
     @Override
+    @Transactional
     public Object createReply(CreateDto dto) {
         // 사용자와 게시글 존재 여부를 확인
         Member member = memberRepository.findById(dto.getMemberIdx())
@@ -58,33 +60,26 @@ public class ReplyServiceImpl implements ReplyService {
         UnivBoard univBoard = univBoardRepository.findById(dto.getUnivBoardId())
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_BOARD));
 
-        // 댓글 내용 필터링
-        String filteredContent = filterContent(dto.getContent());
-
-        // 댓글 생성
+        // 댓글 생성 (검수 대기 상태로 저장, 비속어 검수 후 게시되면 댓글 수 증가)
         Reply reply = Reply.builder()
                 .memberIdx(dto.getMemberIdx())
                 .univBoardId(dto.getUnivBoardId())
                 .lastDt(LocalDateTime.now())
-                .content(filteredContent)
+                .content(dto.getContent())
                 .anonymous(dto.getAnonymous())
+                .moderationStatus(ModerationStatus.PENDING)
                 .build();
 
         replyRepository.save(reply);
+        moderationQueue.submit(ModerationTarget.REPLY, reply.getReplyId());
 
-        Long createMember = univBoard.getMemberIdx();
-
-        Member createMember2 = memberRepository.findById(createMember).orElseThrow(
-                () -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-
-        String fcmToken = createMember2.getFcmToken();
-
-
-        // 게시글 작성자에게 알림 보내기
-        if (!member.getMemberIdx().equals(univBoard.getMemberIdx())) { // 자신의 게시글에 댓글을 달 경우 알림을 보내지 않음
+        // 게시글 작성자에게 알림 보내기 (자신의 게시글에 댓글을 달 경우 알림을 보내지 않음)
+        if (!member.getMemberIdx().equals(univBoard.getMemberIdx())) {
+            String fcmToken = memberRepository.findById(univBoard.getMemberIdx())
+                    .map(Member::getFcmToken)
+                    .orElse(null);
 
             if (fcmToken != null && !fcmToken.isEmpty()) {
-
                 FcmSendDto fcmSendDto = FcmSendDto.builder()
                         .token(fcmToken)
                         .title("새로운 댓글이 달렸습니다")
@@ -92,84 +87,95 @@ public class ReplyServiceImpl implements ReplyService {
                         .target("univBoard/info")
                         .data(String.valueOf(univBoard.getUnivBoardId()))
                         .build();
-                try {
-                    fcmService.sendMessageTo(fcmSendDto);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
+                // 커밋 후 전송, 전송 실패로 댓글 저장이 롤백되지 않도록 로그만 남김
+                afterCommit(() -> {
+                    try {
+                        fcmService.sendMessageTo(fcmSendDto);
+                    } catch (Exception e) {
+                        log.warn("댓글 알림 FCM 전송 실패 memberIdx={}: {}", univBoard.getMemberIdx(), e.getMessage());
+                    }
+                });
             }
         }
 
         return true;
     }
 
-    // 댓글 필터링 API 통신 부분
-    private String filterContent(String content) {
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.setErrorHandler(new DefaultResponseErrorHandler() {
-            @Override
-            public boolean hasError(ClientHttpResponse response) throws IOException {
-                return false;
-            }
-        });
-
-        String url = "http://localhost:5000/predict";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        Map<String, String> requestBody = Map.of("text", content);
-        HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(requestBody, headers);
+    @Override
+    public List<InfoDto> listReply(Long univBoardId) {
 
-        ResponseEntity<String> responseEntity = restTemplate.exchange(
-                url, HttpMethod.POST, requestEntity, String.class);
+        univBoardRepository.findById(univBoardId)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_BOARD));
 
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            Map<String, Double> responseMap = objectMapper.readValue(responseEntity.getBody(), Map.class);
+        List<Reply> replys = replyRepository.findByUnivBoardIdOrderByLastDtAsc(univBoardId).stream()
+                .filter(reply -> ModerationStatus.isVisible(reply.getModerationStatus()))
+                .collect(Collectors.toList());
 
-            // "None"을 제외하고 모든 항목에서 비속어 확률 퍼센트가 50% 넘으면 댓글을 필터링하고 DB에 저장함
-            for (Map.Entry<String, Double> entry : responseMap.entrySet()) {
-                if (!entry.getKey().equals("None") && entry.getValue() >= 0.5) {
-                    return entry.getKey() + " 비속어 필터링 되었습니다.";
-                }
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+        if (replys.isEmpty()) {
+            return null;
         }
 
-        // 만약 비속어 필터링에 걸리지 않으면 원본 저장
-        return content;
+        // 전체 목록은 이전 버전 호환용, 새 화면은 pageReply 사용
+        return toInfoDtoList(replys);
     }
 
     @Override
-    public List<InfoDto> listReply(Long univBoardId) {
-
-        univBoardRepository.findById(univBoardId)
+    public ReplyPageRes pageReply(Long univBoardId, Long lastId, Long viewerIdx, int size) {
+        UnivBoard univBoard = univBoardRepository.findById(univBoardId)
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_BOARD));
 
-        List<Reply> replys = replyRepository.findByUnivBoardIdOrderByLastDtAsc(univBoardId);
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
 
-        List<InfoDto> infoDtoList = new ArrayList<>();
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회 (검수 대기 댓글은 작성자에게만)
+        List<Reply> replys = replyRepository.findVisiblePage(
+                univBoardId, lastId != null ? lastId : 0L, viewerIdx, VISIBLE_STATUSES, PageRequest.of(0, limit + 1));
+        boolean hasNext = replys.size() > limit;
+        if (hasNext) {
+            replys = replys.subList(0, limit);
+        }
 
-        if (replys.isEmpty()) {
-            return null;
+        return ReplyPageRes.builder()
+                .list(toInfoDtoList(replys))
+                .hasNext(hasNext)
+                .nextId(hasNext ? replys.get(replys.size() - 1).getReplyId() : null)
+                .replyCount(univBoard.getReplyCount())
+                .build();
+    }
+
+    /**
+     * 작성자 정보는 댓글 목록의 회원을 IN 쿼리로 한 번에 조회
+     * @param replys
+     * @return
+     */
+    private List<InfoDto> toInfoDtoList(List<Reply> replys) {
+        List<Long> memberIdxList = replys.stream()
+                .map(Reply::getMemberIdx)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<Long, Member> members = new HashMap<>();
+        for (int from = 0; from < memberIdxList.size(); from += IN_QUERY_LIMIT) {
+            List<Long> chunk = memberIdxList.subList(from, Math.min(from + IN_QUERY_LIMIT, memberIdxList.size()));
+            memberRepository.findAllById(chunk)
+                    .forEach(member -> members.put(member.getMemberIdx(), member));
         }
 
+        List<InfoDto> infoDtoList = new ArrayList<>(replys.size());
         for (Reply reply : replys) {
-            Member member = memberRepository.findById(reply.getMemberIdx())
-                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-            String nickOrAnon = reply.getAnonymous() == 1 ? "익명" : member.getNickname();
+            Member member = members.get(reply.getMemberIdx());
+            if (member == null) {
+                throw new CustomException(CustomExceptionCode.NOT_FOUND_USER);
+            }
+            boolean anonymous = reply.getAnonymous() != null && reply.getAnonymous() == 1;
 
             InfoDto infoDto = InfoDto.builder()
                     .replyId(reply.getReplyId())
                     .memberIdx(member.getMemberIdx())
-                    .nickOrAnon(nickOrAnon)
-                    .profileImgUrl(reply.getAnonymous() == 1 ?
-                            "https://jhuniversus.s3.ap-northeast-2.amazonaws.com/default/df_profile.jpg" :
-                            member.getProfileImgUrl())
+                    .nickOrAnon(anonymous ? "익명" : member.getNickname())
+                    .profileImgUrl(anonymous ? ANONYMOUS_PROFILE : member.getProfileImgUrl())
                     .content(reply.getContent())
                     .lastDt(reply.getLastDt())
+                    .moderationStatus(reply.getModerationStatus())
                     .build();
 
             infoDtoList.add(infoDto);
@@ -179,6 +185,7 @@ public class ReplyServiceImpl implements ReplyService {
     }
 
     @Override
+    @Transactional
     public Object deleteReply(Long replyId, Long memberIdx) {
         Member member = memberRepository.findById(memberIdx)
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
@@ -188,6 +195,9 @@ public class ReplyServiceImpl implements ReplyService {
 
         if ((reply.getMemberIdx().equals(memberIdx)) || member.getRole() == 1) {
             replyRepository.delete(reply);
+            if (ModerationStatus.isVisible(reply.getModerationStatus())) {
+                univBoardRepository.addReplyCount(reply.getUnivBoardId(), -1);
+            }
         } else {
             return false;
         }
@@ -197,17 +207,22 @@ public class ReplyServiceImpl implements ReplyService {
     }
 
     @Override
+    @Transactional
     public Object deleteReplyAdmin(Long replyId) {
         Reply reply = replyRepository.findById(replyId)
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_REPLY));
 
         replyRepository.delete(reply);
+        if (ModerationStatus.isVisible(reply.getModerationStatus())) {
+            univBoardRepository.addReplyCount(reply.getUnivBoardId(), -1);
+        }
 
         return true;
 
     }
 
     @Override
+    @Transactional
     public Object modifyReply(ModifyDto dto) {
         Reply reply = replyRepository.findById(dto.getReplyId())
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_REPLY));
@@ -215,18 +230,34 @@ public class ReplyServiceImpl implements ReplyService {
         memberRepository.findById(dto.getMemberIdx())
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
 
-        // 댓글 내용 필터링
-        String filteredContent = filterContent(dto.getContent());
-
         if (reply.getMemberIdx().equals(dto.getMemberIdx())) {
+            // 수정된 내용은 다시 검수 (검수 전까지 댓글 수에서 제외)
+            if (ModerationStatus.isVisible(reply.getModerationStatus())) {
+                univBoardRepository.addReplyCount(reply.getUnivBoardId(), -1);
+            }
             reply.setLastDt(dto.getLastDt());
-            reply.setContent(filteredContent);
+            reply.setContent(dto.getContent());
             reply.setAnonymous(dto.getAnonymous());
             reply.setLastDt(LocalDateTime.now());
+            reply.setModerationStatus(ModerationStatus.PENDING);
 
             replyRepository.save(reply);
+            moderationQueue.submit(ModerationTarget.REPLY, reply.getReplyId());
         }
 
         return true;
     }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
 }
@@ -1,17 +1,27 @@
 package com.example.gazamung.search;
 
-import com.example.gazamung.club.entity.Club;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
 
 
 @Builder
 @Data
 @AllArgsConstructor
+@NoArgsConstructor
 public class ClubSearchResult {
 
-        private Club club;
+        private Long clubId;
+        private String clubName;
+        private List<Highlight> clubNameHighlights;     // 모임명 중 검색어 일치 구간
+        private Long eventId;
+        private String eventName;
+        private Long univId;
+        private Long currentMembers;
+        private Long maximumMembers;
         private String imageUrl;
 
 
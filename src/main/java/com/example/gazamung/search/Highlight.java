@@ -0,0 +1,7 @@
+package com.example.gazamung.search;
+
+/**
+ * 검색어 일치 구간 [start, end) (표시 문자열 기준 인덱스)
+ */
+public record Highlight(int start, int end) {
+}
@@ -1,19 +1,23 @@
 package com.example.gazamung.search;
 
 import com.example.gazamung._enum.ApiResponseCode;
+import com.example.gazamung.autocomplete.AutocompleteType;
+import com.example.gazamung.autocomplete.service.AutocompleteIndexManager;
 import com.example.gazamung.dto.ResultDTO;
 import com.example.gazamung.exception.CustomException;
 import com.example.gazamung.univBattle.dto.UnivBattleCreateRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -23,12 +27,15 @@ import java.util.List;
 public class SearchController {
 
     private final SearchService searchService;
+    private final AutocompleteIndexManager autocompleteIndexManager;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "검색 기능", description = "" +
             "/api/v1/search/{category}" +
             "category 값에 따른 검색 결과" +
             "0:모임 " +
             "1:커뮤니티 " +
+            "\n- 게시글은 본문 대신 검색어 주변 미리보기(snippet)와 일치 구간(start, end)을 반환" +
             "\n### HTTP STATUS 에 따른 조회 결과" +
             "\n- 200: 서버요청 정상 성공 " +
             "\n- 500: 서버에서 요청 처리중 문제가 발생" +
@@ -38,11 +45,60 @@ public class SearchController {
             @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
     })
     @GetMapping("/{category}")
-    public List<?> search(@PathVariable int category,
-                          @RequestParam(required = false) String query,
-                          @RequestParam(required = false) Long category2) {
+    public ResponseEntity<byte[]> search(@PathVariable int category,
+                                         @RequestParam(required = false) String query,
+                                         @RequestParam(required = false) Long category2) throws JsonProcessingException {
+
+        // 응답 크기를 기록하기 위해 직접 직렬화
+        byte[] body = objectMapper.writeValueAsBytes(searchService.searchResult(category, query, category2));
+        searchService.recordResponse(body.length);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+
+    }
+
+    @Operation(summary = "검색 현황", description = "" +
+            "\n검색 수, 결과 수, 검색 한 번에 실행한 DB 조회 수(평균), 응답 크기(평균, byte), 응답 시간(p50, p99)" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/stats")
+    public ResultDTO stats() {
+        return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "검색 현황 조회 성공", searchService.stats());
+    }
 
-        return searchService.searchResult(category,query, category2);
+    @Operation(summary = "검색어 자동완성", description = "" +
+            "\n입력 중인 검색어로 시작하는 이름을 인기순으로 조회합니다. (초성, 입력 중인 음절, 단어 시작 일치 지원)" +
+            "\n- type: CLUB(모임), EVENT(종목), UNIVERSITY(대학), DEPARTMENT(학과)" +
+            "\n- univId: 모임은 선택 (없으면 전체 대학), 학과는 필수" +
+            "\n- 인기순: 모임은 현재 인원, 종목은 모임 수, 대학/학과는 회원 수" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/autocomplete")
+    public ResultDTO autocomplete(@RequestParam AutocompleteType type,
+                                  @RequestParam String query,
+                                  @RequestParam(required = false) Long univId,
+                                  @RequestParam(defaultValue = "10") int size) {
+        return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "자동완성 조회 성공",
+                autocompleteIndexManager.search(type, query, univId, Math.max(1, size)));
+    }
 
+    @Operation(summary = "자동완성 색인 현황", description = "" +
+            "\n범위(대학별 모임/학과 포함) 수, 종류별 색인 건수, 증분 반영 건수, 조회 응답 시간(p50, p99), 마지막 적재 시각" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/autocomplete/stats")
+    public ResultDTO autocompleteStats() {
+        return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "자동완성 색인 현황 조회 성공", autocompleteIndexManager.stats());
     }
 }
@@ -1,33 +1,55 @@
 package com.example.gazamung.search;
 
-import com.example.gazamung.S3FileUploader.UploadImage;
-import com.example.gazamung.S3FileUploader.UploadRepository;
-import com.example.gazamung.category.entity.Category;
-import com.example.gazamung.category.repository.CategoryRepository;
-import com.example.gazamung.club.entity.Club;
-import com.example.gazamung.club.repository.ClubRepository;
+import com.example.gazamung._enum.AttachmentType;
+import com.example.gazamung._enum.ModerationStatus;
+import com.example.gazamung.cache.LatencyRecorder;
 import com.example.gazamung.event.entity.Event;
-import com.example.gazamung.event.repository.EventRepository;
-import com.example.gazamung.univBoard.entity.UnivBoard;
-import com.example.gazamung.univBoard.repository.UnivBoardRepository;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.RequiredArgsConstructor;
+import com.example.gazamung.mapper.SearchMapper;
+import com.example.gazamung.reference.service.ReferenceRegistry;
+import com.example.gazamung.search.dto.ClubSearchRow;
+import com.example.gazamung.search.dto.ImageRow;
+import com.example.gazamung.search.dto.PostSearchRow;
+import com.example.gazamung.search.dto.SearchStats;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 모임/게시글 검색
+ * 목록에 필요한 컬럼만 조회하고 (게시글 본문은 일치 위치 주변만), 종목/카테고리명은 ReferenceRegistry 에서,
+ * 모임 이미지는 결과 전체를 한 번에 조회한다.
+ */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class SearchService {
-    private final ClubRepository clubRepository;
-    private final UnivBoardRepository univBoardRepository;
-    private final EventRepository eventRepository;
-    private final UploadRepository uploadRepository;
-    private final CategoryRepository categoryRepository;
+
+    private static final int IN_QUERY_LIMIT = 1000;    // Oracle IN 목록 최대 개수
+    private static final List<String> VISIBLE_STATUSES = List.of(ModerationStatus.PUBLISHED.name(), ModerationStatus.REDACTED.name());
+
+    private final SearchMapper searchMapper;
+    private final ReferenceRegistry referenceRegistry;
+    private final int maxResults;
+    private final int snippetLength;
+
+    private final AtomicLong searches = new AtomicLong();
+    private final AtomicLong queries = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong responses = new AtomicLong();
+    private final AtomicLong responseBytes = new AtomicLong();
+    private final LatencyRecorder latency = new LatencyRecorder();
+
+    public SearchService(SearchMapper searchMapper,
+                         ReferenceRegistry referenceRegistry,
+                         @Value("${search.max-results:100}") int maxResults,
+                         @Value("${search.snippet-length:80}") int snippetLength) {
+        this.searchMapper = searchMapper;
+        this.referenceRegistry = referenceRegistry;
+        this.maxResults = maxResults;
+        this.snippetLength = snippetLength;
+    }
 
     public List<?> searchResult(int category, String query, Long category2) {
 
@@ -35,72 +57,118 @@ public class SearchService {
             return Collections.emptyList();
         }
 
+        long started = System.nanoTime();
+        List<?> result;
         if (category == 0) {
             // 카테고리 0일 경우 클럽 검색
-            List<Club> clubsByName = clubRepository.findByClubNameContaining(query);
-            List<Event> eventsByName = eventRepository.findByEventNameContaining(query);
-
-            // 이벤트 이름으로 찾은 클럽 리스트
-            List<Club> clubsByEvent = new ArrayList<>();
-            for (Event event : eventsByName) {
-                List<Club> clubs = clubRepository.findByEventId(event.getEventId());
-                clubsByEvent.addAll(clubs);
-            }
+            result = searchClubs(query);
+        } else if (category == 1) {
+            result = searchPosts(query, category2);
+        } else {
+            return Collections.emptyList(); // 적합한 카테고리가 없을 경우 빈 리스트 반환
+        }
+        searches.incrementAndGet();
+        hits.addAndGet(result.size());
+        latency.record(System.nanoTime() - started);
+        return result;
+    }
 
-            // 두 리스트를 합치고 중복 제거
-            Set<Club> resultSet = new HashSet<>(clubsByName);
-            resultSet.addAll(clubsByEvent);
-
-            // 클럽 이미지도 반환
-            List<ClubSearchResult> searchResults = new ArrayList<>();
-            for (Club club : resultSet) {
-                String imageUrl = uploadRepository.findByAttachmentTypeAndMappedId("club", club.getClubId())
-                        .map(UploadImage::getImageUrl)
-                        .orElse(null);
-                searchResults.add(new ClubSearchResult(club, imageUrl));
-            }
+    /**
+     * 직렬화된 응답 크기 기록 (SearchController 에서 호출)
+     */
+    public void recordResponse(int bytes) {
+        responses.incrementAndGet();
+        responseBytes.addAndGet(bytes);
+    }
 
-            return searchResults;
-        } else if (category == 1) {
+    public SearchStats stats() {
+        long searchCount = searches.get();
+        long responseCount = responses.get();
+        return SearchStats.builder()
+                .searches(searchCount)
+                .hits(hits.get())
+                .queriesPerSearch(searchCount == 0 ? 0 : (double) queries.get() / searchCount)
+                .bytesPerResponse(responseCount == 0 ? 0 : (double) responseBytes.get() / responseCount)
+                .searchP50Ms(latency.percentileMillis(50))
+                .searchP99Ms(latency.percentileMillis(99))
+                .build();
+    }
 
-            Set<searchRes> resultsSet = new HashSet<>();
-
-            if (category2 != null) {
-                // 이 부분에서 받은 UnivBoard 객체 내의 category_id 값을 가지고 category 테이블의 categoryName 을 같이 노출해야함.
-                List<UnivBoard> univBoards = univBoardRepository.findByCategoryIdAndTitleContainingOrCategoryIdAndContentContaining(category2, query, category2, query);
-                for (UnivBoard board : univBoards) {
-                    String categoryName = categoryRepository.findById(board.getCategoryId())
-                            .map(Category::getCategoryName)
-                            .orElse(null);
-                    resultsSet.add(new searchRes(board.getUnivBoardId(), board.getTitle(), board.getContent(), board.getCategoryId(), categoryName, board.getRegDt()));
-                }
-            } else {
-                List<UnivBoard> univBoards = univBoardRepository.findByTitleContainingOrContentContaining(query, query);
-
-                for (UnivBoard board : univBoards) {
-                    String categoryName = categoryRepository.findById(board.getCategoryId())
-                            .map(Category::getCategoryName)
-                            .orElse(null);
-                    resultsSet.add(new searchRes(board.getUnivBoardId(), board.getTitle(), board.getContent(), board.getCategoryId(), categoryName, board.getRegDt()));
-                }
-            }
+    private List<ClubSearchResult> searchClubs(String query) {
+        // 모임명 또는 종목명으로 찾은 모임 (종목은 기준 정보 스냅샷에서 찾음)
+        List<ClubSearchRow> rows = searchMapper.searchClubs(likePattern(query), eventIdsByName(query), maxResults);
+        queries.incrementAndGet();
+
+        // 클럽 이미지도 반환 (결과 전체를 한 번에 조회)
+        Map<Long, String> images = firstImages(AttachmentType.CLUB, rows.stream().map(ClubSearchRow::getClubId).toList());
+
+        List<ClubSearchResult> results = new ArrayList<>(rows.size());
+        for (ClubSearchRow row : rows) {
+            results.add(ClubSearchResult.builder()
+                    .clubId(row.getClubId())
+                    .clubName(row.getClubName())
+                    .clubNameHighlights(Snippet.of(row.getClubName(), query).highlights())
+                    .eventId(row.getEventId())
+                    .eventName(referenceRegistry.eventName(row.getEventId()))
+                    .univId(row.getUnivId())
+                    .currentMembers(row.getCurrentMembers())
+                    .maximumMembers(row.getMaximumMembers())
+                    .imageUrl(images.get(row.getClubId()))
+                    .build());
+        }
+        return results;
+    }
 
-            // 이벤트 이름으로 찾은 UnivBoard 리스트 추가
-            List<Event> eventsByName = eventRepository.findByEventNameContaining(query);
-            for (Event event : eventsByName) {
-                List<UnivBoard> boardsByEvent = univBoardRepository.findByEventId(event.getEventId());
-                for (UnivBoard board : boardsByEvent) {
-                    String categoryName = categoryRepository.findById(board.getCategoryId())
-                            .map(Category::getCategoryName)
-                            .orElse(null);
-                    resultsSet.add(new searchRes(board.getUnivBoardId(), board.getTitle(), board.getContent(), board.getCategoryId(), categoryName, board.getRegDt()));
-                }
-            }
+    private List<searchRes> searchPosts(String query, Long categoryId) {
+        // 제목/본문 일치 (category2 가 있으면 해당 카테고리만) + 종목명 일치 게시글
+        List<PostSearchRow> rows = searchMapper.searchPosts(query, likePattern(query), categoryId, eventIdsByName(query),
+                VISIBLE_STATUSES, snippetLength, snippetLength * 2, maxResults);
+        queries.incrementAndGet();
+
+        List<searchRes> results = new ArrayList<>(rows.size());
+        for (PostSearchRow row : rows) {
+            Snippet title = Snippet.of(row.getTitle(), query);
+            Snippet snippet = Snippet.around(row.getContentWindow(),
+                    row.getContentOffset() == null ? 0 : row.getContentOffset(),
+                    row.getContentLength() == null ? 0 : row.getContentLength(),
+                    query, snippetLength);
+            results.add(searchRes.builder()
+                    .univBoardId(row.getUnivBoardId())
+                    .title(title.text())
+                    .titleHighlights(title.highlights())
+                    .snippet(snippet.text())
+                    .snippetHighlights(snippet.highlights())
+                    .categoryId(row.getCategoryId())
+                    .categoryName(referenceRegistry.categoryName(row.getCategoryId()))
+                    .regDt(row.getRegDt())
+                    .build());
+        }
+        return results;
+    }
 
-            return new ArrayList<>(resultsSet);
+    private Map<Long, String> firstImages(AttachmentType type, List<Long> mappedIds) {
+        Map<Long, String> images = new HashMap<>();
+        for (int from = 0; from < mappedIds.size(); from += IN_QUERY_LIMIT) {
+            List<Long> chunk = mappedIds.subList(from, Math.min(mappedIds.size(), from + IN_QUERY_LIMIT));
+            for (ImageRow row : searchMapper.findFirstImages(type.getType(), chunk)) {
+                images.put(row.getMappedId(), row.getImageUrl());
+            }
+            queries.incrementAndGet();
         }
+        return images;
+    }
 
-        return Collections.emptyList(); // 적합한 카테고리가 없을 경우 빈 리스트 반환
+    // 종목명 부분 일치 (LIKE 조회 대신 기준 정보 스냅샷에서 찾음)
+    private List<Long> eventIdsByName(String query) {
+        return referenceRegistry.current().events().stream()
+                .filter(event -> event.getEventName() != null && event.getEventName().contains(query))
+                .map(Event::getEventId)
+                .limit(IN_QUERY_LIMIT)
+                .toList();
     }
-}
 
+    // LIKE 특수문자 이스케이프 (ESCAPE '\')
+    private static String likePattern(String query) {
+        return query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
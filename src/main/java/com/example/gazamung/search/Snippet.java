@@ -0,0 +1,94 @@
+package com.example.gazamung.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 결과 미리보기 문구
+ * 본문 전체 대신 첫 번째 일치 위치 주변만 잘라 보내고, 잘린 쪽에는 말줄임표를 붙인다.
+ * 일치 구간은 잘라낸 문구 기준 인덱스로 돌려주며 대소문자는 구분하지 않는다.
+ */
+public record Snippet(String text, List<Highlight> highlights) {
+
+    public static final String ELLIPSIS = "…";
+
+    // 일치 위치 앞에 남길 문맥 비율 (나머지는 뒤쪽)
+    private static final int LEADING_CONTEXT_DIVISOR = 3;
+    // 잘린 시작점에서 단어 경계를 찾는 최대 거리
+    private static final int WORD_BOUNDARY_LOOKAHEAD = 10;
+
+    /**
+     * 자르지 않고 일치 구간만 표시 (제목, 모임명)
+     */
+    public static Snippet of(String text, String query) {
+        if (text == null) return new Snippet("", List.of());
+        return new Snippet(text, highlights(text, query, 0, text.length(), 0));
+    }
+
+    /**
+     * @param text 원문 (전체 또는 DB 에서 잘라 온 일부)
+     * @param offset 원문 전체에서 text 가 시작하는 위치 (0부터)
+     * @param fullLength 원문 전체 길이
+     * @param maxLength 말줄임표를 뺀 최대 길이
+     */
+    public static Snippet around(String text, int offset, int fullLength, String query, int maxLength) {
+        if (text == null || text.isEmpty()) return new Snippet("", List.of());
+        String flat = flatten(text);
+
+        int match = indexOfIgnoreCase(flat, query, 0);
+        int length = Math.min(maxLength, flat.length());
+        int start = 0;
+        if (match > 0) {
+            int leading = Math.max(0, (length - query.length()) / LEADING_CONTEXT_DIVISOR);
+            start = Math.max(0, Math.min(match - leading, flat.length() - length));
+            start = wordStart(flat, start, match);
+        }
+        int end = Math.min(flat.length(), start + length);
+        if (start > 0 && Character.isLowSurrogate(flat.charAt(start))) start++;
+        if (end < flat.length() && Character.isLowSurrogate(flat.charAt(end))) end--;
+
+        boolean leadingCut = offset + start > 0;
+        boolean trailingCut = offset + end < Math.max(fullLength, offset + flat.length());
+        String prefix = leadingCut ? ELLIPSIS : "";
+        String body = flat.substring(start, end);
+        String snippet = prefix + body + (trailingCut ? ELLIPSIS : "");
+        return new Snippet(snippet, highlights(body, query, 0, body.length(), prefix.length()));
+    }
+
+    private static List<Highlight> highlights(String text, String query, int from, int to, int shift) {
+        if (query == null || query.isEmpty()) return List.of();
+        List<Highlight> result = new ArrayList<>();
+        for (int i = indexOfIgnoreCase(text, query, from); i >= 0 && i + query.length() <= to;
+             i = indexOfIgnoreCase(text, query, i + query.length())) {
+            result.add(new Highlight(i + shift, i + query.length() + shift));
+        }
+        return result;
+    }
+
+    private static int indexOfIgnoreCase(String text, String query, int from) {
+        if (query == null || query.isEmpty()) return -1;
+        for (int i = from, last = text.length() - query.length(); i <= last; i++) {
+            if (text.regionMatches(true, i, query, 0, query.length())) return i;
+        }
+        return -1;
+    }
+
+    // 잘린 시작점이 단어 중간이면 가까운 공백 다음으로 이동 (일치 위치는 넘지 않음)
+    private static int wordStart(String text, int start, int match) {
+        if (start == 0 || Character.isWhitespace(text.charAt(start - 1))) return start;
+        int limit = Math.min(match, start + WORD_BOUNDARY_LOOKAHEAD);
+        for (int i = start; i < limit; i++) {
+            if (Character.isWhitespace(text.charAt(i))) return i + 1;
+        }
+        return start;
+    }
+
+    // 줄바꿈/탭은 같은 길이의 공백으로 (인덱스 유지)
+    private static String flatten(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] == '\n' || chars[i] == '\r' || chars[i] == '\t') chars[i] = ' ';
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.gazamung.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 모임 검색 조회 행 (목록에 필요한 컬럼만)
+ */
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClubSearchRow {
+
+    private Long clubId;
+    private String clubName;
+    private Long eventId;
+    private Long univId;
+    private Long currentMembers;
+    private Long maximumMembers;
+
+}
@@ -0,0 +1,17 @@
+package com.example.gazamung.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImageRow {
+
+    private Long mappedId;
+    private String imageUrl;
+
+}
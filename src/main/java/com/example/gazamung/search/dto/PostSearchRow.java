@@ -0,0 +1,28 @@
+package com.example.gazamung.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 검색 조회 행
+ * 본문은 DB 에서 첫 번째 일치 위치 주변만 잘라 온다. (contentOffset: 잘라 온 구간의 시작 위치, 0부터)
+ */
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostSearchRow {
+
+    private Long univBoardId;
+    private String title;
+    private Long categoryId;
+    private LocalDateTime regDt;
+    private String contentWindow;
+    private Integer contentOffset;
+    private Integer contentLength;
+
+}
@@ -0,0 +1,21 @@
+package com.example.gazamung.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchStats {
+
+    private long searches;
+    private long hits;
+    private double queriesPerSearch;    // 검색 한 번에 실행한 DB 조회 수 (평균)
+    private double bytesPerResponse;    // 응답 본문 크기 (평균)
+    private double searchP50Ms;
+    private double searchP99Ms;
+
+}
@@ -2,16 +2,23 @@ package com.example.gazamung.search;
 
 
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+@Builder
 @Data
 @AllArgsConstructor
+@NoArgsConstructor
 public class searchRes {
     private Long univBoardId;
     private String title;
-    private String content;
+    private List<Highlight> titleHighlights;        // 제목 중 검색어 일치 구간
+    private String snippet;                         // 본문 미리보기 (첫 번째 일치 위치 주변, 잘린 쪽은 … 표시)
+    private List<Highlight> snippetHighlights;      // 미리보기 중 검색어 일치 구간
     private Long categoryId;
     private String categoryName;
     private LocalDateTime regDt;
@@ -0,0 +1,215 @@
+package com.example.gazamung.tournament;
+
+import com.example.gazamung.tournament.entity.TournamentEntry;
+import com.example.gazamung.tournament.entity.TournamentMatch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대진표 생성 (DB 접근 없음)
+ * - 엘리미네이션: 2의 거듭제곱 크기로 맞추고 상위 시드에 부전승 배정, 경기 번호(matchNo)로 승자/패자 진출 경기 연결
+ * - 조별 리그: 시드 순 지그재그로 조 배정 후 서클 방식 라운드 편성
+ * 1라운드(조별 리그는 전체) 자리만 확정 상태로 생성되고, 나머지는 앞 경기 결과로 채워진다.
+ */
+public final class BracketGenerator {
+
+    public static final int HOST = 0;
+    public static final int GUEST = 1;
+
+    private BracketGenerator() {
+    }
+
+    /**
+     * @param tournamentId
+     * @param format
+     * @param seeded 시드 순으로 정렬된 참가팀
+     * @param groupCount 조 개수 (조별 리그)
+     * @return 저장 전 대진 (matchNo 순)
+     */
+    public static List<TournamentMatch> generate(Long tournamentId, TournamentFormat format,
+                                                 List<TournamentEntry> seeded, int groupCount) {
+        return switch (format) {
+            case SINGLE_ELIMINATION -> elimination(tournamentId, seeded, false);
+            case DOUBLE_ELIMINATION -> elimination(tournamentId, seeded, true);
+            case ROUND_ROBIN -> roundRobin(tournamentId, seeded, groupCount);
+        };
+    }
+
+    /**
+     * 대진표 크기 (참가 팀 수 이상인 가장 작은 2의 거듭제곱)
+     */
+    public static int bracketSize(int teams) {
+        return Integer.highestOneBit(Math.max(teams, 2) - 1) << 1;
+    }
+
+    /**
+     * 시드 배치 순서 (1번 시드와 마지막 시드가 맞붙고, 상위 시드끼리는 결승에서 만나도록)
+     * size = 8 -> 1, 8, 4, 5, 2, 7, 3, 6
+     */
+    public static int[] seedOrder(int size) {
+        int[] order = {1};
+        while (order.length < size) {
+            int next = order.length * 2;
+            int[] expanded = new int[next];
+            for (int i = 0; i < order.length; i++) {
+                expanded[i * 2] = order[i];
+                expanded[i * 2 + 1] = next + 1 - order[i];
+            }
+            order = expanded;
+        }
+        return order;
+    }
+
+    private static List<TournamentMatch> elimination(Long tournamentId, List<TournamentEntry> seeded, boolean doubleElimination) {
+        int size = bracketSize(seeded.size());
+        int rounds = Integer.numberOfTrailingZeros(size);
+        List<TournamentMatch> matches = new ArrayList<>();
+
+        // 승자조
+        int[][] winner = new int[rounds + 1][];
+        for (int round = 1; round <= rounds; round++) {
+            winner[round] = new int[size >> round];
+            for (int position = 0; position < winner[round].length; position++) {
+                winner[round][position] = add(matches, tournamentId, BracketSide.WINNER, round, position, 1);
+            }
+        }
+        for (int round = 1; round < rounds; round++) {
+            for (int position = 0; position < winner[round].length; position++) {
+                linkWinner(matches, winner[round][position], winner[round + 1][position / 2], position % 2);
+            }
+        }
+
+        // 1라운드 배정, 참가 팀 수를 넘는 시드는 부전승 (null)
+        int[] order = seedOrder(size);
+        for (int position = 0; position < winner[1].length; position++) {
+            TournamentMatch match = matches.get(winner[1][position]);
+            match.setHostUniv(univAt(seeded, order[position * 2]));
+            match.setGuestUniv(univAt(seeded, order[position * 2 + 1]));
+            match.setHostResolved(true);
+            match.setGuestResolved(true);
+        }
+
+        if (!doubleElimination) return matches;
+
+        if (rounds == 1) {
+            // 2팀: 결승 패자가 바로 결승 리셋 후보
+            int grandFinal = add(matches, tournamentId, BracketSide.FINAL, 1, 0, 1);
+            linkWinner(matches, winner[1][0], grandFinal, HOST);
+            linkLoser(matches, winner[1][0], grandFinal, GUEST);
+            return matches;
+        }
+
+        // 패자조: 홀수 라운드는 패자조끼리, 짝수 라운드는 승자조에서 떨어진 팀 합류
+        int loserRounds = 2 * (rounds - 1);
+        int[][] loser = new int[loserRounds + 1][];
+        for (int round = 1; round <= loserRounds; round++) {
+            loser[round] = new int[size >> ((round + 1) / 2 + 1)];
+            for (int position = 0; position < loser[round].length; position++) {
+                loser[round][position] = add(matches, tournamentId, BracketSide.LOSER, round, position, 1);
+            }
+        }
+
+        for (int position = 0; position < winner[1].length; position++) {
+            linkLoser(matches, winner[1][position], loser[1][position / 2], position % 2);
+        }
+        for (int j = 1; j < rounds; j++) {
+            int dropRound = 2 * j;
+            int count = loser[dropRound].length;
+            for (int position = 0; position < count; position++) {
+                linkWinner(matches, loser[dropRound - 1][position], loser[dropRound][position], HOST);
+                // 같은 쪽 대진끼리 다시 만나지 않도록 역순으로 합류
+                linkLoser(matches, winner[j + 1][position], loser[dropRound][count - 1 - position], GUEST);
+            }
+            if (dropRound < loserRounds) {
+                for (int position = 0; position < count; position++) {
+                    linkWinner(matches, loser[dropRound][position], loser[dropRound + 1][position / 2], position % 2);
+                }
+            }
+        }
+
+        int grandFinal = add(matches, tournamentId, BracketSide.FINAL, 1, 0, 1);
+        linkWinner(matches, winner[rounds][0], grandFinal, HOST);
+        linkWinner(matches, loser[loserRounds][0], grandFinal, GUEST);
+        return matches;
+    }
+
+    private static List<TournamentMatch> roundRobin(Long tournamentId, List<TournamentEntry> seeded, int groupCount) {
+        int groups = Math.max(1, Math.min(groupCount, seeded.size() / 2));
+        List<List<Long>> members = new ArrayList<>();
+        for (int g = 0; g < groups; g++) {
+            members.add(new ArrayList<>());
+        }
+
+        // 시드 순 지그재그 배정 (1조 1번 시드, 2조 2번 시드 ... 마지막 조에서 방향 전환)
+        for (int i = 0; i < seeded.size(); i++) {
+            int row = i / groups;
+            int col = i % groups;
+            int group = row % 2 == 0 ? col : groups - 1 - col;
+            seeded.get(i).setGroupNo(group + 1);
+            members.get(group).add(seeded.get(i).getUnivId());
+        }
+
+        List<TournamentMatch> matches = new ArrayList<>();
+        for (int g = 0; g < groups; g++) {
+            List<Long> teams = new ArrayList<>(members.get(g));
+            if (teams.size() % 2 == 1) {
+                teams.add(null);    // 홀수면 라운드마다 한 팀 휴식
+            }
+
+            int n = teams.size();
+            for (int round = 1; round < n; round++) {
+                int position = 0;
+                for (int i = 0; i < n / 2; i++) {
+                    Long host = teams.get(i);
+                    Long guest = teams.get(n - 1 - i);
+                    if (host == null || guest == null) continue;
+
+                    // 고정 팀이 계속 주최하지 않도록 라운드마다 교대
+                    if (i == 0 && round % 2 == 0) {
+                        Long swap = host;
+                        host = guest;
+                        guest = swap;
+                    }
+
+                    TournamentMatch match = matches.get(add(matches, tournamentId, BracketSide.GROUP, round, position++, g + 1));
+                    match.setHostUniv(host);
+                    match.setGuestUniv(guest);
+                    match.setHostResolved(true);
+                    match.setGuestResolved(true);
+                }
+                // 서클 방식: 첫 팀 고정, 나머지 한 칸씩 회전
+                teams.add(1, teams.remove(n - 1));
+            }
+        }
+        return matches;
+    }
+
+    private static int add(List<TournamentMatch> matches, Long tournamentId, BracketSide bracket, int round, int position, int groupNo) {
+        int matchNo = matches.size();
+        matches.add(TournamentMatch.builder()
+                .tournamentId(tournamentId)
+                .matchNo(matchNo)
+                .bracket(bracket)
+                .round(round)
+                .position(position)
+                .groupNo(groupNo)
+                .status(TournamentMatchStatus.PENDING)
+                .build());
+        return matchNo;
+    }
+
+    private static void linkWinner(List<TournamentMatch> matches, int from, int to, int slot) {
+        matches.get(from).setNextMatchNo(to);
+        matches.get(from).setNextSlot(slot);
+    }
+
+    private static void linkLoser(List<TournamentMatch> matches, int from, int to, int slot) {
+        matches.get(from).setLoserMatchNo(to);
+        matches.get(from).setLoserSlot(slot);
+    }
+
+    private static Long univAt(List<TournamentEntry> seeded, int seed) {
+        return seed <= seeded.size() ? seeded.get(seed - 1).getUnivId() : null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.gazamung.tournament;
+
+public enum BracketSide {
+
+    WINNER,         // 승자조 (싱글 엘리미네이션 본선 포함)
+    LOSER,          // 패자조
+    FINAL,          // 결승 (더블 엘리미네이션, 리셋 경기는 2라운드)
+    GROUP;          // 조별 리그
+}
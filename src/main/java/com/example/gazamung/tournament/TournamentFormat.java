@@ -0,0 +1,8 @@
+package com.example.gazamung.tournament;
+
+public enum TournamentFormat {
+
+    SINGLE_ELIMINATION,     // 싱글 엘리미네이션
+    DOUBLE_ELIMINATION,     // 더블 엘리미네이션 (패자조 + 결승 리셋)
+    ROUND_ROBIN;            // 조별 리그 (풀리그, 조가 여럿이면 조 1위끼리 본선 토너먼트)
+}
@@ -0,0 +1,11 @@
+package com.example.gazamung.tournament;
+
+public enum TournamentMatchStatus {
+
+    PENDING,        // 대진 미확정 또는 라운드 대기
+    OPENING,        // 대진 확정, 커밋 후 대항전 생성 대기
+    FAILED,         // 대항전 생성 실패 (주기적으로 재시도)
+    READY,          // 대항전 생성됨 (기존 참가/결과 흐름으로 진행)
+    COMPLETED,      // 결과 반영 완료
+    BYE;            // 부전승 (상대 없음)
+}
@@ -0,0 +1,8 @@
+package com.example.gazamung.tournament;
+
+public enum TournamentStatus {
+
+    RECRUIT,        // 참가팀 모집중
+    IN_PROGRESS,    // 진행중
+    COMPLETED;      // 종료
+}
@@ -0,0 +1,141 @@
+package com.example.gazamung.tournament.controller;
+
+import com.example.gazamung._enum.ApiResponseCode;
+import com.example.gazamung.dto.ResultDTO;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.tournament.dto.TournamentCreateReq;
+import com.example.gazamung.tournament.dto.TournamentJoinReq;
+import com.example.gazamung.tournament.dto.TournamentRes;
+import com.example.gazamung.tournament.service.TournamentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/tournament")
+@CrossOrigin(origins = "*", exposedHeaders = {"Content-Disposition"}, allowedHeaders = "*")
+@Tag(name = "대학 토너먼트 API", description = "")
+public class TournamentController {
+
+    private final TournamentService tournamentService;
+
+    @Operation(summary = "토너먼트 생성 ", description = "" +
+            " format: SINGLE_ELIMINATION, DOUBLE_ELIMINATION, ROUND_ROBIN (groupCount 조 개수, 2개 이상이면 조 1위끼리 본선), 최대 256팀" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- NOT_FOUND_USER: 존재하지 않는 회원입니다." +
+            "\n- INVALID_TOURNAMENT_SIZE: 토너먼트 참가 팀 수가 올바르지 않습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @PostMapping("/create")
+    public ResultDTO create(@RequestBody TournamentCreateReq request) {
+
+        try{
+            long tournamentId = tournamentService.create(request);
+            return ResultDTO.of(true, ApiResponseCode.CREATED.getCode(),"토너먼트 생성 완료.", tournamentId);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+
+    @Operation(summary = "토너먼트 참가 ", description = "" +
+            " 대학 대표가 자신의 대학으로 참가합니다. 토너먼트 경기의 주최/참가 대표가 됩니다." +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- NOT_FOUND_TOURNAMENT: 존재하지 않는 토너먼트입니다." +
+            "\n- TOURNAMENT_ALREADY_STARTED: 이미 시작된 토너먼트입니다." +
+            "\n- TOURNAMENT_FULL: 토너먼트 참가 팀이 모두 찼습니다." +
+            "\n- ALREADY_ATTENDED: 이미 참가한 대학입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @PostMapping("/join")
+    public ResultDTO join(@RequestBody TournamentJoinReq request) {
+
+        try{
+            return ResultDTO.of(tournamentService.join(request), ApiResponseCode.SUCCESS.getCode(),"토너먼트 참가 완료.", null);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+
+    @Operation(summary = "토너먼트 시작 ", description = "PARAMETER: tournamentId, memberIdx(개설자)  " +
+            "\n참가 순서로 시드를 부여해 대진을 생성하고, 대진이 확정된 경기는 대항전을 생성합니다." +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- UNAUTHORIZED_USER: 개설자가 아닌 경우" +
+            "\n- TOURNAMENT_ALREADY_STARTED: 이미 시작된 토너먼트입니다." +
+            "\n- INVALID_TOURNAMENT_SIZE: 토너먼트 참가 팀 수가 올바르지 않습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @PostMapping("/start")
+    public ResultDTO start(@RequestParam Long tournamentId, @RequestParam Long memberIdx) {
+
+        try{
+            TournamentRes res = tournamentService.start(tournamentId, memberIdx);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"토너먼트 시작", res);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+
+    @Operation(summary = "대진표 ", description = "PARAMETER: tournamentId  " +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- NOT_FOUND_TOURNAMENT: 존재하지 않는 토너먼트입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/bracket")
+    public ResultDTO bracket(@RequestParam Long tournamentId) {
+
+        try{
+            TournamentRes res = tournamentService.bracket(tournamentId);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"대진표 조회 성공", res);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+
+    @Operation(summary = "순위표 ", description = "PARAMETER: tournamentId  " +
+            "\n조 → 승점 (승 3, 무 1) → 득실차 → 득점 → 시드 순" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- NOT_FOUND_TOURNAMENT: 존재하지 않는 토너먼트입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/standings")
+    public ResultDTO standings(@RequestParam Long tournamentId) {
+
+        try{
+            TournamentRes res = tournamentService.standings(tournamentId);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"순위표 조회 성공", res);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.gazamung.tournament.dto;
+
+import com.example.gazamung.tournament.TournamentFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentCreateReq {
+
+    private Long hostMember;            // 개설자 memberIdx
+    private String name;
+    private TournamentFormat format;    // SINGLE_ELIMINATION, DOUBLE_ELIMINATION, ROUND_ROBIN
+    private int maxTeams;               // 최대 참가 팀 수
+    private int groupCount;             // 조 개수 (조별 리그)
+
+    private long eventId;               // 종목ID
+    private int teamPtcLimit;           // 팀당 인원
+    private String battleDate;          // 일정
+    private String place;               // 위치
+    private String lat;                 // 위도
+    private String lng;                 // 경도
+    private String cost;                // 비용
+}
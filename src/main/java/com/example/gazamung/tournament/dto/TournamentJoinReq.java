@@ -0,0 +1,16 @@
+package com.example.gazamung.tournament.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentJoinReq {
+
+    private Long tournamentId;
+    private Long memberIdx;             // 대학 대표 (대표의 대학으로 참가)
+}
@@ -0,0 +1,35 @@
+package com.example.gazamung.tournament.dto;
+
+import com.example.gazamung.tournament.BracketSide;
+import com.example.gazamung.tournament.TournamentMatchStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentMatchRes {
+
+    private int matchNo;
+    private BracketSide bracket;
+    private int round;
+    private int position;
+    private int groupNo;
+
+    private Long hostUniv;
+    private String hostUnivName;
+    private Long guestUniv;
+    private String guestUnivName;
+
+    private TournamentMatchStatus status;
+    private Long univBattleId;          // READY 이후 대항전 ID
+    private Long winUniv;
+    private Long hostScore;
+    private Long guestScore;
+
+    private Integer nextMatchNo;
+    private Integer loserMatchNo;
+}
@@ -0,0 +1,30 @@
+package com.example.gazamung.tournament.dto;
+
+import com.example.gazamung.tournament.TournamentFormat;
+import com.example.gazamung.tournament.TournamentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentRes {
+
+    private Long tournamentId;
+    private String name;
+    private TournamentFormat format;
+    private TournamentStatus status;
+    private int teamCount;
+    private int maxTeams;
+    private int groupCount;
+    private Long eventId;
+    private Long championUniv;
+
+    private List<TournamentMatchRes> matches;           // 대진표 조회 시
+    private List<TournamentStandingRes> standings;      // 순위표 조회 시
+}
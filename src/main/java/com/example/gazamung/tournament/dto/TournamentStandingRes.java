@@ -0,0 +1,30 @@
+package com.example.gazamung.tournament.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TournamentStandingRes {
+
+    private int groupNo;
+    private int rank;                   // 조 내 순위
+    private Long univId;
+    private String univName;
+    private String univLogo;
+    private int seed;
+
+    private int played;
+    private int wins;
+    private int losses;
+    private int draws;
+    private int points;
+    private long scoreFor;
+    private long scoreAgainst;
+    private long scoreDiff;
+    private boolean eliminated;
+}
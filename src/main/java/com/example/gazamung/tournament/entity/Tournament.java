@@ -0,0 +1,54 @@
+package com.example.gazamung.tournament.entity;
+
+import com.example.gazamung.tournament.TournamentFormat;
+import com.example.gazamung.tournament.TournamentStatus;
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 대학 토너먼트, 각 경기는 UnivBattle 로 진행
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+@Slf4j
+public class Tournament {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "TOURNAMENT_SEQ")
+    @SequenceGenerator(name = "TOURNAMENT_SEQ", sequenceName = "tournament_sequence", allocationSize = 1)
+    private Long tournamentId;
+
+    private String name;
+    private Long hostMember;            // 개설자
+
+    @Enumerated(EnumType.STRING)
+    private TournamentFormat format;
+
+    @Enumerated(EnumType.STRING)
+    private TournamentStatus status;
+
+    private int maxTeams;               // 최대 참가 팀 수
+    private int teamCount;              // 참가 팀 수
+    private int groupCount;             // 조 개수 (조별 리그)
+
+    // 경기(UnivBattle) 생성 시 사용
+    private Long eventId;               // 종목
+    private int teamPtcLimit;           // 팀당 인원
+    private String battleDate;
+    private String place;
+    private String lat;
+    private String lng;
+    private String cost;
+
+    private Long championUniv;          // 우승 대학
+    private LocalDateTime regDt;
+    private LocalDateTime startDt;
+    private LocalDateTime endDt;
+}
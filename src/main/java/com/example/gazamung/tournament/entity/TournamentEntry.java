@@ -0,0 +1,51 @@
+package com.example.gazamung.tournament.entity;
+
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 토너먼트 참가 대학 + 순위표 (경기 결과 확정 시 증분 반영)
+ */
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "UK_TOURNAMENT_ENTRY_UNIV", columnNames = {"tournament_id", "univ_id"})
+}, indexes = {
+        @Index(name = "IDX_TOURNAMENT_ENTRY_STANDING", columnList = "tournament_id, group_no, points, score_diff")  // 순위표 조회용
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+@Slf4j
+public class TournamentEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "TOURNAMENT_ENTRY_SEQ")
+    @SequenceGenerator(name = "TOURNAMENT_ENTRY_SEQ", sequenceName = "tournament_entry_sequence", allocationSize = 1)
+    private Long entryId;
+
+    private Long tournamentId;
+    private Long univId;
+    private String univName;
+    private String univLogo;
+    private Long leaderIdx;             // 대학 대표 (경기 생성 시 주최/참가 대표)
+
+    private int seed;                   // 시드 (시작 시 참가 순서로 부여)
+    private int groupNo;                // 조 (조별 리그, 엘리미네이션은 1)
+
+    private int played;
+    private int wins;
+    private int losses;
+    private int draws;                  // 무승부 (조별 리그)
+    private int points;                 // 승점
+    private long scoreFor;              // 득점
+    private long scoreAgainst;          // 실점
+    private long scoreDiff;             // 득실차
+    private boolean eliminated;         // 탈락 여부
+
+    private LocalDateTime regDt;
+}
@@ -0,0 +1,64 @@
+package com.example.gazamung.tournament.entity;
+
+import com.example.gazamung.tournament.BracketSide;
+import com.example.gazamung.tournament.TournamentMatchStatus;
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 토너먼트 대진 (경기 번호 matchNo 로 다음 경기 연결)
+ */
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "UK_TOURNAMENT_MATCH_NO", columnNames = {"tournament_id", "match_no"}),
+        @UniqueConstraint(name = "UK_TOURNAMENT_MATCH_BATTLE", columnNames = {"univ_battle_id"})
+}, indexes = {
+        @Index(name = "IDX_TOURNAMENT_MATCH_ROUND", columnList = "tournament_id, group_no, round, status"),  // 라운드 진행 확인용
+        @Index(name = "IDX_TOURNAMENT_MATCH_STATUS", columnList = "status")   // 대항전 생성 재시도 대상 조회용
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+@Slf4j
+public class TournamentMatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "TOURNAMENT_MATCH_SEQ")
+    @SequenceGenerator(name = "TOURNAMENT_MATCH_SEQ", sequenceName = "tournament_match_sequence", allocationSize = 1)
+    private Long matchId;
+
+    private Long tournamentId;
+    private int matchNo;                // 토너먼트 내 경기 번호
+
+    @Enumerated(EnumType.STRING)
+    private BracketSide bracket;
+    private int round;
+    private int position;               // 라운드 내 순서
+    private int groupNo;
+
+    private Long hostUniv;
+    private Long guestUniv;
+    private boolean hostResolved;       // 주최 자리 확정 여부 (null 이어도 확정이면 부전승)
+    private boolean guestResolved;
+
+    @Enumerated(EnumType.STRING)
+    private TournamentMatchStatus status;
+    private Long univBattleId;
+
+    private Long winUniv;
+    private Long loseUniv;
+    private Long hostScore;
+    private Long guestScore;
+
+    private Integer nextMatchNo;        // 승자 진출 경기
+    private Integer nextSlot;           // 0: 주최, 1: 참가
+    private Integer loserMatchNo;       // 패자 진출 경기 (더블 엘리미네이션)
+    private Integer loserSlot;
+
+    private LocalDateTime endDt;
+}
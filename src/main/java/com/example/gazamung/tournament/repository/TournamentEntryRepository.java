@@ -0,0 +1,21 @@
+package com.example.gazamung.tournament.repository;
+
+import com.example.gazamung.tournament.entity.TournamentEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface TournamentEntryRepository extends JpaRepository<TournamentEntry, Long> {
+
+    List<TournamentEntry> findByTournamentIdOrderByEntryIdAsc(Long tournamentId);
+
+    Optional<TournamentEntry> findByTournamentIdAndUnivId(Long tournamentId, Long univId);
+
+    boolean existsByTournamentIdAndUnivId(Long tournamentId, Long univId);
+
+    /**
+     * 순위표 (조 → 승점 → 득실차 → 득점 → 시드)
+     */
+    List<TournamentEntry> findByTournamentIdOrderByGroupNoAscPointsDescScoreDiffDescScoreForDescSeedAsc(Long tournamentId);
+}
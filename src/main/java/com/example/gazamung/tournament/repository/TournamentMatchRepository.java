@@ -0,0 +1,40 @@
+package com.example.gazamung.tournament.repository;
+
+import com.example.gazamung.tournament.TournamentMatchStatus;
+import com.example.gazamung.tournament.entity.TournamentMatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TournamentMatchRepository extends JpaRepository<TournamentMatch, Long> {
+
+    Optional<TournamentMatch> findByUnivBattleId(Long univBattleId);
+
+    Optional<TournamentMatch> findByTournamentIdAndMatchNo(Long tournamentId, int matchNo);
+
+    /**
+     * 대항전 생성은 경기 단위로 직렬화 (커밋 후 생성과 재시도가 겹쳐도 대항전은 하나만 생성)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM TournamentMatch m WHERE m.tournamentId = :tournamentId AND m.matchNo = :matchNo")
+    Optional<TournamentMatch> findForUpdate(@Param("tournamentId") Long tournamentId, @Param("matchNo") int matchNo);
+
+    List<TournamentMatch> findByStatusIn(Collection<TournamentMatchStatus> statuses);
+
+    List<TournamentMatch> findByTournamentIdOrderByMatchNoAsc(Long tournamentId);
+
+    List<TournamentMatch> findByTournamentIdAndGroupNoAndRound(Long tournamentId, int groupNo, int round);
+
+    long countByTournamentIdAndGroupNoAndRoundAndStatusIn(Long tournamentId, int groupNo, int round, Collection<TournamentMatchStatus> statuses);
+
+    long countByTournamentIdAndStatusIn(Long tournamentId, Collection<TournamentMatchStatus> statuses);
+
+    @Query("SELECT MAX(m.matchNo) FROM TournamentMatch m WHERE m.tournamentId = :tournamentId")
+    Integer findMaxMatchNo(@Param("tournamentId") Long tournamentId);
+}
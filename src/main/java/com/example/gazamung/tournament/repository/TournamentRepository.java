@@ -0,0 +1,20 @@
+package com.example.gazamung.tournament.repository;
+
+import com.example.gazamung.tournament.entity.Tournament;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface TournamentRepository extends JpaRepository<Tournament, Long> {
+
+    /**
+     * 참가/시작/결과 반영은 토너먼트 단위로 직렬화 (같은 라운드 경기가 동시에 끝나도 다음 대진을 한 번만 확정)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Tournament t WHERE t.tournamentId = :tournamentId")
+    Optional<Tournament> findForUpdate(@Param("tournamentId") Long tournamentId);
+}
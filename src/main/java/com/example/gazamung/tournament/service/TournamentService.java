@@ -0,0 +1,54 @@
+package com.example.gazamung.tournament.service;
+
+import com.example.gazamung.tournament.dto.TournamentCreateReq;
+import com.example.gazamung.tournament.dto.TournamentJoinReq;
+import com.example.gazamung.tournament.dto.TournamentRes;
+import com.example.gazamung.univBattle.entity.UnivBattle;
+import org.springframework.stereotype.Service;
+
+@Service
+public interface TournamentService {
+
+    /**
+     * 토너먼트 생성
+     * @param request
+     * @return 토너먼트 ID
+     */
+    long create(TournamentCreateReq request);
+
+    /**
+     * 대학 참가 (대표의 대학으로 참가)
+     * @param request
+     * @return
+     */
+    boolean join(TournamentJoinReq request);
+
+    /**
+     * 참가 마감 후 대진 생성, 대진이 확정된 경기는 커밋 후 대항전 생성
+     * @param tournamentId
+     * @param memberIdx 개설자
+     * @return
+     */
+    TournamentRes start(Long tournamentId, Long memberIdx);
+
+    /**
+     * 대진표
+     * @param tournamentId
+     * @return
+     */
+    TournamentRes bracket(Long tournamentId);
+
+    /**
+     * 순위표
+     * @param tournamentId
+     * @return
+     */
+    TournamentRes standings(Long tournamentId);
+
+    /**
+     * 확정된 대항전 결과를 토너먼트에 반영 (순위표 증분 반영, 다음 대진 확정)
+     * 토너먼트 경기가 아니면 무시
+     * @param univBattle
+     */
+    void applyResult(UnivBattle univBattle);
+}
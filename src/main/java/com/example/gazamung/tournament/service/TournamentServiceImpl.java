@@ -0,0 +1,651 @@
+package com.example.gazamung.tournament.service;
+
+import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.member.entity.Member;
+import com.example.gazamung.member.repository.MemberRepository;
+import com.example.gazamung.reference.service.ReferenceRegistry;
+import com.example.gazamung.tournament.*;
+import com.example.gazamung.tournament.dto.*;
+import com.example.gazamung.tournament.entity.Tournament;
+import com.example.gazamung.tournament.entity.TournamentEntry;
+import com.example.gazamung.tournament.entity.TournamentMatch;
+import com.example.gazamung.tournament.repository.TournamentEntryRepository;
+import com.example.gazamung.tournament.repository.TournamentMatchRepository;
+import com.example.gazamung.tournament.repository.TournamentRepository;
+import com.example.gazamung.univBattle.dto.UnivBattleCreateRequest;
+import com.example.gazamung.univBattle.entity.UnivBattle;
+import com.example.gazamung.univBattle.service.UnivBattleService;
+import com.example.gazamung.university.entity.University;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TournamentServiceImpl implements TournamentService {
+
+    private static final int MAX_TEAMS = 256;
+    private static final int MAX_GROUP_SIZE = 32;      // 조별 리그 한 조 최대 팀 수
+    private static final int WIN_POINTS = 3;
+    private static final int DRAW_POINTS = 1;
+    private static final int KNOCKOUT_GROUP = 0;       // 조별 리그 후 본선 경기의 조 번호
+    private static final List<TournamentMatchStatus> UNOPENED = List.of(TournamentMatchStatus.OPENING, TournamentMatchStatus.FAILED);
+    private static final List<TournamentMatchStatus> OPEN = List.of(TournamentMatchStatus.PENDING, TournamentMatchStatus.OPENING,
+            TournamentMatchStatus.FAILED, TournamentMatchStatus.READY);
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentEntryRepository tournamentEntryRepository;
+    private final TournamentMatchRepository tournamentMatchRepository;
+    private final MemberRepository memberRepository;
+    private final ReferenceRegistry referenceRegistry;
+    // UnivBattleService 가 결과 반영 시 이 서비스를 호출하므로 지연 조회
+    private final ObjectProvider<UnivBattleService> univBattleService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    @Transactional
+    public long create(TournamentCreateReq request) {
+        memberRepository.findById(request.getHostMember())
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
+
+        TournamentFormat format = request.getFormat() != null ? request.getFormat() : TournamentFormat.SINGLE_ELIMINATION;
+        int groupCount = format == TournamentFormat.ROUND_ROBIN ? Math.max(1, request.getGroupCount()) : 1;
+        validateSize(format, request.getMaxTeams(), groupCount);
+
+        Tournament tournament = Tournament.builder()
+                .name(request.getName())
+                .hostMember(request.getHostMember())
+                .format(format)
+                .status(TournamentStatus.RECRUIT)
+                .maxTeams(request.getMaxTeams())
+                .groupCount(groupCount)
+                .eventId(request.getEventId())
+                .teamPtcLimit(request.getTeamPtcLimit())
+                .battleDate(request.getBattleDate())
+                .place(request.getPlace())
+                .lat(request.getLat())
+                .lng(request.getLng())
+                .cost(request.getCost())
+                .regDt(LocalDateTime.now())
+                .build();
+
+        return tournamentRepository.save(tournament).getTournamentId();
+    }
+
+    @Override
+    @Transactional
+    public boolean join(TournamentJoinReq request) {
+        Member member = memberRepository.findById(request.getMemberIdx())
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
+        University university = referenceRegistry.university(member.getUnivId())
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_UNIVERSITY));
+
+        Tournament tournament = tournamentRepository.findForUpdate(request.getTournamentId())
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_TOURNAMENT));
+
+        if (tournament.getStatus() != TournamentStatus.RECRUIT) {
+            throw new CustomException(CustomExceptionCode.TOURNAMENT_ALREADY_STARTED);
+        }
+        if (tournament.getTeamCount() >= tournament.getMaxTeams()) {
+            throw new CustomException(CustomExceptionCode.TOURNAMENT_FULL);
+        }
+        if (tournamentEntryRepository.existsByTournamentIdAndUnivId(tournament.getTournamentId(), member.getUnivId())) {
+            throw new CustomException(CustomExceptionCode.ALREADY_ATTENDED);
+        }
+
+        TournamentEntry entry = TournamentEntry.builder()
+                .tournamentId(tournament.getTournamentId())
+                .univId(member.getUnivId())
+                .univName(university.getSchoolName())
+                .univLogo(university.getLogoImg())
+                .leaderIdx(member.getMemberIdx())
+                .groupNo(1)
+                .regDt(LocalDateTime.now())
+                .build();
+        tournamentEntryRepository.save(entry);
+
+        tournament.setTeamCount(tournament.getTeamCount() + 1);
+        tournamentRepository.save(tournament);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public TournamentRes start(Long tournamentId, Long memberIdx) {
+        Tournament tournament = tournamentRepository.findForUpdate(tournamentId)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_TOURNAMENT));
+
+        if (!Objects.equals(tournament.getHostMember(), memberIdx)) {
+            throw new CustomException(CustomExceptionCode.UNAUTHORIZED_USER);
+        }
+        if (tournament.getStatus() != TournamentStatus.RECRUIT) {
+            throw new CustomException(CustomExceptionCode.TOURNAMENT_ALREADY_STARTED);
+        }
+
+        // 참가 순서로 시드 부여
+        List<TournamentEntry> entries = tournamentEntryRepository.findByTournamentIdOrderByEntryIdAsc(tournamentId);
+        validateSize(tournament.getFormat(), entries.size(), tournament.getGroupCount());
+        for (int i = 0; i < entries.size(); i++) {
+            entries.get(i).setSeed(i + 1);
+            entries.get(i).setGroupNo(1);
+        }
+
+        List<TournamentMatch> matches = BracketGenerator.generate(tournamentId, tournament.getFormat(), entries, tournament.getGroupCount());
+        tournamentMatchRepository.saveAll(matches);
+        tournamentEntryRepository.saveAll(entries);
+
+        tournament.setStatus(TournamentStatus.IN_PROGRESS);
+        tournament.setStartDt(LocalDateTime.now());
+
+        // 1라운드 대진 확정 (부전승은 바로 다음 경기로 진출)
+        Progress progress = new Progress(tournament, matches, entries);
+        for (TournamentMatch match : matches) {
+            if (match.getRound() == 1 && match.getBracket() != BracketSide.LOSER && match.getBracket() != BracketSide.FINAL) {
+                settle(progress, match);
+            }
+        }
+        tournamentMatchRepository.saveAll(matches);
+        tournamentRepository.save(tournament);
+
+        return toRes(tournament, matches, entries, null);
+    }
+
+    @Override
+    public TournamentRes bracket(Long tournamentId) {
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_TOURNAMENT));
+
+        List<TournamentMatch> matches = tournamentMatchRepository.findByTournamentIdOrderByMatchNoAsc(tournamentId);
+        List<TournamentEntry> entries = tournamentEntryRepository.findByTournamentIdOrderByEntryIdAsc(tournamentId);
+        return toRes(tournament, matches, entries, null);
+    }
+
+    @Override
+    public TournamentRes standings(Long tournamentId) {
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_TOURNAMENT));
+
+        List<TournamentEntry> entries = tournamentEntryRepository
+                .findByTournamentIdOrderByGroupNoAscPointsDescScoreDiffDescScoreForDescSeedAsc(tournamentId);
+
+        List<TournamentStandingRes> standings = new ArrayList<>(entries.size());
+        int groupNo = -1;
+        int rank = 0;
+        for (TournamentEntry entry : entries) {
+            if (entry.getGroupNo() != groupNo) {
+                groupNo = entry.getGroupNo();
+                rank = 0;
+            }
+            standings.add(TournamentStandingRes.builder()
+                    .groupNo(entry.getGroupNo())
+                    .rank(++rank)
+                    .univId(entry.getUnivId())
+                    .univName(entry.getUnivName())
+                    .univLogo(entry.getUnivLogo())
+                    .seed(entry.getSeed())
+                    .played(entry.getPlayed())
+                    .wins(entry.getWins())
+                    .draws(entry.getDraws())
+                    .losses(entry.getLosses())
+                    .points(entry.getPoints())
+                    .scoreFor(entry.getScoreFor())
+                    .scoreAgainst(entry.getScoreAgainst())
+                    .scoreDiff(entry.getScoreDiff())
+                    .eliminated(entry.isEliminated())
+                    .build());
+        }
+        return toRes(tournament, null, null, standings);
+    }
+
+    /**
+     * 대항전 결과 확정 시 호출 (대항전 결과와 같은 트랜잭션)
+     * 토너먼트 행 잠금으로 같은 토너먼트 결과 반영을 직렬화
+     * 다음 경기 대항전은 커밋 후 생성하므로 생성이 실패해도 결과는 롤백되지 않는다.
+     */
+    @Override
+    @Transactional
+    public void applyResult(UnivBattle univBattle) {
+        Optional<TournamentMatch> found = tournamentMatchRepository.findByUnivBattleId(univBattle.getUnivBattleId());
+        if (found.isEmpty()) return;
+
+        Tournament tournament = tournamentRepository.findForUpdate(found.get().getTournamentId())
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_TOURNAMENT));
+        TournamentMatch match = found.get();
+        if (match.getStatus() != TournamentMatchStatus.READY) return;
+
+        long hostScore = univBattle.getHostScore() != null ? univBattle.getHostScore() : 0;
+        long guestScore = univBattle.getGuestScore() != null ? univBattle.getGuestScore() : 0;
+
+        match.setStatus(TournamentMatchStatus.COMPLETED);
+        match.setHostScore(hostScore);
+        match.setGuestScore(guestScore);
+        match.setEndDt(LocalDateTime.now());
+
+        Progress progress = new Progress(tournament, List.of(match), List.of());
+
+        Long winner = winnerOf(progress, match, univBattle.getWinUniv(), hostScore, guestScore);
+        if (winner == null) {
+            // 조별 리그 무승부: 양 팀 승점 1
+            record(progress.entry(match.getHostUniv()), 0, 0, 1, DRAW_POINTS, hostScore, guestScore);
+            record(progress.entry(match.getGuestUniv()), 0, 0, 1, DRAW_POINTS, guestScore, hostScore);
+            afterGroupMatch(progress, match);
+        } else {
+            Long loser = winner.equals(match.getHostUniv()) ? match.getGuestUniv() : match.getHostUniv();
+            long winnerScore = winner.equals(match.getHostUniv()) ? hostScore : guestScore;
+            long loserScore = winner.equals(match.getHostUniv()) ? guestScore : hostScore;
+            match.setWinUniv(winner);
+            match.setLoseUniv(loser);
+
+            // 순위표 증분 반영
+            record(progress.entry(winner), 1, 0, 0, WIN_POINTS, winnerScore, loserScore);
+            record(progress.entry(loser), 0, 1, 0, 0, loserScore, winnerScore);
+
+            if (match.getBracket() == BracketSide.GROUP) {
+                afterGroupMatch(progress, match);
+            } else {
+                afterEliminationMatch(progress, match, winner, loser);
+            }
+        }
+
+        tournamentMatchRepository.saveAll(progress.matches.values());
+        tournamentEntryRepository.saveAll(progress.entries.values());
+        tournamentRepository.save(tournament);
+    }
+
+    private void afterEliminationMatch(Progress progress, TournamentMatch match, Long winner, Long loser) {
+        Tournament tournament = progress.tournament;
+
+        if (match.getBracket() == BracketSide.FINAL
+                && tournament.getFormat() == TournamentFormat.DOUBLE_ELIMINATION
+                && match.getRound() == 1 && winner.equals(match.getGuestUniv())) {
+            // 패자조 우승팀이 이기면 양 팀 모두 1패, 결승 리셋 경기
+            Integer maxMatchNo = tournamentMatchRepository.findMaxMatchNo(tournament.getTournamentId());
+            TournamentMatch reset = TournamentMatch.builder()
+                    .tournamentId(tournament.getTournamentId())
+                    .matchNo(maxMatchNo + 1)
+                    .bracket(BracketSide.FINAL)
+                    .round(2)
+                    .position(0)
+                    .groupNo(1)
+                    .hostUniv(match.getHostUniv())
+                    .guestUniv(match.getGuestUniv())
+                    .hostResolved(true)
+                    .guestResolved(true)
+                    .status(TournamentMatchStatus.PENDING)
+                    .build();
+            tournamentMatchRepository.save(reset);
+            progress.matches.put(reset.getMatchNo(), reset);
+            settle(progress, reset);
+            return;
+        }
+
+        if (match.getNextMatchNo() != null) {
+            advance(progress, match.getNextMatchNo(), match.getNextSlot(), winner);
+        }
+        if (match.getLoserMatchNo() != null) {
+            advance(progress, match.getLoserMatchNo(), match.getLoserSlot(), loser);
+        } else {
+            progress.entry(loser).setEliminated(true);
+        }
+
+        if (match.getNextMatchNo() == null) {
+            complete(progress, winner);
+        }
+    }
+
+    private void afterGroupMatch(Progress progress, TournamentMatch match) {
+        Long tournamentId = match.getTournamentId();
+
+        // 같은 조의 라운드가 모두 끝나면 다음 라운드 대항전 생성
+        if (tournamentMatchRepository.countByTournamentIdAndGroupNoAndRoundAndStatusIn(
+                tournamentId, match.getGroupNo(), match.getRound(), OPEN) > 0) {
+            return;
+        }
+
+        List<TournamentMatch> next = tournamentMatchRepository.findByTournamentIdAndGroupNoAndRound(
+                tournamentId, match.getGroupNo(), match.getRound() + 1);
+        for (TournamentMatch nextMatch : next) {
+            progress.matches.put(nextMatch.getMatchNo(), nextMatch);
+            settle(progress, nextMatch);
+        }
+
+        if (next.isEmpty() && tournamentMatchRepository.countByTournamentIdAndStatusIn(tournamentId, OPEN) == 0) {
+            // 조별 리그 종료: 조 1위가 하나면 우승, 여럿이면 조 1위끼리 본선 토너먼트
+            List<TournamentEntry> groupWinners = groupWinners(progress);
+            if (groupWinners.size() == 1) {
+                complete(progress, groupWinners.get(0).getUnivId());
+            } else {
+                startKnockout(progress, groupWinners);
+            }
+        }
+    }
+
+    /**
+     * 조별 1위 (나머지 팀은 탈락 처리)
+     */
+    private List<TournamentEntry> groupWinners(Progress progress) {
+        Long tournamentId = progress.tournament.getTournamentId();
+        tournamentEntryRepository.saveAll(progress.entries.values());
+
+        List<TournamentEntry> winners = new ArrayList<>();
+        int groupNo = -1;
+        for (TournamentEntry entry : tournamentEntryRepository
+                .findByTournamentIdOrderByGroupNoAscPointsDescScoreDiffDescScoreForDescSeedAsc(tournamentId)) {
+            progress.entries.put(entry.getUnivId(), entry);
+            if (entry.getGroupNo() != groupNo) {
+                groupNo = entry.getGroupNo();
+                winners.add(entry);
+            } else {
+                entry.setEliminated(true);
+            }
+        }
+        return winners;
+    }
+
+    /**
+     * 조 1위끼리 싱글 엘리미네이션 (승점 → 득실차 → 득점 → 시드 순으로 본선 시드 부여)
+     * 조별 리그 경기 뒤 번호로 이어 붙이고, 이후 진행은 엘리미네이션과 같다.
+     */
+    private void startKnockout(Progress progress, List<TournamentEntry> groupWinners) {
+        Long tournamentId = progress.tournament.getTournamentId();
+
+        List<TournamentEntry> seeded = new ArrayList<>(groupWinners);
+        seeded.sort(Comparator.comparingInt(TournamentEntry::getPoints).reversed()
+                .thenComparing(Comparator.comparingLong(TournamentEntry::getScoreDiff).reversed())
+                .thenComparing(Comparator.comparingLong(TournamentEntry::getScoreFor).reversed())
+                .thenComparingInt(TournamentEntry::getSeed));
+
+        int offset = tournamentMatchRepository.findMaxMatchNo(tournamentId) + 1;
+        List<TournamentMatch> knockout = BracketGenerator.generate(tournamentId, TournamentFormat.SINGLE_ELIMINATION, seeded, 1);
+        for (TournamentMatch match : knockout) {
+            match.setMatchNo(match.getMatchNo() + offset);
+            match.setGroupNo(KNOCKOUT_GROUP);
+            if (match.getNextMatchNo() != null) {
+                match.setNextMatchNo(match.getNextMatchNo() + offset);
+            }
+        }
+        tournamentMatchRepository.saveAll(knockout);
+
+        knockout.forEach(match -> progress.matches.put(match.getMatchNo(), match));
+        for (TournamentMatch match : knockout) {
+            if (match.getRound() == 1) {
+                settle(progress, match);
+            }
+        }
+    }
+
+    /**
+     * 양쪽 자리가 확정되면 대항전 생성, 한쪽이 비면 부전승 처리
+     */
+    private void settle(Progress progress, TournamentMatch match) {
+        if (match.getStatus() != TournamentMatchStatus.PENDING || !match.isHostResolved() || !match.isGuestResolved()) {
+            return;
+        }
+
+        if (match.getHostUniv() != null && match.getGuestUniv() != null) {
+            openBattle(match);
+            return;
+        }
+
+        Long winner = match.getHostUniv() != null ? match.getHostUniv() : match.getGuestUniv();
+        match.setStatus(TournamentMatchStatus.BYE);
+        match.setWinUniv(winner);
+        match.setEndDt(LocalDateTime.now());
+
+        if (match.getNextMatchNo() != null) {
+            advance(progress, match.getNextMatchNo(), match.getNextSlot(), winner);
+        }
+        if (match.getLoserMatchNo() != null) {
+            advance(progress, match.getLoserMatchNo(), match.getLoserSlot(), null);
+        }
+    }
+
+    private void advance(Progress progress, int matchNo, int slot, Long univId) {
+        TournamentMatch target = progress.match(matchNo);
+        if (slot == BracketGenerator.HOST) {
+            target.setHostUniv(univId);
+            target.setHostResolved(true);
+        } else {
+            target.setGuestUniv(univId);
+            target.setGuestResolved(true);
+        }
+        settle(progress, target);
+    }
+
+    /**
+     * 대진 확정, 대항전은 커밋 후 생성 (결과 반영 트랜잭션 안에서 다른 서비스가 실패하지 않도록)
+     */
+    private void openBattle(TournamentMatch match) {
+        match.setStatus(TournamentMatchStatus.OPENING);
+
+        Long tournamentId = match.getTournamentId();
+        int matchNo = match.getMatchNo();
+        afterCommit(() -> openBattle(tournamentId, matchNo));
+    }
+
+    /**
+     * 대항전 생성이 실패한 경기 재시도 (커밋 직후 서버가 내려가 OPENING 으로 남은 경기 포함)
+     */
+    @Scheduled(fixedDelayString = "${tournament.open-retry-ms:300000}", initialDelayString = "${tournament.open-retry-ms:300000}")
+    public void retryOpenBattles() {
+        List<TournamentMatch> unopened = tournamentMatchRepository.findByStatusIn(UNOPENED);
+        if (unopened.isEmpty()) return;
+
+        log.info("토너먼트 대항전 생성 재시도 {}건", unopened.size());
+        for (TournamentMatch match : unopened) {
+            openBattle(match.getTournamentId(), match.getMatchNo());
+        }
+    }
+
+    /**
+     * 새 트랜잭션에서 대항전 생성, 실패하면 FAILED 로 두고 예외는 전파하지 않음
+     */
+    private void openBattle(Long tournamentId, int matchNo) {
+        try {
+            newTransaction().executeWithoutResult(status -> createBattle(tournamentId, matchNo));
+        } catch (Exception e) {
+            log.warn("토너먼트 대항전 생성 실패 tournamentId={}, matchNo={}", tournamentId, matchNo, e);
+            try {
+                newTransaction().executeWithoutResult(status -> tournamentMatchRepository.findForUpdate(tournamentId, matchNo)
+                        .filter(match -> match.getStatus() == TournamentMatchStatus.OPENING)
+                        .ifPresent(match -> {
+                            match.setStatus(TournamentMatchStatus.FAILED);
+                            tournamentMatchRepository.save(match);
+                        }));
+            } catch (Exception ex) {
+                log.error("토너먼트 대항전 생성 실패 기록 실패 tournamentId={}, matchNo={}", tournamentId, matchNo, ex);
+            }
+        }
+    }
+
+    /**
+     * 기존 매칭 흐름으로 대항전 생성 (주최/참가 대표 확정, 이후 참가/시작/결과는 대항전과 동일)
+     * 경기 행 잠금 후 상태를 다시 확인하므로 커밋 후 생성과 재시도가 겹쳐도 한 번만 생성
+     */
+    private void createBattle(Long tournamentId, int matchNo) {
+        TournamentMatch match = tournamentMatchRepository.findForUpdate(tournamentId, matchNo).orElse(null);
+        if (match == null || !UNOPENED.contains(match.getStatus())) return;
+
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_TOURNAMENT));
+        TournamentEntry host = tournamentEntryRepository.findByTournamentIdAndUnivId(tournamentId, match.getHostUniv())
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND));
+        TournamentEntry guest = tournamentEntryRepository.findByTournamentIdAndUnivId(tournamentId, match.getGuestUniv())
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND));
+
+        UnivBattleCreateRequest request = UnivBattleCreateRequest.builder()
+                .hostLeader(host.getLeaderIdx())
+                .eventId(tournament.getEventId())
+                .battleDate(tournament.getBattleDate())
+                .place(tournament.getPlace())
+                .lat(tournament.getLat())
+                .lng(tournament.getLng())
+                .cost(tournament.getCost())
+                .content(tournament.getName() + " " + roundLabel(match))
+                .teamPtcLimit(tournament.getTeamPtcLimit())
+                .build();
+
+        long univBattleId = univBattleService.getObject().createMatched(request, guest.getLeaderIdx());
+        match.setUnivBattleId(univBattleId);
+        match.setStatus(TournamentMatchStatus.READY);
+        tournamentMatchRepository.save(match);
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private void complete(Progress progress, Long champion) {
+        Tournament tournament = progress.tournament;
+        tournament.setStatus(TournamentStatus.COMPLETED);
+        tournament.setChampionUniv(champion);
+        tournament.setEndDt(LocalDateTime.now());
+    }
+
+    private void record(TournamentEntry entry, int wins, int losses, int draws, int points, long scoreFor, long scoreAgainst) {
+        entry.setPlayed(entry.getPlayed() + 1);
+        entry.setWins(entry.getWins() + wins);
+        entry.setLosses(entry.getLosses() + losses);
+        entry.setDraws(entry.getDraws() + draws);
+        entry.setPoints(entry.getPoints() + points);
+        entry.setScoreFor(entry.getScoreFor() + scoreFor);
+        entry.setScoreAgainst(entry.getScoreAgainst() + scoreAgainst);
+        entry.setScoreDiff(entry.getScoreDiff() + scoreFor - scoreAgainst);
+    }
+
+    /**
+     * 점수가 높은 팀이 승리, 동점이면
+     * - 조별 리그: 무승부 (null, 대항전에 기록된 승리 대학은 무시)
+     * - 엘리미네이션: 대항전에 기록된 승리 대학 (승부차기 등), 없으면 시드가 높은 팀 (시드 번호가 작은 팀)
+     * 점수가 다르면 대진과 맞는 기록된 승리 대학을 우선한다.
+     */
+    private Long winnerOf(Progress progress, TournamentMatch match, Long winUniv, long hostScore, long guestScore) {
+        boolean recorded = Objects.equals(winUniv, match.getHostUniv()) || Objects.equals(winUniv, match.getGuestUniv());
+        if (hostScore != guestScore) {
+            if (recorded) return winUniv;
+            return guestScore > hostScore ? match.getGuestUniv() : match.getHostUniv();
+        }
+        if (match.getBracket() == BracketSide.GROUP) return null;
+        if (recorded) return winUniv;
+        return progress.entry(match.getGuestUniv()).getSeed() < progress.entry(match.getHostUniv()).getSeed()
+                ? match.getGuestUniv() : match.getHostUniv();
+    }
+
+    private String roundLabel(TournamentMatch match) {
+        return switch (match.getBracket()) {
+            case WINNER -> match.getNextMatchNo() == null ? "결승"
+                    : (match.getGroupNo() == KNOCKOUT_GROUP ? "본선 " : "") + match.getRound() + "라운드";
+            case LOSER -> "패자조 " + match.getRound() + "라운드";
+            case FINAL -> match.getRound() == 1 ? "결승" : "결승 리셋";
+            case GROUP -> match.getGroupNo() + "조 " + match.getRound() + "라운드";
+        };
+    }
+
+    private void validateSize(TournamentFormat format, int teams, int groupCount) {
+        if (teams < 2 || teams > MAX_TEAMS) {
+            throw new CustomException(CustomExceptionCode.INVALID_TOURNAMENT_SIZE);
+        }
+        if (format == TournamentFormat.ROUND_ROBIN && (teams + groupCount - 1) / groupCount > MAX_GROUP_SIZE) {
+            throw new CustomException(CustomExceptionCode.INVALID_TOURNAMENT_SIZE);
+        }
+    }
+
+    private TournamentRes toRes(Tournament tournament, List<TournamentMatch> matches, List<TournamentEntry> entries,
+                                List<TournamentStandingRes> standings) {
+        List<TournamentMatchRes> matchRes = null;
+        if (matches != null) {
+            Map<Long, String> names = entries.stream()
+                    .collect(Collectors.toMap(TournamentEntry::getUnivId, TournamentEntry::getUnivName, (a, b) -> a));
+            matchRes = matches.stream()
+                    .map(match -> TournamentMatchRes.builder()
+                            .matchNo(match.getMatchNo())
+                            .bracket(match.getBracket())
+                            .round(match.getRound())
+                            .position(match.getPosition())
+                            .groupNo(match.getGroupNo())
+                            .hostUniv(match.getHostUniv())
+                            .hostUnivName(names.get(match.getHostUniv()))
+                            .guestUniv(match.getGuestUniv())
+                            .guestUnivName(names.get(match.getGuestUniv()))
+                            .status(match.getStatus())
+                            .univBattleId(match.getUnivBattleId())
+                            .winUniv(match.getWinUniv())
+                            .hostScore(match.getHostScore())
+                            .guestScore(match.getGuestScore())
+                            .nextMatchNo(match.getNextMatchNo())
+                            .loserMatchNo(match.getLoserMatchNo())
+                            .build())
+                    .collect(Collectors.toList());
+        }
+
+        return TournamentRes.builder()
+                .tournamentId(tournament.getTournamentId())
+                .name(tournament.getName())
+                .format(tournament.getFormat())
+                .status(tournament.getStatus())
+                .teamCount(tournament.getTeamCount())
+                .maxTeams(tournament.getMaxTeams())
+                .groupCount(tournament.getGroupCount())
+                .eventId(tournament.getEventId())
+                .championUniv(tournament.getChampionUniv())
+                .matches(matchRes)
+                .standings(standings)
+                .build();
+    }
+
+    /**
+     * 결과 반영 중 조회한 경기/참가팀 (같은 경기를 다시 조회하지 않도록)
+     */
+    private final class Progress {
+        private final Tournament tournament;
+        private final Map<Integer, TournamentMatch> matches = new LinkedHashMap<>();
+        private final Map<Long, TournamentEntry> entries = new HashMap<>();
+
+        private Progress(Tournament tournament, List<TournamentMatch> matches, List<TournamentEntry> entries) {
+            this.tournament = tournament;
+            matches.forEach(match -> this.matches.put(match.getMatchNo(), match));
+            entries.forEach(entry -> this.entries.put(entry.getUnivId(), entry));
+        }
+
+        private TournamentMatch match(int matchNo) {
+            return matches.computeIfAbsent(matchNo, no -> tournamentMatchRepository
+                    .findByTournamentIdAndMatchNo(tournament.getTournamentId(), no)
+                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND)));
+        }
+
+        private TournamentEntry entry(Long univId) {
+            return entries.computeIfAbsent(univId, id -> tournamentEntryRepository
+                    .findByTournamentIdAndUnivId(tournament.getTournamentId(), id)
+                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND)));
+        }
+    }
+}
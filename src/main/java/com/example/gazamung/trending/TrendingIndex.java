@@ -0,0 +1,137 @@
+package com.example.gazamung.trending;
+
+import java.util.*;
+
+/**
+ * 대학 + 카테고리별 인기 게시글 인덱스
+ * - 게시글 점수는 활동(작성, 조회, 댓글) 가중치를 반감기 기준으로 시간 감쇠한 합
+ * - 점수는 기준 시각(epoch) 으로 환산한 로그 값으로 보관해, 새 활동만 더하면 되고 전체 재계산이 필요 없다.
+ *   (score(t) = Σ w_i · 2^-((t - t_i) / halfLife), 보관 값 = log Σ w_i · e^(λ(t_i - epoch)))
+ * - rebuild 때 기준 이하 게시글을 정리하고 키별 상위 K 개를 크기 K 최소 힙으로 골라 두므로 조회는 O(K)
+ * 쓰기는 인스턴스 락으로 직렬화하고 상위 목록 조회는 락 없이 수행한다.
+ */
+public class TrendingIndex {
+
+    public static final long ALL_CATEGORY = 0L;   // 전체 카테고리
+
+    private final double lambda;                // 초당 감쇠율
+    private final long epoch;                   // 기준 시각 (epoch seconds)
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private volatile Map<String, List<TrendingItem>> tops = Map.of();
+
+    private static final class Entry {
+        private final long postId;
+        private long univId;
+        private long categoryId;
+        private double logScore = Double.NEGATIVE_INFINITY;
+
+        private Entry(long postId, long univId, long categoryId) {
+            this.postId = postId;
+            this.univId = univId;
+            this.categoryId = categoryId;
+        }
+    }
+
+    /**
+     * @param halfLifeSeconds 점수 반감기
+     * @param epoch 기준 시각 (epoch seconds)
+     */
+    public TrendingIndex(long halfLifeSeconds, long epoch) {
+        this.lambda = Math.log(2) / Math.max(1, halfLifeSeconds);
+        this.epoch = epoch;
+    }
+
+    /**
+     * 게시글 등록 또는 대학/카테고리 변경 (점수 유지)
+     */
+    public synchronized void put(long postId, long univId, long categoryId) {
+        Entry entry = entries.computeIfAbsent(postId, id -> new Entry(id, univId, categoryId));
+        entry.univId = univId;
+        entry.categoryId = categoryId;
+    }
+
+    /**
+     * 활동 반영
+     * @param at 활동 시각 (epoch seconds)
+     * @return 등록되지 않은 게시글이면 false
+     */
+    public synchronized boolean add(long postId, double weight, long at) {
+        Entry entry = entries.get(postId);
+        if (entry == null) return false;
+        if (weight > 0) {
+            entry.logScore = logAddExp(entry.logScore, Math.log(weight) + lambda * (at - epoch));
+        }
+        return true;
+    }
+
+    public synchronized void remove(long postId) {
+        entries.remove(postId);
+    }
+
+    public synchronized boolean contains(long postId) {
+        return entries.containsKey(postId);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 점수가 minScore 미만인 게시글 정리 후 키별 상위 k 개 갱신
+     * @param now 현재 시각 (epoch seconds)
+     */
+    public synchronized void rebuild(int k, double minScore, long now) {
+        double shift = lambda * (now - epoch);
+        double cutoff = Math.log(minScore) + shift;
+        entries.values().removeIf(entry -> entry.logScore < cutoff);
+
+        Comparator<Entry> order = Comparator.comparingDouble((Entry entry) -> entry.logScore)
+                .thenComparingLong(entry -> entry.postId);
+        Map<String, PriorityQueue<Entry>> heaps = new HashMap<>();
+        for (Entry entry : entries.values()) {
+            offer(heaps, key(entry.univId, entry.categoryId), entry, k, order);
+            offer(heaps, key(entry.univId, ALL_CATEGORY), entry, k, order);
+        }
+
+        Map<String, List<TrendingItem>> rebuilt = new HashMap<>();
+        heaps.forEach((key, heap) -> {
+            List<TrendingItem> items = new ArrayList<>(heap.size());
+            while (!heap.isEmpty()) {
+                Entry entry = heap.poll();
+                items.add(new TrendingItem(entry.postId, Math.exp(entry.logScore - shift)));
+            }
+            Collections.reverse(items);
+            rebuilt.put(key, List.copyOf(items));
+        });
+        tops = rebuilt;
+    }
+
+    /**
+     * 마지막 rebuild 기준 상위 게시글 (점수 내림차순)
+     */
+    public List<TrendingItem> top(long univId, long categoryId, int limit) {
+        List<TrendingItem> items = tops.getOrDefault(key(univId, categoryId), List.of());
+        return items.size() <= limit ? items : items.subList(0, limit);
+    }
+
+    private static void offer(Map<String, PriorityQueue<Entry>> heaps, String key, Entry entry, int k, Comparator<Entry> order) {
+        PriorityQueue<Entry> heap = heaps.computeIfAbsent(key, ignored -> new PriorityQueue<>(order));
+        if (heap.size() < k) {
+            heap.add(entry);
+        } else if (order.compare(entry, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(entry);
+        }
+    }
+
+    private static String key(long univId, long categoryId) {
+        return univId + ":" + categoryId;
+    }
+
+    private static double logAddExp(double a, double b) {
+        if (a == Double.NEGATIVE_INFINITY) return b;
+        double max = Math.max(a, b);
+        return max + Math.log(Math.exp(a - max) + Math.exp(b - max));
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.gazamung.trending;
+
+/**
+ * 인기 게시글 순위 항목
+ * @param score 감쇠 반영 점수 (rebuild 시각 기준)
+ */
+public record TrendingItem(long univBoardId, double score) {
+}
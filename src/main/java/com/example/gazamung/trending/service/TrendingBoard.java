@@ -0,0 +1,216 @@
+package com.example.gazamung.trending.service;
+
+import com.example.gazamung._enum.ModerationStatus;
+import com.example.gazamung.moderation.ModerationListener;
+import com.example.gazamung.moderation.ModerationTarget;
+import com.example.gazamung.moderation.dto.ModerationEvent;
+import com.example.gazamung.trending.TrendingIndex;
+import com.example.gazamung.trending.TrendingItem;
+import com.example.gazamung.univBoard.entity.UnivBoard;
+import com.example.gazamung.univBoard.repository.UnivBoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커뮤니티 인기 게시글
+ * - 조회 수는 주기(flush-ms) 동안 게시글별로 메모리에서 세고, 주기마다 DB 조회 수와 인기 점수에 반영
+ * - 작성, 조회, 댓글(검수 통과 시) 을 가중치로 더한 시간 감쇠 점수를 TrendingIndex 에 유지
+ * - 서버 시작 시 최근 seed-days 일 게시글의 조회/댓글 수로 점수를 채움
+ * 모임 게시판 글은 인기 게시글에서 제외한다 (조회 수는 반영).
+ */
+@Component
+@Slf4j
+public class TrendingBoard implements ModerationListener {
+
+    private final UnivBoardRepository univBoardRepository;
+    private final TrendingIndex index;
+    private final double viewWeight;
+    private final double replyWeight;
+    private final double postWeight;
+    private final double minScore;
+    private final int topK;
+    private final int seedDays;
+
+    private final AtomicReference<Window> window;
+
+    public TrendingBoard(UnivBoardRepository univBoardRepository,
+                         @Value("${trending.half-life-hours:6}") long halfLifeHours,
+                         @Value("${trending.view-weight:1}") double viewWeight,
+                         @Value("${trending.reply-weight:5}") double replyWeight,
+                         @Value("${trending.post-weight:2}") double postWeight,
+                         @Value("${trending.min-score:0.1}") double minScore,
+                         @Value("${trending.top-k:50}") int topK,
+                         @Value("${trending.seed-days:3}") int seedDays) {
+        this.univBoardRepository = univBoardRepository;
+        this.index = new TrendingIndex(halfLifeHours * 3600, now());
+        this.viewWeight = viewWeight;
+        this.replyWeight = replyWeight;
+        this.postWeight = postWeight;
+        this.minScore = minScore;
+        this.topK = Math.max(1, topK);
+        this.seedDays = seedDays;
+        this.window = new AtomicReference<>(new Window());
+    }
+
+    /**
+     * 한 주기 동안의 조회 (게시글 ID → 조회 수, DB 조회 수에 그대로 더하므로 정확히 셈)
+     */
+    private static final class Window {
+        private final Map<Long, Views> viewed = new ConcurrentHashMap<>();
+    }
+
+    private static final class Views {
+        private final LongAdder count = new LongAdder();
+        private volatile boolean target;    // 인기 게시글 대상 여부
+    }
+
+    public int maxSize() {
+        return topK;
+    }
+
+    /**
+     * @param categoryId 0 이면 전체 카테고리
+     */
+    public List<TrendingItem> top(Long univId, Long categoryId, int size) {
+        if (univId == null) return List.of();
+        long category = categoryId != null ? categoryId : TrendingIndex.ALL_CATEGORY;
+        return index.top(univId, category, Math.max(1, Math.min(size, topK)));
+    }
+
+    /**
+     * 게시글 조회 1회
+     */
+    public void viewed(UnivBoard post) {
+        Long id = post.getUnivBoardId();
+        Window current = window.get();
+        Views views = current.viewed.get(id);
+        if (views == null) {
+            Views created = new Views();
+            views = current.viewed.putIfAbsent(id, created);
+            if (views == null) {
+                views = created;
+                if (isTarget(post)) {
+                    index.put(id, post.getUnivId(), post.getCategoryId());
+                    views.target = true;
+                }
+            }
+        }
+        views.count.increment();
+    }
+
+    public void removed(Long univBoardId) {
+        if (univBoardId != null) {
+            index.remove(univBoardId);
+        }
+    }
+
+    /**
+     * 검수 통과한 게시글 등록, 댓글 점수 반영
+     */
+    @Override
+    public void moderated(ModerationEvent event) {
+        if (event.getTarget() == ModerationTarget.POST) {
+            if (!ModerationStatus.isVisible(event.getStatus())) {
+                index.remove(event.getId());
+                return;
+            }
+            // 수정 후 재검수된 글은 작성 점수를 다시 더하지 않고 대학/카테고리만 갱신
+            univBoardRepository.findById(event.getId()).ifPresent(post -> {
+                boolean known = index.contains(post.getUnivBoardId());
+                if (!isTarget(post)) {
+                    index.remove(post.getUnivBoardId());
+                    return;
+                }
+                index.put(post.getUnivBoardId(), post.getUnivId(), post.getCategoryId());
+                if (!known) {
+                    index.add(post.getUnivBoardId(), postWeight, toEpoch(post.getRegDt()));
+                }
+            });
+            return;
+        }
+
+        if (!ModerationStatus.isVisible(event.getStatus())) return;
+        long at = now();
+        if (!index.add(event.getUnivBoardId(), replyWeight, at)) {
+            univBoardRepository.findById(event.getUnivBoardId())
+                    .filter(this::isTarget)
+                    .ifPresent(post -> {
+                        index.put(post.getUnivBoardId(), post.getUnivId(), post.getCategoryId());
+                        index.add(post.getUnivBoardId(), replyWeight, at);
+                    });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            List<UnivBoard> posts = univBoardRepository.findByClubIdIsNullAndRegDtAfter(LocalDateTime.now().minusDays(seedDays));
+            for (UnivBoard post : posts) {
+                if (!isTarget(post)) continue;
+                index.put(post.getUnivBoardId(), post.getUnivId(), post.getCategoryId());
+                double weight = postWeight + post.getReplyCount() * replyWeight + post.getViewCount() * viewWeight;
+                index.add(post.getUnivBoardId(), weight, toEpoch(post.getRegDt()));
+            }
+            index.rebuild(topK, minScore, now());
+            log.info("인기 게시글 점수 적재 완료: {}건", index.size());
+        } catch (Exception e) {
+            log.error("인기 게시글 점수 적재 실패", e);
+        }
+    }
+
+    /**
+     * 주기 동안의 조회 수를 DB 와 점수에 반영하고 상위 목록 갱신
+     * (교체 직전에 이전 주기 객체를 잡은 요청의 조회 몇 건은 누락될 수 있음)
+     */
+    @Scheduled(fixedDelayString = "${trending.flush-ms:30000}", initialDelayString = "${trending.flush-ms:30000}")
+    public void flush() {
+        Window flushed = window.getAndSet(new Window());
+        long at = now();
+
+        int failed = 0;
+        for (Map.Entry<Long, Views> viewed : flushed.viewed.entrySet()) {
+            Long id = viewed.getKey();
+            long views = viewed.getValue().count.sum();
+            if (views <= 0) continue;
+
+            if (viewed.getValue().target) {
+                index.add(id, views * viewWeight, at);
+            }
+            try {
+                univBoardRepository.addViewCount(id, views);
+            } catch (Exception e) {
+                failed++;
+            }
+        }
+        if (failed > 0) {
+            log.warn("게시글 조회 수 반영 실패 {}건", failed);
+        }
+
+        index.rebuild(topK, minScore, at);
+    }
+
+    private boolean isTarget(UnivBoard post) {
+        return post.getClubId() == null && post.getUnivId() != null && post.getCategoryId() != null
+                && ModerationStatus.isVisible(post.getModerationStatus());
+    }
+
+    private static long toEpoch(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toEpochSecond() : now();
+    }
+
+    private static long now() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -13,8 +13,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -120,6 +122,52 @@ public class UnivBattleController {
         }
     }
 
+    @Operation(summary = "대항전 리스트 (페이지) ", description = "PARAMETER: status, eventId, region, lastRegDt, lastId, size " +
+            "\n첫 페이지는 lastRegDt, lastId 없이 요청하고 이후에는 응답의 nextRegDt, nextId 를 그대로 전달" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### status 값" +
+            "\n- 0 (ALL): 전체 리스트" +
+            "\n- 1 (RECRUIT): 모집중 리스트" +
+            "\n- 2 (WAITING): 대기중 리스트" +
+            "\n- 3 (IN_PROGRESS): 진행중 리스트" +
+            "\n- 4 (COMPLETED): 종료 리스트" )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/page")
+    public ResultDTO univBattlePage(@RequestParam(defaultValue = "0") int status,
+                                    @RequestParam(required = false) Long eventId,
+                                    @RequestParam(required = false) String region,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastRegDt,
+                                    @RequestParam(required = false) Long lastId,
+                                    @RequestParam(defaultValue = "20") int size){
+        try {
+            UnivBattlePageRes page = univBattleService.page(status, eventId, region, lastRegDt, lastId, size);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "상태별 대항전 리스트 조회 성공.", page);
+        } catch (CustomException e) {
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+
+    @Operation(summary = "상태별 대항전 수 ", description = "" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/counts")
+    public ResultDTO univBattleCounts(){
+        try {
+            Map<String, Long> counts = univBattleService.statusCounts();
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "상태별 대항전 수 조회 성공.", counts);
+        } catch (CustomException e) {
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+
     @Operation(summary = "해당 대학 경기 리스트 ", description = "PARAMETER: univId " +
             "\n### HTTP STATUS 에 따른 조회 결과" +
             "\n- 200: 서버요청 정상 성공 " +
@@ -144,6 +192,28 @@ public class UnivBattleController {
     }
 
 
+    @Operation(summary = "해당 대학 경기 기록 (페이지) ", description = "PARAMETER: univId, eventId, lastId, size " +
+            "\n최근 경기부터 반환하며, 다음 페이지는 응답의 nextId 를 lastId 로 전달합니다." +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/uhistory")
+    public ResultDTO eachUnivBattleHistory(@RequestParam Long univId,
+                                           @RequestParam(required = false) Long eventId,
+                                           @RequestParam(required = false) Long lastId,
+                                           @RequestParam(defaultValue = "20") int size){
+        try {
+            UnivHistoryPageRes page = univBattleService.uHistory(univId, eventId, lastId, size);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "해당 대학 경기 기록 조회 성공.", page);
+        } catch (CustomException e) {
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+
+
     @Operation(summary = "대항전 정보 ", description = "" +
             " 대항전 정보를 반환합니다." +
             "\n### HTTP STATUS 에 따른 조회 결과" +
@@ -0,0 +1,56 @@
+package com.example.gazamung.univBattle.dto;
+
+import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung.univBattle.entity.UnivBattle;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대항전 상세 화면 캐시에 담는 대학 대항전 (엔티티 대신 불변 복사본, 필드명은 엔티티 응답과 같음)
+ */
+public record UnivBattleInfo(Long univBattleId,
+                             Long hostLeader,
+                             Long guestLeader,
+                             Long hostUniv,
+                             Long guestUniv,
+                             Long winUniv,
+                             Long loseUniv,
+                             Long eventId,
+                             String content,
+                             String cost,
+                             String hostUnivName,
+                             String guestUnivName,
+                             String hostUnivLogo,
+                             String guestUnivLogo,
+                             String battleDate,
+                             LocalDateTime battleAt,
+                             LocalDateTime matchStartDt,
+                             LocalDateTime matchEndDt,
+                             String lat,
+                             String lng,
+                             Double latitude,
+                             Double longitude,
+                             String place,
+                             MatchStatus matchStatus,
+                             Long hostScore,
+                             Long guestScore,
+                             int teamPtcLimit,
+                             LocalDateTime regDt,
+                             LocalDateTime endDt,
+                             String invitationCode) {
+
+    public static UnivBattleInfo of(UnivBattle battle) {
+        return new UnivBattleInfo(battle.getUnivBattleId(),
+                battle.getHostLeader(), battle.getGuestLeader(),
+                battle.getHostUniv(), battle.getGuestUniv(),
+                battle.getWinUniv(), battle.getLoseUniv(),
+                battle.getEventId(), battle.getContent(), battle.getCost(),
+                battle.getHostUnivName(), battle.getGuestUnivName(),
+                battle.getHostUnivLogo(), battle.getGuestUnivLogo(),
+                battle.getBattleDate(), battle.getBattleAt(),
+                battle.getMatchStartDt(), battle.getMatchEndDt(),
+                battle.getLat(), battle.getLng(), battle.getLatitude(), battle.getLongitude(), battle.getPlace(),
+                battle.getMatchStatus(), battle.getHostScore(), battle.getGuestScore(),
+                battle.getTeamPtcLimit(), battle.getRegDt(), battle.getEndDt(), battle.getInvitationCode());
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.gazamung.univBattle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UnivHistoryPageRes {
+
+    private List<UnivBattleListRes> list;
+    private boolean hasNext;
+    private Long nextId;                // 다음 페이지 요청 시 lastId
+
+}
@@ -1,6 +1,12 @@
 package com.example.gazamung.univBattle.entity;
 
 import com.example.gazamung._enum.MatchStatus;
+import com.example.gazamung.battle.BattleDates;
+import com.example.gazamung.battle.BattleStatusListener;
+import com.example.gazamung.nearby.Coordinates;
+import com.example.gazamung.nearby.NearbyIndexListener;
+import com.example.gazamung.reminder.BattleReminderListener;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 
@@ -8,6 +14,14 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners({BattleStatusListener.class, NearbyIndexListener.class, BattleReminderListener.class})
+@Table(indexes = {
+        @Index(name = "IDX_UNIV_BATTLE_STATUS_REG", columnList = "matchStatus, regDt, univBattleId"),  // 목록 키셋 페이지네이션용
+        @Index(name = "IDX_UNIV_BATTLE_BATTLE_AT", columnList = "battleAt"),                            // 시작 전 알림 예약 복구용
+        @Index(name = "UK_UNIV_BATTLE_INVITATION_CODE", columnList = "invitationCode", unique = true),  // 초대 코드 참가
+        @Index(name = "IDX_UNIV_BATTLE_WIN_UNIV", columnList = "winUniv, univBattleId"),                // 대학 경기 기록 (승)
+        @Index(name = "IDX_UNIV_BATTLE_LOSE_UNIV", columnList = "loseUniv, univBattleId")               // 대학 경기 기록 (패)
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -37,11 +51,14 @@ public class UnivBattle {
     private String hostUnivLogo;    // 주최팀 로고
     private String guestUnivLogo;   // 참가팀 로고
     private String battleDate;     // 일정
+    private LocalDateTime battleAt;    // 일정 (저장 시 battleDate 에서 변환)
     private LocalDateTime matchStartDt; // 경기 시작시간
     private LocalDateTime matchEndDt;   // 경기 종료시간
 
     private String lat;             // 위도
     private String lng;             // 경도
+    private Double latitude;        // 위도 (숫자, 저장 시 lat 에서 변환)
+    private Double longitude;       // 경도 (숫자, 저장 시 lng 에서 변환)
     private String place;           // 위치
 
 
@@ -55,4 +72,16 @@ public class UnivBattle {
     private LocalDateTime endDt;    // 종료일
     private String invitationCode;  // 초대 코드
 
+    @Transient
+    @JsonIgnore
+    private MatchStatus loadedStatus;   // 조회 시점 상태 (상태별 집계 반영용)
+
+    @PrePersist
+    @PreUpdate
+    private void beforeSave() {
+        this.latitude = Coordinates.parseLat(lat);
+        this.longitude = Coordinates.parseLng(lng);
+        this.battleAt = BattleDates.parse(battleDate);
+    }
+
 }
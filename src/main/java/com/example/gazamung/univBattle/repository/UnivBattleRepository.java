@@ -3,9 +3,15 @@ package com.example.gazamung.univBattle.repository;
 import com.example.gazamung._enum.MatchStatus;
 import com.example.gazamung.univBattle.entity.UnivBattle;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface UnivBattleRepository extends JpaRepository<UnivBattle, Long> {
 
@@ -18,4 +24,21 @@ public interface UnivBattleRepository extends JpaRepository<UnivBattle, Long> {
     List<UnivBattle> findAllByOrderByRegDtDesc();
 
     List<UnivBattle> findByMatchStatusOrderByRegDtDesc(MatchStatus matchStatus);
+
+    List<UnivBattle> findByBattleAtAfterAndMatchStatusIn(LocalDateTime battleAt, Collection<MatchStatus> matchStatuses);
+
+    List<UnivBattle> findByMatchStatusInAndInvitationCodeIsNotNull(Collection<MatchStatus> matchStatuses);
+
+    Optional<UnivBattle> findByInvitationCode(String invitationCode);
+
+    boolean existsByInvitationCode(String invitationCode);
+
+    /**
+     * 현재 상태가 expected 일 때만 next 로 변경 (compare-and-set)
+     * @return 변경된 행 수 (0 이면 다른 요청이 먼저 상태를 바꿈)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UnivBattle b SET b.matchStatus = :next WHERE b.univBattleId = :id AND b.matchStatus = :expected")
+    int compareAndSetStatus(@Param("id") Long id, @Param("expected") MatchStatus expected, @Param("next") MatchStatus next);
 }
@@ -0,0 +1,134 @@
+package com.example.gazamung.univBattle.service;
+
+import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung.cache.CacheRegistry;
+import com.example.gazamung.cache.ReadModelCache;
+import com.example.gazamung.chat.chatRoom.ChatRoom;
+import com.example.gazamung.chat.chatRoom.ChatRoomRepository;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.participant.dto.ParticipantInfo;
+import com.example.gazamung.participant.entity.Participant;
+import com.example.gazamung.participant.repository.ParticipantRepository;
+import com.example.gazamung.reference.service.ReferenceRegistry;
+import com.example.gazamung.univBattle.dto.UnivBattleInfo;
+import com.example.gazamung.univBattle.entity.UnivBattle;
+import com.example.gazamung.univBattle.repository.UnivBattleRepository;
+import com.example.gazamung.university.entity.University;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * 대학 대항전 상세 화면 캐시
+ * 참가/경기 시작/결과 처리 시 UnivBattleServiceImpl 에서 무효화하며,
+ * 미적중 시 대항전을 읽은 뒤 참가자/채팅방 조회를 병렬로 실행한다. (대학은 ReferenceRegistry 에서 조회)
+ */
+@Component
+@Slf4j
+public class UnivBattleInfoCache {
+
+    private final UnivBattleRepository univBattleRepository;
+    private final ParticipantRepository participantRepository;
+    private final ReferenceRegistry referenceRegistry;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ExecutorService readModelExecutor;
+    private final ReadModelCache<Long, Map<String, Object>> cache;
+
+    public UnivBattleInfoCache(UnivBattleRepository univBattleRepository,
+                               ParticipantRepository participantRepository,
+                               ReferenceRegistry referenceRegistry,
+                               ChatRoomRepository chatRoomRepository,
+                               @Qualifier("readModelExecutor") ExecutorService readModelExecutor,
+                               CacheRegistry cacheRegistry,
+                               @Value("${cache.battle-info.max-size:5000}") int maxSize,
+                               @Value("${cache.battle-info.ttl-seconds:60}") long ttlSeconds) {
+        this.univBattleRepository = univBattleRepository;
+        this.participantRepository = participantRepository;
+        this.referenceRegistry = referenceRegistry;
+        this.chatRoomRepository = chatRoomRepository;
+        this.readModelExecutor = readModelExecutor;
+        this.cache = cacheRegistry.create("univBattleInfo", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public Map<String, Object> get(long univBattleId) {
+        return cache.get(univBattleId, this::load);
+    }
+
+    public void invalidate(long univBattleId) {
+        cache.invalidate(univBattleId);
+    }
+
+    private Map<String, Object> load(long univBattleId) {
+        UnivBattle univBattle = univBattleRepository.findById(univBattleId)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_BATTLE));
+
+        // 대항전 이외의 조회는 서로 독립적이므로 병렬 실행
+        CompletableFuture<List<Participant>> hostParticipants = async(() ->
+                participantRepository.findAllByUnivIdAndUnivBattleId(univBattle.getHostUniv(), univBattleId));
+        CompletableFuture<List<Participant>> guestParticipants = async(() ->
+                participantRepository.findAllByUnivIdAndUnivBattleId(univBattle.getGuestUniv(), univBattleId));
+        CompletableFuture<ChatRoom> chatRoom = async(() ->
+                chatRoomRepository.findByChatRoomTypeAndDynamicId(0, univBattleId));
+
+        // 대학은 기준 정보 스냅샷에서 조회 (대항전에 대표참가자가 참여했다면 대학명 추출)
+        University host = referenceRegistry.university(univBattle.getHostUniv())
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_UNIVERSITY));
+        University guest = univBattle.getGuestUniv() == null ? null
+                : referenceRegistry.university(univBattle.getGuestUniv())
+                        .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_UNIVERSITY));
+
+        List<ParticipantInfo> hostParticipantList = join(hostParticipants).stream().map(ParticipantInfo::of).toList();
+        List<ParticipantInfo> guestParticipantList = join(guestParticipants).stream().map(ParticipantInfo::of).toList();
+        ChatRoom room = join(chatRoom);
+
+        // 응답용 Map 생성 및 값 추가 (여러 요청이 공유하므로 엔티티 대신 불변 복사본을 담음)
+        Map<String, Object> response = new HashMap<>();
+
+        Map<String, Object> hostTeam = new HashMap<>();
+        hostTeam.put("hostUvName", host.getSchoolName());
+        hostTeam.put("hostPtcCnt", hostParticipantList.size());     // 주최팀 회원 수
+        hostTeam.put("hostPtcList", hostParticipantList);           // 주최팀 회원 리스트
+
+        Map<String, Object> guestTeam = new HashMap<>();
+        guestTeam.put("guestUvName", guest == null ? "" : guest.getSchoolName());
+        guestTeam.put("guestPtcCnt", guestParticipantList.size());  // 참가팀 회원 수
+        guestTeam.put("guestPtcList", guestParticipantList);        // 참가팀 회원 리스트
+
+        response.put("HostTeam", Collections.unmodifiableMap(hostTeam));
+        response.put("GuestTeam", Collections.unmodifiableMap(guestTeam));
+        response.put("univBattle", UnivBattleInfo.of(univBattle));
+        response.put("chatRoomType", room.getChatRoomType());
+        response.put("chatRoomId", room.getChatRoomId());
+
+        // 승리 대학은 주최/참가 대학 중 하나이므로 추가 조회 없이 사용
+        if (univBattle.getWinUniv() != null) {
+            University winner = Objects.equals(univBattle.getWinUniv(), host.getId()) ? host : guest;
+            response.put("winUnivName", winner == null ? null : winner.getSchoolName());
+        }
+
+        return Collections.unmodifiableMap(response);
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, readModelExecutor);
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
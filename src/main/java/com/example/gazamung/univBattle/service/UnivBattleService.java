@@ -4,6 +4,7 @@ import com.example.gazamung.univBattle.dto.*;
 import com.example.gazamung.univBattle.entity.UnivBattle;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -17,6 +18,14 @@ public interface UnivBattleService {
      */
     boolean create(UnivBattleCreateRequest request);
 
+    /**
+     * 매칭 결과로 대항전 생성 + 참가팀 대표 참가
+     * @param request
+     * @param guestLeader
+     * @return 생성된 대항전 ID
+     */
+    long createMatched(UnivBattleCreateRequest request, long guestLeader);
+
     /**
      * 대항전 대표 참가
      * @param request
@@ -38,6 +47,24 @@ public interface UnivBattleService {
      */
     List<UnivBattle> list(int status);
 
+    /**
+     * 대항전 리스트 (키셋 페이지네이션)
+     * @param status 0: 전체, 1: 모집중, 2: 대기중, 3: 진행중, 4: 종료
+     * @param eventId 종목 (선택)
+     * @param region 주최 대학 지역 (선택)
+     * @param lastRegDt 이전 페이지 마지막 생성일 (첫 페이지면 null)
+     * @param lastId 이전 페이지 마지막 대항전 ID (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return
+     */
+    UnivBattlePageRes page(int status, Long eventId, String region, LocalDateTime lastRegDt, Long lastId, int size);
+
+    /**
+     * 상태별 대항전 수
+     * @return
+     */
+    Map<String, Long> statusCounts();
+
 
     /**
      * 해당 대학교 대항전 리스트
@@ -46,6 +73,16 @@ public interface UnivBattleService {
      */
     List<UnivBattleListRes> uList(Long univId);
 
+    /**
+     * 해당 대학교 경기 기록 (키셋 페이지네이션)
+     * @param univId
+     * @param eventId 종목 (선택)
+     * @param lastId 이전 페이지 마지막 대항전 ID (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return
+     */
+    UnivHistoryPageRes uHistory(Long univId, Long eventId, Long lastId, int size);
+
 
 
     /**
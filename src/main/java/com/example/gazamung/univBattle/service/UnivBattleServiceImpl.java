@@ -2,62 +2,59 @@ package com.example.gazamung.univBattle.service;
 
 import com.example.gazamung._enum.CustomExceptionCode;
 import com.example.gazamung._enum.MatchStatus;
-import com.example.gazamung._enum.MsgType;
+import com.example.gazamung.battle.BattleStatusCounter;
+import com.example.gazamung.battle.InvitationCodeIndex;
+import com.example.gazamung.battle.lifecycle.BattleEffects;
+import com.example.gazamung.battle.lifecycle.BattleEngine;
 import com.example.gazamung.chat.chatMember.ChatMember;
 import com.example.gazamung.chat.chatMember.ChatMemberRepository;
-import com.example.gazamung.chat.chatMessage.ChatMessage;
-import com.example.gazamung.chat.chatMessage.ChatMessageRepository;
 import com.example.gazamung.chat.chatRoom.ChatRoom;
 import com.example.gazamung.chat.chatRoom.ChatRoomRepository;
 import com.example.gazamung.exception.CustomException;
-import com.example.gazamung.fcmSend.FcmSendDto;
-import com.example.gazamung.fcmSend.FcmService;
-import com.example.gazamung.mapper.RankMapper;
 import com.example.gazamung.mapper.UnivBattleMapper;
 import com.example.gazamung.mapper.UniversityMapper;
 import com.example.gazamung.member.entity.Member;
 import com.example.gazamung.member.repository.MemberRepository;
-import com.example.gazamung.notification.dto.NotifyCreateReq;
-import com.example.gazamung.notification.service.NotificationService;
 import com.example.gazamung.participant.entity.Participant;
 import com.example.gazamung.participant.repository.ParticipantRepository;
+import com.example.gazamung.rank.service.RankService;
+import com.example.gazamung.reference.service.ReferenceRegistry;
+import com.example.gazamung.tournament.service.TournamentService;
 import com.example.gazamung.univBattle.dto.*;
 import com.example.gazamung.univBattle.entity.UnivBattle;
 import com.example.gazamung.univBattle.repository.UnivBattleRepository;
+import com.example.gazamung.univStats.service.UnivStatService;
 import com.example.gazamung.university.entity.University;
-import com.example.gazamung.university.repository.UniversityRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.*;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class UnivBattleServiceImpl implements UnivBattleService {
 
-    private final UniversityRepository universityRepository;
+    private final ReferenceRegistry referenceRegistry;
     private final UnivBattleRepository univBattleRepository;
     private final MemberRepository memberRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ParticipantRepository participantRepository;
     private final ChatMemberRepository chatMemberRepository;
-    private final FcmService fcmService;
-    private final NotificationService notificationService;
+    private final BattleEngine battleEngine;
     private final UnivBattleMapper univBattleMapper;
     private final UniversityMapper universityMapper;
-    private final RankMapper rankMapper;
-    private final ChatMessageRepository chatMessageRepository;
-    // 스케줄러 생성
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-    // 예약 작업 관리를 위한 ConcurrentHashMap
-    private final ConcurrentHashMap<Long, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
+    private final RankService rankService;
+    private final UnivStatService univStatService;
+    private final TournamentService tournamentService;
+    private final UnivBattleInfoCache univBattleInfoCache;
+    private final BattleStatusCounter battleStatusCounter;
+    private final InvitationCodeIndex invitationCodeIndex;
+    private static final int MAX_PAGE_SIZE = 100;
 
 
 
@@ -70,6 +67,30 @@ public class UnivBattleServiceImpl implements UnivBattleService {
     @Override
     @Transactional
     public boolean create(UnivBattleCreateRequest request) {
+        createBattle(request);
+        return true;
+    }
+
+    /**
+     * 매칭된 주최/참가 대표로 대항전 생성과 참가를 한 트랜잭션에서 처리
+     * @param request 주최 대표의 대항전 정보
+     * @param guestLeader 참가팀 대표 memberIdx
+     * @return 생성된 대항전 ID
+     */
+    @Override
+    @Transactional
+    public long createMatched(UnivBattleCreateRequest request, long guestLeader) {
+        UnivBattle univBattle = createBattle(request);
+
+        GuestLeaderAttend(GuestLeaderAttendRequest.builder()
+                .univBattleId(univBattle.getUnivBattleId())
+                .guestLeader(guestLeader)
+                .build());
+
+        return univBattle.getUnivBattleId();
+    }
+
+    private UnivBattle createBattle(UnivBattleCreateRequest request) {
         /**
          * 1. 회원 검증
          * 2. 대학 정보 조회
@@ -84,7 +105,7 @@ public class UnivBattleServiceImpl implements UnivBattleService {
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
 
         // 회원 대학 정보 조회
-        University university = universityRepository.findById(member.getUnivId())
+        University university = referenceRegistry.university(member.getUnivId())
                 .orElseThrow(() ->new CustomException(CustomExceptionCode.NOT_FOUND));
 
         // 대항전 생성
@@ -135,7 +156,7 @@ public class UnivBattleServiceImpl implements UnivBattleService {
 
             chatMemberRepository.save(chatMember);
         }
-        return true;
+        return result;
 
     }
 
@@ -164,35 +185,37 @@ public class UnivBattleServiceImpl implements UnivBattleService {
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
 
         //회원 대학 정보 조회
-        Optional<University> university = universityRepository.findById(guest.getUnivId());
-        String guestUnivName = university.get().getSchoolName();
+        University university = referenceRegistry.university(guest.getUnivId())
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_UNIVERSITY));
+        String guestUnivName = university.getSchoolName();
 
         // 주최자와 같은 학교는 참가 불가능.
         if (Objects.equals(univBattle.getHostUniv(), guest.getUnivId())) {
             throw new CustomException(CustomExceptionCode.SAME_UNIVERSITY);
         }
 
+        // 상태를 "대기중" 으로 바꿈 (동시에 다른 대표가 참가한 경우 실패)
+        battleEngine.transit(univBattle, MatchStatus.WAITING);
+
         // 해당 대항전 데이터에 Guest 팀 정보 업데이트
         univBattle.setGuestLeader(request.getGuestLeader());
         univBattle.setGuestUniv(guest.getUnivId());
         univBattle.setGuestUnivName(guestUnivName);
-        univBattle.setGuestUnivLogo(university.get().getLogoImg());
-
-        // 상태를 "대기중" 으로 바꿈
-        univBattle.setMatchStatus(MatchStatus.WAITING);
+        univBattle.setGuestUnivLogo(university.getLogoImg());
 
         // 초대코드 생성
-        univBattle.setInvitationCode(generateRandomString(8));
+        univBattle.setInvitationCode(invitationCodeIndex.newCode());
 
         // 업데이트 후 저장
         univBattleRepository.save(univBattle);
+        univBattleInfoCache.invalidate(univBattle.getUnivBattleId());
 
         // 참가인원 초과 여부 체크
         int totalParticipant = participantRepository.countByUnivBattleId(univBattle.getUnivBattleId());
 
-        // 마지막 참가자일 경우 대기중으로 변경.
+        // 마지막 참가자일 경우 준비완료로 변경.
         if(totalParticipant == univBattle.getTeamPtcLimit() * 2 - 1){
-            univBattle.setMatchStatus(MatchStatus.PREPARED);
+            battleEngine.transit(univBattle, MatchStatus.PREPARED);
         }
 
 
@@ -210,66 +233,19 @@ public class UnivBattleServiceImpl implements UnivBattleService {
 
         participantRepository.save(participant);
 
-        ChatRoom chatRoom = chatRoomRepository.findByChatRoomTypeAndDynamicId(0,univBattle.getUnivBattleId());
-
-        ChatMember chatMember = ChatMember.builder()
-                .chatRoomId(chatRoom.getChatRoomId())
-                .chatRoomType(0)
-                .customChatRoomName(univBattle.getHostUnivName() + "대항전")
-                .memberIdx(guest.getMemberIdx())
-                .chatRoomImg(host.getUnivLogoImg())
-                .build();
-
-        chatMemberRepository.save(chatMember);
-
-        ChatMember hostChatMember = chatMemberRepository.findByMemberIdxAndChatRoomId(univBattle.getHostLeader(),chatRoom.getChatRoomId());
-
-        hostChatMember.setCustomChatRoomName(univBattle.getGuestUnivName() + "대항전");
-        hostChatMember.setChatRoomImg(guest.getUnivLogoImg());
-
-        chatMemberRepository.save(hostChatMember);
-
-        ChatMessage chatMessage =  ChatMessage.builder()
-                .chatRoomType(chatRoom.getChatRoomType())
-                .chatRoomId(chatRoom.getChatRoomId())
-                .content(guest.getNickname() + "님이 입장하셨습니다.")
-                .nickname(" ")
-                .regDt(LocalDateTime.now())
-                .build();
-
-        chatMessageRepository.save(chatMessage);
-
-        // 알림 전송 메서드 (주최자에게만 발송)
-        NotifyCreateReq dto = NotifyCreateReq.builder()
-                .type(MsgType.UNIV_BATTLE)
-                .isRead(false)
-                .receiver(univBattle.getHostLeader())
-                .title(guestUnivName + "대표자가 대항전에 참가했습니다. ")
-                .content(univBattle.getGuestUnivName() + "VS" + univBattle.getHostUnivName() + "대항전이 매칭되었습니다.")
-                .relatedItemId(univBattle.getUnivBattleId())
-                .build();
-        notificationService.sendNotify(dto);
-
-        // FCM 알림 전송 메서드 (주최자에게만 발송)
-        String fcmToken = host.getFcmToken();
-        if (fcmToken != null && !fcmToken.isEmpty()) {
-            FcmSendDto fcmSendDto = FcmSendDto.builder()
-                    .token(fcmToken)
-                    .title(guestUnivName + " 대표자가 대항전에 참가했습니다.")
-                    .body(univBattle.getHostUnivName() + " vs " + univBattle.getGuestUnivName() + " 대항전이 매칭되었습니다.")
-                    .target("univBattle/info")
-                    .data(String.valueOf(univBattle.getUnivBattleId()))
-                    .build();
-            try {
-                fcmService.sendMessageTo(fcmSendDto);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-
-
-
+        ChatRoom chatRoom = battleEngine.chatRoom(univBattle);
+        battleEngine.joinChat(chatRoom, guest.getMemberIdx(), univBattle.getHostUnivName() + "대항전", host.getUnivLogoImg());
+        battleEngine.renameChat(chatRoom, univBattle.getHostLeader(), univBattle.getGuestUnivName() + "대항전", guest.getUnivLogoImg());
 
+        // 입장 메시지, 알림/FCM 전송 (주최자에게만 발송, 커밋 후 일괄 처리)
+        battleEngine.effects(univBattle)
+                .chat(chatRoom, guest.getNickname() + "님이 입장하셨습니다.")
+                .notification(univBattle.getHostLeader(),
+                        guestUnivName + "대표자가 대항전에 참가했습니다. ",
+                        univBattle.getGuestUnivName() + "VS" + univBattle.getHostUnivName() + "대항전이 매칭되었습니다.")
+                .push(univBattle.getHostLeader(),
+                        guestUnivName + " 대표자가 대항전에 참가했습니다.",
+                        univBattle.getHostUnivName() + " vs " + univBattle.getGuestUnivName() + " 대항전이 매칭되었습니다.");
 
         return true;
 
@@ -306,6 +282,11 @@ public class UnivBattleServiceImpl implements UnivBattleService {
             throw new CustomException(CustomExceptionCode.ALREADY_IN_PROGRESS);
         }
 
+        // 참가팀 대표가 정해지기 전(RECRUIT)에는 참가 불가 (마지막 참가자는 WAITING → PREPARED 로만 전이)
+        if (univBattle.getMatchStatus() == MatchStatus.RECRUIT) {
+            throw new CustomException(CustomExceptionCode.INVALID_STATUS_TRANSITION);
+        }
+
         // 이미 참가한 경우 예외 처리
         boolean alreadyAttended = participantRepository.existsByMemberIdxAndUnivBattleId(member.getMemberIdx(), univBattle.getUnivBattleId());
         if (alreadyAttended) {
@@ -324,9 +305,9 @@ public class UnivBattleServiceImpl implements UnivBattleService {
             throw new CustomException(CustomExceptionCode.EXCEEDED_UNIV_CAPACITY);
         }
 
-        // 마지막 참가자일 경우 준비중으로 변경.
+        // 마지막 참가자일 경우 준비중으로 변경. (동시에 마지막 자리를 노린 요청은 하나만 성공)
         if(totalParticipant == univBattle.getTeamPtcLimit() * 2  - 1){
-            univBattle.setMatchStatus(MatchStatus.PREPARED);
+            battleEngine.transit(univBattle, MatchStatus.PREPARED);
             last = true;
         }
 
@@ -339,71 +320,26 @@ public class UnivBattleServiceImpl implements UnivBattleService {
                 .nickName(member.getNickname())
                 .build();
         participantRepository.save(participant);
+        univBattleInfoCache.invalidate(univBattle.getUnivBattleId());
 
         // 해당 대항전에 대한 채팅방을 설정합니다.
-        // 게스트 채팅방 이름을 호스트 대학명으로 업데이트
-        ChatRoom chatRoom = chatRoomRepository.findByChatRoomTypeAndDynamicId(0, univBattle.getUnivBattleId());
-        ChatMember chatMember = ChatMember.builder()
-                .chatRoomId(chatRoom.getChatRoomId())
-                .chatRoomType(0)
-                .customChatRoomName(univBattle.getHostUnivName() + " 대항전")
-                .memberIdx(request.getMemberIdx())
-                .build();
-
-        chatMemberRepository.save(chatMember);
-
-        // 호스트 채팅방의 이름을 게스트 대학명으로 업데이트.
-        ChatMember hostChatMember = chatMemberRepository.findByMemberIdxAndChatRoomId(univBattle.getHostLeader(), chatRoom.getChatRoomId());
-        hostChatMember.setCustomChatRoomName(univBattle.getGuestUnivName() + " 대항전");
-        chatMemberRepository.save(hostChatMember);
-
-        Member HostMember = memberRepository.findById(univBattle.getHostLeader())
-                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-
-        String fcmToken = HostMember.getFcmToken();
-
-
-        ChatMessage chatMessage =  ChatMessage.builder()
-                .chatRoomType(chatRoom.getChatRoomType())
-                .chatRoomId(chatRoom.getChatRoomId())
-                .content(member.getNickname() + "님이 입장하셨습니다.")
-                .nickname(" ")
-                .regDt(LocalDateTime.now())
-                .build();
-
-        chatMessageRepository.save(chatMessage);
+        // 게스트 채팅방 이름을 호스트 대학명으로, 호스트 채팅방 이름을 게스트 대학명으로 업데이트
+        ChatRoom chatRoom = battleEngine.chatRoom(univBattle);
+        battleEngine.joinChat(chatRoom, request.getMemberIdx(), univBattle.getHostUnivName() + " 대항전", null);
+        battleEngine.renameChat(chatRoom, univBattle.getHostLeader(), univBattle.getGuestUnivName() + " 대항전", null);
 
+        BattleEffects effects = battleEngine.effects(univBattle)
+                .chat(chatRoom, member.getNickname() + "님이 입장하셨습니다.");
 
         if (last) {
             //@TODO  마지막 참가자일 경우 모든 참가자가 참가했다고 전송할것.
-            if (fcmToken != null && !fcmToken.isEmpty()) {
-                // FCM 알림 전송 메서드 (주최자에게만 발송)
-                FcmSendDto fcmSendDto = FcmSendDto.builder()
-                        .token(fcmToken)
-                        .title(univBattle.getGuestUnivName() + "대항전 전원 참가 완료!")
-                        .body(univBattle.getHostUnivName() + "vs" + univBattle.getGuestUnivName() + "참가자 전원 참여완료!")
-                        .target("univBattle/info")
-                        .data(String.valueOf(univBattle.getUnivBattleId()))
-                        .build();
-                try {
-                    fcmService.sendMessageTo(fcmSendDto);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-
-
-            // 알림 전송 메서드 (주최자에게만 발송)
-            NotifyCreateReq dto = NotifyCreateReq.builder()
-                    .type(MsgType.UNIV_BATTLE)
-                    .isRead(false)
-                    .receiver(univBattle.getHostLeader())
-                    .title(univBattle.getGuestUnivName() + "대항전 전원 참가 완료!")
-                    .content(univBattle.getGuestUnivName() + "VS" + univBattle.getHostUnivName() + "참가자 전원 참여완료!")
-                    .relatedItemId(univBattle.getUnivBattleId())
-                    .build();
-            notificationService.sendNotify(dto);
-
+            // 알림/FCM 전송 (주최자에게만 발송)
+            effects.push(univBattle.getHostLeader(),
+                            univBattle.getGuestUnivName() + "대항전 전원 참가 완료!",
+                            univBattle.getHostUnivName() + "vs" + univBattle.getGuestUnivName() + "참가자 전원 참여완료!")
+                    .notification(univBattle.getHostLeader(),
+                            univBattle.getGuestUnivName() + "대항전 전원 참가 완료!",
+                            univBattle.getGuestUnivName() + "VS" + univBattle.getHostUnivName() + "참가자 전원 참여완료!");
         }
 
         return true;
@@ -423,10 +359,50 @@ public class UnivBattleServiceImpl implements UnivBattleService {
 
     }
 
+    @Override
+    public UnivBattlePageRes page(int status, Long eventId, String region, LocalDateTime lastRegDt, Long lastId, int size) {
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<UnivBattle> rows = univBattleMapper.findPage(BattleStatusCounter.statusOfTab(status),
+                eventId, region, lastRegDt, lastId, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<UnivBattle> list = hasNext ? rows.subList(0, pageSize) : rows;
+        UnivBattle last = list.isEmpty() ? null : list.get(list.size() - 1);
+
+        return UnivBattlePageRes.builder()
+                .list(list)
+                .hasNext(hasNext)
+                .nextRegDt(hasNext ? last.getRegDt() : null)
+                .nextId(hasNext ? last.getUnivBattleId() : null)
+                .counts(battleStatusCounter.univCounts())
+                .build();
+    }
+
+    @Override
+    public Map<String, Long> statusCounts() {
+        return battleStatusCounter.univCounts();
+    }
+
     @Override
     public List<UnivBattleListRes> uList(Long univId) {
 
-        List<UnivBattle> univBattleList = univBattleMapper.findByUnivId(univId);
+        // 전체 목록 대신 최근 경기만 반환 (이전 기록은 uHistory 로 페이지 조회)
+        return uHistory(univId, null, null, MAX_PAGE_SIZE).getList();
+    }
+
+    @Override
+    public UnivHistoryPageRes uHistory(Long univId, Long eventId, Long lastId, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<UnivBattle> univBattleList = univBattleMapper.findHistory(univId, eventId, lastId, limit + 1);
+        boolean hasNext = univBattleList.size() > limit;
+        if (hasNext) {
+            univBattleList = univBattleList.subList(0, limit);
+        }
 
         List<UnivBattleListRes> univBattleListResList = new ArrayList<>();
 
@@ -458,8 +434,11 @@ public class UnivBattleServiceImpl implements UnivBattleService {
             univBattleListResList.add(univBattleListRes);
         }
 
-
-        return univBattleListResList;
+        return UnivHistoryPageRes.builder()
+                .list(univBattleListResList)
+                .hasNext(hasNext)
+                .nextId(hasNext ? univBattleList.get(univBattleList.size() - 1).getUnivBattleId() : null)
+                .build();
     }
 
 
@@ -470,76 +449,13 @@ public class UnivBattleServiceImpl implements UnivBattleService {
      */
     @Override
     public Map<String, Object> info(long univBattleId) {
-
-        UnivBattle univBattle = univBattleRepository.findById(univBattleId)
-                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_BATTLE));
-
-        // 대학별 참가자 리스트 추출
-        List<Participant> HostparticipantList = participantRepository.findAllByUnivIdAndUnivBattleId(univBattle.getHostUniv(),univBattleId);
-        List<Participant> GuestparticipantList = participantRepository.findAllByUnivIdAndUnivBattleId(univBattle.getGuestUniv(),univBattleId);
-
-        int hostPtc = HostparticipantList.size();
-        int guestPtc = GuestparticipantList.size();
-
-        University hostuniversity = universityRepository.findById(univBattle.getHostUniv())
-                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_UNIVERSITY));
-
-        String hostUvName = hostuniversity.getSchoolName();
-        String guestUvName = "";
-
-        // 대항전에 대표참가자가 참여했다면 대학명 추출
-        if(univBattle.getGuestUniv() != null) {
-            University GuestUniversity = universityRepository.findById(univBattle.getGuestUniv())
-                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_UNIVERSITY));
-            guestUvName = GuestUniversity.getSchoolName();
-        }
-
-
-        ChatRoom chatRoom = chatRoomRepository.findByChatRoomTypeAndDynamicId(0,univBattleId);
-        long chatRoomId = chatRoom.getChatRoomId();
-
-
-        // 응답용 Map 생성 및 값 추가
-        Map<String, Object> response = new HashMap<>();
-
-        Map<String, Object> hostTeam = new HashMap<>();
-        hostTeam.put("hostUvName", hostUvName);
-        hostTeam.put("hostPtcCnt", hostPtc);                  // 주최팀 회원 수
-        hostTeam.put("hostPtcList", HostparticipantList);       // 주최팀 회원 리스트
-
-        Map<String, Object> guestTeam = new HashMap<>();
-        guestTeam.put("guestUvName", guestUvName);
-        guestTeam.put("guestPtcCnt", guestPtc);               // 참가팀 회원 수
-        guestTeam.put("guestPtcList", GuestparticipantList);    // 참가팀 회원 리스트
-
-        response.put("HostTeam", hostTeam);
-        response.put("GuestTeam", guestTeam);
-        response.put("univBattle", univBattle);
-        response.put("chatRoomType", chatRoom.getChatRoomType());
-        response.put("chatRoomId", chatRoomId);
-
-        if(univBattle.getWinUniv() != null) {
-            String winUniv = universityRepository.findById(univBattle.getWinUniv()).orElse(null).getSchoolName();
-            response.put("winUnivName", winUniv);
-        }
-
-
-//       myBatis 보류
-//
-//        // 응답용 Map 생성 및 값 추가
-//        Map<String, Object> response = new HashMap<>();
-//        response.put("univBattle", univBattle);
-//        response.put("HostparticipantList", HostparticipantList);
-//        response.put("GuestparticipantList", GuestparticipantList);
-//        response.put("hostParticipantCount", hostPtc);
-//        response.put("guestParticipantCount", guestPtc);
-
-
-        return response;
+        // 참가/경기 시작/결과 처리 시 무효화되는 상세 화면 캐시
+        return univBattleInfoCache.get(univBattleId);
     }
 
 
     @Override
+    @Transactional
     public boolean matchStart(Long univBattleId) {
 
         UnivBattle univBattle = univBattleRepository.findById(univBattleId)
@@ -556,49 +472,21 @@ public class UnivBattleServiceImpl implements UnivBattleService {
             throw new CustomException(CustomExceptionCode.INSUFFICIENT_MATCH_PLAYERS);
         }
 
-        // FCM 알림 전송 메서드(참가자 전원에게 발송)
-        for (Participant participant : participantList) {
-            memberRepository.findById(participant.getMemberIdx()).ifPresent(member -> {
-                String fcmToken = member.getFcmToken();
-                if (fcmToken != null && !fcmToken.isEmpty()) {
-                    FcmSendDto fcmSendDto = FcmSendDto.builder()
-                            .token(fcmToken)
-                            .title("대항전이 시작되었습니다.")
-                            .body(univBattle.getHostUnivName() + " vs " + univBattle.getGuestUnivName() + " 경기가 시작되었습니다!")
-                            .target("univBattle/info")
-                            .data(String.valueOf(univBattle.getUnivBattleId()))
-                            .build();
-                    try {
-                        fcmService.sendMessageTo(fcmSendDto);
-                    } catch (IOException e) {
-                        throw new CustomException(CustomExceptionCode.NOT_FOUND_USER);
-                    }
-                }
-            });
-        }
-
         // 대항전 상태를 "진행중" 으로 업데이트
-        univBattle.setMatchStatus(MatchStatus.IN_PROGRESS);
+        battleEngine.transit(univBattle, MatchStatus.IN_PROGRESS);
         univBattle.setMatchStartDt(LocalDateTime.now());
         univBattleRepository.save(univBattle);
-
-
-
-        for (Participant participants : participantList){
-            Member member = memberRepository.findById(participants.getMemberIdx())
-                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-
-            NotifyCreateReq dto = NotifyCreateReq.builder()
-                    .type(MsgType.UNIV_BATTLE)
-                    .isRead(false)
-                    .receiver(member.getMemberIdx())
-                    .title("대항전이 시작되었습니다.")
-                    .content(univBattle.getGuestUnivName() + "VS" + univBattle.getHostUnivName() + "경기 시작")
-                    .relatedItemId(univBattle.getUnivBattleId())
-                    .build();
-            notificationService.sendNotify(dto);
-
-        }
+        univBattleInfoCache.invalidate(univBattle.getUnivBattleId());
+
+        // 알림/FCM 전송 (참가자 전원에게 발송)
+        List<Long> memberIdxList = participantMemberIdx(participantList);
+        battleEngine.effects(univBattle)
+                .push(memberIdxList,
+                        "대항전이 시작되었습니다.",
+                        univBattle.getHostUnivName() + " vs " + univBattle.getGuestUnivName() + " 경기가 시작되었습니다!")
+                .notification(memberIdxList,
+                        "대항전이 시작되었습니다.",
+                        univBattle.getGuestUnivName() + "VS" + univBattle.getHostUnivName() + "경기 시작");
 
         return true;
     }
@@ -640,52 +528,24 @@ public class UnivBattleServiceImpl implements UnivBattleService {
         }
 
         univBattleRepository.save(univBattle);
+        univBattleInfoCache.invalidate(univBattle.getUnivBattleId());
 
 
         /**
          * 주최자측 대항전 결과 전송에 대한 참가자 동의를 1시간 동안 안 받을 시
          * checkIncompleteMatch 메서드 실행 후 대항전 상태를 COMPLETE 로 변경.
          */
-        // 1시간 이후에 실행될 스케줄링 작업을 생성합니다. (테스트용 1분 설정)
-        ScheduledFuture<?> scheduledFuture = scheduler.schedule(() -> {
-            log.info("Scheduled Task 실행");
-            checkIncompleteMatch(univBattle.getUnivBattleId());
-        }, 1, TimeUnit.MINUTES); // 1분 후에 실행
-
-        // 예약된 작업을 관리 목록에 추가
-        scheduledTasks.put(univBattle.getUnivBattleId(), scheduledFuture);
-
-        Member member = memberRepository.findById(univBattle.getGuestLeader())
-                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-        String fcmToken = member.getFcmToken();
-
-        // FCM 알림 전송 메서드 (참가자대표에게 발송)
-        if (fcmToken != null && !fcmToken.isEmpty()) {
-            FcmSendDto fcmSendDto = FcmSendDto.builder()
-                    .token(fcmToken)
-                    .title(univBattle.getHostUnivName() +  "경기 결과를 확인해주세요.")
-                    .body("1시간 안에 경기 결과에 대한 응답이 없을 시 주최측 경기결과로 경기가 종료됩니다.")
-                    .target("univBattle/resultRes")
-                    .data(String.valueOf(univBattle.getUnivBattleId()))
-                    .build();
-            try {
-                fcmService.sendMessageTo(fcmSendDto);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-
-
-        // 알림 전송 메서드 (주최자에게만 발송)
-        NotifyCreateReq req = NotifyCreateReq.builder()
-                .type(MsgType.UNIV_BATTLE)
-                .isRead(false)
-                .receiver(univBattle.getHostLeader())
-                .title(univBattle.getHostUnivName() +  "경기 결과를 확인해주세요.")
-                .content("1시간 안에 경기 결과에 대한 응답이 없을 시 주최측 경기결과로 경기가 종료됩니다.")
-                .relatedItemId(univBattle.getUnivBattleId())
-                .build();
-        notificationService.sendNotify(req);
+        Long univBattleId = univBattle.getUnivBattleId();
+        battleEngine.awaitConfirmation(univBattle, () -> checkIncompleteMatch(univBattleId));
+
+        // FCM 전송 (참가자대표에게 발송), 알림 전송 (주최자에게만 발송)
+        battleEngine.effects(univBattle)
+                .pushResultRequest(univBattle.getGuestLeader(),
+                        univBattle.getHostUnivName() +  "경기 결과를 확인해주세요.",
+                        "1시간 안에 경기 결과에 대한 응답이 없을 시 주최측 경기결과로 경기가 종료됩니다.")
+                .notification(univBattle.getHostLeader(),
+                        univBattle.getHostUnivName() +  "경기 결과를 확인해주세요.",
+                        "1시간 안에 경기 결과에 대한 응답이 없을 시 주최측 경기결과로 경기가 종료됩니다.");
 
         return true;
     }
@@ -716,77 +576,29 @@ public class UnivBattleServiceImpl implements UnivBattleService {
             throw new CustomException(CustomExceptionCode.UNAUTHORIZED_USER);
         }
 
-        // 주최자측 결과 보고에 응답했는 경우 관리 목록에서 해당 경기의 스케줄링 작업을 가져와 취소
-        ScheduledFuture<?> future = scheduledTasks.remove(univBattle.getUnivBattleId());
-        if (future != null) {
-            future.cancel(false); // 작업 취소
-            log.info("Scheduled Task 취소 시도");
-        }
+        // 주최자측 결과 보고에 응답했으므로 결과 확인 대기 예약 취소
+        battleEngine.confirmReceived(univBattle);
 
         // true 로 반응한 경우 경기결과에 문제가 없으니 COMPLETED 처리
         if (dto.isResultYN()) {
 
-            // 대학 랭킹 점수 update
-            // 승리 팀 업데이트
-            int winExistence = rankMapper.checkUnivExistence(univBattle.getWinUniv(),  univBattle.getEventId());
-            if (winExistence == 0) {
-                rankMapper.insertUnivRank(univBattle.getWinUniv(), univBattle.getEventId(), 10L, 1L, 0L);
-            } else {
-                rankMapper.updateUnivWinRank(univBattle.getWinUniv(), univBattle.getEventId());
-            }
-
-            // 패배 팀 업데이트
-            int loseExistence = rankMapper.checkUnivExistence(univBattle.getLoseUniv(),   univBattle.getEventId());
-            if (loseExistence == 0) {
-                rankMapper.insertUnivRank(univBattle.getLoseUniv(), univBattle.getEventId(), 0L, 0L, 1L);
-            } else {
-                rankMapper.updateUnivLoseRank(univBattle.getLoseUniv(), univBattle.getEventId());
-            }
-
-            univBattle.setMatchStatus(MatchStatus.COMPLETED);
-
-
             List<Participant> participantList = participantRepository.findByUnivBattleId(univBattle.getUnivBattleId());
-            // 경기 참여 인원 수와 경기 인원 수가 같을 경우에만 경기 시작.
+            // 경기 참여 인원 수와 경기 인원 수가 같을 경우에만 경기 종료.
             if(participantList.size() != univBattle.getTeamPtcLimit() * 2){
                 throw new CustomException(CustomExceptionCode.INSUFFICIENT_MATCH_PLAYERS);
             }
 
-            for (Participant participants : participantList){
-                Member member2 = memberRepository.findById(participants.getMemberIdx())
-                        .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-
-                NotifyCreateReq req = NotifyCreateReq.builder()
-                        .type(MsgType.UNIV_BATTLE)
-                        .isRead(false)
-                        .receiver(member2.getMemberIdx())
-                        .title(univBattle.getGuestUnivName() +  "대항전이  종료되었습니다.")
-                        .content(univBattle.getGuestUnivName() + "VS" + univBattle.getHostUnivName() + "대항전이 종료되었습니다.")
-                        .relatedItemId(univBattle.getUnivBattleId())
-                        .build();
-                notificationService.sendNotify(req);
-
-            }
-
-
-            //@TODO 테스트를 위해 주석처리 실 배포때 사용할 메서드.
-        for (Participant participants : participantList){
-            Member partiMember = memberRepository.findById(participants.getMemberIdx())
-                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-            FcmSendDto fcmSendDto = FcmSendDto.builder()
-                    .token(partiMember.getFcmToken())
-                    .title("대항전 결과를 확인해주세요!")
-                    .body("경기 결과를 확인해주세요!")
-                    .target("univBattle/info")
-                    .data(String.valueOf(univBattle.getUnivBattleId()))
-                    .build();
-            try {
-                fcmService.sendMessageTo(fcmSendDto);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
+            // 만료 처리와 동시에 들어온 경우 한 쪽만 성공 (랭크 중복 반영 방지)
+            battleEngine.transit(univBattle, MatchStatus.COMPLETED);
 
+            List<Long> memberIdxList = participantMemberIdx(participantList);
+            battleEngine.effects(univBattle)
+                    // 승리/패배 팀 랭크, 대학 전적 반영
+                    .result(() -> applyResult(univBattle))
+                    .notification(memberIdxList,
+                            univBattle.getGuestUnivName() +  "대항전이  종료되었습니다.",
+                            univBattle.getGuestUnivName() + "VS" + univBattle.getHostUnivName() + "대항전이 종료되었습니다.")
+                    .push(memberIdxList, "대항전 결과를 확인해주세요!", "경기 결과를 확인해주세요!");
 
         }
         // false 로 반응한 경우 점수 및 승리팀 기록 초기화.
@@ -796,37 +608,19 @@ public class UnivBattleServiceImpl implements UnivBattleService {
             univBattle.setWinUniv(null);
             univBattle.setMatchEndDt(null);
 
-            Member member = memberRepository.findById(univBattle.getHostLeader())
-                    .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-            // FCM 알림 전송 메서드 (주최자에게만 발송)
-            FcmSendDto fcmSendDto = FcmSendDto.builder()
-                    .token(member.getFcmToken())
-                    .title(univBattle.getGuestUnivName() + "대표자가 경기결과에 동의하지 않았습니다.")
-                    .body("경기 결과를 다시 제출해주세요.")
-                    .target("univBattle/info")
-                    .data(String.valueOf(univBattle.getUnivBattleId()))
-                    .build();
-            try {
-                fcmService.sendMessageTo(fcmSendDto);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-
-            // 알림 전송 메서드 (주최자에게만 발송)
-            NotifyCreateReq req = NotifyCreateReq.builder()
-                    .type(MsgType.UNIV_BATTLE)
-                    .isRead(false)
-                    .receiver(univBattle.getHostLeader())
-                    .title(univBattle.getGuestUnivName() + "대표자가 경기결과에 동의하지 않았습니다.")
-                    .content("경기 결과를 다시 제출해주세요.")
-                    .relatedItemId(univBattle.getUnivBattleId())
-                    .build();
-            notificationService.sendNotify(req);
-
+            // 알림/FCM 전송 (주최자에게만 발송)
+            battleEngine.effects(univBattle)
+                    .push(univBattle.getHostLeader(),
+                            univBattle.getGuestUnivName() + "대표자가 경기결과에 동의하지 않았습니다.",
+                            "경기 결과를 다시 제출해주세요.")
+                    .notification(univBattle.getHostLeader(),
+                            univBattle.getGuestUnivName() + "대표자가 경기결과에 동의하지 않았습니다.",
+                            "경기 결과를 다시 제출해주세요.");
 
         }
 
         univBattleRepository.save(univBattle);
+        univBattleInfoCache.invalidate(univBattle.getUnivBattleId());
 
 
         return true;
@@ -838,51 +632,71 @@ public class UnivBattleServiceImpl implements UnivBattleService {
      * 경기 종료 메서드
      * @param univBattleId
      */
-    // 경기 종료 처리 메서드
+    // 경기 종료 처리 메서드 (BattleEngine 이 트랜잭션 안에서 호출)
     private void checkIncompleteMatch(Long univBattleId) {
         UnivBattle univBattle = univBattleRepository.findById(univBattleId)
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_BATTLE));
 
         // 경기 상태가 완료되지 않았을 경우 경기를 종료 처리합니다.
         if (univBattle.getMatchStatus() != MatchStatus.COMPLETED) {
-            univBattle.setMatchStatus(MatchStatus.COMPLETED);
+            battleEngine.transit(univBattle, MatchStatus.COMPLETED);
             univBattle.setEndDt(LocalDateTime.now());
             univBattleRepository.save(univBattle);
+            univBattleInfoCache.invalidate(univBattle.getUnivBattleId());
 
-            // 랭크 점수 업데이트 mapper
-            // 승리 팀 업데이트
-            int winExistence = rankMapper.checkUnivExistence(univBattle.getWinUniv(),  univBattle.getEventId());
-            if (winExistence == 0) {
-                rankMapper.insertUnivRank(univBattle.getWinUniv(), univBattle.getEventId(), 10L, 1L, 0L);
-            } else {
-                rankMapper.updateUnivWinRank(univBattle.getWinUniv(), univBattle.getEventId());
-            }
-
-            // 패배 팀 업데이트
-            int loseExistence = rankMapper.checkUnivExistence(univBattle.getLoseUniv(),  univBattle.getEventId());
-            if (loseExistence == 0) {
-                rankMapper.insertUnivRank(univBattle.getLoseUniv(), univBattle.getEventId(), 0L, 0L, 1L);
-            } else {
-                rankMapper.updateUnivLoseRank(univBattle.getLoseUniv(), univBattle.getEventId());
-            }
+            // 승리/패배 팀 랭크, 대학 전적 반영
+            battleEngine.effects(univBattle).result(() -> applyResult(univBattle));
 
-//            univBattleMapper.updateRankPoints(univBattle.getWinUniv(), univBattle.getLoseUniv());
             log.info("경기 종료 처리 완료");
         }
     }
 
 
     /**
-     * 초대 코드 생성기
-     * @param length
+     * 랭크 점수, 대학 전적, 토너먼트 경기면 순위표/다음 대진 반영
+     * @param univBattle
+     */
+    private void applyResult(UnivBattle univBattle) {
+        rankService.applyUnivResult(univBattle.getEventId(), univBattle.getWinUniv(), univBattle.getLoseUniv(), scoreMargin(univBattle));
+        univStatService.applyResult(univBattle.getEventId(), univBattle.getWinUniv(), univBattle.getLoseUniv(), resultDt(univBattle));
+        tournamentService.applyResult(univBattle);
+    }
+
+    /**
+     * 참가자 memberIdx 목록
+     * @param participantList
      * @return
      */
-    private String generateRandomString(int length) {
-        SecureRandom random = new SecureRandom();
-        byte[] bytes = new byte[length];
-        random.nextBytes(bytes);
-        return Base64.getUrlEncoder().encodeToString(bytes).substring(0, length);
+    private List<Long> participantMemberIdx(List<Participant> participantList) {
+        return participantList.stream()
+                .map(Participant::getMemberIdx)
+                .distinct()
+                .collect(Collectors.toList());
     }
 
 
+    /**
+     * 경기 종료 시각 (전적 집계용)
+     * @param univBattle
+     * @return
+     */
+    private LocalDateTime resultDt(UnivBattle univBattle) {
+        if (univBattle.getMatchEndDt() != null) return univBattle.getMatchEndDt();
+        if (univBattle.getEndDt() != null) return univBattle.getEndDt();
+        return LocalDateTime.now();
+    }
+
+    /**
+     * 점수 차 (레이팅 계산용)
+     * @param univBattle
+     * @return
+     */
+    private long scoreMargin(UnivBattle univBattle) {
+        long host = univBattle.getHostScore() == null ? 0 : univBattle.getHostScore();
+        long guest = univBattle.getGuestScore() == null ? 0 : univBattle.getGuestScore();
+        return Math.abs(host - guest);
+    }
+
+
+
 }
\ No newline at end of file
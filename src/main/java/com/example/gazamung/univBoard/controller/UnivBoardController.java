@@ -6,6 +6,7 @@ import com.example.gazamung.dto.ResultDTO;
 import com.example.gazamung.exception.CustomException;
 import com.example.gazamung.univBoard.dto.InfoPost;
 import com.example.gazamung.univBoard.dto.PostDto;
+import com.example.gazamung.univBoard.dto.TrendingPost;
 import com.example.gazamung.univBoard.service.UnivBoardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -53,6 +54,7 @@ public class UnivBoardController {
 
     @Operation(summary = "게시글 조회", description = "" +
             "게시글을 조회합니다." +
+            "\n검수 대기 중인 게시글은 작성자(memberIdx)에게만 보입니다." +
             "\n### HTTP STATUS 에 따른 요청 결과" +
             "\n- 200: 서버요청 정상 성공" +
             "\n- 500: 서버에서 요청 처리중 문제가 발생했습니다." +
@@ -66,9 +68,10 @@ public class UnivBoardController {
             @ApiResponse(responseCode = "200", description = "게시글 조회 성공"),
     })
     @GetMapping("/info")
-    public ResultDTO infoPost(@RequestParam Long univBoardId){
+    public ResultDTO infoPost(@RequestParam Long univBoardId,
+                              @RequestParam(required = false) Long memberIdx){
         try {
-            return ResultDTO.of(true, ApiResponseCode.CREATED.getCode(),"게시글 정보 조회 완료.", univBoardService.infoPost(univBoardId));
+            return ResultDTO.of(true, ApiResponseCode.CREATED.getCode(),"게시글 정보 조회 완료.", univBoardService.infoPost(univBoardId, memberIdx));
         } catch (CustomException e) {
             return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
         }
@@ -96,6 +99,29 @@ public class UnivBoardController {
         }
     }
 
+    @Operation(summary = "인기 게시글 조회 ", description = "" +
+            "회원 대학의 인기 게시글을 점수 순으로 조회합니다. categoryId : 0(전체), or 해당 카테고리" +
+            "\n점수는 작성, 조회, 댓글을 가중치로 더하고 시간이 지날수록 감쇠합니다. (조회는 집계 주기마다 반영)" +
+            "\n### HTTP STATUS 에 따른 요청 결과" +
+            "\n- 200: 서버요청 정상 성공" +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생했습니다." +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- NOT_FOUND_USER: 가입되지 않은 회원입니다." )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "인기 게시글 조회 성공"),
+    })
+    @GetMapping("/trending")
+    public ResultDTO trendingPost(@RequestParam Long memberIdx,
+                                  @RequestParam(defaultValue = "0") Long categoryId,
+                                  @RequestParam(defaultValue = "20") int size){
+        try{
+            List<TrendingPost> trendingPosts = univBoardService.trendingPost(memberIdx, categoryId, size);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "인기 게시글 조회 완료", trendingPosts);
+        } catch (CustomException e) {
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+        }
+    }
+
     @Operation(summary = "게시글 삭제 ", description = "" +
             "게시글을 삭제합니다." +
             "\n### HTTP STATUS 에 따른 요청 결과" +
@@ -1,6 +1,7 @@
 package com.example.gazamung.univBoard.dto;
 
 import com.example.gazamung.S3FileUploader.UploadImage;
+import com.example.gazamung._enum.ModerationStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -38,4 +39,9 @@ public class InfoPost {
     private Long memberIdx; // 글쓴이 memberIdx 삭제 금지!
 
     private Long eventId;
+
+    private long replyCount;    // 댓글 수
+    private long viewCount;     // 조회 수 (집계 주기만큼 늦게 반영)
+
+    private ModerationStatus moderationStatus;  // 검수 상태 (PENDING, REJECTED 는 작성자에게만 보임)
 }
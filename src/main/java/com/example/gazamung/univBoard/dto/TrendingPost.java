@@ -0,0 +1,24 @@
+package com.example.gazamung.univBoard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TrendingPost {
+
+    private Long univBoardId;
+    private Long categoryId;
+    private String title;
+    private LocalDateTime regDt;
+
+    private long replyCount;    // 댓글 수
+    private long viewCount;     // 조회 수
+    private double score;       // 인기 점수 (시간 감쇠 반영)
+}
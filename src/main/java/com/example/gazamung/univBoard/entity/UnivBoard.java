@@ -1,5 +1,9 @@
 package com.example.gazamung.univBoard.entity;
 
+import com.example.gazamung._enum.ModerationStatus;
+import com.example.gazamung.battle.BattleDates;
+import com.example.gazamung.nearby.Coordinates;
+import com.example.gazamung.nearby.NearbyIndexListener;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 
@@ -7,6 +11,10 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(NearbyIndexListener.class)
+@Table(indexes = {
+        @Index(name = "IDX_UNIV_BOARD_CATEGORY_MATCH_AT", columnList = "categoryId, matchAt")   // 내 주변 용병 모집글 적재용
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -34,13 +42,35 @@ public class UnivBoard {
 
     private String lat;             // 위도
     private String lng;             // 경도
+    private Double latitude;        // 위도 (숫자, 저장 시 lat 에서 변환)
+    private Double longitude;       // 경도 (숫자, 저장 시 lng 에서 변환)
     private String place;           // 위치
 
     private Long eventId;
 
     private String matchDt;  // 경기 일시
+    private LocalDateTime matchAt;  // 경기 일시 (저장 시 matchDt 에서 변환, 형식이 다르면 null)
 
     private Long representIdx;  // 대표 사진 idx
 
     private Integer anonymous; // 0 닉네임, 1 익명
+
+    @Enumerated(EnumType.STRING)
+    private ModerationStatus moderationStatus;  // 비속어 검수 상태
+
+    // 댓글 수 (댓글 작성/삭제 시 증감 쿼리로만 변경, 게시글 수정 시 덮어쓰지 않음)
+    @Column(updatable = false)
+    private long replyCount;
+
+    // 조회 수 (인기 게시글 집계 주기마다 증가 쿼리로만 변경)
+    @Column(updatable = false)
+    private long viewCount;
+
+    @PrePersist
+    @PreUpdate
+    private void beforeSave() {
+        this.latitude = Coordinates.parseLat(lat);
+        this.longitude = Coordinates.parseLng(lng);
+        this.matchAt = BattleDates.parse(matchDt);
+    }
 }
@@ -1,9 +1,17 @@
 package com.example.gazamung.univBoard.repository;
 
+import com.example.gazamung._enum.ModerationStatus;
 import com.example.gazamung.univBoard.entity.UnivBoard;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface UnivBoardRepository extends JpaRepository<UnivBoard, Long> {
@@ -38,4 +46,66 @@ public interface UnivBoardRepository extends JpaRepository<UnivBoard, Long> {
     List<UnivBoard> findByTitleContainingOrContentContaining(String title, String content);
 
     List<UnivBoard> findByEventId(Long eventId);
+
+    /**
+     * 아직 경기일이 지나지 않은 게시된 모집글 (경기 일시를 알 수 없으면 since 이후 작성된 글만)
+     * 검수 상태가 null 인 검수 도입 전 글도 게시된 글로 본다.
+     */
+    @Query("SELECT b FROM UnivBoard b WHERE b.categoryId = :categoryId " +
+            "AND (b.matchAt >= :today OR (b.matchAt IS NULL AND b.regDt >= :since)) " +
+            "AND (b.moderationStatus IS NULL OR b.moderationStatus IN :visible)")
+    List<UnivBoard> findOpenByCategoryId(@Param("categoryId") Long categoryId,
+                                         @Param("today") LocalDateTime today,
+                                         @Param("since") LocalDateTime since,
+                                         @Param("visible") Collection<ModerationStatus> visible);
+
+    /**
+     * 카테고리의 게시된 글 최신순 (검수 상태가 null 인 검수 도입 전 글 포함)
+     */
+    @Query("SELECT b FROM UnivBoard b WHERE b.categoryId = :categoryId AND b.univId = :univId " +
+            "AND (b.moderationStatus IS NULL OR b.moderationStatus IN :visible) " +
+            "ORDER BY b.regDt DESC")
+    List<UnivBoard> findLatestVisible(@Param("categoryId") Long categoryId,
+                                      @Param("univId") Long univId,
+                                      @Param("visible") Collection<ModerationStatus> visible,
+                                      Pageable pageable);
+
+    /**
+     * 댓글 수 증감 (목록 화면에서 COUNT 하지 않도록 유지)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UnivBoard b SET b.replyCount = b.replyCount + :delta WHERE b.univBoardId = :univBoardId")
+    int addReplyCount(@Param("univBoardId") Long univBoardId, @Param("delta") long delta);
+
+    /**
+     * 조회 수 증가 (인기 게시글 집계 주기마다 모아서 반영)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UnivBoard b SET b.viewCount = b.viewCount + :delta WHERE b.univBoardId = :univBoardId")
+    int addViewCount(@Param("univBoardId") Long univBoardId, @Param("delta") long delta);
+
+    /**
+     * 최근 학교 게시판 글 (서버 시작 시 인기 게시글 점수 적재용)
+     */
+    List<UnivBoard> findByClubIdIsNullAndRegDtAfter(LocalDateTime regDt);
+
+    /**
+     * 검수 대기 게시글 ID (재시작 후 검수 큐 복구용)
+     */
+    @Query("SELECT b.univBoardId FROM UnivBoard b WHERE b.moderationStatus = :status ORDER BY b.univBoardId ASC")
+    List<Long> findIdsByModerationStatus(@Param("status") ModerationStatus status);
+
+    /**
+     * 검수 판정 반영 (아직 검수 대기 상태일 때만, 다른 작업이 먼저 반영했으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UnivBoard b SET b.moderationStatus = :status, b.content = :content " +
+            "WHERE b.univBoardId = :univBoardId AND b.moderationStatus = :pending")
+    int moderate(@Param("univBoardId") Long univBoardId,
+                 @Param("status") ModerationStatus status,
+                 @Param("content") String content,
+                 @Param("pending") ModerationStatus pending);
 }
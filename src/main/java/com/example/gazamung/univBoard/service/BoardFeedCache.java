@@ -0,0 +1,69 @@
+package com.example.gazamung.univBoard.service;
+
+import com.example.gazamung.cache.CacheRegistry;
+import com.example.gazamung.cache.ReadModelCache;
+import com.example.gazamung.moderation.ModerationListener;
+import com.example.gazamung.moderation.ModerationTarget;
+import com.example.gazamung.moderation.dto.ModerationEvent;
+import com.example.gazamung.univBoard.dto.InfoPost;
+import com.example.gazamung.univBoard.entity.UnivBoard;
+import com.example.gazamung.univBoard.repository.UnivBoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 게시글 목록 캐시 (대학 + 모임 + 카테고리 단위)
+ * 게시글 작성/수정/삭제 시 UnivBoardServiceImpl 에서, 검수 판정 시 ModerationListener 로 해당 목록과 전체(0) 목록만 무효화한다.
+ * 검수 대기 글을 포함한 목록을 캐시하고 조회자별 노출 여부는 캐시 밖에서 거른다.
+ * 댓글/조회 수는 ttl 만큼 늦게 반영될 수 있다.
+ */
+@Component
+@Slf4j
+public class BoardFeedCache implements ModerationListener {
+
+    public static final long ALL_CATEGORY = 0L;
+
+    private final UnivBoardRepository univBoardRepository;
+    private final ReadModelCache<FeedKey, List<InfoPost>> cache;
+
+    public BoardFeedCache(UnivBoardRepository univBoardRepository,
+                          CacheRegistry cacheRegistry,
+                          @Value("${cache.board-feed.max-size:2000}") int maxSize,
+                          @Value("${cache.board-feed.ttl-seconds:30}") long ttlSeconds) {
+        this.univBoardRepository = univBoardRepository;
+        this.cache = cacheRegistry.create("boardFeed", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /**
+     * @param clubId null 이면 학교 게시판
+     * @param categoryId 0 이면 전체 카테고리
+     */
+    public record FeedKey(Long univId, Long clubId, Long categoryId) {
+    }
+
+    public List<InfoPost> get(FeedKey key, Function<FeedKey, List<InfoPost>> loader) {
+        return cache.get(key, loader);
+    }
+
+    /**
+     * 게시글이 속한 목록 무효화 (수정으로 대학/모임/카테고리가 바뀌면 수정 전후 각각 호출)
+     */
+    public void invalidate(UnivBoard post) {
+        cache.invalidate(new FeedKey(post.getUnivId(), post.getClubId(), post.getCategoryId()));
+        cache.invalidate(new FeedKey(post.getUnivId(), post.getClubId(), ALL_CATEGORY));
+    }
+
+    /**
+     * 게시글 검수 판정 반영 (게시, 내용 가림, 거부)
+     */
+    @Override
+    public void moderated(ModerationEvent event) {
+        if (event.getTarget() != ModerationTarget.POST) return;
+        univBoardRepository.findById(event.getId()).ifPresent(this::invalidate);
+    }
+}
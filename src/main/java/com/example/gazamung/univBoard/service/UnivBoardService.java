@@ -2,6 +2,7 @@ package com.example.gazamung.univBoard.service;
 
 import com.example.gazamung.univBoard.dto.InfoPost;
 import com.example.gazamung.univBoard.dto.PostDto;
+import com.example.gazamung.univBoard.dto.TrendingPost;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -10,12 +11,21 @@ import java.util.Map;
 @Service
 public interface UnivBoardService {
 
-    Object infoPost(Long univBoardId);
+    Object infoPost(Long univBoardId, Long viewerIdx);
 
     Map<String, Object> createPost(PostDto dto);
 
     List<InfoPost> listPost(Long memberIdx, Long clubId, Long categoryId);
 
+    /**
+     * 회원 대학의 인기 게시글 (시간 감쇠 점수 순)
+     * @param memberIdx
+     * @param categoryId 0 이면 전체 카테고리
+     * @param size
+     * @return
+     */
+    List<TrendingPost> trendingPost(Long memberIdx, Long categoryId, int size);
+
     void deletePost(Long univBoardId, Long memberIdx);
 
     void modifyPost(PostDto dto);
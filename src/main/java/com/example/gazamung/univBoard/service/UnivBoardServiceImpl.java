@@ -4,17 +4,22 @@ import com.example.gazamung.S3FileUploader.UploadImage;
 import com.example.gazamung.S3FileUploader.UploadService;
 import com.example.gazamung._enum.AttachmentType;
 import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung._enum.ModerationStatus;
 import com.example.gazamung.category.entity.Category;
-import com.example.gazamung.category.repository.CategoryRepository;
 import com.example.gazamung.club.entity.Club;
 import com.example.gazamung.club.repository.ClubRepository;
 import com.example.gazamung.event.entity.Event;
-import com.example.gazamung.event.repository.EventRepository;
 import com.example.gazamung.exception.CustomException;
 import com.example.gazamung.member.entity.Member;
 import com.example.gazamung.member.repository.MemberRepository;
+import com.example.gazamung.moderation.ModerationQueue;
+import com.example.gazamung.moderation.ModerationTarget;
+import com.example.gazamung.reference.service.ReferenceRegistry;
 import com.example.gazamung.univBoard.dto.InfoPost;
+import com.example.gazamung.trending.TrendingItem;
+import com.example.gazamung.trending.service.TrendingBoard;
 import com.example.gazamung.univBoard.dto.PostDto;
+import com.example.gazamung.univBoard.dto.TrendingPost;
 import com.example.gazamung.univBoard.entity.UnivBoard;
 import com.example.gazamung.univBoard.repository.UnivBoardRepository;
 import lombok.RequiredArgsConstructor;
@@ -34,22 +39,35 @@ public class UnivBoardServiceImpl implements UnivBoardService {
     private final MemberRepository memberRepository;
     private final UnivBoardRepository univBoardRepository;
     private final UploadService uploadService;
-    private final CategoryRepository categoryRepository;
     private final ClubRepository clubRepository;
-    private final EventRepository eventRepository;
+    private final ReferenceRegistry referenceRegistry;
+    private final ModerationQueue moderationQueue;
+    private final TrendingBoard trendingBoard;
+    private final BoardFeedCache boardFeedCache;
 
 
     /**
      * @param univBoardId
+     * @param viewerIdx 조회하는 회원 (검수 대기 중인 게시글은 작성자만 조회 가능)
      * @title 게시글 조회
      * @created 24.05.07 이승열
      * @description 커뮤니티 게시글 조회
      */
-    public Object infoPost(Long univBoardId) {
+    public Object infoPost(Long univBoardId, Long viewerIdx) {
         UnivBoard post = univBoardRepository.findById(univBoardId)
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_BOARD));
 
-        Category category = categoryRepository.findById(post.getCategoryId())
+        // 검수에서 거부된 게시글은 작성자 목록에만 노출, 검수 대기 중인 게시글은 작성자만 조회
+        if (post.getModerationStatus() == ModerationStatus.REJECTED
+                || (!ModerationStatus.isVisible(post.getModerationStatus()) && !Objects.equals(post.getMemberIdx(), viewerIdx))) {
+            throw new CustomException(CustomExceptionCode.NOT_FOUND_BOARD);
+        }
+        // 검수 대기 중인 게시글은 인기글 집계에서 제외
+        if (ModerationStatus.isVisible(post.getModerationStatus())) {
+            trendingBoard.viewed(post);
+        }
+
+        Category category = referenceRegistry.category(post.getCategoryId())
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_CATEGORY));
 
         Club club = null;
@@ -85,7 +103,10 @@ public class UnivBoardServiceImpl implements UnivBoardService {
                 .univBoardId(post.getUnivBoardId())
                 .memberIdx(post.getMemberIdx()) // 지우지마세요! 지우면 캡스톤 다지움
                 .categoryId(post.getCategoryId())
-                .eventId(post.getEventId());
+                .eventId(post.getEventId())
+                .replyCount(post.getReplyCount())
+                .viewCount(post.getViewCount())
+                .moderationStatus(post.getModerationStatus());
 
 
         // categoryId가 2인 경우, 위치 정보도 반환 객체에 포함
@@ -97,7 +118,7 @@ public class UnivBoardServiceImpl implements UnivBoardService {
         }
 
         if (post.getEventId() != null) {
-            event = eventRepository.findById(post.getEventId());
+            event = referenceRegistry.event(post.getEventId());
             event.ifPresent(value -> builder.eventName(value.getEventName()));
         }
 
@@ -115,7 +136,7 @@ public class UnivBoardServiceImpl implements UnivBoardService {
     public Map<String, Object> createPost(PostDto dto) {
         Member member = memberRepository.findById(dto.getMemberIdx())
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
-        categoryRepository.findById(dto.getCategoryId())
+        referenceRegistry.category(dto.getCategoryId())
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_CATEGORY));
 
         UnivBoard univBoard;
@@ -134,6 +155,7 @@ public class UnivBoardServiceImpl implements UnivBoardService {
                     .regDt(LocalDateTime.now())
                     .eventId(dto.getEventId())
                     .anonymous(dto.getAnonymous())
+                    .moderationStatus(ModerationStatus.PENDING)
                     .build();
         } else {
             univBoard = UnivBoard.builder()
@@ -147,6 +169,7 @@ public class UnivBoardServiceImpl implements UnivBoardService {
                     .regDt(LocalDateTime.now())
                     .eventId(dto.getEventId())
                     .anonymous(dto.getAnonymous())
+                    .moderationStatus(ModerationStatus.PENDING)
                     .build();
             // categoryId == 1 인 경우 위치 정보도 저장
             if (dto.getCategoryId() == 2) {
@@ -156,6 +179,7 @@ public class UnivBoardServiceImpl implements UnivBoardService {
                 univBoard.setMatchDt(dto.getMatchDt());
             }
         }
+        // 검수 대기 상태로 저장, 비속어 검수 후 게시
         UnivBoard savedUnivBoard = univBoardRepository.save(univBoard);
 
         List<Map<String, Object>> uploadedImages = null;
@@ -172,6 +196,9 @@ public class UnivBoardServiceImpl implements UnivBoardService {
                 univBoardRepository.save(savedUnivBoard); // 대표 이미지 설정 후 다시 저장
             }
         }
+        // 대표 이미지 저장까지 끝난 뒤 검수 등록 (검수 결과를 다시 덮어쓰지 않도록)
+        moderationQueue.submit(ModerationTarget.POST, savedUnivBoard.getUnivBoardId());
+        boardFeedCache.invalidate(savedUnivBoard);
         // uploadImages 와 Post 정보를 함께 반환
         Map<String, Object> result = new HashMap<>();
         result.put("uploadedImages", uploadedImages);
@@ -194,14 +221,30 @@ public class UnivBoardServiceImpl implements UnivBoardService {
         Member member = memberRepository.findById(memberIdx)
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
 
+        // 목록은 대학/모임/카테고리 단위로 캐시 (동시 미적중은 한 번만 조회)
+        List<InfoPost> feed = boardFeedCache.get(
+                new BoardFeedCache.FeedKey(member.getUnivId(), clubId, categoryId), this::loadFeed);
+
+        // 검수 대기/거부 게시글은 작성자에게만 노출
+        return feed.stream()
+                .filter(post -> ModerationStatus.isVisible(post.getModerationStatus())
+                        || Objects.equals(post.getMemberIdx(), memberIdx))
+                .collect(Collectors.toList());
+    }
+
+    private List<InfoPost> loadFeed(BoardFeedCache.FeedKey key) {
+        Long univId = key.univId();
+        Long clubId = key.clubId();
+        Long categoryId = key.categoryId();
+
         // 카테고리 별 게시글 목록 조회
         List<UnivBoard> univBoards;
         if (categoryId != null && categoryId == 0) { // 카테고리가 0이면 전체 게시글 조회
-            univBoards = (clubId == null) ? univBoardRepository.findByClubIdIsNullAndUnivIdOrderByRegDtAsc(member.getUnivId())
-                    : univBoardRepository.findByClubIdAndUnivIdOrderByRegDtAsc(clubId, member.getUnivId());
+            univBoards = (clubId == null) ? univBoardRepository.findByClubIdIsNullAndUnivIdOrderByRegDtAsc(univId)
+                    : univBoardRepository.findByClubIdAndUnivIdOrderByRegDtAsc(clubId, univId);
         } else { // 특정 카테고리의 리스트만 반환
-            univBoards = (clubId == null) ? univBoardRepository.findByClubIdIsNullAndUnivIdAndCategoryIdOrderByRegDtAsc(member.getUnivId(), categoryId)
-                    : univBoardRepository.findByClubIdAndUnivIdAndCategoryIdOrderByRegDtAsc(clubId, member.getUnivId(), categoryId);
+            univBoards = (clubId == null) ? univBoardRepository.findByClubIdIsNullAndUnivIdAndCategoryIdOrderByRegDtAsc(univId, categoryId)
+                    : univBoardRepository.findByClubIdAndUnivIdAndCategoryIdOrderByRegDtAsc(clubId, univId, categoryId);
         }
 
         List<InfoPost> infoPosts = new ArrayList<>();
@@ -209,7 +252,7 @@ public class UnivBoardServiceImpl implements UnivBoardService {
             // 카테고리 정보 조회
             Category category = null;
             if (categoryId != null) {
-                category = categoryRepository.findById(univBoard.getCategoryId())
+                category = referenceRegistry.category(univBoard.getCategoryId())
                         .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_CATEGORY));
             }
 
@@ -242,6 +285,9 @@ public class UnivBoardServiceImpl implements UnivBoardService {
                     .profileImgUrl(univBoard.getAnonymous() != null && univBoard.getAnonymous().equals(1) ?
                             "https://jhuniversus.s3.ap-northeast-2.amazonaws.com/default/df_profile.jpg" :
                             PostMember.getProfileImgUrl())
+                    .replyCount(univBoard.getReplyCount())
+                    .viewCount(univBoard.getViewCount())
+                    .moderationStatus(univBoard.getModerationStatus())
                     .build();
 
             infoPosts.add(infoPost);
@@ -250,6 +296,46 @@ public class UnivBoardServiceImpl implements UnivBoardService {
         return infoPosts;
     }
 
+    /**
+     * @param memberIdx
+     * @param categoryId
+     * @param size
+     * @title 인기 게시글 조회
+     * @description 주기마다 갱신되는 대학/카테고리별 상위 목록을 읽고, 해당 게시글만 한 번에 조회
+     */
+    @Override
+    public List<TrendingPost> trendingPost(Long memberIdx, Long categoryId, int size) {
+        Member member = memberRepository.findById(memberIdx)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_USER));
+
+        List<TrendingItem> items = trendingBoard.top(member.getUnivId(), categoryId, size);
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, UnivBoard> posts = univBoardRepository.findAllById(
+                        items.stream().map(TrendingItem::univBoardId).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(UnivBoard::getUnivBoardId, post -> post));
+
+        List<TrendingPost> trendingPosts = new ArrayList<>(items.size());
+        for (TrendingItem item : items) {
+            UnivBoard post = posts.get(item.univBoardId());
+            // 순위 갱신 전에 삭제/거부된 글은 제외
+            if (post == null || !ModerationStatus.isVisible(post.getModerationStatus())) continue;
+
+            trendingPosts.add(TrendingPost.builder()
+                    .univBoardId(post.getUnivBoardId())
+                    .categoryId(post.getCategoryId())
+                    .title(post.getTitle())
+                    .regDt(post.getRegDt())
+                    .replyCount(post.getReplyCount())
+                    .viewCount(post.getViewCount())
+                    .score(item.score())
+                    .build());
+        }
+        return trendingPosts;
+    }
+
     /**
      * @param univBoardId
      * @param memberIdx
@@ -269,6 +355,8 @@ public class UnivBoardServiceImpl implements UnivBoardService {
         // 글 작성자이거나 관리자인 경우
         if ((univBoard.getMemberIdx().equals(memberIdx)) || (member.getRole() == 1)) {
             univBoardRepository.delete(univBoard);
+            trendingBoard.removed(univBoardId);
+            boardFeedCache.invalidate(univBoard);
 
             List<UploadImage> imageByAttachmentType = uploadService.getImageByAttachmentType(AttachmentType.POST, univBoardId);
             String[] removeTarget = new String[imageByAttachmentType.size() + 1];
@@ -346,11 +434,16 @@ public class UnivBoardServiceImpl implements UnivBoardService {
                 List<UploadImage> getRepresentIdx = uploadService.getImageByAttachmentType(AttachmentType.POST, univBoard.getUnivBoardId());
             }
 
+            // 카테고리/모임이 바뀌면 수정 전 목록도 무효화
+            boardFeedCache.invalidate(univBoard);
+
             univBoard.setTitle(dto.getTitle());
             univBoard.setContent(dto.getContent());
             univBoard.setCategoryId(dto.getCategoryId());
             univBoard.setUdtDt(LocalDateTime.now());
             univBoard.setAnonymous(dto.getAnonymous());
+            // 수정된 제목/내용은 다시 검수
+            univBoard.setModerationStatus(ModerationStatus.PENDING);
             if (dto.getClubId() != null)
                 univBoard.setClubId(dto.getClubId());
             if (dto.getCategoryId() == 2L) {
@@ -363,6 +456,8 @@ public class UnivBoardServiceImpl implements UnivBoardService {
             }
 
             univBoardRepository.save(univBoard);
+            moderationQueue.submit(ModerationTarget.POST, univBoard.getUnivBoardId());
+            boardFeedCache.invalidate(univBoard);
         } catch (CustomException e) {
             throw e;
         }
@@ -374,6 +469,8 @@ public class UnivBoardServiceImpl implements UnivBoardService {
         UnivBoard univBoard = univBoardRepository.findById(univBoardId)
                 .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_BOARD));
         univBoardRepository.delete(univBoard);
+        trendingBoard.removed(univBoardId);
+        boardFeedCache.invalidate(univBoard);
 
         List<UploadImage> imageByAttachmentType = uploadService.getImageByAttachmentType(AttachmentType.POST, univBoardId);
         String[] removeTarget = new String[imageByAttachmentType.size() + 1];
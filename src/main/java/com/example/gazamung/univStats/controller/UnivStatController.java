@@ -0,0 +1,72 @@
+package com.example.gazamung.univStats.controller;
+
+import com.example.gazamung._enum.ApiResponseCode;
+import com.example.gazamung.dto.ResultDTO;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.univStats.dto.UnivStatsRes;
+import com.example.gazamung.univStats.service.UnivStatService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/univStats")
+@CrossOrigin(origins = "*", exposedHeaders = {"Content-Disposition"}, allowedHeaders = "*")
+@Tag(name = "대학 전적 API", description = "")
+public class UnivStatController {
+
+    private final UnivStatService univStatService;
+
+    @Operation(summary = "대학 전적 ", description = "PARAMETER: univId, opponentSize  " +
+            "\n종목별 승/패, 연승/연패, 상대 대학별 전적을 반환합니다." +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- NOT_FOUND_UNIVERSITY: 존재하지 않는 대학교입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/stats")
+    public ResultDTO univStats(@RequestParam Long univId,
+                               @RequestParam(defaultValue = "20") int opponentSize) {
+
+        try{
+            UnivStatsRes res = univStatService.stats(univId, opponentSize);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"대학 전적 조회 성공", res);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+
+        }
+    }
+
+    @Operation(summary = "대학 전적 재집계 (관리자) ", description = "PARAMETER: memberIdx  " +
+            "\n종료된 전체 경기 이력으로 대학 전적을 다시 집계합니다." +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생" +
+            "\n### Result Code 에 따른 요청 결과" +
+            "\n- UNAUTHORIZED_USER: 관리자가 아닌 경우"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @PostMapping("/rebuild")
+    public ResultDTO rebuild(@RequestParam Long memberIdx) {
+
+        try{
+            int count = univStatService.rebuild(memberIdx);
+            return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(),"대학 전적 재집계 성공", count);
+        }catch(CustomException e){
+            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+
+        }
+    }
+}
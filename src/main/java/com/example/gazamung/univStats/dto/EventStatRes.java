@@ -0,0 +1,20 @@
+package com.example.gazamung.univStats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventStatRes {
+
+    private Long eventId;
+    private long winCount;
+    private long loseCount;
+    private long currentStreak;     // 양수: 연승, 음수: 연패
+    private long bestWinStreak;
+
+}
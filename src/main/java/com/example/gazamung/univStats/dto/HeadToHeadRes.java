@@ -0,0 +1,23 @@
+package com.example.gazamung.univStats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class HeadToHeadRes {
+
+    private Long opponentUnivId;
+    private String opponentUnivName;
+    private String opponentUnivLogo;
+    private long winCount;
+    private long loseCount;
+    private LocalDateTime lastMatchDt;
+
+}
@@ -0,0 +1,24 @@
+package com.example.gazamung.univStats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전적 재집계용 종료된 대학 대항전 결과
+ */
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UnivResultRow {
+
+    private Long eventId;
+    private Long winner;
+    private Long loser;
+    private LocalDateTime matchDt;
+
+}
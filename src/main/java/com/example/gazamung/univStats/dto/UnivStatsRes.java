@@ -0,0 +1,21 @@
+package com.example.gazamung.univStats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UnivStatsRes {
+
+    private Long univId;
+    private EventStatRes total;             // 전체 종목
+    private List<EventStatRes> byEvent;     // 종목별
+    private List<HeadToHeadRes> headToHead; // 최근 맞붙은 순
+
+}
@@ -0,0 +1,36 @@
+package com.example.gazamung.univStats.entity;
+
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 대학 간 상대 전적 (univId 기준 opponentUnivId 에 대한 승/패)
+ */
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "UK_UNIV_H2H_UNIV_OPPONENT", columnNames = {"univ_id", "opponent_univ_id"})
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+@Slf4j
+public class UnivHeadToHead {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "UNIV_H2H_SEQ")
+    @SequenceGenerator(name = "UNIV_H2H_SEQ", sequenceName = "univ_h2h_sequence", allocationSize = 1)
+    private Long id;
+
+    private Long univId;
+    private Long opponentUnivId;
+
+    private Long winCount;
+    private Long loseCount;
+
+    private LocalDateTime lastMatchDt;
+}
@@ -0,0 +1,38 @@
+package com.example.gazamung.univStats.entity;
+
+import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 대학별 대항전 전적 집계 (종목별 + 전체 종목 event_id = -1)
+ */
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "UK_UNIV_STAT_UNIV_EVENT", columnNames = {"univ_id", "event_id"})
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+@Slf4j
+public class UnivStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "UNIV_STAT_SEQ")
+    @SequenceGenerator(name = "UNIV_STAT_SEQ", sequenceName = "univ_stat_sequence", allocationSize = 1)
+    private Long id;
+
+    private Long univId;
+    private Long eventId;               // -1: 전체 종목
+
+    private Long winCount;
+    private Long loseCount;
+    private Long currentStreak;         // 양수: 연승, 음수: 연패
+    private Long bestWinStreak;         // 최다 연승
+
+    private LocalDateTime lastMatchDt;  // 마지막 경기 종료 시각
+}
@@ -0,0 +1,12 @@
+package com.example.gazamung.univStats.repository;
+
+import com.example.gazamung.univStats.entity.UnivHeadToHead;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface UnivHeadToHeadRepository extends JpaRepository<UnivHeadToHead, Long> {
+
+    List<UnivHeadToHead> findByUnivIdOrderByLastMatchDtDesc(Long univId, Pageable pageable);
+}
@@ -0,0 +1,11 @@
+package com.example.gazamung.univStats.repository;
+
+import com.example.gazamung.univStats.entity.UnivStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface UnivStatRepository extends JpaRepository<UnivStat, Long> {
+
+    List<UnivStat> findByUnivId(Long univId);
+}
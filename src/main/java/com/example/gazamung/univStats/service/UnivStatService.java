@@ -0,0 +1,34 @@
+package com.example.gazamung.univStats.service;
+
+import com.example.gazamung.univStats.dto.UnivStatsRes;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Service
+public interface UnivStatService {
+
+    /**
+     * 확정된 경기 결과를 전적 집계에 반영
+     * @param eventId
+     * @param winUniv
+     * @param loseUniv
+     * @param matchDt 경기 종료 시각
+     */
+    void applyResult(Long eventId, Long winUniv, Long loseUniv, LocalDateTime matchDt);
+
+    /**
+     * 대학 전적 (종목별, 연승/연패, 상대 전적)
+     * @param univId
+     * @param opponentSize 상대 전적 개수
+     * @return
+     */
+    UnivStatsRes stats(Long univId, int opponentSize);
+
+    /**
+     * 종료된 경기 전체로 전적 재집계 (관리자)
+     * @param memberIdx
+     * @return 반영한 경기 수
+     */
+    int rebuild(Long memberIdx);
+}
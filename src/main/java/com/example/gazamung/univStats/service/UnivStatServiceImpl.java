@@ -0,0 +1,197 @@
+package com.example.gazamung.univStats.service;
+
+import com.example.gazamung._enum.CustomExceptionCode;
+import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.mapper.UnivStatMapper;
+import com.example.gazamung.member.service.AdminChecker;
+import com.example.gazamung.reference.service.ReferenceRegistry;
+import com.example.gazamung.univStats.dto.EventStatRes;
+import com.example.gazamung.univStats.dto.HeadToHeadRes;
+import com.example.gazamung.univStats.dto.UnivResultRow;
+import com.example.gazamung.univStats.dto.UnivStatsRes;
+import com.example.gazamung.univStats.entity.UnivHeadToHead;
+import com.example.gazamung.univStats.entity.UnivStat;
+import com.example.gazamung.univStats.repository.UnivHeadToHeadRepository;
+import com.example.gazamung.univStats.repository.UnivStatRepository;
+import com.example.gazamung.university.entity.University;
+import com.example.gazamung.university.repository.UniversityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UnivStatServiceImpl implements UnivStatService {
+
+    private static final long ALL_EVENTS = -1L;
+    private static final int MAX_OPPONENT_SIZE = 50;
+
+    private final UnivStatMapper univStatMapper;
+    private final UnivStatRepository univStatRepository;
+    private final UnivHeadToHeadRepository univHeadToHeadRepository;
+    private final UniversityRepository universityRepository;
+    private final ReferenceRegistry referenceRegistry;
+    private final AdminChecker adminChecker;
+
+    @Override
+    @Transactional
+    public void applyResult(Long eventId, Long winUniv, Long loseUniv, LocalDateTime matchDt) {
+        if (winUniv == null || loseUniv == null) return;
+
+        LocalDateTime dt = matchDt != null ? matchDt : LocalDateTime.now();
+        // 두 경기가 같은 행을 동시에 처음 만들면 한쪽 MERGE 가 유니크 제약에 걸리므로 한 번 재시도 (다시 실행하면 MATCHED 로 갱신)
+        try {
+            univStatMapper.upsertStats(eventId, winUniv, loseUniv, dt);
+        } catch (DuplicateKeyException e) {
+            log.info("대학 전적 동시 생성 감지, 재시도 - eventId: {}, univ: {} / {}", eventId, winUniv, loseUniv);
+            univStatMapper.upsertStats(eventId, winUniv, loseUniv, dt);
+        }
+        try {
+            univStatMapper.upsertHeadToHead(winUniv, loseUniv, dt);
+        } catch (DuplicateKeyException e) {
+            log.info("상대 전적 동시 생성 감지, 재시도 - univ: {} / {}", winUniv, loseUniv);
+            univStatMapper.upsertHeadToHead(winUniv, loseUniv, dt);
+        }
+    }
+
+    @Override
+    public UnivStatsRes stats(Long univId, int opponentSize) {
+
+        referenceRegistry.university(univId)
+                .orElseThrow(() -> new CustomException(CustomExceptionCode.NOT_FOUND_UNIVERSITY));
+
+        EventStatRes total = EventStatRes.builder().eventId(ALL_EVENTS).build();
+        List<EventStatRes> byEvent = new ArrayList<>();
+        for (UnivStat stat : univStatRepository.findByUnivId(univId)) {
+            EventStatRes res = toRes(stat);
+            if (Objects.equals(stat.getEventId(), ALL_EVENTS)) {
+                total = res;
+            } else {
+                byEvent.add(res);
+            }
+        }
+        byEvent.sort(Comparator.comparingLong((EventStatRes e) -> e.getWinCount() + e.getLoseCount()).reversed());
+
+        int size = Math.max(1, Math.min(opponentSize, MAX_OPPONENT_SIZE));
+        List<UnivHeadToHead> headToHead = univHeadToHeadRepository.findByUnivIdOrderByLastMatchDtDesc(univId, PageRequest.of(0, size));
+
+        // 상대 대학 정보는 한 번에 조회
+        Map<Long, University> opponents = universityRepository.findAllById(headToHead.stream()
+                        .map(UnivHeadToHead::getOpponentUnivId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(University::getId, Function.identity()));
+
+        List<HeadToHeadRes> headToHeadRes = headToHead.stream()
+                .map(h -> {
+                    University opponent = opponents.get(h.getOpponentUnivId());
+                    return HeadToHeadRes.builder()
+                            .opponentUnivId(h.getOpponentUnivId())
+                            .opponentUnivName(opponent != null ? opponent.getSchoolName() : null)
+                            .opponentUnivLogo(opponent != null ? opponent.getLogoImg() : null)
+                            .winCount(nvl(h.getWinCount()))
+                            .loseCount(nvl(h.getLoseCount()))
+                            .lastMatchDt(h.getLastMatchDt())
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        return UnivStatsRes.builder()
+                .univId(univId)
+                .total(total)
+                .byEvent(byEvent)
+                .headToHead(headToHeadRes)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public int rebuild(Long memberIdx) {
+        adminChecker.checkAdmin(memberIdx);
+
+        Map<String, UnivStat> stats = new HashMap<>();
+        Map<String, UnivHeadToHead> headToHead = new HashMap<>();
+
+        List<UnivResultRow> results = univStatMapper.findCompletedResults();
+        for (UnivResultRow row : results) {
+            record(stats, row.getWinner(), ALL_EVENTS, true, row.getMatchDt());
+            record(stats, row.getLoser(), ALL_EVENTS, false, row.getMatchDt());
+            if (row.getEventId() != null) {
+                record(stats, row.getWinner(), row.getEventId(), true, row.getMatchDt());
+                record(stats, row.getLoser(), row.getEventId(), false, row.getMatchDt());
+            }
+            recordHeadToHead(headToHead, row.getWinner(), row.getLoser(), true, row.getMatchDt());
+            recordHeadToHead(headToHead, row.getLoser(), row.getWinner(), false, row.getMatchDt());
+        }
+
+        univStatRepository.deleteAllInBatch();
+        univHeadToHeadRepository.deleteAllInBatch();
+        univStatRepository.saveAll(stats.values());
+        univHeadToHeadRepository.saveAll(headToHead.values());
+
+        log.info("대학 전적 재집계 완료: 경기 {}건, 집계 {}건, 상대 전적 {}건", results.size(), stats.size(), headToHead.size());
+        return results.size();
+    }
+
+    private void record(Map<String, UnivStat> stats, Long univId, Long eventId, boolean win, LocalDateTime matchDt) {
+        UnivStat stat = stats.computeIfAbsent(univId + ":" + eventId, k -> UnivStat.builder()
+                .univId(univId)
+                .eventId(eventId)
+                .winCount(0L)
+                .loseCount(0L)
+                .currentStreak(0L)
+                .bestWinStreak(0L)
+                .build());
+
+        long streak = stat.getCurrentStreak();
+        if (win) {
+            stat.setWinCount(stat.getWinCount() + 1);
+            stat.setCurrentStreak(streak > 0 ? streak + 1 : 1);
+            stat.setBestWinStreak(Math.max(stat.getBestWinStreak(), stat.getCurrentStreak()));
+        } else {
+            stat.setLoseCount(stat.getLoseCount() + 1);
+            stat.setCurrentStreak(streak < 0 ? streak - 1 : -1);
+        }
+        stat.setLastMatchDt(matchDt);
+    }
+
+    private void recordHeadToHead(Map<String, UnivHeadToHead> headToHead, Long univId, Long opponentUnivId,
+                                  boolean win, LocalDateTime matchDt) {
+        UnivHeadToHead h = headToHead.computeIfAbsent(univId + ":" + opponentUnivId, k -> UnivHeadToHead.builder()
+                .univId(univId)
+                .opponentUnivId(opponentUnivId)
+                .winCount(0L)
+                .loseCount(0L)
+                .build());
+
+        if (win) {
+            h.setWinCount(h.getWinCount() + 1);
+        } else {
+            h.setLoseCount(h.getLoseCount() + 1);
+        }
+        h.setLastMatchDt(matchDt);
+    }
+
+    private EventStatRes toRes(UnivStat stat) {
+        return EventStatRes.builder()
+                .eventId(stat.getEventId())
+                .winCount(nvl(stat.getWinCount()))
+                .loseCount(nvl(stat.getLoseCount()))
+                .currentStreak(nvl(stat.getCurrentStreak()))
+                .bestWinStreak(nvl(stat.getBestWinStreak()))
+                .build();
+    }
+
+    private static long nvl(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.gazamung.university;
+
+import java.util.*;
+
+/**
+ * 대학/학과 이름 정규화와 별칭
+ * - 대학: "가천대학교" → "가천대학교", "가천대", "가천" / "건국대학교(글로컬)" → 캠퍼스 구분 포함/제외 형태 모두
+ * - 학과: "컴퓨터공학과" → "컴퓨터공학과", "컴퓨터공학" (과/부/전공 접미사 제거)
+ * 검색어도 같은 규칙으로 펼쳐 "가천대" ↔ "가천대학교", "컴퓨터공학부" ↔ "컴퓨터공학과" 가 서로 일치한다.
+ * 첫 번째 값은 항상 원래 이름의 정규화 형태
+ */
+public final class NameAliases {
+
+    private static final String[] UNIVERSITY_SUFFIXES = {"대학교", "대학", "학교"};
+    private static final String[] DEPARTMENT_SUFFIXES = {"전공", "과", "부"};
+
+    // 영문 약칭 학교의 한글 표기
+    private static final Map<String, String> KNOWN = Map.of(
+            "kaist", "카이스트",
+            "postech", "포스텍",
+            "gist", "지스트",
+            "dgist", "디지스트",
+            "unist", "유니스트"
+    );
+
+    private NameAliases() {
+    }
+
+    /**
+     * 공백/구두점 제거, 영문 소문자
+     */
+    public static String normalize(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    public static List<String> university(String name) {
+        if (name == null) return List.of();
+        Set<String> aliases = new LinkedHashSet<>();
+        aliases.add(normalize(name));
+
+        String base = normalize(stripQualifier(name));
+        String qualifier = normalize(qualifier(name));
+        for (String stem : stems(base, UNIVERSITY_SUFFIXES, "대")) {
+            aliases.add(stem);
+            if (!qualifier.isEmpty()) aliases.add(stem + qualifier);
+        }
+        String known = KNOWN.get(base);
+        if (known != null) aliases.add(known);
+
+        aliases.remove("");
+        return List.copyOf(aliases);
+    }
+
+    public static List<String> department(String name) {
+        if (name == null) return List.of();
+        Set<String> aliases = new LinkedHashSet<>();
+        aliases.add(normalize(name));
+        aliases.addAll(stems(normalize(stripQualifier(name)), DEPARTMENT_SUFFIXES, null));
+        aliases.remove("");
+        return List.copyOf(aliases);
+    }
+
+    // 원래 형태 + 접미사를 뗀 형태 (+ 짧은 접미사를 붙인 형태)
+    private static List<String> stems(String base, String[] suffixes, String shortSuffix) {
+        List<String> stems = new ArrayList<>();
+        stems.add(base);
+        for (String suffix : suffixes) {
+            if (!base.endsWith(suffix)) continue;
+            // 접미사만 남는 이름 ("대학교", "학과") 은 그대로 둠
+            if (base.length() > suffix.length()) {
+                String stem = base.substring(0, base.length() - suffix.length());
+                if (shortSuffix != null) stems.add(stem + shortSuffix);
+                if (stem.length() >= 2) stems.add(stem);
+            }
+            break;
+        }
+        return stems;
+    }
+
+    private static String stripQualifier(String name) {
+        int open = name.indexOf('(');
+        return open < 0 ? name : name.substring(0, open);
+    }
+
+    private static String qualifier(String name) {
+        int open = name.indexOf('(');
+        int close = name.indexOf(')', open + 1);
+        return open < 0 || close < 0 ? "" : name.substring(open + 1, close);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.gazamung.university;
+
+import com.example.gazamung.autocomplete.Hangul;
+
+import java.util.*;
+
+/**
+ * 대학/학과 이름 검색 색인 (불변, 재적재 시 통째로 교체)
+ * 별칭의 글자 2-gram 역색인으로 후보를 좁힌 뒤 후보만 점수를 매긴다.
+ * - 정확히 일치 1.0 > 앞부분 일치 > 포함 > 줄임말 ("한국외대", "컴공") > 오타 (자모 단위 접두 편집 거리)
+ * - 검색어를 펼친 별칭 ("가천대학교" → "가천대") 으로 일치하면 약간 감점
+ */
+public class NameLookupIndex {
+
+    private static final int MAX_CANDIDATES = 200;
+    private static final int MAX_FUZZY_CANDIDATES = 50;
+    private static final double MIN_EDIT_SIMILARITY = 0.6;
+
+    private static final Comparator<NameMatch> ORDER = Comparator
+            .comparingDouble(NameMatch::score).reversed()
+            .thenComparingInt(match -> match.name().length())
+            .thenComparing(NameMatch::name)
+            .thenComparingLong(NameMatch::id);
+
+    /**
+     * @param aliases NameAliases 로 정규화된 이름과 별칭
+     */
+    public record Entry(long id, String name, Long univId, List<String> aliases) {
+    }
+
+    private final Entry[] entries;
+    private final String[][] aliasJamo;
+    private final Map<String, int[]> postings;
+
+    public NameLookupIndex(Collection<Entry> source) {
+        this.entries = source.toArray(new Entry[0]);
+        this.aliasJamo = new String[entries.length][];
+
+        Map<String, List<Integer>> grams = new HashMap<>();
+        for (int i = 0; i < entries.length; i++) {
+            List<String> aliases = entries[i].aliases();
+            aliasJamo[i] = new String[aliases.size()];
+            Set<String> entryGrams = new HashSet<>();
+            for (int j = 0; j < aliases.size(); j++) {
+                aliasJamo[i][j] = Hangul.jamo(aliases.get(j));
+                entryGrams.addAll(grams(aliases.get(j)));
+            }
+            for (String gram : entryGrams) {
+                grams.computeIfAbsent(gram, g -> new ArrayList<>()).add(i);
+            }
+        }
+
+        this.postings = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, list) -> postings.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * @param forms 검색어를 NameAliases 로 펼친 형태 (첫 번째가 입력 그대로)
+     * @param minScore 이 점수 미만은 제외
+     */
+    public List<NameMatch> search(List<String> forms, int limit, double minScore) {
+        if (forms.isEmpty() || forms.get(0).isEmpty()) return List.of();
+
+        // 공유 2-gram 수가 많은 순으로 후보 선정
+        Map<Integer, Integer> shared = new HashMap<>();
+        Set<String> queryGrams = new HashSet<>();
+        for (String form : forms) {
+            queryGrams.addAll(grams(form));
+        }
+        for (String gram : queryGrams) {
+            int[] list = postings.get(gram);
+            if (list == null) continue;
+            for (int i : list) {
+                shared.merge(i, 1, Integer::sum);
+            }
+        }
+        List<Map.Entry<Integer, Integer>> candidates = new ArrayList<>(shared.entrySet());
+        candidates.sort(Map.Entry.<Integer, Integer>comparingByValue().reversed());
+        if (candidates.size() > MAX_CANDIDATES) {
+            candidates = candidates.subList(0, MAX_CANDIDATES);
+        }
+
+        List<String> formJamo = null;
+        List<NameMatch> matches = new ArrayList<>();
+        for (int rank = 0; rank < candidates.size(); rank++) {
+            int i = candidates.get(rank).getKey();
+            double best = 0;
+            for (int f = 0; f < forms.size(); f++) {
+                double weight = f == 0 ? 1.0 : 0.95;
+                for (String alias : entries[i].aliases()) {
+                    best = Math.max(best, score(forms.get(f), alias) * weight);
+                }
+            }
+            // 문자열 일치가 없을 때만 공유 2-gram 상위 후보에 한해 오타 비교
+            if (best == 0 && rank < MAX_FUZZY_CANDIDATES) {
+                if (formJamo == null) formJamo = forms.stream().map(Hangul::jamo).toList();
+                for (int f = 0; f < forms.size(); f++) {
+                    double weight = f == 0 ? 1.0 : 0.95;
+                    for (String alias : aliasJamo[i]) {
+                        best = Math.max(best, fuzzyScore(formJamo.get(f), alias) * weight);
+                    }
+                }
+            }
+            if (best >= minScore) {
+                Entry entry = entries[i];
+                matches.add(new NameMatch(entry.id(), entry.name(), entry.univId(), Math.round(best * 1000) / 1000.0));
+            }
+        }
+
+        matches.sort(ORDER);
+        return matches.size() <= limit ? matches : List.copyOf(matches.subList(0, limit));
+    }
+
+    static double score(String query, String alias) {
+        if (alias.equals(query)) return 1.0;
+        double coverage = (double) query.length() / alias.length();
+        if (alias.startsWith(query)) return 0.8 + 0.15 * coverage;
+        if (alias.contains(query)) return 0.6 + 0.15 * coverage;
+        if (isAbbreviation(query, alias)) return 0.5 + 0.2 * coverage;
+        return 0;
+    }
+
+    /**
+     * 첫 글자가 같고 나머지 글자가 순서대로 들어 있으면 줄임말 ("한국외대" → "한국외국어대")
+     */
+    static boolean isAbbreviation(String query, String alias) {
+        if (query.length() < 2 || query.length() >= alias.length() || query.charAt(0) != alias.charAt(0)) return false;
+        int j = 1;
+        for (int i = 1; i < query.length(); i++) {
+            j = alias.indexOf(query.charAt(i), j) + 1;
+            if (j == 0) return false;
+        }
+        return true;
+    }
+
+    // 입력 중인 이름에 오타가 있는 경우 ("가쳔대" → "가천대학교")
+    static double fuzzyScore(String queryJamo, String aliasJamo) {
+        double similarity = 1 - (double) prefixEditDistance(queryJamo, aliasJamo) / Math.max(1, queryJamo.length());
+        return similarity >= MIN_EDIT_SIMILARITY ? 0.6 * similarity : 0;
+    }
+
+    /**
+     * query 와 target 의 앞부분 중 가장 가까운 것과의 편집 거리
+     */
+    static int prefixEditDistance(String query, String target) {
+        int[] prev = new int[target.length() + 1];
+        int[] curr = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) prev[j] = j;
+        for (int i = 1; i <= query.length(); i++) {
+            curr[0] = i;
+            for (int j = 1; j <= target.length(); j++) {
+                int cost = query.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            }
+            int[] swap = prev;
+            prev = curr;
+            curr = swap;
+        }
+        int min = Integer.MAX_VALUE;
+        for (int d : prev) min = Math.min(min, d);
+        return min;
+    }
+
+    // 앞뒤 경계를 포함한 글자 2-gram ("가천" → "^가", "가천", "천$")
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        String padded = "^" + text + "$";
+        for (int i = 0; i + 2 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.gazamung.university;
+
+/**
+ * 대학/학과 이름 검색 결과
+ * @param univId 학과가 속한 대학 (대학 검색은 null)
+ * @param score 0 ~ 1 (1: 이름 또는 별칭과 정확히 일치)
+ */
+public record NameMatch(long id, String name, Long univId, double score) {
+}
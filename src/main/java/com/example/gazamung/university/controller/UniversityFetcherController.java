@@ -1,7 +1,9 @@
 package com.example.gazamung.university.controller;
 
 
+import com.example.gazamung.autocomplete.service.AutocompleteIndexManager;
 import com.example.gazamung.regionFetcher.RegionCodeMapper;
+import com.example.gazamung.reference.service.ReferenceRegistry;
 import com.example.gazamung.university.repository.UniversityRepository;
 import com.example.gazamung.university.entity.University;
 import com.google.gson.JsonArray;
@@ -29,6 +31,8 @@ import org.springframework.web.util.UriComponentsBuilder;
 public class UniversityFetcherController {
 
     private final UniversityRepository universityRepository;
+    private final AutocompleteIndexManager autocompleteIndexManager;
+    private final ReferenceRegistry referenceRegistry;
 
     private static final String API_URL = "http://www.career.go.kr/cnet/openapi/getOpenApi.json";
 
@@ -61,6 +65,8 @@ public class UniversityFetcherController {
         try {
             String schoolInfo = fetchSchoolInfoFromAPI(finalUrl);
             saveSchoolInfoToDB(schoolInfo);
+            referenceRegistry.reload();
+            autocompleteIndexManager.reload();
             return ResponseEntity.ok().body("학교 정보를 성공적으로 저장했습니다.");
         } catch (Exception e) {
             log.error("Error occurred while saving school data to database", e);
@@ -2,9 +2,12 @@ package com.example.gazamung.university.controller;
 
 
 import com.example.gazamung._enum.ApiResponseCode;
+import com.example.gazamung.autocomplete.service.AutocompleteIndexManager;
+import com.example.gazamung.cache.ResponseSnapshots;
 import com.example.gazamung.department.entity.Department;
 import com.example.gazamung.dto.ResultDTO;
 import com.example.gazamung.exception.CustomException;
+import com.example.gazamung.reference.service.ReferenceRegistry;
 import com.example.gazamung.university.entity.University;
 import com.example.gazamung.university.repository.UniversityRepository;
 import com.example.gazamung.university.service.UniversityService;
@@ -16,9 +19,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.sql.DataSource;
 import java.io.IOException;
 import java.util.List;
@@ -34,6 +39,9 @@ public class UniversityInsertController {
     private final DataSource dataSource;
     private final UniversityService universityService;
     private final UniversityRepository universityRepository;
+    private final AutocompleteIndexManager autocompleteIndexManager;
+    private final ReferenceRegistry referenceRegistry;
+    private final ResponseSnapshots responseSnapshots;
 
 
     @Operation(summary = "대학, 학과 데이터 INSERT ", description = "" +
@@ -60,6 +68,10 @@ public class UniversityInsertController {
         // 데이터베이스에 SQL 스크립트 실행
         ResourceDatabasePopulator populator2 = new ResourceDatabasePopulator(departmentScript);
         populator2.execute(dataSource);
+
+        // 대학/학과 목록, 자동완성 색인 재적재
+        referenceRegistry.reload();
+        autocompleteIndexManager.reload();
         return "SQL 스크립트가 성공적으로 실행되었습니다.";
     }
 
@@ -74,17 +86,34 @@ public class UniversityInsertController {
     })
 
     @GetMapping("/univList")
-    public ResultDTO universityList() {
+    public ResponseEntity<?> universityList(HttpServletRequest request) {
 
         try {
-            List<University> list = universityService.universityList();
-            return ResultDTO.of(true, ApiResponseCode.CREATED.getCode(), "대학 리스트 조회 성공", list);
+            return responseSnapshots.respond(ResponseSnapshots.UNIVERSITY, "all", () ->
+                    ResultDTO.of(true, ApiResponseCode.CREATED.getCode(), "대학 리스트 조회 성공", universityService.universityList()), request);
         } catch (CustomException e) {
-            return ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null);
+            return ResponseEntity.ok(ResultDTO.of(false, e.getCustomErrorCode().getStatusCode(), e.getDetailMessage(), null));
 
         }
     }
 
+    @Operation(summary = "대학 이름 검색", description = "" +
+            "\n입력한 이름과 비슷한 대학을 점수순으로 조회합니다. (회원가입 대학 선택용)" +
+            "\n- 줄임말(가천대 ↔ 가천대학교, 한국외대), 캠퍼스 구분(건국대 글로컬), 오타(가쳔대) 허용" +
+            "\n- score: 0 ~ 1 (1: 이름 또는 별칭과 정확히 일치)" +
+            "\n### HTTP STATUS 에 따른 조회 결과" +
+            "\n- 200: 서버요청 정상 성공 " +
+            "\n- 500: 서버에서 요청 처리중 문제가 발생")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "서버 요청 성공"),
+    })
+    @GetMapping("/search")
+    public ResultDTO searchUniversity(@RequestParam String query,
+                                      @RequestParam(defaultValue = "10") int size) {
+        return ResultDTO.of(true, ApiResponseCode.SUCCESS.getCode(), "대학 검색 성공",
+                universityService.searchUniversity(query, Math.max(1, size)));
+    }
+
     @Operation(summary = "대학 로고 UPDATE ", description = "" +
             "\n### HTTP STATUS 에 따른 조회 결과" +
             "\n- 200: 서버요청 정상 성공 " +
@@ -113,6 +142,7 @@ public class UniversityInsertController {
         }
         // 변경된 내용 저장
         universityRepository.saveAll(universities);
+        referenceRegistry.reload();
 
         return "Successfully updated logo image URLs.";
     }
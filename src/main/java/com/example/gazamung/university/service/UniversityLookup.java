@@ -0,0 +1,88 @@
+package com.example.gazamung.university.service;
+
+import com.example.gazamung.department.entity.Department;
+import com.example.gazamung.reference.ReferenceData;
+import com.example.gazamung.reference.ReferenceListener;
+import com.example.gazamung.university.NameAliases;
+import com.example.gazamung.university.NameLookupIndex;
+import com.example.gazamung.university.NameMatch;
+import com.example.gazamung.university.entity.University;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 대학/학과 이름 검색 색인
+ * ReferenceRegistry 가 기준 정보 스냅샷을 교체할 때마다 새 스냅샷으로 색인을 다시 만든다.
+ */
+@Component
+@Slf4j
+public class UniversityLookup implements ReferenceListener {
+
+    private final double minScore;
+
+    private record Snapshot(Map<Long, String> shortNames,
+                            NameLookupIndex universityIndex,
+                            Map<Long, NameLookupIndex> departmentIndexes) {
+    }
+
+    private volatile Snapshot snapshot;
+
+    public UniversityLookup(@Value("${lookup.min-score:0.4}") double minScore) {
+        this.minScore = minScore;
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    @Override
+    public void reloaded(ReferenceData data) {
+        Map<Long, String> shortNames = new HashMap<>();
+        List<NameLookupIndex.Entry> universityEntries = new ArrayList<>(data.universities().size());
+        for (University university : data.universities()) {
+            if (university.getSchoolName() == null) continue;
+            // "대학교" → "대" (가천대학교 → 가천대)
+            shortNames.put(university.getId(), university.getSchoolName().replace("학교", "").trim());
+            universityEntries.add(new NameLookupIndex.Entry(university.getId(), university.getSchoolName(), null,
+                    NameAliases.university(university.getSchoolName())));
+        }
+
+        Map<Long, List<NameLookupIndex.Entry>> departmentEntries = new HashMap<>();
+        for (Department department : data.departments()) {
+            if (department.getUnivId() == null || department.getDeptName() == null) continue;
+            departmentEntries.computeIfAbsent(department.getUnivId(), id -> new ArrayList<>())
+                    .add(new NameLookupIndex.Entry(department.getDeptId(), department.getDeptName(), department.getUnivId(),
+                            NameAliases.department(department.getDeptName())));
+        }
+        Map<Long, NameLookupIndex> departmentIndexes = new HashMap<>();
+        departmentEntries.forEach((univId, entries) -> departmentIndexes.put(univId, new NameLookupIndex(entries)));
+
+        snapshot = new Snapshot(shortNames, new NameLookupIndex(universityEntries), departmentIndexes);
+        log.info("대학/학과 이름 색인 갱신 (v{})", data.version());
+    }
+
+    /**
+     * "가천대학교" → "가천대"
+     */
+    public String shortName(University university) {
+        Snapshot current = snapshot;
+        String shortName = current == null ? null : current.shortNames().get(university.getId());
+        return shortName != null ? shortName : university.getSchoolName().replace("학교", "").trim();
+    }
+
+    public List<NameMatch> searchUniversity(String query, int size) {
+        Snapshot current = snapshot;
+        if (current == null) return List.of();
+        return current.universityIndex().search(NameAliases.university(query), size, minScore);
+    }
+
+    public List<NameMatch> searchDepartment(Long univId, String query, int size) {
+        Snapshot current = snapshot;
+        NameLookupIndex index = current == null ? null : current.departmentIndexes().get(univId);
+        if (index == null) return List.of();
+        return index.search(NameAliases.department(query), size, minScore);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.gazamung.university.service;
 
 import com.example.gazamung.department.entity.Department;
+import com.example.gazamung.university.NameMatch;
 import com.example.gazamung.university.entity.University;
 import org.springframework.stereotype.Service;
 
@@ -14,4 +15,8 @@ public interface UniversityService {
     List<Department> departmentList();
 
     List<Department> matchDeptList(Long univId);
+
+    List<NameMatch> searchUniversity(String query, int size);
+
+    List<NameMatch> searchDepartment(Long univId, String query, int size);
 }
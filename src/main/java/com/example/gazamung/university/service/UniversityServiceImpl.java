@@ -1,13 +1,14 @@
 package com.example.gazamung.university.service;
 
 import com.example.gazamung.department.entity.Department;
-import com.example.gazamung.department.repository.DepartmentRepository;
+import com.example.gazamung.reference.service.ReferenceRegistry;
+import com.example.gazamung.university.NameMatch;
 import com.example.gazamung.university.entity.University;
-import com.example.gazamung.university.repository.UniversityRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -15,27 +16,39 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UniversityServiceImpl implements  UniversityService{
 
-    private final UniversityRepository universityRepository;
-    private final DepartmentRepository departmentRepository;
+    private final UniversityLookup universityLookup;
+    private final ReferenceRegistry referenceRegistry;
 
 
     @Override
     public List<University> universityList() {
 
 
-        return universityRepository.findAll();
+        return referenceRegistry.current().universities();
     }
 
     @Override
     public List<Department> departmentList() {
 
-        return departmentRepository.findAll();
+        return referenceRegistry.current().departments();
     }
 
     @Override
     public List<Department> matchDeptList(Long univId) {
 
-        return departmentRepository.findByUnivId(univId);
+        return referenceRegistry.current().departments(univId);
+    }
+
+    @Override
+    public List<NameMatch> searchUniversity(String query, int size) {
+
+        return universityLookup.searchUniversity(query, size);
+    }
+
+    @Override
+    public List<NameMatch> searchDepartment(Long univId, String query, int size) {
+
+        return universityLookup.searchDepartment(univId, query, size);
     }
 
 
@@ -48,14 +61,18 @@ public class UniversityServiceImpl implements  UniversityService{
      */
     public List<University> findAllWithoutWord(List<University> universities) {
 
+        // 적재 시 미리 줄여 둔 이름으로 복사본을 만들어 반환 (캐시된 엔티티는 바꾸지 않음)
+        List<University> result = new ArrayList<>(universities.size());
         for (University university : universities) {
-            String schoolName = university.getSchoolName();
-            // "대학교"라는 단어를 제거
-            schoolName = schoolName.replace("학교", "");
-            // 공백을 제거하고 리스트에 다시 설정
-            university.setSchoolName(schoolName.trim());
+            result.add(University.builder()
+                    .id(university.getId())
+                    .schoolName(universityLookup.shortName(university))
+                    .region(university.getRegion())
+                    .regionCode(university.getRegionCode())
+                    .logoImg(university.getLogoImg())
+                    .build());
         }
-        return universities;
+        return result;
     }
 
 }
@@ -1,4 +1,69 @@
+
 CREATE SEQUENCE RANK_SEQ
     START WITH 1
     INCREMENT BY 1
-    NOCACHE;
+    CACHE 20;
+
+-- 기존 DB 는 NOCACHE 로 생성되어 있으므로 아래 구문으로 변경
+-- ALTER SEQUENCE RANK_SEQ CACHE 20;
+
+-- (대학, 과, 종목) 당 랭크는 하나 (대학 랭크는 dept_id 가 NULL)
+-- upsertUnivRating / upsertDeptRating (RankMapper.xml MERGE) 의 동시 생성 방지용
+ALTER TABLE rank ADD CONSTRAINT UK_RANK_UNIV_DEPT_EVENT UNIQUE (univ_id, dept_id, event_id);
+
+-- 레이팅 엔진 (Elo / Glicko-2) 값, 기존 rank_point 는 다른 척도라 옮기지 않음
+-- 레이팅이 없는 행이 있으면 서버 시작 시 전체 이력으로 재계산 (RankServiceImpl.recomputeLegacyRatings, 수동은 /api/v1/rank/recompute)
+ALTER TABLE rank ADD (rating NUMBER, rating_deviation NUMBER, rating_volatility NUMBER);
+
+-- 대항전 목록 키셋 페이지네이션 (상태 → 생성일 → ID 역순)
+CREATE INDEX IDX_UNIV_BATTLE_STATUS_REG ON univ_battle (match_status, reg_dt, univ_battle_id);
+CREATE INDEX IDX_DEPT_BATTLE_STATUS_REG ON dept_battle (univ_id, match_status, reg_dt, dept_battle_id);
+
+-- 내 주변 검색용 숫자 좌표 (저장 시 lat/lng 문자열에서 변환)
+ALTER TABLE univ_battle ADD (latitude NUMBER(9, 6), longitude NUMBER(9, 6));
+ALTER TABLE univ_board ADD (latitude NUMBER(9, 6), longitude NUMBER(9, 6));
+-- 용병 모집글 경기 일시 (match_dt 문자열에서 변환, 경기일이 지난 글은 주변 검색에서 제외)
+ALTER TABLE univ_board ADD (match_at TIMESTAMP);
+CREATE INDEX IDX_UNIV_BOARD_CATEGORY_MATCH_AT ON univ_board (category_id, match_at);
+-- 기존 행 변환
+-- UPDATE univ_battle SET latitude = TO_NUMBER(lat DEFAULT NULL ON CONVERSION ERROR), longitude = TO_NUMBER(lng DEFAULT NULL ON CONVERSION ERROR);
+-- UPDATE univ_board SET latitude = TO_NUMBER(lat DEFAULT NULL ON CONVERSION ERROR), longitude = TO_NUMBER(lng DEFAULT NULL ON CONVERSION ERROR);
+
+-- 대항전 일정 (battle_date 문자열에서 변환, 시작 전 알림 예약용)
+ALTER TABLE univ_battle ADD (battle_at TIMESTAMP);
+CREATE INDEX IDX_UNIV_BATTLE_BATTLE_AT ON univ_battle (battle_at);
+
+-- 초대 코드 참가 (코드 → 대항전 단건 조회), 생성 전 중복 코드가 있으면 NULL 로 정리 후 실행
+CREATE UNIQUE INDEX UK_UNIV_BATTLE_INVITATION_CODE ON univ_battle (invitation_code);
+CREATE UNIQUE INDEX UK_DEPT_BATTLE_INVITATION_CODE ON dept_battle (invitation_code);
+
+-- 대학 전적 집계 (종목별 + 전체 종목 event_id = -1, 상대 대학별), 기존 경기는 /api/v1/univStats/rebuild 로 채움
+CREATE SEQUENCE univ_stat_sequence START WITH 1 INCREMENT BY 1;
+CREATE SEQUENCE univ_h2h_sequence START WITH 1 INCREMENT BY 1;
+
+-- 대학 경기 기록 키셋 페이지네이션 (승/패 쪽 각각 범위 조회)
+CREATE INDEX IDX_UNIV_BATTLE_WIN_UNIV ON univ_battle (win_univ, univ_battle_id);
+CREATE INDEX IDX_UNIV_BATTLE_LOSE_UNIV ON univ_battle (lose_univ, univ_battle_id);
+
+-- 대학 토너먼트 (싱글/더블 엘리미네이션, 조별 리그), 각 경기는 univ_battle 로 진행
+CREATE SEQUENCE tournament_sequence START WITH 1 INCREMENT BY 1;
+CREATE SEQUENCE tournament_entry_sequence START WITH 1 INCREMENT BY 1;
+CREATE SEQUENCE tournament_match_sequence START WITH 1 INCREMENT BY 1;
+-- 대항전 생성 실패 경기 재시도 (TournamentServiceImpl.retryOpenBattles)
+CREATE INDEX IDX_TOURNAMENT_MATCH_STATUS ON tournament_match (status);
+-- 조별 리그 무승부 (양 팀 승점 1)
+ALTER TABLE tournament_entry ADD (draws NUMBER(10) DEFAULT 0 NOT NULL);
+
+-- 게시글 댓글 키셋 페이지네이션, 댓글 수 유지 (목록에서 COUNT 하지 않음)
+CREATE INDEX IDX_REPLY_BOARD_ID ON reply (univ_board_id, reply_id);
+ALTER TABLE univ_board ADD (reply_count NUMBER DEFAULT 0 NOT NULL);
+-- 기존 게시글 댓글 수 채우기 (컬럼 추가와 함께 실행해야 목록의 댓글 수가 0 으로 보이지 않음)
+UPDATE univ_board b SET reply_count = (SELECT COUNT(*) FROM reply r WHERE r.univ_board_id = b.univ_board_id);
+
+-- 댓글/게시글 비속어 검수 상태 (PENDING 저장 후 검수 큐에서 PUBLISHED / REDACTED / REJECTED 로 변경), 기존 행은 게시 상태
+ALTER TABLE reply ADD (moderation_status VARCHAR2(20) DEFAULT 'PUBLISHED');
+ALTER TABLE univ_board ADD (moderation_status VARCHAR2(20) DEFAULT 'PUBLISHED');
+
+-- 게시글 조회 수 (인기 게시글 집계 주기마다 증가), 최근 학교 게시판 글 조회 (서버 시작 시 인기 점수 적재)
+ALTER TABLE univ_board ADD (view_count NUMBER DEFAULT 0 NOT NULL);
+CREATE INDEX IDX_UNIV_BOARD_REG_DT ON univ_board (reg_dt);
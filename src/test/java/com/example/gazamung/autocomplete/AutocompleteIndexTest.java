@@ -0,0 +1,89 @@
+package com.example.gazamung.autocomplete;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutocompleteIndexTest {
+
+    private static AutocompleteItem univ(long id, String name, long popularity) {
+        return new AutocompleteItem(AutocompleteType.UNIVERSITY, id, name, null, popularity);
+    }
+
+    private static List<Long> ids(List<AutocompleteItem> items) {
+        return items.stream().map(AutocompleteItem::id).collect(Collectors.toList());
+    }
+
+    private final AutocompleteIndex index = AutocompleteIndex.build(List.of(
+            univ(1, "서울대학교", 100),
+            univ(2, "서울시립대학교", 50),
+            univ(3, "한국 외국어 대학교", 70),
+            univ(4, "서강대학교", 80)), 3);
+
+    @Test
+    void matchesPrefixByPopularity() {
+        assertEquals(List.of(1L, 4L, 2L), ids(index.search("서", 10)));
+        assertEquals(List.of(1L, 2L), ids(index.search("서울", 10)));
+        assertEquals(List.of(1L), ids(index.search("서울", 1)));
+        assertTrue(index.search("부산", 10).isEmpty());
+    }
+
+    @Test
+    void matchesSyllableBeingTyped() {
+        // "서울" 입력 중 "서우", "성" 단계
+        assertEquals(List.of(1L, 2L), ids(index.search("서우", 10)));
+        assertEquals(List.of(1L, 2L), ids(index.search("성", 10)));
+    }
+
+    @Test
+    void matchesChosungAndWordStart() {
+        assertEquals(List.of(1L, 2L), ids(index.search("ㅅㅇ", 10)));
+        assertEquals(List.of(3L), ids(index.search("외국어", 10)));
+        assertEquals(List.of(3L), ids(index.search("한국외", 10)));
+        assertEquals(List.of(3L), ids(index.search("ㄷㅎㄱ", 10)));
+    }
+
+    @Test
+    void getFindsItemOutsideTopK() {
+        AutocompleteIndex small = AutocompleteIndex.build(List.of(
+                univ(1, "서울대학교", 100),
+                univ(2, "서울시립대학교", 50)), 1);
+        assertEquals(List.of(1L), ids(small.search("서울", 10)));
+        assertEquals(50L, small.get(2).popularity());
+        assertNull(small.get(3));
+
+        small.remove(2);
+        assertNull(small.get(2));
+    }
+
+    @Test
+    void incrementalUpdatesMatchRebuild() {
+        Random random = new Random(7);
+        String[] words = {"서울", "서강", "한국", "공과", "체육", "대학교", "축구", "농구", "동아리"};
+        List<AutocompleteItem> items = new ArrayList<>();
+        AutocompleteIndex incremental = new AutocompleteIndex(5);
+        for (int i = 0; i < 300; i++) {
+            String name = words[random.nextInt(words.length)] + words[random.nextInt(words.length)];
+            AutocompleteItem item = univ(i % 100, name, random.nextInt(50));
+            items.removeIf(existing -> existing.id() == item.id());
+            items.add(item);
+            incremental.put(item);
+            if (i % 7 == 0) {
+                long removed = random.nextInt(100);
+                items.removeIf(existing -> existing.id() == removed);
+                incremental.remove(removed);
+            }
+        }
+
+        AutocompleteIndex rebuilt = AutocompleteIndex.build(items, 5);
+        assertEquals(rebuilt.size(), incremental.size());
+        for (String query : List.of("서", "서울", "ㅅ", "ㄷㅎ", "한국공", "축", "농구동", "대학교")) {
+            assertEquals(rebuilt.search(query, 5), incremental.search(query, 5), query);
+        }
+    }
+}
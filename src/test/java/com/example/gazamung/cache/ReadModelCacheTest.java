@@ -0,0 +1,114 @@
+package com.example.gazamung.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadModelCacheTest {
+
+    @Test
+    void concurrentMissesForSameKeyLoadOnce() throws Exception {
+        ReadModelCache<String, Integer> cache = new ReadModelCache<>("test", 10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("feed", key -> {
+                        loads.incrementAndGet();
+                        sleep(200);
+                        return 7;
+                    });
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(7, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(15, cache.stats().getCoalesced());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void waitersReceiveLoaderException() throws Exception {
+        ReadModelCache<String, Integer> cache = new ReadModelCache<>("test", 10, Duration.ofMinutes(1));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("feed", key -> {
+                        sleep(200);
+                        throw new IllegalStateException("db down");
+                    });
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> result : results) {
+                ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+            }
+            // 실패한 로딩은 남지 않음
+            assertEquals(1, cache.get("feed", key -> 1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void invalidateDuringLoadStartsNewLoad() throws Exception {
+        ReadModelCache<String, Integer> cache = new ReadModelCache<>("test", 10, Duration.ofMinutes(1));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> stale = executor.submit(() -> cache.get("feed", key -> {
+                loading.countDown();
+                await(release);
+                return 1;
+            }));
+            loading.await();
+
+            cache.invalidate("feed");
+            assertEquals(2, cache.get("feed", key -> 2));
+
+            release.countDown();
+            assertEquals(1, stale.get(5, TimeUnit.SECONDS));
+            assertEquals(2, cache.get("feed", key -> 3));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.gazamung.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseSnapshotTest {
+
+    private static byte[] json(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void etagDependsOnlyOnContent() {
+        ResponseSnapshot first = ResponseSnapshot.of(json("{\"data\":[1,2,3]}"));
+        ResponseSnapshot rebuilt = ResponseSnapshot.of(json("{\"data\":[1,2,3]}"));
+        ResponseSnapshot changed = ResponseSnapshot.of(json("{\"data\":[1,2]}"));
+
+        assertEquals(first.etag(), rebuilt.etag());
+        assertNotEquals(first.etag(), changed.etag());
+        assertTrue(first.etag().startsWith("\"") && first.etag().endsWith("\""));
+    }
+
+    @Test
+    void gzipBodyInflatesToJson() throws Exception {
+        byte[] body = json("{\"data\":\"" + "학과".repeat(1000) + "\"}");
+        ResponseSnapshot snapshot = ResponseSnapshot.of(body);
+
+        assertTrue(snapshot.gzip().length < body.length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(snapshot.gzip()))) {
+            assertArrayEquals(body, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void matchesIfNoneMatchForms() {
+        ResponseSnapshot snapshot = ResponseSnapshot.of(json("{}"));
+        String etag = snapshot.etag();
+
+        assertTrue(snapshot.matches(etag));
+        assertTrue(snapshot.matches("W/" + etag));
+        assertTrue(snapshot.matches("\"other\", " + etag));
+        assertTrue(snapshot.matches("*"));
+        assertFalse(snapshot.matches("\"other\""));
+        assertFalse(snapshot.matches(null));
+    }
+
+    @Test
+    void gzipBodyHasItsOwnStrongEtag() {
+        ResponseSnapshot snapshot = ResponseSnapshot.of(json("{}"));
+        String etag = snapshot.etag();
+        String gzipEtag = snapshot.gzipEtag();
+
+        assertEquals(etag.substring(0, etag.length() - 1) + "-gz\"", gzipEtag);
+        assertTrue(snapshot.matches(etag));
+        assertTrue(snapshot.matches(gzipEtag));
+        assertTrue(snapshot.matches("W/" + gzipEtag));
+        assertFalse(ResponseSnapshot.of(json("{\"data\":1}")).matches(gzipEtag));
+    }
+
+    @Test
+    void acceptsGzipHonorsQuality() {
+        assertTrue(ResponseSnapshots.acceptsGzip("gzip, deflate, br"));
+        assertTrue(ResponseSnapshots.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(ResponseSnapshots.acceptsGzip("*"));
+        assertFalse(ResponseSnapshots.acceptsGzip("gzip;q=0"));
+        assertFalse(ResponseSnapshots.acceptsGzip("gzip; q=0.000, *"));
+        assertFalse(ResponseSnapshots.acceptsGzip("*;q=0"));
+        assertFalse(ResponseSnapshots.acceptsGzip("deflate, br"));
+        assertFalse(ResponseSnapshots.acceptsGzip("identity"));
+        assertFalse(ResponseSnapshots.acceptsGzip(null));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.gazamung.moderation;
+
+import com.example.gazamung._enum.ModerationStatus;
+import com.example.gazamung.moderation.dto.ModerationEvent;
+import com.example.gazamung.profanity.ProfanityFilter;
+import com.example.gazamung.reply.entity.Reply;
+import com.example.gazamung.reply.repository.ReplyRepository;
+import com.example.gazamung.univBoard.repository.UnivBoardRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ModerationProcessorTest {
+
+    private final ReplyRepository replyRepository = mock(ReplyRepository.class);
+    private final UnivBoardRepository univBoardRepository = mock(UnivBoardRepository.class);
+    private final ProfanityFilter profanityFilter = mock(ProfanityFilter.class);
+    private final ModerationProcessor processor = new ModerationProcessor(replyRepository, univBoardRepository,
+            profanityFilter, mock(PlatformTransactionManager.class));
+
+    @Test
+    void replyCountOnlyIncludesRepliesThisBatchUpdated() {
+        when(replyRepository.findAllById(anyIterable())).thenReturn(List.of(reply(1L), reply(2L), reply(3L)));
+        when(profanityFilter.classify(anyString())).thenReturn("");
+        when(replyRepository.moderate(anyLong(), any(), anyString(), eq(ModerationStatus.PENDING))).thenReturn(1);
+        // 댓글 2 는 다른 작업이 먼저 반영함
+        when(replyRepository.moderate(eq(2L), any(), anyString(), eq(ModerationStatus.PENDING))).thenReturn(0);
+
+        List<ModerationEvent> events = processor.process(List.of(task(1L), task(2L), task(3L)));
+
+        assertEquals(List.of(1L, 3L), events.stream().map(ModerationEvent::getId).sorted().toList());
+        verify(univBoardRepository).addReplyCount(10L, 2L);
+        verifyNoMoreInteractions(univBoardRepository);
+    }
+
+    @Test
+    void replyCountIsNotTouchedWhenNothingWasUpdated() {
+        when(replyRepository.findAllById(anyIterable())).thenReturn(List.of(reply(1L)));
+        when(profanityFilter.classify(anyString())).thenReturn("");
+        when(replyRepository.moderate(anyLong(), any(), anyString(), any())).thenReturn(0);
+
+        assertTrue(processor.process(List.of(task(1L))).isEmpty());
+        verify(univBoardRepository, never()).addReplyCount(anyLong(), anyLong());
+    }
+
+    private static ModerationTask task(Long replyId) {
+        return new ModerationTask(ModerationTarget.REPLY, replyId, System.currentTimeMillis());
+    }
+
+    private static Reply reply(Long replyId) {
+        return Reply.builder()
+                .replyId(replyId)
+                .univBoardId(10L)
+                .memberIdx(100L)
+                .content("댓글 " + replyId)
+                .moderationStatus(ModerationStatus.PENDING)
+                .build();
+    }
+}
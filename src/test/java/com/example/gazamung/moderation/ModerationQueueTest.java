@@ -0,0 +1,83 @@
+package com.example.gazamung.moderation;
+
+import com.example.gazamung._enum.ModerationStatus;
+import com.example.gazamung.reply.repository.ReplyRepository;
+import com.example.gazamung.univBoard.repository.UnivBoardRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ModerationQueueTest {
+
+    private final ModerationProcessor processor = mock(ModerationProcessor.class);
+    private final ReplyRepository replyRepository = mock(ReplyRepository.class);
+    private final UnivBoardRepository univBoardRepository = mock(UnivBoardRepository.class);
+
+    private ModerationQueue queue() {
+        return new ModerationQueue(processor, mock(ModerationEventBroker.class), List.of(),
+                replyRepository, univBoardRepository, 1, 50);
+    }
+
+    @Test
+    void queuedItemIsNotSubmittedTwice() {
+        ModerationQueue queue = queue();
+        when(replyRepository.findIdsByModerationStatus(ModerationStatus.PENDING)).thenReturn(List.of(1L, 2L));
+        when(univBoardRepository.findIdsByModerationStatus(ModerationStatus.PENDING)).thenReturn(List.of(1L));
+
+        queue.submit(ModerationTarget.REPLY, 1L);
+        queue.submit(ModerationTarget.REPLY, 1L);
+        assertEquals(1, queue.stats().getBacklog());
+
+        // 이미 큐에 있는 댓글 1 은 건너뛰고, 같은 id 의 게시글은 따로 등록
+        queue.recover();
+        queue.recover();
+        assertEquals(3, queue.stats().getBacklog());
+        assertEquals(3, queue.stats().getSubmitted());
+    }
+
+    @Test
+    void recoverSkipsItemsInFlight() throws Exception {
+        ModerationQueue queue = queue();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(processor.process(anyList())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        when(replyRepository.findIdsByModerationStatus(ModerationStatus.PENDING)).thenReturn(List.of(1L));
+        when(univBoardRepository.findIdsByModerationStatus(ModerationStatus.PENDING)).thenReturn(List.of());
+
+        queue.start();
+        try {
+            queue.submit(ModerationTarget.REPLY, 1L);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // 처리 중에는 아직 검수 대기 상태로 조회되지만 다시 등록하지 않음
+            queue.recover();
+            assertEquals(0, queue.stats().getBacklog());
+            assertEquals(1, queue.stats().getInFlight());
+
+            release.countDown();
+            long deadline = System.currentTimeMillis() + 5000;
+            while (queue.stats().getInFlight() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, queue.stats().getInFlight());
+
+            // 처리가 끝났는데도 검수 대기 상태면 (배치 실패 등) 다시 등록
+            queue.recover();
+            assertEquals(2, queue.stats().getSubmitted());
+            verify(replyRepository, times(2)).findIdsByModerationStatus(ModerationStatus.PENDING);
+        } finally {
+            release.countDown();
+            queue.shutdown();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.gazamung.profanity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfanityFilterTest {
+
+    private HttpServer server;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @AfterEach
+    void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void dictionaryMatchesThroughInsertedCharactersAndSkipsAllowedWords() {
+        ProfanityDictionary dictionary = new ProfanityDictionary(List.of("시발", "병신", "!시발점"));
+
+        assertTrue(dictionary.contains(TextNormalizer.compact("시 1 발")));
+        assertTrue(dictionary.contains(TextNormalizer.compact("이 병.신아")));
+        assertFalse(dictionary.contains(TextNormalizer.compact("여기가 시발점이다")));
+        assertFalse(dictionary.contains(TextNormalizer.compact("좋은 경기였습니다")));
+    }
+
+    @Test
+    void dictionaryDoesNotMatchAcrossWordBoundaries() {
+        ProfanityDictionary dictionary = new ProfanityDictionary(List.of("시발", "존나"));
+
+        assertFalse(dictionary.contains(TextNormalizer.compact("혹시 발표 자료 있나요")));
+        assertFalse(dictionary.contains(TextNormalizer.compact("다시 발견했어요")));
+        assertFalse(dictionary.contains(TextNormalizer.compact("당시 발생한 일")));
+        assertFalse(dictionary.contains(TextNormalizer.compact("자료 보존 나중에 할게요")));
+        // 한 글자씩 띄운 우회는 붙여서 검사
+        assertTrue(dictionary.contains(TextNormalizer.compact("존 나 좋네")));
+    }
+
+    @Test
+    void ahoCorasickFindsOverlappingPatterns() {
+        AhoCorasick matcher = new AhoCorasick(List.of("he", "she", "hers", "his"));
+        List<AhoCorasick.Match> matches = matcher.findAll("ushers");
+
+        assertEquals(3, matches.size());
+        assertTrue(matches.contains(new AhoCorasick.Match(1, 4, 1)));
+        assertTrue(matches.contains(new AhoCorasick.Match(2, 4, 0)));
+        assertTrue(matches.contains(new AhoCorasick.Match(2, 6, 2)));
+    }
+
+    @Test
+    void modelVerdictIsCachedByNormalizedText() throws IOException {
+        ProfanityFilter filter = filter(stub(0, "{\"None\": 0.1, \"악플/욕설\": 0.9}"), 1000);
+
+        assertEquals("악플/욕설 비속어 필터링 되었습니다.", filter.filter("너 정말 별로야"));
+        assertEquals("악플/욕설 비속어 필터링 되었습니다.", filter.filter("  너   정말 별로야 "));
+        assertEquals(1, calls.get());
+        assertEquals(1, filter.stats().getCacheHits());
+    }
+
+    @Test
+    void dictionaryHitDoesNotCallModel() throws IOException {
+        ProfanityFilter filter = filter(stub(0, "{\"None\": 1.0}"), 1000);
+
+        assertEquals("욕설 비속어 필터링 되었습니다.", filter.filter("씨 발"));
+        assertEquals("욕설", filter.classify("씨발"));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void slowModelTimesOutAndOpensBreaker() throws IOException {
+        ProfanityFilter filter = filter(stub(1000, "{\"None\": 1.0}"), 100);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("댓글 " + i, filter.filter("댓글 " + i));
+        }
+        // 연속 실패 3회 후 사전만 사용
+        ProfanityStats stats = filter.stats();
+        assertEquals(3, stats.getModelFailures());
+        assertEquals(2, stats.getModelSkipped());
+        assertEquals("OPEN", stats.getBreakerState());
+    }
+
+    private ProfanityFilter filter(String url, int timeoutMs) {
+        return new ProfanityFilter(
+                new ProfanityDictionary(List.of("시발", "씨발")),
+                new VerdictCache(100),
+                new CircuitBreaker(3, 60_000),
+                new ProfanityModelClient(url, timeoutMs, 0.5, new ObjectMapper()));
+    }
+
+    /**
+     * 로컬 모델 대역 서버
+     */
+    private String stub(long delayMs, String response) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/predict", exchange -> {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = response.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/predict";
+    }
+}
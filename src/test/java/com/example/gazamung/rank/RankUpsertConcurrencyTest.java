@@ -0,0 +1,67 @@
+package com.example.gazamung.rank;
+
+import com.example.gazamung.rank.service.RankService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class RankUpsertConcurrencyTest {
+
+    // 실제 데이터와 겹치지 않는 테스트용 종목/대학 ID
+    private static final long EVENT_ID = -9001L;
+    private static final long WIN_UNIV = -9101L;
+    private static final long LOSE_UNIV = -9102L;
+
+    @Autowired
+    private RankService rankService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM rank WHERE event_id = ?", EVENT_ID);
+    }
+
+    @Test
+    void concurrentResultsForNewRankCreateSingleRow() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                rankService.applyUnivResult(EVENT_ID, WIN_UNIV, LOSE_UNIV, 1L);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(1, count(WIN_UNIV));
+        assertEquals(1, count(LOSE_UNIV));
+        assertEquals((long) threads, jdbcTemplate.queryForObject(
+                "SELECT win_count FROM rank WHERE univ_id = ? AND dept_id IS NULL AND event_id = ?", Long.class, WIN_UNIV, EVENT_ID));
+        assertEquals((long) threads, jdbcTemplate.queryForObject(
+                "SELECT lose_count FROM rank WHERE univ_id = ? AND dept_id IS NULL AND event_id = ?", Long.class, LOSE_UNIV, EVENT_ID));
+    }
+
+    private int count(long univId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM rank WHERE univ_id = ? AND dept_id IS NULL AND event_id = ?", Integer.class, univId, EVENT_ID);
+    }
+}
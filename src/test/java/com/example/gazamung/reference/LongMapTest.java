@@ -0,0 +1,54 @@
+package com.example.gazamung.reference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongMapTest {
+
+    @Test
+    void getsEveryPutKey() {
+        LongMap.Builder<String> builder = LongMap.builder(1000);
+        for (long id = 1; id <= 1000; id++) {
+            builder.put(id, "v" + id);
+        }
+        LongMap<String> map = builder.build();
+
+        assertEquals(1000, map.size());
+        for (long id = 1; id <= 1000; id++) {
+            assertEquals("v" + id, map.get(id));
+        }
+        assertNull(map.get(0L));
+        assertNull(map.get(1001L));
+        assertNull(map.get((Long) null));
+    }
+
+    @Test
+    void laterPutOverwrites() {
+        LongMap<String> map = LongMap.<String>builder(2)
+                .put(7L, "old")
+                .put(7L, "new")
+                .build();
+
+        assertEquals(1, map.size());
+        assertEquals("new", map.get(7L));
+    }
+
+    @Test
+    void builtMapIsNotAffectedByLaterPuts() {
+        LongMap.Builder<String> builder = LongMap.<String>builder(4).put(1L, "a");
+        LongMap<String> map = builder.build();
+        builder.put(2L, "b");
+
+        assertNull(map.get(2L));
+    }
+
+    @Test
+    void rejectsMoreKeysThanCapacity() {
+        LongMap.Builder<String> builder = LongMap.builder(4);
+        for (long id = 0; id < 4; id++) {
+            builder.put(id, "v");
+        }
+        assertThrows(IllegalStateException.class, () -> builder.put(4L, "v"));
+    }
+}
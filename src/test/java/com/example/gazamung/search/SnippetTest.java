@@ -0,0 +1,70 @@
+package com.example.gazamung.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnippetTest {
+
+    private static String highlighted(Snippet snippet, int index) {
+        Highlight highlight = snippet.highlights().get(index);
+        return snippet.text().substring(highlight.start(), highlight.end());
+    }
+
+    @Test
+    void shortTextIsKeptWhole() {
+        Snippet snippet = Snippet.around("주말 풋살 같이 하실 분", 0, 13, "풋살", 80);
+
+        assertEquals("주말 풋살 같이 하실 분", snippet.text());
+        assertEquals(List.of(new Highlight(3, 5)), snippet.highlights());
+    }
+
+    @Test
+    void longTextIsCutAroundFirstMatch() {
+        String content = "가".repeat(300) + " 농구 모집합니다 " + "나".repeat(300);
+        Snippet snippet = Snippet.around(content, 0, content.length(), "농구", 40);
+
+        assertTrue(snippet.text().startsWith(Snippet.ELLIPSIS));
+        assertTrue(snippet.text().endsWith(Snippet.ELLIPSIS));
+        assertTrue(snippet.text().length() <= 40 + 2 * Snippet.ELLIPSIS.length());
+        assertEquals("농구", highlighted(snippet, 0));
+    }
+
+    @Test
+    void windowFromDatabaseKeepsEllipsisAtOriginalEdges() {
+        // 원문 1000자 중 200번째부터 잘라 온 구간
+        String window = "배드민턴 동아리 신입 모집";
+        Snippet snippet = Snippet.around(window, 200, 1000, "동아리", 80);
+
+        assertEquals(Snippet.ELLIPSIS + window + Snippet.ELLIPSIS, snippet.text());
+        assertEquals("동아리", highlighted(snippet, 0));
+    }
+
+    @Test
+    void highlightsEveryMatchIgnoringCase() {
+        Snippet snippet = Snippet.of("Futsal league - futsal", "FUTSAL");
+
+        assertEquals(2, snippet.highlights().size());
+        assertEquals("Futsal", highlighted(snippet, 0));
+        assertEquals("futsal", highlighted(snippet, 1));
+    }
+
+    @Test
+    void lineBreaksBecomeSpacesWithoutShiftingHighlights() {
+        Snippet snippet = Snippet.around("첫 줄\n축구 경기", 0, 9, "축구", 80);
+
+        assertEquals("첫 줄 축구 경기", snippet.text());
+        assertEquals("축구", highlighted(snippet, 0));
+    }
+
+    @Test
+    void titleOnlyMatchShowsContentFromStart() {
+        String content = "x".repeat(200);
+        Snippet snippet = Snippet.around(content, 0, content.length(), "농구", 50);
+
+        assertEquals("x".repeat(50) + Snippet.ELLIPSIS, snippet.text());
+        assertTrue(snippet.highlights().isEmpty());
+    }
+}
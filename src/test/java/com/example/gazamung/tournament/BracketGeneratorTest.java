@@ -0,0 +1,53 @@
+package com.example.gazamung.tournament;
+
+import com.example.gazamung.tournament.entity.TournamentEntry;
+import com.example.gazamung.tournament.entity.TournamentMatch;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BracketGeneratorTest {
+
+    @Test
+    void seedOrderPairsTopAndBottomSeeds() {
+        assertArrayEquals(new int[]{1, 8, 4, 5, 2, 7, 3, 6}, BracketGenerator.seedOrder(8));
+    }
+
+    @Test
+    void bracketSizesFor256Teams() {
+        assertEquals(255, BracketGenerator.generate(1L, TournamentFormat.SINGLE_ELIMINATION, entries(256), 1).size());
+        // 승자조 255 + 패자조 254 + 결승 1
+        assertEquals(510, BracketGenerator.generate(1L, TournamentFormat.DOUBLE_ELIMINATION, entries(256), 1).size());
+    }
+
+    @Test
+    void roundRobinPlaysEveryPairOnceAndOncePerRound() {
+        List<TournamentEntry> entries = entries(256);
+        List<TournamentMatch> matches = BracketGenerator.generate(1L, TournamentFormat.ROUND_ROBIN, entries, 8);
+
+        Set<String> pairs = new HashSet<>();
+        Map<String, Set<Long>> rounds = new HashMap<>();
+        for (TournamentMatch match : matches) {
+            long low = Math.min(match.getHostUniv(), match.getGuestUniv());
+            long high = Math.max(match.getHostUniv(), match.getGuestUniv());
+            assertTrue(pairs.add(low + "-" + high));
+
+            Set<Long> round = rounds.computeIfAbsent(match.getGroupNo() + ":" + match.getRound(), key -> new HashSet<>());
+            assertTrue(round.add(match.getHostUniv()));
+            assertTrue(round.add(match.getGuestUniv()));
+        }
+        // 8조 x 32팀 풀리그
+        assertEquals(8 * (32 * 31 / 2), matches.size());
+        entries.forEach(entry -> assertTrue(entry.getGroupNo() >= 1 && entry.getGroupNo() <= 8));
+    }
+
+    private static List<TournamentEntry> entries(int teams) {
+        List<TournamentEntry> entries = new ArrayList<>(teams);
+        for (long univId = 1; univId <= teams; univId++) {
+            entries.add(TournamentEntry.builder().univId(univId).seed((int) univId).groupNo(1).build());
+        }
+        return entries;
+    }
+}
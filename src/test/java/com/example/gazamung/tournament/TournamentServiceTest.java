@@ -0,0 +1,346 @@
+package com.example.gazamung.tournament;
+
+import com.example.gazamung.member.repository.MemberRepository;
+import com.example.gazamung.reference.service.ReferenceRegistry;
+import com.example.gazamung.tournament.dto.TournamentRes;
+import com.example.gazamung.tournament.entity.Tournament;
+import com.example.gazamung.tournament.entity.TournamentEntry;
+import com.example.gazamung.tournament.entity.TournamentMatch;
+import com.example.gazamung.tournament.repository.TournamentEntryRepository;
+import com.example.gazamung.tournament.repository.TournamentMatchRepository;
+import com.example.gazamung.tournament.repository.TournamentRepository;
+import com.example.gazamung.tournament.service.TournamentServiceImpl;
+import com.example.gazamung.univBattle.entity.UnivBattle;
+import com.example.gazamung.univBattle.service.UnivBattleService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 저장소를 메모리 목으로 바꾼 TournamentServiceImpl 로 시작부터 우승까지 진행
+ */
+class TournamentServiceTest {
+
+    private static final long TOURNAMENT_ID = 1L;
+    private static final long HOST_MEMBER = 1L;
+
+    @Test
+    void eliminationTournamentsFinishWithOneChampion() {
+        List<Integer> sizes = new ArrayList<>();
+        for (int teams = 2; teams <= 33; teams++) {
+            sizes.add(teams);
+        }
+        sizes.addAll(List.of(255, 256));
+
+        for (TournamentFormat format : List.of(TournamentFormat.SINGLE_ELIMINATION, TournamentFormat.DOUBLE_ELIMINATION)) {
+            int maxLosses = format == TournamentFormat.SINGLE_ELIMINATION ? 1 : 2;
+            for (int teams : sizes) {
+                Fixture fixture = new Fixture(format, teams, 1);
+                fixture.playToEnd(new Random(teams));
+
+                Tournament tournament = fixture.tournament;
+                assertEquals(TournamentStatus.COMPLETED, tournament.getStatus(), format + " " + teams);
+                assertNotNull(tournament.getChampionUniv(), format + " " + teams);
+                assertEquals(0, fixture.count(TournamentMatchStatus.PENDING), format + " " + teams);
+                assertEquals(teams - 1, fixture.entries.stream().filter(entry -> entry.getLosses() >= maxLosses).count(), format + " " + teams);
+                assertTrue(fixture.entry(tournament.getChampionUniv()).getLosses() < maxLosses, format + " " + teams);
+            }
+        }
+    }
+
+    @Test
+    void singleGroupRoundRobinCrownsTopOfStandings() {
+        Fixture fixture = new Fixture(TournamentFormat.ROUND_ROBIN, 6, 1);
+        fixture.playToEnd(new Random(6));
+
+        assertEquals(TournamentStatus.COMPLETED, fixture.tournament.getStatus());
+        assertEquals(6 * 5 / 2, fixture.matches.size());
+        assertEquals(fixture.standings().get(0).getUnivId(), fixture.tournament.getChampionUniv());
+    }
+
+    @Test
+    void multiGroupRoundRobinEndsWithGroupWinnerKnockout() {
+        Fixture fixture = new Fixture(TournamentFormat.ROUND_ROBIN, 24, 4);
+        fixture.playToEnd(new Random(24));
+
+        Tournament tournament = fixture.tournament;
+        assertEquals(TournamentStatus.COMPLETED, tournament.getStatus());
+        assertNotNull(tournament.getChampionUniv());
+
+        // 4조 x 6팀 풀리그 + 조 1위 4팀 본선 3경기
+        long groupMatches = fixture.matches.values().stream().filter(match -> match.getBracket() == BracketSide.GROUP).count();
+        long knockoutMatches = fixture.matches.values().stream().filter(match -> match.getBracket() == BracketSide.WINNER).count();
+        assertEquals(4 * (6 * 5 / 2), groupMatches);
+        assertEquals(3, knockoutMatches);
+
+        // 본선에는 조 1위만, 우승팀 외에는 모두 탈락
+        Set<Long> groupWinners = new HashSet<>();
+        int groupNo = -1;
+        for (TournamentEntry entry : fixture.standings()) {
+            if (entry.getGroupNo() != groupNo) {
+                groupNo = entry.getGroupNo();
+                groupWinners.add(entry.getUnivId());
+            }
+        }
+        for (TournamentMatch match : fixture.matches.values()) {
+            if (match.getBracket() == BracketSide.WINNER) {
+                assertTrue(groupWinners.contains(match.getHostUniv()));
+                assertTrue(groupWinners.contains(match.getGuestUniv()));
+            }
+        }
+        assertTrue(groupWinners.contains(tournament.getChampionUniv()));
+        assertEquals(23, fixture.entries.stream().filter(TournamentEntry::isEliminated).count());
+        assertFalse(fixture.entry(tournament.getChampionUniv()).isEliminated());
+    }
+
+    @Test
+    void failedBattleCreationKeepsResultAndIsRetried() {
+        Fixture fixture = new Fixture(TournamentFormat.SINGLE_ELIMINATION, 4, 1);
+        fixture.service.start(TOURNAMENT_ID, HOST_MEMBER);
+        assertEquals(2, fixture.count(TournamentMatchStatus.READY));
+
+        // 결승 대항전 생성 실패: 준결승 결과는 유지되고 결승은 FAILED
+        fixture.failOpen = true;
+        for (TournamentMatch match : new ArrayList<>(fixture.matches.values())) {
+            if (match.getStatus() == TournamentMatchStatus.READY) {
+                fixture.play(match, true);
+            }
+        }
+        assertEquals(2, fixture.count(TournamentMatchStatus.COMPLETED));
+        assertEquals(1, fixture.count(TournamentMatchStatus.FAILED));
+
+        // 재시도에서 생성
+        fixture.failOpen = false;
+        fixture.service.retryOpenBattles();
+        assertEquals(0, fixture.count(TournamentMatchStatus.FAILED));
+        assertEquals(1, fixture.count(TournamentMatchStatus.READY));
+
+        fixture.playToEnd(new Random(4), false);
+        assertEquals(TournamentStatus.COMPLETED, fixture.tournament.getStatus());
+    }
+
+    @Test
+    void groupDrawGivesBothTeamsOnePoint() {
+        Fixture fixture = new Fixture(TournamentFormat.ROUND_ROBIN, 3, 1);
+        fixture.service.start(TOURNAMENT_ID, HOST_MEMBER);
+
+        // 승리 대학이 기록되어 있어도 조별 리그 동점은 무승부
+        boolean played = true;
+        while (played) {
+            played = false;
+            for (TournamentMatch match : new ArrayList<>(fixture.matches.values())) {
+                if (match.getStatus() != TournamentMatchStatus.READY) continue;
+                played = true;
+                fixture.result(match, match.getHostUniv(), 1, 1);
+                assertNull(match.getWinUniv());
+            }
+        }
+
+        for (TournamentEntry entry : fixture.entries) {
+            assertEquals(2, entry.getDraws());
+            assertEquals(0, entry.getWins());
+            assertEquals(0, entry.getLosses());
+            assertEquals(2, entry.getPoints());
+        }
+        // 승점/득실/득점이 모두 같으면 시드 순
+        assertEquals(TournamentStatus.COMPLETED, fixture.tournament.getStatus());
+        assertEquals(1L, fixture.tournament.getChampionUniv());
+    }
+
+    @Test
+    void knockoutTieAdvancesRecordedWinnerOrHigherSeed() {
+        // 기록된 승리 대학 없음: 시드 1 진출
+        Fixture noWinner = new Fixture(TournamentFormat.SINGLE_ELIMINATION, 2, 1);
+        noWinner.service.start(TOURNAMENT_ID, HOST_MEMBER);
+        TournamentMatch finalMatch = noWinner.matches.firstEntry().getValue();
+        noWinner.result(finalMatch, null, 1, 1);
+        assertEquals(1L, noWinner.tournament.getChampionUniv());
+        assertEquals(0, noWinner.entry(1L).getDraws());
+
+        // 승부차기 등으로 기록된 승리 대학 진출
+        Fixture recorded = new Fixture(TournamentFormat.SINGLE_ELIMINATION, 2, 1);
+        recorded.service.start(TOURNAMENT_ID, HOST_MEMBER);
+        finalMatch = recorded.matches.firstEntry().getValue();
+        recorded.result(finalMatch, 2L, 1, 1);
+        assertEquals(2L, recorded.tournament.getChampionUniv());
+    }
+
+    /**
+     * 토너먼트 하나를 메모리에 두고 저장소 목이 그 상태를 읽고 쓰도록 구성
+     */
+    private static final class Fixture {
+
+        private final Tournament tournament;
+        private final List<TournamentEntry> entries = new ArrayList<>();
+        private final TreeMap<Integer, TournamentMatch> matches = new TreeMap<>();
+        private final AtomicLong battleSeq = new AtomicLong();
+        private final TournamentServiceImpl service;
+        private boolean failOpen;
+
+        @SuppressWarnings("unchecked")
+        private Fixture(TournamentFormat format, int teams, int groupCount) {
+            tournament = Tournament.builder()
+                    .tournamentId(TOURNAMENT_ID)
+                    .name("테스트")
+                    .hostMember(HOST_MEMBER)
+                    .format(format)
+                    .status(TournamentStatus.RECRUIT)
+                    .maxTeams(teams)
+                    .teamCount(teams)
+                    .groupCount(groupCount)
+                    .build();
+            for (long univId = 1; univId <= teams; univId++) {
+                entries.add(TournamentEntry.builder()
+                        .entryId(univId)
+                        .tournamentId(TOURNAMENT_ID)
+                        .univId(univId)
+                        .univName("대학" + univId)
+                        .leaderIdx(univId * 10)
+                        .groupNo(1)
+                        .build());
+            }
+
+            TournamentRepository tournamentRepository = mock(TournamentRepository.class);
+            when(tournamentRepository.findForUpdate(TOURNAMENT_ID)).thenReturn(Optional.of(tournament));
+            when(tournamentRepository.findById(TOURNAMENT_ID)).thenReturn(Optional.of(tournament));
+            when(tournamentRepository.save(any(Tournament.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            TournamentEntryRepository entryRepository = mock(TournamentEntryRepository.class);
+            when(entryRepository.findByTournamentIdOrderByEntryIdAsc(TOURNAMENT_ID)).thenAnswer(inv -> new ArrayList<>(entries));
+            when(entryRepository.findByTournamentIdAndUnivId(eq(TOURNAMENT_ID), anyLong()))
+                    .thenAnswer(inv -> Optional.ofNullable(entry(inv.getArgument(1))));
+            when(entryRepository.findByTournamentIdOrderByGroupNoAscPointsDescScoreDiffDescScoreForDescSeedAsc(TOURNAMENT_ID))
+                    .thenAnswer(inv -> standings());
+            when(entryRepository.saveAll(ArgumentMatchers.<Iterable<TournamentEntry>>any())).thenAnswer(inv -> toList(inv.getArgument(0)));
+
+            TournamentMatchRepository matchRepository = mock(TournamentMatchRepository.class);
+            when(matchRepository.saveAll(ArgumentMatchers.<Iterable<TournamentMatch>>any())).thenAnswer(inv -> {
+                List<TournamentMatch> saved = toList(inv.getArgument(0));
+                saved.forEach(match -> matches.put(match.getMatchNo(), match));
+                return saved;
+            });
+            when(matchRepository.save(any(TournamentMatch.class))).thenAnswer(inv -> {
+                TournamentMatch match = inv.getArgument(0);
+                matches.put(match.getMatchNo(), match);
+                return match;
+            });
+            when(matchRepository.findByUnivBattleId(anyLong())).thenAnswer(inv -> matches.values().stream()
+                    .filter(match -> Objects.equals(match.getUnivBattleId(), inv.getArgument(0)))
+                    .findFirst());
+            when(matchRepository.findByTournamentIdAndMatchNo(eq(TOURNAMENT_ID), anyInt()))
+                    .thenAnswer(inv -> Optional.ofNullable(matches.get((Integer) inv.getArgument(1))));
+            when(matchRepository.findForUpdate(eq(TOURNAMENT_ID), anyInt()))
+                    .thenAnswer(inv -> Optional.ofNullable(matches.get((Integer) inv.getArgument(1))));
+            when(matchRepository.findByStatusIn(any())).thenAnswer(inv -> {
+                Collection<TournamentMatchStatus> statuses = inv.getArgument(0);
+                return matches.values().stream().filter(match -> statuses.contains(match.getStatus())).toList();
+            });
+            when(matchRepository.findByTournamentIdOrderByMatchNoAsc(TOURNAMENT_ID)).thenAnswer(inv -> new ArrayList<>(matches.values()));
+            when(matchRepository.findByTournamentIdAndGroupNoAndRound(eq(TOURNAMENT_ID), anyInt(), anyInt()))
+                    .thenAnswer(inv -> matches.values().stream()
+                            .filter(match -> match.getGroupNo() == (Integer) inv.getArgument(1) && match.getRound() == (Integer) inv.getArgument(2))
+                            .toList());
+            when(matchRepository.countByTournamentIdAndGroupNoAndRoundAndStatusIn(eq(TOURNAMENT_ID), anyInt(), anyInt(), any()))
+                    .thenAnswer(inv -> {
+                        Collection<TournamentMatchStatus> statuses = inv.getArgument(3);
+                        return matches.values().stream()
+                                .filter(match -> match.getGroupNo() == (Integer) inv.getArgument(1) && match.getRound() == (Integer) inv.getArgument(2))
+                                .filter(match -> statuses.contains(match.getStatus()))
+                                .count();
+                    });
+            when(matchRepository.countByTournamentIdAndStatusIn(eq(TOURNAMENT_ID), any())).thenAnswer(inv -> {
+                Collection<TournamentMatchStatus> statuses = inv.getArgument(1);
+                return matches.values().stream().filter(match -> statuses.contains(match.getStatus())).count();
+            });
+            when(matchRepository.findMaxMatchNo(TOURNAMENT_ID)).thenAnswer(inv -> matches.isEmpty() ? null : matches.lastKey());
+
+            UnivBattleService univBattleService = mock(UnivBattleService.class);
+            when(univBattleService.createMatched(any(), anyLong())).thenAnswer(inv -> {
+                if (failOpen) throw new IllegalStateException("대항전 생성 실패");
+                return battleSeq.incrementAndGet();
+            });
+            ObjectProvider<UnivBattleService> univBattleProvider = mock(ObjectProvider.class);
+            when(univBattleProvider.getObject()).thenReturn(univBattleService);
+
+            service = new TournamentServiceImpl(tournamentRepository, entryRepository, matchRepository,
+                    mock(MemberRepository.class), mock(ReferenceRegistry.class), univBattleProvider,
+                    mock(PlatformTransactionManager.class));
+        }
+
+        /**
+         * 대진이 정해진 경기마다 무작위 승자로 대항전 결과를 반영
+         */
+        private void playToEnd(Random random) {
+            playToEnd(random, true);
+        }
+
+        private void playToEnd(Random random, boolean start) {
+            if (start) {
+                TournamentRes started = service.start(TOURNAMENT_ID, HOST_MEMBER);
+                assertEquals(TournamentStatus.IN_PROGRESS, started.getStatus());
+            }
+
+            boolean played = true;
+            while (played) {
+                played = false;
+                for (TournamentMatch match : new ArrayList<>(matches.values())) {
+                    if (match.getStatus() != TournamentMatchStatus.READY) continue;
+                    played = true;
+
+                    play(match, random.nextBoolean(), random.nextInt(2));
+                }
+            }
+        }
+
+        private void play(TournamentMatch match, boolean hostWins) {
+            play(match, hostWins, 0);
+        }
+
+        private void play(TournamentMatch match, boolean hostWins, long loserScore) {
+            result(match, hostWins ? match.getHostUniv() : match.getGuestUniv(),
+                    hostWins ? 2 : loserScore, hostWins ? loserScore : 2);
+        }
+
+        private void result(TournamentMatch match, Long winUniv, long hostScore, long guestScore) {
+            service.applyResult(UnivBattle.builder()
+                    .univBattleId(match.getUnivBattleId())
+                    .winUniv(winUniv)
+                    .hostScore(hostScore)
+                    .guestScore(guestScore)
+                    .build());
+        }
+
+        private TournamentEntry entry(Long univId) {
+            return entries.stream().filter(entry -> entry.getUnivId().equals(univId)).findFirst().orElse(null);
+        }
+
+        private List<TournamentEntry> standings() {
+            List<TournamentEntry> sorted = new ArrayList<>(entries);
+            sorted.sort(Comparator.comparingInt(TournamentEntry::getGroupNo)
+                    .thenComparing(Comparator.comparingInt(TournamentEntry::getPoints).reversed())
+                    .thenComparing(Comparator.comparingLong(TournamentEntry::getScoreDiff).reversed())
+                    .thenComparing(Comparator.comparingLong(TournamentEntry::getScoreFor).reversed())
+                    .thenComparingInt(TournamentEntry::getSeed));
+            return sorted;
+        }
+
+        private long count(TournamentMatchStatus status) {
+            return matches.values().stream().filter(match -> match.getStatus() == status).count();
+        }
+
+        private static <T> List<T> toList(Iterable<T> iterable) {
+            List<T> list = new ArrayList<>();
+            iterable.forEach(list::add);
+            return list;
+        }
+    }
+}
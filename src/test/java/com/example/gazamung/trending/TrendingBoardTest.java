@@ -0,0 +1,49 @@
+package com.example.gazamung.trending;
+
+import com.example.gazamung._enum.ModerationStatus;
+import com.example.gazamung.trending.service.TrendingBoard;
+import com.example.gazamung.univBoard.entity.UnivBoard;
+import com.example.gazamung.univBoard.repository.UnivBoardRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TrendingBoardTest {
+
+    @Test
+    void flushAddsExactViewCounts() {
+        UnivBoardRepository repository = mock(UnivBoardRepository.class);
+        TrendingBoard board = new TrendingBoard(repository, 6, 1, 5, 2, 0.1, 50, 3);
+
+        // 게시글이 많아도 조회 수는 게시글별로 정확히 반영
+        for (long id = 1; id <= 5000; id++) {
+            for (int i = 0; i < id % 7; i++) {
+                board.viewed(post(id));
+            }
+        }
+        board.flush();
+
+        for (long id = 1; id <= 5000; id++) {
+            if (id % 7 != 0) {
+                verify(repository).addViewCount(id, id % 7);
+            }
+        }
+        verifyNoMoreInteractions(repository);
+
+        List<TrendingItem> top = board.top(10L, 0L, 1);
+        assertEquals(1, top.size());
+        assertEquals(6, top.get(0).univBoardId() % 7);
+    }
+
+    private static UnivBoard post(long id) {
+        return UnivBoard.builder()
+                .univBoardId(id)
+                .univId(10L)
+                .categoryId(1L)
+                .moderationStatus(ModerationStatus.PUBLISHED)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.gazamung.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrendingIndexTest {
+
+    private static final long HOUR = 3600;
+
+    @Test
+    void recentActivityOutranksOlderActivityOfSameWeight() {
+        TrendingIndex index = new TrendingIndex(6 * HOUR, 0);
+        index.put(1, 10, 1);
+        index.put(2, 10, 1);
+        index.add(1, 10, 0);
+        index.add(2, 10, 12 * HOUR);
+
+        index.rebuild(10, 0.01, 12 * HOUR);
+        List<TrendingItem> top = index.top(10, 1, 10);
+
+        assertEquals(2, top.get(0).univBoardId());
+        assertEquals(10, top.get(0).score(), 1e-9);
+        assertEquals(2.5, top.get(1).score(), 1e-9);     // 반감기 2번
+    }
+
+    @Test
+    void keepsTopKPerCategoryAndForAllCategories() {
+        TrendingIndex index = new TrendingIndex(6 * HOUR, 0);
+        for (long id = 1; id <= 100; id++) {
+            index.put(id, 10, id % 2 == 0 ? 1 : 2);
+            index.add(id, id, 0);
+        }
+        index.put(1000, 20, 1);
+        index.add(1000, 1000, 0);
+
+        index.rebuild(5, 0.01, 0);
+
+        assertEquals(List.of(100L, 98L, 96L, 94L, 92L), ids(index.top(10, 1, 10)));
+        assertEquals(List.of(99L, 97L, 95L), ids(index.top(10, 2, 3)));
+        assertEquals(List.of(100L, 99L, 98L, 97L, 96L), ids(index.top(10, TrendingIndex.ALL_CATEGORY, 10)));
+        assertEquals(List.of(1000L), ids(index.top(20, TrendingIndex.ALL_CATEGORY, 10)));
+    }
+
+    @Test
+    void rebuildDropsPostsThatDecayedBelowMinScore() {
+        TrendingIndex index = new TrendingIndex(HOUR, 0);
+        index.put(1, 10, 1);
+        index.put(2, 10, 1);
+        index.add(1, 1, 0);
+        index.add(2, 100, 0);
+
+        index.rebuild(10, 0.5, 2 * HOUR);
+
+        assertFalse(index.contains(1));
+        assertTrue(index.contains(2));
+        assertFalse(index.add(1, 1, 2 * HOUR));
+    }
+
+    private static List<Long> ids(List<TrendingItem> items) {
+        return items.stream().map(TrendingItem::univBoardId).toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.gazamung.university;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameLookupIndexTest {
+
+    private static NameLookupIndex universities(String... names) {
+        List<NameLookupIndex.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            entries.add(new NameLookupIndex.Entry(i + 1, names[i], null, NameAliases.university(names[i])));
+        }
+        return new NameLookupIndex(entries);
+    }
+
+    private static NameLookupIndex departments(String... names) {
+        List<NameLookupIndex.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            entries.add(new NameLookupIndex.Entry(i + 1, names[i], 1L, NameAliases.department(names[i])));
+        }
+        return new NameLookupIndex(entries);
+    }
+
+    private static String first(List<NameMatch> matches) {
+        return matches.isEmpty() ? null : matches.get(0).name();
+    }
+
+    private final NameLookupIndex universities = universities(
+            "가천대학교", "김천대학교", "부천대학교", "서울대학교", "남서울대학교", "서울시립대학교",
+            "건국대학교", "건국대학교(글로컬)", "한국외국어대학교", "한국복지대학교", "KAIST");
+
+    @Test
+    void shortAndFullNamesMatchEachOther() {
+        List<NameMatch> matches = universities.search(NameAliases.university("가천대"), 5, 0.4);
+        assertEquals("가천대학교", first(matches));
+        assertEquals(1.0, matches.get(0).score());
+
+        assertEquals("가천대학교", first(universities.search(NameAliases.university("가천 대학교"), 5, 0.4)));
+        assertEquals("서울대학교", first(universities.search(NameAliases.university("서울대"), 5, 0.4)));
+        assertEquals("건국대학교(글로컬)", first(universities.search(NameAliases.university("건국대 글로컬"), 5, 0.4)));
+        assertEquals("KAIST", first(universities.search(NameAliases.university("카이스트"), 5, 0.4)));
+    }
+
+    @Test
+    void abbreviationsAndTyposMatch() {
+        assertEquals("한국외국어대학교", first(universities.search(NameAliases.university("한국외대"), 5, 0.4)));
+        assertEquals("가천대학교", first(universities.search(NameAliases.university("가쳔대"), 5, 0.4)));
+        assertTrue(universities.search(NameAliases.university("부산"), 5, 0.4).isEmpty());
+    }
+
+    @Test
+    void departmentSuffixesAreInterchangeable() {
+        NameLookupIndex index = departments("컴퓨터공학과", "전자공학과", "경영학전공", "관광경영학과", "간호학과");
+
+        assertEquals("컴퓨터공학과", first(index.search(NameAliases.department("컴퓨터공학부"), 5, 0.4)));
+        assertEquals("컴퓨터공학과", first(index.search(NameAliases.department("컴공"), 5, 0.4)));
+
+        List<NameMatch> business = index.search(NameAliases.department("경영"), 5, 0.4);
+        assertEquals(List.of("경영학전공", "관광경영학과"), business.stream().map(NameMatch::name).toList());
+    }
+
+    @Test
+    void prefixEditDistanceIgnoresUntypedRest() {
+        assertEquals(0, NameLookupIndex.prefixEditDistance("abc", "abcdef"));
+        assertEquals(1, NameLookupIndex.prefixEditDistance("abx", "abcdef"));
+        assertEquals(3, NameLookupIndex.prefixEditDistance("xyz", "abcdef"));
+    }
+}